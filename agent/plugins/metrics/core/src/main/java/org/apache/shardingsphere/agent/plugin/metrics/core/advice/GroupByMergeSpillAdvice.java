@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Group by merge spill advice.
+ */
+public final class GroupByMergeSpillAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration spillCountConfig = new MetricConfiguration("group_by_merge_spill_total",
+            MetricCollectorType.COUNTER, "Total count of group by merged results spilled to disk");
+    
+    private final MetricConfiguration spilledBytesConfig = new MetricConfiguration("group_by_merge_spilled_bytes",
+            MetricCollectorType.HISTOGRAM, "Estimated bytes of groups held in memory when group by merged results spilled to disk", Collections.singletonMap("buckets", getBuckets()));
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1048576);
+        result.put("factor", 2);
+        result.put("count", 12);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        if (!(result instanceof Long)) {
+            return;
+        }
+        MetricsCollectorRegistry.<CounterMetricsCollector>get(spillCountConfig, pluginType).inc();
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(spilledBytesConfig, pluginType).observe((long) result);
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollecto
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -38,11 +39,22 @@ public final class SQLParseCountAdvice extends AbstractInstanceMethodAdvice {
     private final MetricConfiguration config = new MetricConfiguration("parsed_sql_total",
             MetricCollectorType.COUNTER, "Total count of parsed SQL", Collections.singletonList("type"), Collections.emptyMap());
     
+    private final MetricConfiguration cacheConfig = new MetricConfiguration("parsed_sql_cache_total",
+            MetricCollectorType.COUNTER, "Total count of parse cache lookups by tier and result", Arrays.asList("tier", "result"), Collections.emptyMap());
+    
     @Override
     public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        if (result instanceof Optional) {
+            MetricsCollectorRegistry.<CounterMetricsCollector>get(cacheConfig, pluginType).inc(getCacheTier(method.getName()), ((Optional<?>) result).isPresent() ? "hit" : "miss");
+            return;
+        }
         getSQLType((SQLStatement) result).ifPresent(optional -> MetricsCollectorRegistry.<CounterMetricsCollector>get(config, pluginType).inc(optional));
     }
     
+    private String getCacheTier(final String methodName) {
+        return "findTemplateSQLStatement".equals(methodName) ? "shape" : "statement";
+    }
+    
     private Optional<String> getSQLType(final SQLStatement sqlStatement) {
         return Optional.of(SQLStatementUtils.getType(sqlStatement).name());
     }
@@ -40,7 +40,9 @@ import org.apache.shardingsphere.sql.parser.statement.mysql.tcl.MySQLCommitState
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -50,9 +52,13 @@ class SQLParseCountAdviceTest {
     
     private final MetricConfiguration config = new MetricConfiguration("parsed_sql_total", MetricCollectorType.COUNTER, null, Collections.singletonList("type"), Collections.emptyMap());
     
+    private final MetricConfiguration cacheConfig = new MetricConfiguration("parsed_sql_cache_total",
+            MetricCollectorType.COUNTER, null, Arrays.asList("tier", "result"), Collections.emptyMap());
+    
     @AfterEach
     void reset() {
         ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(cacheConfig, "FIXTURE")).reset();
     }
     
     @Test
@@ -115,6 +121,15 @@ class SQLParseCountAdviceTest {
         assertParse(new FormatStatement("SELECT * FROM tbl"), "RUL=1");
     }
     
+    @Test
+    void assertLookupParseCache() {
+        SQLParseCountAdvice advice = new SQLParseCountAdvice();
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("findCachedSQLStatement"), new Object[]{}, Optional.of(new MySQLSelectStatement()), "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("findCachedSQLStatement"), new Object[]{}, Optional.empty(), "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("findTemplateSQLStatement"), new Object[]{}, Optional.of(new MySQLSelectStatement()), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(cacheConfig, "FIXTURE").toString(), is("statement.hit=1, statement.miss=1, shape.hit=1"));
+    }
+    
     private void assertParse(final SQLStatement sqlStatement, final String expected) {
         new SQLParseCountAdvice().afterMethod(new TargetAdviceObjectFixture(), mock(TargetAdviceMethod.class), new Object[]{}, sqlStatement, "FIXTURE");
         assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is(expected));
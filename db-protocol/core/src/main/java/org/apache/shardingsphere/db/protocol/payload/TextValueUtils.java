@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Text value utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueUtils {
+    
+    /**
+     * Judge whether value is integral number which can be written as text directly.
+     *
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get length of decimal text of integer.
+     *
+     * @param value integer value
+     * @return length of decimal text
+     */
+    public static int getIntegerTextLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        long remaining = value < 0L ? value : -value;
+        while (remaining <= -10L) {
+            remaining /= 10L;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text of integer into byte buffer, same as the ASCII bytes of {@link Long#toString(long)}.
+     *
+     * @param byteBuf byte buffer
+     * @param value integer value
+     */
+    public static void writeIntegerText(final ByteBuf byteBuf, final long value) {
+        int length = getIntegerTextLength(value);
+        byteBuf.ensureWritable(length);
+        int startIndex = byteBuf.writerIndex();
+        int index = startIndex + length;
+        long remaining = value < 0L ? value : -value;
+        do {
+            index--;
+            byteBuf.setByte(index, '0' - (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (0L != remaining);
+        if (value < 0L) {
+            byteBuf.setByte(startIndex, '-');
+        }
+        byteBuf.writerIndex(startIndex + length);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextValueUtilsTest {
+    
+    @Test
+    void assertIsIntegral() {
+        assertTrue(TextValueUtils.isIntegral(1L));
+        assertTrue(TextValueUtils.isIntegral((byte) 1));
+        assertFalse(TextValueUtils.isIntegral(BigInteger.ONE));
+        assertFalse(TextValueUtils.isIntegral("1"));
+    }
+    
+    @Test
+    void assertWriteIntegerText() {
+        for (long each : new long[]{0L, 7L, -7L, 10L, -10L, 99L, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer();
+            TextValueUtils.writeIntegerText(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(Long.toString(each)));
+            assertThat(TextValueUtils.getIntegerTextLength(each), is(Long.toString(each).length()));
+        }
+    }
+}
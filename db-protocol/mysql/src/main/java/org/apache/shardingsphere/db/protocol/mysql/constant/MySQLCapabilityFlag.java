@@ -77,7 +77,11 @@ public enum MySQLCapabilityFlag {
     
     CLIENT_SESSION_TRACK(0x00800000),
     
-    CLIENT_DEPRECATE_EOF(0x01000000);
+    CLIENT_DEPRECATE_EOF(0x01000000),
+    
+    CLIENT_OPTIONAL_RESULTSET_METADATA(0x02000000),
+    
+    CLIENT_ZSTD_COMPRESSION_ALGORITHM(0x04000000);
     
     private final int value;
     
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.constant;
+
+/**
+ * Compression algorithm for MySQL compressed protocol.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression.html">Compression</a>
+ */
+public enum MySQLCompressionAlgorithm {
+    
+    ZLIB, ZSTD;
+    
+    /**
+     * Negotiate compression algorithm with client capability flags.
+     *
+     * @param capabilityFlags client capability flags
+     * @return negotiated compression algorithm, null if client does not request compression
+     */
+    public static MySQLCompressionAlgorithm negotiate(final int capabilityFlags) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue())) {
+            return ZSTD;
+        }
+        return 0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue()) ? null : ZLIB;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.netty;
+
+import com.github.luben.zstd.Zstd;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.ByteToMessageCodec;
+import io.netty.handler.codec.DecoderException;
+import io.netty.util.concurrent.PromiseNotifier;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCompressionAlgorithm;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec of MySQL compressed protocol.
+ * 
+ * <p>Each compressed packet wraps one or more MySQL packets, payloads shorter than the min length or not shrunk by compression are sent uncompressed.
+ * Outbound MySQL packets are buffered until flush and compressed into one compressed packet per flush.
+ * One deflater and one inflater are kept per channel, reset between compressed packets and released when the channel becomes inactive.</p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final MySQLCompressionAlgorithm algorithm;
+    
+    private final int level;
+    
+    private final int minLength;
+    
+    private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+    
+    private CompositeByteBuf pendingPackets;
+    
+    private Deflater deflater;
+    
+    private Inflater inflater;
+    
+    private int sequenceId;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        if (in.readableBytes() < HEADER_LENGTH || in.readableBytes() < HEADER_LENGTH + in.getUnsignedMediumLE(in.readerIndex())) {
+            return;
+        }
+        int compressedLength = in.readUnsignedMediumLE();
+        sequenceId = in.readUnsignedByte() + 1;
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (0 == uncompressedLength) {
+            MySQLCompressionStatistics.getINSTANCE().recordInbound(HEADER_LENGTH + compressedLength, compressedLength);
+            out.add(in.readRetainedSlice(compressedLength));
+            return;
+        }
+        byte[] compressed = ByteBufUtil.getBytes(in, in.readerIndex(), compressedLength);
+        in.skipBytes(compressedLength);
+        MySQLCompressionStatistics.getINSTANCE().recordInbound(HEADER_LENGTH + compressedLength, uncompressedLength);
+        out.add(Unpooled.wrappedBuffer(decompress(compressed, uncompressedLength)));
+    }
+    
+    private byte[] decompress(final byte[] compressed, final int uncompressedLength) {
+        if (MySQLCompressionAlgorithm.ZSTD == algorithm) {
+            return Zstd.decompress(compressed, uncompressedLength);
+        }
+        if (null == inflater) {
+            inflater = new Inflater();
+        }
+        inflater.reset();
+        inflater.setInput(compressed);
+        byte[] result = new byte[uncompressedLength];
+        int length = 0;
+        try {
+            while (length < uncompressedLength && !inflater.finished() && !inflater.needsInput() && !inflater.needsDictionary()) {
+                length += inflater.inflate(result, length, uncompressedLength - length);
+            }
+        } catch (final DataFormatException ex) {
+            throw new DecoderException(ex);
+        }
+        if (length != uncompressedLength) {
+            throw new DecoderException(String.format("Expected %d bytes after decompression, but got %d bytes.", uncompressedLength, length));
+        }
+        return result;
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof ByteBuf)) {
+            context.write(msg, promise);
+            return;
+        }
+        if (null == pendingPackets) {
+            pendingPackets = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingPackets.addComponent(true, (ByteBuf) msg);
+        pendingPromises.add(promise);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pendingPackets) {
+            writePendingPackets(context);
+        }
+        context.flush();
+    }
+    
+    private void writePendingPackets(final ChannelHandlerContext context) {
+        ByteBuf packets = pendingPackets;
+        pendingPackets = null;
+        ByteBuf out = context.alloc().buffer(packets.readableBytes() + HEADER_LENGTH);
+        try {
+            encode(context, packets, out);
+        } finally {
+            packets.release();
+        }
+        ChannelPromise[] promises = pendingPromises.toArray(new ChannelPromise[0]);
+        pendingPromises.clear();
+        context.write(out).addListener(new PromiseNotifier<>(promises));
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final ByteBuf msg, final ByteBuf out) {
+        while (msg.isReadable()) {
+            int length = Math.min(msg.readableBytes(), MAX_PAYLOAD_LENGTH);
+            byte[] compressed = length < minLength ? null : compress(ByteBufUtil.getBytes(msg, msg.readerIndex(), length));
+            if (null == compressed || compressed.length >= length) {
+                writeHeader(out, length, 0);
+                out.writeBytes(msg, length);
+                MySQLCompressionStatistics.getINSTANCE().recordOutbound(HEADER_LENGTH + length, length);
+            } else {
+                writeHeader(out, compressed.length, length);
+                out.writeBytes(compressed);
+                msg.skipBytes(length);
+                MySQLCompressionStatistics.getINSTANCE().recordOutbound(HEADER_LENGTH + compressed.length, length);
+            }
+        }
+    }
+    
+    private byte[] compress(final byte[] uncompressed) {
+        if (MySQLCompressionAlgorithm.ZSTD == algorithm) {
+            return Zstd.compress(uncompressed, level);
+        }
+        if (null == deflater) {
+            deflater = new Deflater(level);
+        }
+        deflater.reset();
+        deflater.setInput(uncompressed);
+        deflater.finish();
+        ByteArrayOutputStream result = new ByteArrayOutputStream(uncompressed.length);
+        byte[] buffer = new byte[Math.min(uncompressed.length, BUFFER_SIZE)];
+        while (!deflater.finished()) {
+            result.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return result.toByteArray();
+    }
+    
+    private void writeHeader(final ByteBuf out, final int compressedLength, final int uncompressedLength) {
+        out.writeMediumLE(compressedLength);
+        out.writeByte(sequenceId++);
+        out.writeMediumLE(uncompressedLength);
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        try {
+            super.channelInactive(context);
+        } finally {
+            release();
+        }
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        try {
+            super.handlerRemoved(context);
+        } finally {
+            release();
+        }
+    }
+    
+    private void release() {
+        if (null != pendingPackets) {
+            pendingPackets.release();
+            pendingPackets = null;
+        }
+        if (!pendingPromises.isEmpty()) {
+            ClosedChannelException cause = new ClosedChannelException();
+            pendingPromises.forEach(each -> each.tryFailure(cause));
+            pendingPromises.clear();
+        }
+        if (null != deflater) {
+            deflater.end();
+            deflater = null;
+        }
+        if (null != inflater) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+}
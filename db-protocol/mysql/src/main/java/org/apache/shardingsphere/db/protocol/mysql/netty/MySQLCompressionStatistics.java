@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.netty;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of MySQL compressed protocol.
+ */
+@NoArgsConstructor(access = AccessLevel.NONE)
+public final class MySQLCompressionStatistics {
+    
+    @Getter
+    private static final MySQLCompressionStatistics INSTANCE = new MySQLCompressionStatistics();
+    
+    private final LongAdder inboundCompressedBytes = new LongAdder();
+    
+    private final LongAdder inboundUncompressedBytes = new LongAdder();
+    
+    private final LongAdder outboundCompressedBytes = new LongAdder();
+    
+    private final LongAdder outboundUncompressedBytes = new LongAdder();
+    
+    /**
+     * Record inbound compressed packet.
+     *
+     * @param compressedBytes bytes received on the wire
+     * @param uncompressedBytes bytes of MySQL packets after decompression
+     */
+    public void recordInbound(final int compressedBytes, final int uncompressedBytes) {
+        inboundCompressedBytes.add(compressedBytes);
+        inboundUncompressedBytes.add(uncompressedBytes);
+    }
+    
+    /**
+     * Record outbound compressed packet.
+     *
+     * @param compressedBytes bytes sent on the wire
+     * @param uncompressedBytes bytes of MySQL packets before compression
+     */
+    public void recordOutbound(final int compressedBytes, final int uncompressedBytes) {
+        outboundCompressedBytes.add(compressedBytes);
+        outboundUncompressedBytes.add(uncompressedBytes);
+    }
+    
+    /**
+     * Get inbound ratio of bytes on the wire to bytes of MySQL packets.
+     *
+     * @return inbound compression ratio, 0 if nothing received
+     */
+    public double getInboundRatio() {
+        return getRatio(inboundCompressedBytes.sum(), inboundUncompressedBytes.sum());
+    }
+    
+    /**
+     * Get outbound ratio of bytes on the wire to bytes of MySQL packets.
+     *
+     * @return outbound compression ratio, 0 if nothing sent
+     */
+    public double getOutboundRatio() {
+        return getRatio(outboundCompressedBytes.sum(), outboundUncompressedBytes.sum());
+    }
+    
+    private double getRatio(final long compressedBytes, final long uncompressedBytes) {
+        return 0L == uncompressedBytes ? 0D : (double) compressedBytes / uncompressedBytes;
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        inboundCompressedBytes.reset();
+        inboundUncompressedBytes.reset();
+        outboundCompressedBytes.reset();
+        outboundUncompressedBytes.reset();
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
@@ -36,7 +37,20 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final Object[] data;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        data = new Object[row.getCells().size()];
+        binaryProtocolValues = new MySQLBinaryProtocolValue[row.getCells().size()];
+        int index = 0;
+        for (BinaryCell each : row.getCells()) {
+            data[index] = each.getData();
+            binaryProtocolValues[index] = null == each.getData() ? null : MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
+            index++;
+        }
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
@@ -52,22 +66,19 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
+        MySQLNullBitmap result = new MySQLNullBitmap(data.length, NULL_BITMAP_OFFSET);
+        for (int i = 0; i < data.length; i++) {
+            if (null == data[i]) {
+                result.setNullBit(i);
             }
-            index++;
         }
         return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+        for (int i = 0; i < data.length; i++) {
+            if (null != data[i]) {
+                binaryProtocolValues[i].write(payload, data[i]);
             }
         }
     }
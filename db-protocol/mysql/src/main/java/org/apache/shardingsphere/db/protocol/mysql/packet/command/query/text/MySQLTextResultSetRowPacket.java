@@ -18,14 +18,11 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 
-import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -34,45 +31,46 @@ import java.util.Collection;
  *
  * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_text_resultset_row.html">Text Resultset Row</a>
  */
-@RequiredArgsConstructor
-@Getter
 public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    @Getter
     private final Collection<Object> data;
     
+    private final MySQLTextProtocolValue[] textProtocolValues;
+    
+    public MySQLTextResultSetRowPacket(final Collection<Object> data) {
+        this(data, new MySQLTextProtocolValue[0]);
+    }
+    
+    public MySQLTextResultSetRowPacket(final Collection<Object> data, final MySQLTextProtocolValue[] textProtocolValues) {
+        this.data = data;
+        this.textProtocolValues = textProtocolValues;
+    }
+    
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
         data = new ArrayList<>(columnCount);
         for (int i = 0; i < columnCount; i++) {
             data.add(payload.readStringLenenc());
         }
+        textProtocolValues = new MySQLTextProtocolValue[0];
     }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
+        int index = 0;
         for (Object each : data) {
             if (null == each) {
                 payload.writeInt1(NULL);
-                continue;
+            } else {
+                getTextProtocolValue(index).write(payload, each);
             }
-            writeDataIntoPayload(payload, each);
+            index++;
         }
     }
     
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
-            payload.writeBytesLenenc((byte[]) data);
-        } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
-        } else if (data instanceof BigDecimal) {
-            payload.writeStringLenenc(((BigDecimal) data).toPlainString());
-        } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
-        } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) data));
-        } else {
-            payload.writeStringLenenc(data.toString());
-        }
+    private MySQLTextProtocolValue getTextProtocolValue(final int index) {
+        return index < textProtocolValues.length ? textProtocolValues[index] : MySQLTextProtocolValueFactory.getDefaultTextProtocolValue();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Types;
+
+/**
+ * Text protocol value factory for MySQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLTextProtocolValueFactory {
+    
+    private static final MySQLTextProtocolValue DEFAULT_TEXT_PROTOCOL_VALUE = new MySQLDefaultTextProtocolValue();
+    
+    private static final MySQLTextProtocolValue INTEGER_TEXT_PROTOCOL_VALUE = new MySQLIntegerTextProtocolValue();
+    
+    private static final MySQLTextProtocolValue TIMESTAMP_TEXT_PROTOCOL_VALUE = new MySQLTimestampTextProtocolValue();
+    
+    /**
+     * Get text protocol value.
+     *
+     * @param jdbcType JDBC type of column
+     * @return text protocol value
+     */
+    public static MySQLTextProtocolValue getTextProtocolValue(final int jdbcType) {
+        switch (jdbcType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGER_TEXT_PROTOCOL_VALUE;
+            case Types.TIMESTAMP:
+                return TIMESTAMP_TEXT_PROTOCOL_VALUE;
+            default:
+                return DEFAULT_TEXT_PROTOCOL_VALUE;
+        }
+    }
+    
+    /**
+     * Get default text protocol value.
+     *
+     * @return default text protocol value
+     */
+    public static MySQLTextProtocolValue getDefaultTextProtocolValue() {
+        return DEFAULT_TEXT_PROTOCOL_VALUE;
+    }
+}
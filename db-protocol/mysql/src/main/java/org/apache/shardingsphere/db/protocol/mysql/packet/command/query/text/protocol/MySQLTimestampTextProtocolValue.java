@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Timestamp text protocol value for MySQL, which writes timestamp without fraction as `yyyy-MM-dd HH:mm:ss` into payload without creating string.
+ */
+public final class MySQLTimestampTextProtocolValue implements MySQLTextProtocolValue {
+    
+    private static final int LENGTH = 19;
+    
+    private static final int MIN_YEAR = 1;
+    
+    private static final int MAX_YEAR = 9999;
+    
+    private final MySQLTextProtocolValue defaultTextProtocolValue = new MySQLDefaultTextProtocolValue();
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object value) {
+        if (!(value instanceof Timestamp) || 0 != ((Timestamp) value).getNanos()) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        LocalDateTime dateTime = ((Timestamp) value).toLocalDateTime();
+        if (dateTime.getYear() < MIN_YEAR || dateTime.getYear() > MAX_YEAR) {
+            defaultTextProtocolValue.write(payload, value);
+            return;
+        }
+        payload.writeIntLenenc(LENGTH);
+        ByteBuf byteBuf = payload.getByteBuf();
+        writeDigits(byteBuf, dateTime.getYear(), 4);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, dateTime.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, dateTime.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        writeDigits(byteBuf, dateTime.getHour(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, dateTime.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, dateTime.getSecond(), 2);
+    }
+    
+    private void writeDigits(final ByteBuf byteBuf, final int value, final int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        int remaining = value;
+        while (divisor > 0) {
+            byteBuf.writeByte('0' + remaining / divisor);
+            remaining %= divisor;
+            divisor /= 10;
+        }
+    }
+}
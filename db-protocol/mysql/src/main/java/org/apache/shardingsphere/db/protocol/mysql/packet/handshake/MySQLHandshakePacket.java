@@ -56,12 +56,17 @@ public final class MySQLHandshakePacket extends MySQLPacket {
     private String authPluginName;
     
     public MySQLHandshakePacket(final int connectionId, final boolean sslEnabled, final MySQLAuthenticationPluginData authPluginData) {
+        this(connectionId, sslEnabled, false, authPluginData);
+    }
+    
+    public MySQLHandshakePacket(final int connectionId, final boolean sslEnabled, final boolean compressionEnabled, final MySQLAuthenticationPluginData authPluginData) {
         serverVersion = DatabaseProtocolServerInfo.getDefaultProtocolVersion(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
         this.connectionId = connectionId;
-        capabilityFlagsLower = MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower() | (sslEnabled ? MySQLCapabilityFlag.CLIENT_SSL.getValue() : 0);
+        capabilityFlagsLower = MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower() | (sslEnabled ? MySQLCapabilityFlag.CLIENT_SSL.getValue() : 0)
+                | (compressionEnabled ? MySQLCapabilityFlag.CLIENT_COMPRESS.getValue() : 0);
         characterSet = MySQLConstants.DEFAULT_CHARSET.getId();
         statusFlag = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT;
-        capabilityFlagsUpper = MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper();
+        capabilityFlagsUpper = MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper() | (compressionEnabled ? MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue() >> 16 : 0);
         this.authPluginData = authPluginData;
         authPluginName = MySQLAuthenticationMethod.CACHING_SHA2_PASSWORD.getMethodName();
     }
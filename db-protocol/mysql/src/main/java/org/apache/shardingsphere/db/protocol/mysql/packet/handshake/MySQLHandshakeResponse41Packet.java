@@ -52,6 +52,8 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
     
     private int multiStatementsOption;
     
+    private int zstdCompressionLevel;
+    
     public MySQLHandshakeResponse41Packet(final MySQLPacketPayload payload) {
         capabilityFlags = payload.readInt4();
         multiStatementsOption = readMultiStatementsOption(capabilityFlags);
@@ -62,6 +64,8 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         authResponse = readAuthResponse(payload);
         database = readDatabase(payload);
         authPluginName = readAuthPluginName(payload);
+        skipConnectAttributes(payload);
+        zstdCompressionLevel = readZstdCompressionLevel(payload);
     }
     
     private int readMultiStatementsOption(final int capabilityFlags) {
@@ -88,6 +92,16 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         return 0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue()) ? null : payload.readStringNul();
     }
     
+    private void skipConnectAttributes(final MySQLPacketPayload payload) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS.getValue())) {
+            payload.skipReserved((int) payload.readIntLenenc());
+        }
+    }
+    
+    private int readZstdCompressionLevel(final MySQLPacketPayload payload) {
+        return 0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue()) ? 0 : payload.readInt1();
+    }
+    
     /**
      * Set database.
      *
@@ -118,6 +132,8 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         writeAuthResponse(payload);
         writeDatabase(payload);
         writeAuthPluginName(payload);
+        writeConnectAttributes(payload);
+        writeZstdCompressionLevel(payload);
     }
     
     private void writeAuthResponse(final MySQLPacketPayload payload) {
@@ -142,4 +158,16 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
             payload.writeStringNul(authPluginName);
         }
     }
+    
+    private void writeConnectAttributes(final MySQLPacketPayload payload) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS.getValue())) {
+            payload.writeIntLenenc(0L);
+        }
+    }
+    
+    private void writeZstdCompressionLevel(final MySQLPacketPayload payload) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue())) {
+            payload.writeInt1(zstdCompressionLevel);
+        }
+    }
 }
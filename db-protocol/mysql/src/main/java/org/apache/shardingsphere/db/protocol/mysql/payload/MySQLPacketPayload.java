@@ -19,11 +19,14 @@ package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.TextValueUtils;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -241,11 +244,27 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write decimal text of integer as lenenc string to byte buffers.
+     *
+     * @param value integer value
+     */
+    public void writeIntegerTextLenenc(final long value) {
+        writeIntLenenc(TextValueUtils.getIntegerTextLength(value));
+        TextValueUtils.writeIntegerText(byteBuf, value);
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCompressionAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLCompressionCodecTest {
+    
+    private final byte[] packets = String.join(",", Collections.nCopies(100, "select * from t_order where order_id = 1")).getBytes(StandardCharsets.UTF_8);
+    
+    @BeforeEach
+    void setUp() {
+        MySQLCompressionStatistics.getINSTANCE().reset();
+    }
+    
+    @Test
+    void assertEncodeAndDecodeWithZlib() {
+        assertEncodeAndDecode(MySQLCompressionAlgorithm.ZLIB, 6);
+    }
+    
+    @Test
+    void assertEncodeAndDecodeWithZstd() {
+        assertEncodeAndDecode(MySQLCompressionAlgorithm.ZSTD, 3);
+    }
+    
+    private void assertEncodeAndDecode(final MySQLCompressionAlgorithm algorithm, final int level) {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(algorithm, level, 50));
+        channel.writeOutbound(Unpooled.wrappedBuffer(packets));
+        ByteBuf compressed = channel.readOutbound();
+        assertThat(compressed.getUnsignedMediumLE(0), is(compressed.readableBytes() - 7));
+        assertThat(compressed.getUnsignedByte(3), is((short) 0));
+        assertThat(compressed.getUnsignedMediumLE(4), is(packets.length));
+        assertTrue(compressed.readableBytes() < packets.length);
+        EmbeddedChannel peer = new EmbeddedChannel(new MySQLCompressionCodec(algorithm, level, 50));
+        peer.writeInbound(compressed);
+        assertThat(ByteBufUtil.getBytes(peer.<ByteBuf>readInbound()), is(packets));
+        assertTrue(MySQLCompressionStatistics.getINSTANCE().getOutboundRatio() < 1D);
+        assertThat(MySQLCompressionStatistics.getINSTANCE().getInboundRatio(), is(MySQLCompressionStatistics.getINSTANCE().getOutboundRatio()));
+    }
+    
+    @Test
+    void assertEncodeMultiplePacketsInOneCompressedPacketPerFlush() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(MySQLCompressionAlgorithm.ZLIB, 6, 50));
+        int packetCount = 3;
+        for (int i = 0; i < packetCount; i++) {
+            channel.write(Unpooled.wrappedBuffer(packets));
+        }
+        assertThat(channel.outboundMessages().size(), is(0));
+        channel.flush();
+        assertThat(channel.outboundMessages().size(), is(1));
+        ByteBuf compressed = channel.readOutbound();
+        assertThat(compressed.getUnsignedByte(3), is((short) 0));
+        assertThat(compressed.getUnsignedMediumLE(4), is(packets.length * packetCount));
+        channel.writeOutbound(Unpooled.wrappedBuffer(packets));
+        assertThat(channel.<ByteBuf>readOutbound().getUnsignedByte(3), is((short) 1));
+        EmbeddedChannel peer = new EmbeddedChannel(new MySQLCompressionCodec(MySQLCompressionAlgorithm.ZLIB, 6, 50));
+        peer.writeInbound(compressed);
+        assertThat(peer.<ByteBuf>readInbound().readableBytes(), is(packets.length * packetCount));
+        assertFalse(channel.finish());
+    }
+    
+    @Test
+    void assertEncodeWithPayloadShorterThanMinLength() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(MySQLCompressionAlgorithm.ZLIB, 6, 50));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 0, 14}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{5, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 14}));
+    }
+    
+    @Test
+    void assertDecodeUncompressedPayload() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(MySQLCompressionAlgorithm.ZLIB, 6, 50));
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{5, 0, 0, 3, 0, 0, 0, 1, 0, 0, 0, 14}));
+        assertThat(ByteBufUtil.getBytes(channel.<ByteBuf>readInbound()), is(new byte[]{1, 0, 0, 0, 14}));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        assertThat(channel.<ByteBuf>readOutbound().getUnsignedByte(3), is((short) 4));
+    }
+    
+    @Test
+    void assertDecodeWithIncompletePacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(MySQLCompressionAlgorithm.ZLIB, 6, 50));
+        byte[] packet = {5, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 14};
+        channel.writeInbound(Unpooled.wrappedBuffer(Arrays.copyOf(packet, 9)));
+        assertThat(channel.inboundMessages().size(), is(0));
+        channel.writeInbound(Unpooled.wrappedBuffer(Arrays.copyOfRange(packet, 9, packet.length)));
+        assertThat(ByteBufUtil.getBytes(channel.<ByteBuf>readInbound()), is(new byte[]{1, 0, 0, 0, 14}));
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,4 +47,14 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteWithBinaryProtocolValues() {
+        MySQLBinaryProtocolValue longLongValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.LONGLONG);
+        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(new Object[]{null, 1L}, new MySQLBinaryProtocolValue[]{longLongValue, longLongValue});
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x04);
+        verify(payload).writeInt8(1L);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -84,4 +87,14 @@ class MySQLTextResultSetRowPacketTest {
         actual.write(payload);
         verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
     }
+    
+    @Test
+    void assertWriteWithTextProtocolValues() {
+        MySQLTextProtocolValue[] textProtocolValues = {MySQLTextProtocolValueFactory.getTextProtocolValue(Types.BIGINT), MySQLTextProtocolValueFactory.getTextProtocolValue(Types.VARCHAR)};
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(10L, "value", BigDecimal.TEN), textProtocolValues);
+        actual.write(payload);
+        verify(payload).writeIntegerTextLenenc(10L);
+        verify(payload).writeStringLenenc("value");
+        verify(payload).writeStringLenenc("10");
+    }
 }
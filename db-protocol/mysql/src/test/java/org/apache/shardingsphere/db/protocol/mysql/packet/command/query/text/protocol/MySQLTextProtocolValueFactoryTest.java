@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLTextProtocolValueFactoryTest {
+    
+    @Test
+    void assertGetIntegerTextProtocolValue() {
+        assertThat(MySQLTextProtocolValueFactory.getTextProtocolValue(Types.TINYINT), instanceOf(MySQLIntegerTextProtocolValue.class));
+        assertThat(MySQLTextProtocolValueFactory.getTextProtocolValue(Types.BIGINT), instanceOf(MySQLIntegerTextProtocolValue.class));
+    }
+    
+    @Test
+    void assertGetTimestampTextProtocolValue() {
+        assertThat(MySQLTextProtocolValueFactory.getTextProtocolValue(Types.TIMESTAMP), instanceOf(MySQLTimestampTextProtocolValue.class));
+    }
+    
+    @Test
+    void assertGetDefaultTextProtocolValue() {
+        assertThat(MySQLTextProtocolValueFactory.getTextProtocolValue(Types.VARCHAR), instanceOf(MySQLDefaultTextProtocolValue.class));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLTimestampTextProtocolValueTest {
+    
+    @Test
+    void assertWriteWithoutNanos() {
+        assertWrite(Timestamp.valueOf("2024-01-02 03:04:05"), "2024-01-02 03:04:05");
+        assertWrite(Timestamp.valueOf("0999-12-31 23:59:59"), "0999-12-31 23:59:59");
+    }
+    
+    @Test
+    void assertWriteWithNanos() {
+        assertWrite(Timestamp.valueOf("2024-01-02 03:04:05.123"), "2024-01-02 03:04:05.123");
+    }
+    
+    private void assertWrite(final Timestamp timestamp, final String expected) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new MySQLTimestampTextProtocolValue().write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8), timestamp);
+        assertThat((int) byteBuf.readUnsignedByte(), is(expected.length()));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is(expected));
+    }
+}
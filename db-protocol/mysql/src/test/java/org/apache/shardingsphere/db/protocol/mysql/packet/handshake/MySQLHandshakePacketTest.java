@@ -135,4 +135,12 @@ class MySQLHandshakePacketTest {
         verify(payload).writeStringNul(new String(authPluginData.getAuthenticationPluginDataPart2()));
         verify(payload).writeStringNul(MySQLAuthenticationMethod.NATIVE.getMethodName());
     }
+    
+    @Test
+    void assertNewWithCompressionEnabled() {
+        MySQLHandshakePacket actual = new MySQLHandshakePacket(1000, false, true, new MySQLAuthenticationPluginData(part1, part2));
+        assertThat(actual.getCapabilityFlagsLower(), is(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower() | MySQLCapabilityFlag.CLIENT_COMPRESS.getValue()));
+        assertThat(actual.getCapabilityFlagsUpper(),
+                is(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper() | MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue() >> 16));
+    }
 }
@@ -125,6 +125,20 @@ class MySQLHandshakeResponse41PacketTest {
         verify(payload).skipReserved(23);
     }
     
+    @Test
+    void assertNewWithPayloadWithZstdCompression() {
+        when(payload.readInt1()).thenReturn(MySQLConstants.DEFAULT_CHARSET.getId(), 1, 7);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION, MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS,
+                MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM), 1000);
+        when(payload.readStringNul()).thenReturn("root");
+        when(payload.readStringFixByBytes(1)).thenReturn(new byte[]{1});
+        when(payload.readIntLenenc()).thenReturn(20L);
+        MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(payload);
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getZstdCompressionLevel(), is(7));
+        verify(payload).skipReserved(20);
+    }
+    
     @Test
     void assertWriteWithDatabase() {
         MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(100, MySQLConstants.DEFAULT_CHARSET.getId(), "root");
@@ -183,4 +197,16 @@ class MySQLHandshakeResponse41PacketTest {
         verify(payload).writeInt1(1);
         verify(payload).writeBytes(new byte[]{1});
     }
+    
+    @Test
+    void assertWriteWithZstdCompression() {
+        MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(100, MySQLConstants.DEFAULT_CHARSET.getId(), "root");
+        actual.setCapabilityFlags(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION, MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS,
+                MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM));
+        actual.setAuthResponse(new byte[]{1});
+        actual.setZstdCompressionLevel(7);
+        actual.write(payload);
+        verify(payload).writeIntLenenc(0L);
+        verify(payload).writeInt1(7);
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -214,6 +216,22 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithMultiBytesCharacters() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("分片");
+        assertThat(actual.readUnsignedByte(), is((short) 6));
+        assertThat(ByteBufUtil.getBytes(actual), is("分片".getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Test
+    void assertWriteIntegerTextLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeIntegerTextLenenc(-1024L);
+        assertThat(actual.readUnsignedByte(), is((short) 5));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("-1024"));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
@@ -18,8 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.TextValueUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -34,31 +34,50 @@ import java.util.Collection;
 /**
  * Data row packet for PostgreSQL.
  */
-@RequiredArgsConstructor
-@Getter
 public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
     
+    @Getter
     private final Collection<Object> data;
     
+    private final PostgreSQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    public PostgreSQLDataRowPacket(final Collection<Object> data) {
+        this(data, new PostgreSQLBinaryProtocolValue[0]);
+    }
+    
+    /**
+     * Data row packet with binary protocol values chosen once per result set, null binary protocol value means text format.
+     *
+     * @param data data
+     * @param binaryProtocolValues binary protocol values of columns
+     */
+    public PostgreSQLDataRowPacket(final Collection<Object> data, final PostgreSQLBinaryProtocolValue[] binaryProtocolValues) {
+        this.data = data;
+        this.binaryProtocolValues = binaryProtocolValues;
+    }
+    
     @Override
     protected void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
+        int index = 0;
         for (Object each : data) {
             if (each instanceof BinaryCell) {
-                writeBinaryValue(payload, (BinaryCell) each);
+                BinaryCell binaryCell = (BinaryCell) each;
+                writeBinaryValue(payload, binaryCell.getData(), null == binaryCell.getData() ? null : PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(binaryCell.getColumnType()));
+            } else if (index < binaryProtocolValues.length && null != binaryProtocolValues[index]) {
+                writeBinaryValue(payload, each, binaryProtocolValues[index]);
             } else {
                 writeTextValue(payload, each);
             }
+            index++;
         }
     }
     
-    private void writeBinaryValue(final PostgreSQLPacketPayload payload, final BinaryCell each) {
-        Object value = each.getData();
+    private void writeBinaryValue(final PostgreSQLPacketPayload payload, final Object value, final PostgreSQLBinaryProtocolValue binaryProtocolValue) {
         if (null == value) {
             payload.writeInt4(0xFFFFFFFF);
             return;
         }
-        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
         payload.writeInt4(binaryProtocolValue.getColumnLength(value));
         binaryProtocolValue.write(payload, value);
     }
@@ -71,10 +90,10 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (TextValueUtils.isIntegral(each)) {
+            payload.writeIntegerTextWithLength(((Number) each).longValue());
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
+            payload.writeStringWithLength(each.toString());
         }
     }
     
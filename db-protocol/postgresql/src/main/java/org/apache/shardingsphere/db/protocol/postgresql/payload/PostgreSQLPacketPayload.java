@@ -18,11 +18,14 @@
 package org.apache.shardingsphere.db.protocol.postgresql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.TextValueUtils;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Payload operation for PostgreSQL packet data types.
@@ -118,6 +121,33 @@ public final class PostgreSQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value);
     }
     
+    /**
+     * Write string with 4 byte length prefix to byte buffers.
+     *
+     * @param value string
+     */
+    public void writeStringWithLength(final String value) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            byteBuf.writeInt(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
+        byte[] valueBytes = value.getBytes(charset);
+        byteBuf.writeInt(valueBytes.length);
+        byteBuf.writeBytes(valueBytes);
+    }
+    
+    /**
+     * Write decimal text of integer with 4 byte length prefix to byte buffers.
+     *
+     * @param value integer value
+     */
+    public void writeIntegerTextWithLength(final long value) {
+        byteBuf.writeInt(TextValueUtils.getIntegerTextLength(value));
+        TextValueUtils.writeIntegerText(byteBuf, value);
+    }
+    
     /**
      * Bytes before zero.
      *
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -87,9 +90,27 @@ class PostgreSQLDataRowPacketTest {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
         assertThat(actual.getData(), is(Collections.singleton("value")));
         actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
-        verify(payload).writeInt4(valueBytes.length);
-        verify(payload).writeBytes(valueBytes);
+        verify(payload).writeStringWithLength("value");
+    }
+    
+    @Test
+    void assertWriteWithInteger() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton(10));
+        actual.write(payload);
+        verify(payload).writeIntegerTextWithLength(10L);
+    }
+    
+    @Test
+    void assertWriteWithBinaryProtocolValues() {
+        PostgreSQLBinaryProtocolValue int4BinaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.INT4);
+        PostgreSQLDataRowPacket actual =
+                new PostgreSQLDataRowPacket(Arrays.asList(12345678, null, "value"), new PostgreSQLBinaryProtocolValue[]{int4BinaryProtocolValue, int4BinaryProtocolValue, null});
+        actual.write(payload);
+        verify(payload).writeInt2(3);
+        verify(payload).writeInt4(4);
+        verify(payload).writeInt4(12345678);
+        verify(payload).writeInt4(0xFFFFFFFF);
+        verify(payload).writeStringWithLength("value");
     }
     
     @Test
@@ -54,4 +54,20 @@ class PostgreSQLPacketPayloadTest {
         assertThat(payload.readStringNul(), is(expectedString));
         assertThat(payload.getByteBuf(), is(byteBuf));
     }
+    
+    @Test
+    void assertWriteStringWithLength() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(16, 128);
+        new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeStringWithLength("分片");
+        assertThat(byteBuf.readInt(), is(6));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("分片"));
+    }
+    
+    @Test
+    void assertWriteIntegerTextWithLength() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(16, 128);
+        new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeIntegerTextWithLength(-1024L);
+        assertThat(byteBuf.readInt(), is(5));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("-1024"));
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication position loader.
+ */
+@SingletonSPI
+public interface ReplicationPositionLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load replication position of primary data source.
+     *
+     * @param statement statement of primary data source, whose query timeout is set
+     * @return replication position, empty if replication position is unavailable
+     * @throws SQLException SQL exception
+     */
+    Optional<ReplicationPosition> loadPrimaryPosition(Statement statement) throws SQLException;
+    
+    /**
+     * Load replication position of replica data source.
+     *
+     * @param statement statement of replica data source, whose query timeout is set
+     * @return replication position, empty if replication position is unavailable
+     * @throws SQLException SQL exception
+     */
+    Optional<ReplicationPosition> loadReplicaPosition(Statement statement) throws SQLException;
+}
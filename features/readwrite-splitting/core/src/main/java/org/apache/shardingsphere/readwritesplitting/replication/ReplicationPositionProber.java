@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication position prober.
+ *
+ * <p>Data source groups are probed in background since their progress is first required, and are not probed any more after idle for a while.
+ * Every group is probed by its own task with connect and query timeout, so a slow data source only delays the progress of its own group.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationPositionProber {
+    
+    private static final int MAX_IDLE_PROBE_TIMES = 100;
+    
+    private static final long MIN_PROBE_TIMEOUT_MILLIS = 1000L;
+    
+    private static final Map<ReadwriteSplittingDataSourceGroupRule, ReplicationProbeTarget> TARGETS = new ConcurrentHashMap<>();
+    
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ReadwriteSplitting-ReplicationProbe").build());
+    
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ReadwriteSplitting-ReplicationProbe-%d").build());
+    
+    private static boolean started;
+    
+    /**
+     * Get replication progress.
+     *
+     * @param rule readwrite-splitting data source group rule
+     * @param resourceMetaData resource meta data
+     * @param probeIntervalMillis probe interval in milliseconds
+     * @return replication progress
+     */
+    public static ReplicationProgress getProgress(final ReadwriteSplittingDataSourceGroupRule rule, final ResourceMetaData resourceMetaData, final long probeIntervalMillis) {
+        ReplicationProbeTarget result = TARGETS.get(rule);
+        if (null == result) {
+            result = TARGETS.computeIfAbsent(rule, key -> new ReplicationProbeTarget(key, resourceMetaData, PROBE_EXECUTOR, Math.max(probeIntervalMillis, MIN_PROBE_TIMEOUT_MILLIS)));
+            start(probeIntervalMillis);
+        }
+        result.access();
+        return result.getProgress();
+    }
+    
+    private static synchronized void start(final long probeIntervalMillis) {
+        if (started) {
+            return;
+        }
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(probeIntervalMillis) * MAX_IDLE_PROBE_TIMES;
+        SCHEDULER.scheduleWithFixedDelay(() -> probe(idleNanos), 0L, probeIntervalMillis, TimeUnit.MILLISECONDS);
+        started = true;
+    }
+    
+    private static void probe(final long idleNanos) {
+        TARGETS.values().removeIf(each -> each.isIdle(idleNanos));
+        TARGETS.values().forEach(ReplicationProbeTarget::submitProbe);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication probe target.
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class ReplicationProbeTarget {
+    
+    private final ReadwriteSplittingDataSourceGroupRule rule;
+    
+    private final ResourceMetaData resourceMetaData;
+    
+    private final ExecutorService executor;
+    
+    private final long timeoutMillis;
+    
+    @Getter
+    private final ReplicationProgress progress = new ReplicationProgress();
+    
+    private final AtomicBoolean probing = new AtomicBoolean();
+    
+    private volatile long lastAccessNanos = System.nanoTime();
+    
+    /**
+     * Access.
+     */
+    void access() {
+        lastAccessNanos = System.nanoTime();
+    }
+    
+    /**
+     * Judge whether target has not been accessed for the time.
+     *
+     * @param idleNanos idle time in nanoseconds
+     * @return is idle or not
+     */
+    boolean isIdle(final long idleNanos) {
+        return System.nanoTime() - lastAccessNanos > idleNanos;
+    }
+    
+    /**
+     * Submit probe task, which is skipped if previous probe of the target is still running.
+     */
+    void submitProbe() {
+        if (!probing.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                probe();
+            } finally {
+                probing.set(false);
+            }
+        });
+    }
+    
+    /**
+     * Probe replication positions of primary and replica data sources.
+     */
+    void probe() {
+        long probeStartNanos = System.nanoTime();
+        Optional<ReplicationPosition> primaryPosition = loadPosition(rule.getWriteDataSource(), true);
+        if (!primaryPosition.isPresent()) {
+            return;
+        }
+        progress.recordPrimaryPosition(probeStartNanos, primaryPosition.get());
+        for (String each : rule.getReadwriteSplittingGroup().getReadDataSources()) {
+            loadPosition(each, false).ifPresent(optional -> progress.recordReplicaPosition(each, optional));
+        }
+    }
+    
+    private Optional<ReplicationPosition> loadPosition(final String dataSourceName, final boolean isPrimary) {
+        StorageUnit storageUnit = resourceMetaData.getStorageUnits().get(dataSourceName);
+        if (null == storageUnit) {
+            return Optional.empty();
+        }
+        Optional<ReplicationPositionLoader> loader = DatabaseTypedSPILoader.findService(ReplicationPositionLoader.class, storageUnit.getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        try (
+                Connection connection = getConnection(dataSourceName, storageUnit.getDataSource());
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(TimeUnit.MILLISECONDS.toSeconds(timeoutMillis), 1L));
+            return isPrimary ? loader.get().loadPrimaryPosition(statement) : loader.get().loadReplicaPosition(statement);
+        } catch (final SQLException ex) {
+            log.warn("Load replication position of data source `{}` failed.", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Connection getConnection(final String dataSourceName, final DataSource dataSource) throws SQLException {
+        CompletableFuture<Connection> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(dataSource.getConnection());
+            } catch (final SQLException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            result.thenAccept(this::closeConnection);
+            throw new SQLTimeoutException(String.format("Get connection of data source `%s` timeout after %s milliseconds.", dataSourceName, timeoutMillis), ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void closeConnection(final Connection connection) {
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("Close connection of replication probe failed.", ex);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replication progress of readwrite-splitting data source group.
+ *
+ * <p>Every probe records the position of primary data source with the start time of probe, so the position contains all writes finished before the time.
+ * The replica has caught up with the writes once its position contains the primary position.</p>
+ */
+public final class ReplicationProgress {
+    
+    private static final int MAX_PRIMARY_POSITION_SIZE = 64;
+    
+    private final Deque<Entry<Long, ReplicationPosition>> primaryPositions = new LinkedList<>();
+    
+    private final Map<String, Long> caughtUpNanos = new ConcurrentHashMap<>();
+    
+    /**
+     * Record replication position of primary data source.
+     *
+     * @param probeStartNanos start time of probe in nanoseconds
+     * @param position replication position of primary data source
+     */
+    public synchronized void recordPrimaryPosition(final long probeStartNanos, final ReplicationPosition position) {
+        primaryPositions.addFirst(new SimpleImmutableEntry<>(probeStartNanos, position));
+        if (primaryPositions.size() > MAX_PRIMARY_POSITION_SIZE) {
+            primaryPositions.removeLast();
+        }
+    }
+    
+    /**
+     * Record replication position of replica data source.
+     *
+     * @param replicaName replica data source name
+     * @param position replication position of replica data source
+     */
+    public synchronized void recordReplicaPosition(final String replicaName, final ReplicationPosition position) {
+        for (Entry<Long, ReplicationPosition> each : primaryPositions) {
+            if (position.contains(each.getValue())) {
+                caughtUpNanos.merge(replicaName, each.getKey(), (oldValue, newValue) -> newValue - oldValue > 0L ? newValue : oldValue);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Judge whether replica data source has caught up with writes finished before the time.
+     *
+     * @param replicaName replica data source name
+     * @param writeFinishedNanos time of writes finished in nanoseconds
+     * @return caught up or not
+     */
+    public boolean isCaughtUp(final String replicaName, final long writeFinishedNanos) {
+        Long result = caughtUpNanos.get(replicaName);
+        return null != result && result - writeFinishedNanos > 0L;
+    }
+}
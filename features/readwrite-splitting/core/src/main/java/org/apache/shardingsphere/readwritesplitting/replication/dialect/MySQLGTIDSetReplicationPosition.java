@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPosition;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Replication position of MySQL GTID set.
+ *
+ * <p>GTID set is in the shape of {@code source_id[:tag]:interval[:interval...][,...]}, intervals of GTID set loaded from MySQL are merged and sorted,
+ * so one interval is contained by another GTID set only if it is contained by a single interval of the same source.</p>
+ */
+public final class MySQLGTIDSetReplicationPosition implements ReplicationPosition {
+    
+    private final Map<String, List<long[]>> intervals;
+    
+    public MySQLGTIDSetReplicationPosition(final String gtidSet) {
+        intervals = parseIntervals(gtidSet);
+    }
+    
+    private Map<String, List<long[]>> parseIntervals(final String gtidSet) {
+        Map<String, List<long[]>> result = new HashMap<>();
+        for (String each : gtidSet.replaceAll("\\s", "").split(",")) {
+            if (each.isEmpty()) {
+                continue;
+            }
+            String[] segments = each.split(":");
+            String sourceId = segments[0].toLowerCase();
+            for (int i = 1; i < segments.length; i++) {
+                if (Character.isDigit(segments[i].charAt(0))) {
+                    result.computeIfAbsent(sourceId, unused -> new LinkedList<>()).add(parseInterval(segments[i]));
+                } else {
+                    sourceId = segments[0].toLowerCase() + ":" + segments[i].toLowerCase();
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long[] parseInterval(final String interval) {
+        int separatorIndex = interval.indexOf('-');
+        return -1 == separatorIndex
+                ? new long[]{Long.parseLong(interval), Long.parseLong(interval)}
+                : new long[]{Long.parseLong(interval.substring(0, separatorIndex)), Long.parseLong(interval.substring(separatorIndex + 1))};
+    }
+    
+    @Override
+    public boolean contains(final ReplicationPosition position) {
+        if (!(position instanceof MySQLGTIDSetReplicationPosition)) {
+            return false;
+        }
+        for (Entry<String, List<long[]>> entry : ((MySQLGTIDSetReplicationPosition) position).intervals.entrySet()) {
+            List<long[]> sourceIntervals = intervals.get(entry.getKey());
+            if (null == sourceIntervals) {
+                return false;
+            }
+            for (long[] each : entry.getValue()) {
+                if (!containsInterval(sourceIntervals, each)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private boolean containsInterval(final List<long[]> sourceIntervals, final long[] interval) {
+        for (long[] each : sourceIntervals) {
+            if (each[0] <= interval[0] && interval[1] <= each[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPositionLoader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication position loader of MySQL.
+ */
+public final class MySQLReplicationPositionLoader implements ReplicationPositionLoader {
+    
+    private static final String GTID_EXECUTED_SQL = "SELECT @@GLOBAL.gtid_executed";
+    
+    @Override
+    public Optional<ReplicationPosition> loadPrimaryPosition(final Statement statement) throws SQLException {
+        return loadExecutedGTIDSet(statement);
+    }
+    
+    @Override
+    public Optional<ReplicationPosition> loadReplicaPosition(final Statement statement) throws SQLException {
+        return loadExecutedGTIDSet(statement);
+    }
+    
+    private Optional<ReplicationPosition> loadExecutedGTIDSet(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(GTID_EXECUTED_SQL)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            String gtidSet = resultSet.getString(1);
+            return Strings.isNullOrEmpty(gtidSet) ? Optional.empty() : Optional.of(new MySQLGTIDSetReplicationPosition(gtidSet));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPosition;
+
+/**
+ * Replication position of PostgreSQL WAL LSN.
+ *
+ * <p>LSN is in the shape of {@code high/low}, both parts are 32-bit hexadecimal numbers.</p>
+ */
+public final class PostgreSQLLSNReplicationPosition implements ReplicationPosition {
+    
+    private final long lsn;
+    
+    public PostgreSQLLSNReplicationPosition(final String lsn) {
+        int separatorIndex = lsn.indexOf('/');
+        this.lsn = Long.parseLong(lsn.substring(0, separatorIndex), 16) << 32 | Long.parseLong(lsn.substring(separatorIndex + 1), 16);
+    }
+    
+    @Override
+    public boolean contains(final ReplicationPosition position) {
+        return position instanceof PostgreSQLLSNReplicationPosition && lsn >= ((PostgreSQLLSNReplicationPosition) position).lsn;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPositionLoader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication position loader of PostgreSQL.
+ */
+public final class PostgreSQLReplicationPositionLoader implements ReplicationPositionLoader {
+    
+    private static final String CURRENT_WAL_LSN_SQL = "SELECT pg_current_wal_lsn()";
+    
+    private static final String LAST_WAL_REPLAY_LSN_SQL = "SELECT pg_last_wal_replay_lsn()";
+    
+    @Override
+    public Optional<ReplicationPosition> loadPrimaryPosition(final Statement statement) throws SQLException {
+        return loadLSN(statement, CURRENT_WAL_LSN_SQL);
+    }
+    
+    @Override
+    public Optional<ReplicationPosition> loadReplicaPosition(final Statement statement) throws SQLException {
+        return loadLSN(statement, LAST_WAL_REPLAY_LSN_SQL);
+    }
+    
+    private Optional<ReplicationPosition> loadLSN(final Statement statement, final String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            String lsn = resultSet.getString(1);
+            return null == lsn ? Optional.empty() : Optional.of(new PostgreSQLLSNReplicationPosition(lsn));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
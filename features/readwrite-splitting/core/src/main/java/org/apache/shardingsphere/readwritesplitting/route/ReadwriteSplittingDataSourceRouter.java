@@ -20,11 +20,14 @@ package org.apache.shardingsphere.readwritesplitting.route;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationProgress;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingPrimaryDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingReplicationDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,13 +39,27 @@ public final class ReadwriteSplittingDataSourceRouter {
     
     private final ReadwriteSplittingDataSourceGroupRule rule;
     
+    private final ConnectionContext connectionContext;
+    
+    private final boolean readYourWritesEnabled;
+    
     private final Collection<QualifiedReadwriteSplittingDataSourceRouter> qualifiedRouters;
     
     public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext) {
         this.rule = rule;
+        this.connectionContext = connectionContext;
+        readYourWritesEnabled = false;
         qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext));
     }
     
+    public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext, final ReplicationProgress replicationProgress) {
+        this.rule = rule;
+        this.connectionContext = connectionContext;
+        readYourWritesEnabled = true;
+        qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext),
+                new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress));
+    }
+    
     /**
      * Route.
      *
@@ -51,6 +68,9 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        if (readYourWritesEnabled && !(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+            connectionContext.getReadYourWritesContext().markWriteRouted();
+        }
         for (QualifiedReadwriteSplittingDataSourceRouter each : qualifiedRouters) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
                 return each.route(rule);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.infra.route.type.DataSourceSQLRouter;
 import org.apache.shardingsphere.infra.route.type.DecorateSQLRouter;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationPositionProber;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 
 import java.util.Collection;
@@ -43,12 +46,13 @@ public final class ReadwriteSplittingSQLRouter implements DecorateSQLRouter<Read
                                      final ReadwriteSplittingRule rule, final Collection<String> tableNames, final ConfigurationProperties props) {
         Collection<RouteUnit> toBeRemoved = new LinkedList<>();
         Collection<RouteUnit> toBeAdded = new LinkedList<>();
+        long replicationProbeIntervalMillis = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_PROBE_INTERVAL_MILLISECONDS);
         for (RouteUnit each : routeContext.getRouteUnits()) {
             String logicDataSourceName = each.getDataSourceMapper().getActualName();
             rule.findDataSourceGroupRule(logicDataSourceName).ifPresent(optional -> {
                 toBeRemoved.add(each);
-                String actualDataSourceName =
-                        new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext()).route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
+                String actualDataSourceName = createDataSourceRouter(optional, queryContext, database, replicationProbeIntervalMillis)
+                        .route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
                 toBeAdded.add(new RouteUnit(new RouteMapper(logicDataSourceName, actualDataSourceName), each.getTableMappers()));
             });
         }
@@ -56,6 +60,14 @@ public final class ReadwriteSplittingSQLRouter implements DecorateSQLRouter<Read
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private ReadwriteSplittingDataSourceRouter createDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule, final QueryContext queryContext,
+                                                                      final ShardingSphereDatabase database, final long replicationProbeIntervalMillis) {
+        return replicationProbeIntervalMillis > 0L
+                ? new ReadwriteSplittingDataSourceRouter(dataSourceGroupRule, queryContext.getConnectionContext(),
+                        ReplicationPositionProber.getProgress(dataSourceGroupRule, database.getResourceMetaData(), replicationProbeIntervalMillis))
+                : new ReadwriteSplittingDataSourceRouter(dataSourceGroupRule, queryContext.getConnectionContext());
+    }
+    
     @Override
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
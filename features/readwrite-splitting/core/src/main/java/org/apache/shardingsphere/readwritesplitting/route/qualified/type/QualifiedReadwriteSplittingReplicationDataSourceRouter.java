@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadYourWritesConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationProgress;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Qualified data source replication router, which routes reads after writes to replicas which have caught up with the writes.
+ *
+ * <p>Reads are routed to primary data source until any replica has caught up with the writes, and writes are no longer tracked after all replicas have caught up.</p>
+ */
+public final class QualifiedReadwriteSplittingReplicationDataSourceRouter implements QualifiedReadwriteSplittingDataSourceRouter {
+    
+    private final ConnectionContext connectionContext;
+    
+    private final ReplicationProgress replicationProgress;
+    
+    private final StandardReadwriteSplittingDataSourceRouter standardRouter = new StandardReadwriteSplittingDataSourceRouter();
+    
+    public QualifiedReadwriteSplittingReplicationDataSourceRouter(final ConnectionContext connectionContext, final ReplicationProgress replicationProgress) {
+        this.connectionContext = connectionContext;
+        this.replicationProgress = replicationProgress;
+    }
+    
+    @Override
+    public boolean isQualified(final SQLStatementContext sqlStatementContext, final ReadwriteSplittingDataSourceGroupRule rule, final HintValueContext hintValueContext) {
+        return connectionContext.getReadYourWritesContext().findWriteFinishedNanos().isPresent();
+    }
+    
+    @Override
+    public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
+        ReadYourWritesConnectionContext readYourWritesContext = connectionContext.getReadYourWritesContext();
+        OptionalLong writeFinishedNanos = readYourWritesContext.findWriteFinishedNanos();
+        if (!writeFinishedNanos.isPresent()) {
+            return standardRouter.route(rule);
+        }
+        List<String> readDataSources = standardRouter.getFilteredReadDataSources(rule);
+        List<String> caughtUpReadDataSources = new LinkedList<>();
+        for (String each : readDataSources) {
+            if (replicationProgress.isCaughtUp(each, writeFinishedNanos.getAsLong())) {
+                caughtUpReadDataSources.add(each);
+            }
+        }
+        if (caughtUpReadDataSources.isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        if (caughtUpReadDataSources.size() == readDataSources.size()) {
+            readYourWritesContext.markWritesVisible(writeFinishedNanos.getAsLong());
+        }
+        return rule.getLoadBalancer().getTargetName(rule.getName(), caughtUpReadDataSources);
+    }
+}
@@ -38,7 +38,13 @@ public final class StandardReadwriteSplittingDataSourceRouter {
         return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
     }
     
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
+    /**
+     * Get filtered read data sources.
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @return filtered read data source names
+     */
+    public List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
         for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
             result = each.filter(rule, result);
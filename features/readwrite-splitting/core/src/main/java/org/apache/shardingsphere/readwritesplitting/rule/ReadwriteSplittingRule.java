@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
@@ -46,7 +47,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -61,7 +62,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
-        loadBalancers = createLoadBalancers(ruleConfig);
+        loadBalancers = createLoadBalancers(databaseName, ruleConfig);
         dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
@@ -70,12 +71,16 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
     }
     
-    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, LoadBalanceAlgorithm> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                if (loadBalancer instanceof DatabaseNameAware) {
+                    ((DatabaseNameAware) loadBalancer).setDatabaseName(databaseName);
+                }
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
@@ -145,4 +150,13 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
     }
+    
+    @Override
+    public void close() throws Exception {
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
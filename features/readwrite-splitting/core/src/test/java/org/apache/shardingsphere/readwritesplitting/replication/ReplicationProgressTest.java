@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication;
+
+import org.apache.shardingsphere.readwritesplitting.replication.dialect.PostgreSQLLSNReplicationPosition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicationProgressTest {
+    
+    private final ReplicationProgress replicationProgress = new ReplicationProgress();
+    
+    @Test
+    void assertIsCaughtUpWithoutPosition() {
+        assertFalse(replicationProgress.isCaughtUp("read_ds", 0L));
+    }
+    
+    @Test
+    void assertIsCaughtUpWithLatestPrimaryPosition() {
+        replicationProgress.recordPrimaryPosition(100L, new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds", new PostgreSQLLSNReplicationPosition("0/10"));
+        assertTrue(replicationProgress.isCaughtUp("read_ds", 99L));
+        assertFalse(replicationProgress.isCaughtUp("read_ds", 100L));
+    }
+    
+    @Test
+    void assertIsCaughtUpWithPreviousPrimaryPosition() {
+        replicationProgress.recordPrimaryPosition(100L, new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordPrimaryPosition(200L, new PostgreSQLLSNReplicationPosition("0/20"));
+        replicationProgress.recordReplicaPosition("read_ds", new PostgreSQLLSNReplicationPosition("0/15"));
+        assertTrue(replicationProgress.isCaughtUp("read_ds", 50L));
+        assertFalse(replicationProgress.isCaughtUp("read_ds", 150L));
+    }
+    
+    @Test
+    void assertIsCaughtUpNotGoBackward() {
+        replicationProgress.recordPrimaryPosition(100L, new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds", new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordPrimaryPosition(200L, new PostgreSQLLSNReplicationPosition("0/20"));
+        replicationProgress.recordReplicaPosition("read_ds", new PostgreSQLLSNReplicationPosition("0/5"));
+        assertTrue(replicationProgress.isCaughtUp("read_ds", 50L));
+    }
+}
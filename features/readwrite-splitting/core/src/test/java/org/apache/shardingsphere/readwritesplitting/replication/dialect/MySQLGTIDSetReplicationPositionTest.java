@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLGTIDSetReplicationPositionTest {
+    
+    private static final String SOURCE_ID = "3E11FA47-71CA-11E1-9E33-C80AA9429562";
+    
+    private static final String ANOTHER_SOURCE_ID = "4e11fa47-71ca-11e1-9e33-c80aa9429562";
+    
+    @Test
+    void assertContainsSameGTIDSet() {
+        assertTrue(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-5").contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID.toLowerCase() + ":1-5")));
+    }
+    
+    @Test
+    void assertContainsSmallerGTIDSet() {
+        MySQLGTIDSetReplicationPosition position = new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-10:12,\n" + ANOTHER_SOURCE_ID + ":1-3");
+        assertTrue(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":2-8:12")));
+        assertTrue(position.contains(new MySQLGTIDSetReplicationPosition(ANOTHER_SOURCE_ID + ":3")));
+    }
+    
+    @Test
+    void assertNotContainsLargerGTIDSet() {
+        MySQLGTIDSetReplicationPosition position = new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-10:12");
+        assertFalse(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-11")));
+        assertFalse(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":10-12")));
+        assertFalse(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-10," + ANOTHER_SOURCE_ID + ":1")));
+    }
+    
+    @Test
+    void assertContainsTaggedGTIDSet() {
+        MySQLGTIDSetReplicationPosition position = new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-10:foo:1-3");
+        assertTrue(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":foo:2")));
+        assertFalse(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":foo:4")));
+        assertFalse(position.contains(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":bar:1")));
+    }
+    
+    @Test
+    void assertNotContainsOtherPosition() {
+        assertFalse(new MySQLGTIDSetReplicationPosition(SOURCE_ID + ":1-10").contains(new PostgreSQLLSNReplicationPosition("0/1")));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.replication.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLLSNReplicationPositionTest {
+    
+    @Test
+    void assertContainsSmallerLSN() {
+        PostgreSQLLSNReplicationPosition position = new PostgreSQLLSNReplicationPosition("16/B374D848");
+        assertTrue(position.contains(new PostgreSQLLSNReplicationPosition("16/B374D848")));
+        assertTrue(position.contains(new PostgreSQLLSNReplicationPosition("15/FFFFFFFF")));
+    }
+    
+    @Test
+    void assertNotContainsLargerLSN() {
+        PostgreSQLLSNReplicationPosition position = new PostgreSQLLSNReplicationPosition("16/B374D848");
+        assertFalse(position.contains(new PostgreSQLLSNReplicationPosition("16/B374D849")));
+        assertFalse(position.contains(new PostgreSQLLSNReplicationPosition("17/0")));
+    }
+    
+    @Test
+    void assertNotContainsOtherPosition() {
+        assertFalse(new PostgreSQLLSNReplicationPosition("16/B374D848").contains(new MySQLGTIDSetReplicationPosition("3e11fa47-71ca-11e1-9e33-c80aa9429562:1")));
+    }
+}
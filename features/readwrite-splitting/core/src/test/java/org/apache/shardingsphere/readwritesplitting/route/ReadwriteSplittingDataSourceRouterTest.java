@@ -22,9 +22,12 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationProgress;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -73,6 +78,20 @@ class ReadwriteSplittingDataSourceRouterTest {
         assertThat(router.route(sqlStatementContext, hintValueContext), is("standard_ds"));
     }
     
+    @Test
+    void assertRouteWriteWithReadYourWrites() {
+        ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, connectionContext, new ReplicationProgress());
+        setQualifiedRouters(router, mock(QualifiedReadwriteSplittingDataSourceRouter.class));
+        when(ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)).thenReturn(Collections.emptyList());
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        router.route(sqlStatementContext, hintValueContext);
+        assertFalse(connectionContext.getReadYourWritesContext().findWriteFinishedNanos().isPresent());
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+        router.route(sqlStatementContext, hintValueContext);
+        assertTrue(connectionContext.getReadYourWritesContext().findWriteFinishedNanos().isPresent());
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setQualifiedRouters(final ReadwriteSplittingDataSourceRouter router, final QualifiedReadwriteSplittingDataSourceRouter qualifiedRouter) {
         Plugins.getMemberAccessor().set(ReadwriteSplittingDataSourceRouter.class.getDeclaredField("qualifiedRouters"), router, Collections.singleton(qualifiedRouter));
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.replication.ReplicationProgress;
+import org.apache.shardingsphere.readwritesplitting.replication.dialect.PostgreSQLLSNReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class QualifiedReadwriteSplittingReplicationDataSourceRouterTest {
+    
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
+    
+    private final ReplicationProgress replicationProgress = new ReplicationProgress();
+    
+    private final ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(
+            new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Arrays.asList("read_ds0", "read_ds1"), null),
+            TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
+    
+    @Test
+    void assertIsNotQualifiedWithoutWrite() {
+        assertFalse(new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress).isQualified(null, rule, mock(HintValueContext.class)));
+    }
+    
+    @Test
+    void assertIsQualifiedAfterWrite() {
+        connectionContext.getReadYourWritesContext().markWriteRouted();
+        assertTrue(new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress).isQualified(null, rule, mock(HintValueContext.class)));
+    }
+    
+    @Test
+    void assertRouteWithoutCaughtUpReplica() {
+        replicationProgress.recordPrimaryPosition(System.nanoTime(), new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds0", new PostgreSQLLSNReplicationPosition("0/10"));
+        connectionContext.getReadYourWritesContext().markWriteRouted();
+        assertThat(new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress).route(rule), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteWithCaughtUpReplica() {
+        connectionContext.getReadYourWritesContext().markWriteRouted();
+        connectionContext.getReadYourWritesContext().findWriteFinishedNanos();
+        replicationProgress.recordPrimaryPosition(System.nanoTime() + 1L, new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds0", new PostgreSQLLSNReplicationPosition("0/F"));
+        replicationProgress.recordReplicaPosition("read_ds1", new PostgreSQLLSNReplicationPosition("0/10"));
+        QualifiedReadwriteSplittingReplicationDataSourceRouter router = new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress);
+        assertThat(router.route(rule), is("read_ds1"));
+        assertThat(router.route(rule), is("read_ds1"));
+        assertTrue(router.isQualified(null, rule, mock(HintValueContext.class)));
+    }
+    
+    @Test
+    void assertRouteWithPermanentlyLaggingReplica() {
+        ReadwriteSplittingDataSourceGroupRule singleReplicaRule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Collections.singletonList("read_ds0"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
+        connectionContext.getReadYourWritesContext().markWriteRouted();
+        QualifiedReadwriteSplittingReplicationDataSourceRouter router = new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress);
+        for (int i = 0; i < 10; i++) {
+            replicationProgress.recordPrimaryPosition(System.nanoTime(), new PostgreSQLLSNReplicationPosition(String.format("0/%X", 16 + i)));
+            replicationProgress.recordReplicaPosition("read_ds0", new PostgreSQLLSNReplicationPosition("0/F"));
+            assertTrue(router.isQualified(null, singleReplicaRule, mock(HintValueContext.class)));
+            assertThat(router.route(singleReplicaRule), is("write_ds"));
+        }
+    }
+    
+    @Test
+    void assertRouteAfterAllReplicasCaughtUp() {
+        connectionContext.getReadYourWritesContext().markWriteRouted();
+        connectionContext.getReadYourWritesContext().findWriteFinishedNanos();
+        replicationProgress.recordPrimaryPosition(System.nanoTime() + 1L, new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds0", new PostgreSQLLSNReplicationPosition("0/10"));
+        replicationProgress.recordReplicaPosition("read_ds1", new PostgreSQLLSNReplicationPosition("0/10"));
+        QualifiedReadwriteSplittingReplicationDataSourceRouter router = new QualifiedReadwriteSplittingReplicationDataSourceRouter(connectionContext, replicationProgress);
+        assertThat(router.route(rule), is("read_ds0"));
+        assertFalse(router.isQualified(null, rule, mock(HintValueContext.class)));
+    }
+}
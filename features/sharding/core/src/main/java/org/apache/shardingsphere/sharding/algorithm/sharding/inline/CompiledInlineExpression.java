@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>The inline expression parser is created once, and expressions in the shape of {@code prefix${column}suffix} or {@code prefix${column % n}suffix}
+ * are evaluated with primitive arithmetic for integral sharding values, without invoking the inline expression engine.</p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final String GROOVY_TYPE = "GROOVY";
+    
+    private static final Pattern SIMPLE_EXPRESSION_PATTERN = Pattern.compile("^([^$]*)\\$\\{\\s*([A-Za-z_]\\w*)\\s*(?:%\\s*([1-9]\\d{0,17})\\s*)?}([^$]*)$");
+    
+    @Getter
+    private final String expression;
+    
+    private final InlineExpressionParser parser;
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final long divisor;
+    
+    private final String suffix;
+    
+    public CompiledInlineExpression(final String expression) {
+        this.expression = expression;
+        parser = InlineExpressionParserFactory.newInstance(expression);
+        Matcher matcher = SIMPLE_EXPRESSION_PATTERN.matcher(expression);
+        boolean isSimpleExpression = GROOVY_TYPE.equals(parser.getType()) && matcher.matches();
+        prefix = isSimpleExpression ? matcher.group(1) : null;
+        columnName = isSimpleExpression ? matcher.group(2) : null;
+        divisor = isSimpleExpression && null != matcher.group(3) ? Long.parseLong(matcher.group(3)) : 0L;
+        suffix = isSimpleExpression ? matcher.group(4) : null;
+    }
+    
+    /**
+     * Judge whether the expression can be evaluated without the inline expression engine.
+     *
+     * @return can be evaluated without the inline expression engine or not
+     */
+    public boolean isSimpleExpression() {
+        return null != columnName;
+    }
+    
+    /**
+     * Evaluate with single argument.
+     *
+     * @param columnName column name
+     * @param value value
+     * @return evaluated result
+     */
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        String result = evaluateSimpleExpression(columnName, value);
+        return null == result ? parser.evaluateWithArgs(Collections.singletonMap(columnName, value)) : result;
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param columnNameAndValueMap column name and value map
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, Comparable<?>> columnNameAndValueMap) {
+        if (null != columnName && 1 == columnNameAndValueMap.size()) {
+            String result = evaluateSimpleExpression(columnName, columnNameAndValueMap.get(columnName));
+            if (null != result) {
+                return result;
+            }
+        }
+        return parser.evaluateWithArgs(columnNameAndValueMap);
+    }
+    
+    private String evaluateSimpleExpression(final String columnName, final Comparable<?> value) {
+        if (null == this.columnName || !this.columnName.equals(columnName)) {
+            return null;
+        }
+        if (0L == divisor) {
+            return value instanceof String || isIntegral(value) ? prefix + value + suffix : null;
+        }
+        return isIntegral(value) ? prefix + ((Number) value).longValue() % divisor + suffix : null;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -29,7 +29,6 @@ import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineSh
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -44,11 +43,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledExpression;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledExpression = new CompiledInlineExpression(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -68,7 +70,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
+            return compiledExpression.evaluate(columnName, shardingValue.getValue());
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionSegment;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Aggregation unit creator for group by merged results.
+ *
+ * <p>Declared data types of aggregated columns are resolved from schema once per merge, and are used to choose accumulators of aggregation units.</p>
+ */
+final class GroupByAggregationUnitCreator {
+    
+    private final Map<AggregationProjection, Integer> columnTypes;
+    
+    GroupByAggregationUnitCreator(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) {
+        Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        columnTypes = new HashMap<>(aggregationProjections.size(), 1F);
+        for (AggregationProjection each : aggregationProjections) {
+            columnTypes.put(each, getColumnType(selectStatementContext, schema, each));
+        }
+    }
+    
+    private int getColumnType(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final AggregationProjection aggregationProjection) {
+        Optional<ColumnSegment> column = null == schema ? Optional.empty() : findAggregatedColumn(selectStatementContext, aggregationProjection);
+        if (!column.isPresent()) {
+            return Types.OTHER;
+        }
+        String tableName = selectStatementContext.getTablesContext().findTableNames(Collections.singleton(column.get()), schema).get(column.get().getExpression());
+        if (null == tableName || !schema.containsTable(tableName)) {
+            return Types.OTHER;
+        }
+        ShardingSphereTable table = schema.getTable(tableName);
+        String columnName = column.get().getIdentifier().getValue();
+        return table.containsColumn(columnName) ? table.getColumn(columnName).getDataType() : Types.OTHER;
+    }
+    
+    private Optional<ColumnSegment> findAggregatedColumn(final SelectStatementContext selectStatementContext, final AggregationProjection aggregationProjection) {
+        if (null == selectStatementContext.getSqlStatement().getProjections()) {
+            return Optional.empty();
+        }
+        for (ProjectionSegment each : selectStatementContext.getSqlStatement().getProjections().getProjections()) {
+            if (each instanceof AggregationProjectionSegment && isSameAggregation((AggregationProjectionSegment) each, aggregationProjection)) {
+                Collection<ExpressionSegment> parameters = ((AggregationProjectionSegment) each).getParameters();
+                return 1 == parameters.size() && parameters.iterator().next() instanceof ColumnSegment ? Optional.of((ColumnSegment) parameters.iterator().next()) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSameAggregation(final AggregationProjectionSegment aggregationProjectionSegment, final AggregationProjection aggregationProjection) {
+        return aggregationProjectionSegment.getType() == aggregationProjection.getType() && aggregationProjectionSegment.getExpression().equals(aggregationProjection.getExpression());
+    }
+    
+    /**
+     * Create aggregation unit.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return aggregation unit
+     */
+    AggregationUnit create(final AggregationProjection aggregationProjection) {
+        return AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, aggregationProjection.getSeparator().orElse(null),
+                columnTypes.getOrDefault(aggregationProjection, Types.OTHER));
+    }
+}
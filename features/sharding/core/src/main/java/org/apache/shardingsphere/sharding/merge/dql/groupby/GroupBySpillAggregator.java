@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable aggregator for group by.
+ *
+ * <p>Groups are aggregated in memory until the estimated size of groups exceeds the spill threshold. Then the partial aggregation units are spilled into
+ * partition files by hash of group by value, and the remaining rows are appended to their partition files. Each partition is aggregated independently,
+ * and is partitioned again with another hash seed if it still exceeds the spill threshold. The aggregated partitions are sorted and merged while iterating.
+ * Spill files which are not fully read are deleted when the aggregator is closed.</p>
+ */
+final class GroupBySpillAggregator {
+    
+    private static final int PARTITION_COUNT = 32;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 160L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 48L;
+    
+    private static final long OBJECT_BYTES = 24L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long spillThresholdBytes;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final GroupByAggregationUnitCreator aggregationUnitCreator;
+    
+    private final boolean[] accumulatedAggregations;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Map<GroupByValue, Object[]> dataMap = new HashMap<>(1024, 1F);
+    
+    private final Map<GroupByValue, List<AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private int columnCount;
+    
+    private long memoryBytes;
+    
+    GroupBySpillAggregator(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                           final long spillThresholdBytes) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.spillThresholdBytes = spillThresholdBytes;
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        aggregationUnitCreator = new GroupByAggregationUnitCreator(selectStatementContext, schema);
+        accumulatedAggregations = getAccumulatedAggregations();
+        rowComparator = new GroupByRowComparator(selectStatementContext, queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.get(0), schema));
+    }
+    
+    private boolean[] getAccumulatedAggregations() {
+        boolean[] result = new boolean[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = aggregationProjections.get(i) instanceof AggregationDistinctProjection || AggregationType.GROUP_CONCAT == aggregationProjections.get(i).getType();
+        }
+        return result;
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final ShardingSphereSchema schema) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        List<Boolean> result = new ArrayList<>(columnCount + 1);
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Aggregate query results.
+     *
+     * @param queryResults query results
+     * @return aggregated rows in order
+     * @throws SQLException SQL exception
+     */
+    Iterator<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        boolean aggregated = false;
+        try {
+            Iterator<MemoryQueryResultRow> result = doAggregate(queryResults);
+            aggregated = true;
+            return result;
+        } finally {
+            if (!aggregated) {
+                close();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> doAggregate(final List<QueryResult> queryResults) throws SQLException {
+        GroupBySpillFile[] partitions = null;
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        for (QueryResult each : queryResults) {
+            columnCount = each.getMetaData().getColumnCount();
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, groupByItems);
+                if (null != partitions) {
+                    write(partitions, 0, groupByValue, new Object[]{groupByValue.getGroupValues(), loadRowData(each), null, getAggregationValues(each)});
+                    continue;
+                }
+                aggregateRow(groupByValue, loadRowData(each), null, getAggregationValues(each));
+                if (memoryBytes > spillThresholdBytes) {
+                    partitions = new GroupBySpillFile[PARTITION_COUNT];
+                    spill(partitions);
+                }
+            }
+        }
+        return null == partitions ? getMemoryResultSetRows().iterator() : new SortedPartitionsIterator(getSortedPartitions(partitions));
+    }
+    
+    /**
+     * Close aggregator and delete all spill files.
+     */
+    void close() {
+        spillFiles.forEach(GroupBySpillFile::delete);
+        spillFiles.clear();
+    }
+    
+    private Object[] loadRowData(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private List<List<Comparable<?>>> getAggregationValues(final QueryResult queryResult) throws SQLException {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            result.add(values);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private void aggregateRow(final GroupByValue groupByValue, final Object[] rowData, final List<AggregationUnit> partialAggregationUnits, final List<List<Comparable<?>>> aggregationValues) {
+        if (null == dataMap.putIfAbsent(groupByValue, rowData)) {
+            memoryBytes += GROUP_OVERHEAD_BYTES + estimateSize(groupByValue.getGroupValues()) + estimateSize(rowData) + AGGREGATION_UNIT_BYTES * aggregationProjections.size();
+        }
+        if (null != partialAggregationUnits) {
+            aggregationMap.put(groupByValue, partialAggregationUnits);
+            return;
+        }
+        List<AggregationUnit> aggregationUnits = aggregationMap.computeIfAbsent(groupByValue, unused -> createAggregationUnits());
+        for (int i = 0; i < aggregationUnits.size(); i++) {
+            aggregationUnits.get(i).merge(aggregationValues.get(i));
+            if (accumulatedAggregations[i]) {
+                memoryBytes += estimateSize(aggregationValues.get(i));
+            }
+        }
+    }
+    
+    private List<AggregationUnit> createAggregationUnits() {
+        List<AggregationUnit> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(aggregationUnitCreator.create(each));
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return OBJECT_BYTES * 2L + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_BYTES * 3L;
+        }
+        if (value instanceof Object[]) {
+            long result = OBJECT_BYTES;
+            for (Object each : (Object[]) value) {
+                result += REFERENCE_BYTES + estimateSize(each);
+            }
+            return result;
+        }
+        if (value instanceof Collection) {
+            long result = OBJECT_BYTES * 2L;
+            for (Object each : (Collection<?>) value) {
+                result += REFERENCE_BYTES + estimateSize(each);
+            }
+            return result;
+        }
+        return OBJECT_BYTES;
+    }
+    
+    private long spill(final GroupBySpillFile[] partitions) throws SQLException {
+        long result = memoryBytes;
+        spillGroups(partitions, 0);
+        return result;
+    }
+    
+    private void spillGroups(final GroupBySpillFile[] partitions, final int level) throws SQLException {
+        for (Entry<GroupByValue, Object[]> entry : dataMap.entrySet()) {
+            write(partitions, level, entry.getKey(), new Object[]{entry.getKey().getGroupValues(), entry.getValue(), aggregationMap.get(entry.getKey()), null});
+        }
+        clearMemory();
+    }
+    
+    private void write(final GroupBySpillFile[] partitions, final int level, final GroupByValue groupByValue, final Object[] record) throws SQLException {
+        int index = getPartitionIndex(groupByValue, level);
+        if (null == partitions[index]) {
+            partitions[index] = createSpillFile();
+        }
+        partitions[index].write(record);
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        int result = groupByValue.hashCode() ^ level * 0x9E3779B9;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return Math.floorMod(result, PARTITION_COUNT);
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void clearMemory() {
+        dataMap.clear();
+        aggregationMap.clear();
+        memoryBytes = 0L;
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryResultSetRows() {
+        if (dataMap.isEmpty()) {
+            boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
+            boolean hasAggregations = !aggregationProjections.isEmpty();
+            if (hasGroupBy || !hasAggregations) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(new MemoryQueryResultRow(generateReturnData()));
+        }
+        return getSortedRows();
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, Object[]> entry : dataMap.entrySet()) {
+            MemoryQueryResultRow row = new MemoryQueryResultRow(entry.getValue());
+            List<AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                row.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits.get(i).getResult());
+            }
+            result.add(row);
+        }
+        clearMemory();
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new ArrayList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    private Queue<SortedPartition> getSortedPartitions(final GroupBySpillFile[] partitions) throws SQLException {
+        Queue<SortedPartition> result = new PriorityQueue<>(PARTITION_COUNT, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                aggregatePartition(each, 0, result);
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void aggregatePartition(final GroupBySpillFile partition, final int level, final Queue<SortedPartition> sortedPartitions) throws SQLException {
+        GroupBySpillFile[] subPartitions = null;
+        partition.finishWrite();
+        Object[] record;
+        while (null != (record = partition.read())) {
+            GroupByValue groupByValue = new GroupByValue((List<?>) record[0]);
+            if (null != subPartitions) {
+                write(subPartitions, level + 1, groupByValue, record);
+                continue;
+            }
+            aggregateRow(groupByValue, (Object[]) record[1], (List<AggregationUnit>) record[2], (List<List<Comparable<?>>>) record[3]);
+            if (memoryBytes > spillThresholdBytes && dataMap.size() > 1 && level < MAX_SPILL_LEVEL) {
+                subPartitions = new GroupBySpillFile[PARTITION_COUNT];
+                spillGroups(subPartitions, level + 1);
+            }
+        }
+        if (null == subPartitions) {
+            addSortedPartition(sortedPartitions);
+            return;
+        }
+        for (GroupBySpillFile each : subPartitions) {
+            if (null != each) {
+                aggregatePartition(each, level + 1, sortedPartitions);
+            }
+        }
+    }
+    
+    private void addSortedPartition(final Queue<SortedPartition> sortedPartitions) throws SQLException {
+        GroupBySpillFile sortedFile = createSpillFile();
+        for (MemoryQueryResultRow each : getSortedRows()) {
+            sortedFile.write(toRecord(each));
+        }
+        sortedFile.finishWrite();
+        SortedPartition sortedPartition = new SortedPartition(sortedFile);
+        if (sortedPartition.next()) {
+            sortedPartitions.add(sortedPartition);
+        }
+    }
+    
+    private Object[] toRecord(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedPartitionsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Queue<SortedPartition> sortedPartitions;
+        
+        @Override
+        public boolean hasNext() {
+            return !sortedPartitions.isEmpty();
+        }
+        
+        @SneakyThrows(SQLException.class)
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedPartition sortedPartition = sortedPartitions.poll();
+            MemoryQueryResultRow result = sortedPartition.getCurrentRow();
+            if (sortedPartition.next()) {
+                sortedPartitions.offer(sortedPartition);
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedPartition {
+        
+        private final GroupBySpillFile file;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() throws SQLException {
+            Object[] record = file.read();
+            currentRow = null == record ? null : new MemoryQueryResultRow(record);
+            return null != currentRow;
+        }
+        
+        MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+    }
+}
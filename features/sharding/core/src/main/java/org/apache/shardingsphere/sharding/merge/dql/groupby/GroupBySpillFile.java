@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Spill file for group by merged result.
+ */
+final class GroupBySpillFile {
+    
+    private static final String FILE_PREFIX = "shardingsphere-group-by-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private final Path path;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int writtenCount;
+    
+    private int readCount;
+    
+    GroupBySpillFile() throws SQLException {
+        try {
+            path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create group by spill file.", ex);
+        }
+    }
+    
+    /**
+     * Write record.
+     *
+     * @param record record to be written
+     * @throws SQLException SQL exception
+     */
+    void write(final Object[] record) throws SQLException {
+        try {
+            outputStream.writeObject(record);
+            outputStream.reset();
+            writtenCount++;
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLException(String.format("Can not write group by spill file `%s`.", path), ex);
+        }
+    }
+    
+    /**
+     * Finish writing and prepare for reading.
+     *
+     * @throws SQLException SQL exception
+     */
+    void finishWrite() throws SQLException {
+        try {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLException(String.format("Can not read group by spill file `%s`.", path), ex);
+        }
+    }
+    
+    /**
+     * Read next record.
+     *
+     * @return next record, null if all records have been read
+     * @throws SQLException SQL exception
+     */
+    Object[] read() throws SQLException {
+        if (readCount == writtenCount) {
+            delete();
+            return null;
+        }
+        try {
+            readCount++;
+            return (Object[]) inputStream.readObject();
+        } catch (final IOException | ClassNotFoundException ex) {
+            delete();
+            throw new SQLException(String.format("Can not read group by spill file `%s`.", path), ex);
+        }
+    }
+    
+    /**
+     * Close streams and delete spill file.
+     */
+    void delete() {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+                outputStream = null;
+            }
+            if (null != inputStream) {
+                inputStream.close();
+                inputStream = null;
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ignore) {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>The merged rows are aggregated by {@link GroupBySpillAggregator} within the spill threshold bytes, and are read from spill files lazily.
+ * Spill files are deleted once they are fully read or the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    private final GroupBySpillAggregator aggregator;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long spillThresholdBytes) throws SQLException {
+        this(new GroupBySpillAggregator(queryResults, selectStatementContext, schema, spillThresholdBytes), queryResults);
+    }
+    
+    private GroupBySpillMergedResult(final GroupBySpillAggregator aggregator, final List<QueryResult> queryResults) throws SQLException {
+        super(aggregator.aggregate(queryResults));
+        this.aggregator = aggregator;
+    }
+    
+    @Override
+    protected List<MemoryQueryResultRow> init(final ShardingRule rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void close() {
+        aggregator.close();
+    }
+}
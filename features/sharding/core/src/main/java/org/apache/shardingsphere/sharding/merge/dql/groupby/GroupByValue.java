@@ -40,6 +40,10 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final List<?> groupValues) {
+        this.groupValues = groupValues;
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
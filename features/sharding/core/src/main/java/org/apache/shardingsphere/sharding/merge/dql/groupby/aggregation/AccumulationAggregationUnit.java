@@ -32,13 +32,18 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        mergeValue(null == values ? null : values.get(0));
+    }
+    
+    @Override
+    public void mergeValue(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
             result = BigDecimal.ZERO;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(new BigDecimal(value.toString()));
     }
     
     @Override
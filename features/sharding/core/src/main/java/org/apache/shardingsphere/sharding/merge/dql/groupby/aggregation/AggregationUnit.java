@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.io.Serializable;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Aggregation unit interface.
+ *
+ * <p>Aggregation unit is serializable, so partial aggregation can be spilled to disk and restored.</p>
  */
-public interface AggregationUnit {
+public interface AggregationUnit extends Serializable {
     
     /**
      * Merge aggregation values.
@@ -31,6 +35,15 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge single aggregation value.
+     *
+     * @param value aggregation value
+     */
+    default void mergeValue(final Comparable<?> value) {
+        merge(Collections.singletonList(value));
+    }
+    
     /**
      * Get aggregation result.
      *
@@ -22,6 +22,8 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  */
@@ -57,4 +59,48 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance with column type.
+     *
+     * <p>Non distinct COUNT, SUM and AVG on integral or floating point columns accumulate into primitive accumulators.</p>
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param separator is separator for group_concat
+     * @param columnType column type of aggregation value, column type of derived SUM column for AVG
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final int columnType) {
+        if (isDistinct) {
+            return create(type, true, separator);
+        }
+        switch (type) {
+            case COUNT:
+                return new LongAccumulationAggregationUnit();
+            case SUM:
+                return isPrimitiveColumnType(columnType) ? createPrimitiveAccumulationAggregationUnit(columnType) : new AccumulationAggregationUnit();
+            case AVG:
+                return isPrimitiveColumnType(columnType) ? new PrimitiveAverageAggregationUnit(createPrimitiveAccumulationAggregationUnit(columnType)) : new AverageAggregationUnit();
+            default:
+                return create(type, false, separator);
+        }
+    }
+    
+    private static boolean isPrimitiveColumnType(final int columnType) {
+        return isIntegralColumnType(columnType) || isFloatingColumnType(columnType);
+    }
+    
+    private static boolean isIntegralColumnType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
+    private static boolean isFloatingColumnType(final int columnType) {
+        return Types.FLOAT == columnType || Types.REAL == columnType || Types.DOUBLE == columnType;
+    }
+    
+    private static AggregationUnit createPrimitiveAccumulationAggregationUnit(final int columnType) {
+        return isIntegralColumnType(columnType) ? new LongAccumulationAggregationUnit() : new DoubleAccumulationAggregationUnit();
+    }
 }
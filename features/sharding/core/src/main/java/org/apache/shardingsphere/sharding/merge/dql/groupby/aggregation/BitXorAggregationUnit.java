@@ -32,13 +32,18 @@ public final class BitXorAggregationUnit implements AggregationUnit {
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        mergeValue(null == values ? null : values.get(0));
+    }
+    
+    @Override
+    public void mergeValue(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
             result = BigInteger.ZERO;
         }
-        result = result.xor(new BigInteger(values.get(0).toString()));
+        result = result.xor(new BigInteger(value.toString()));
     }
     
     @Override
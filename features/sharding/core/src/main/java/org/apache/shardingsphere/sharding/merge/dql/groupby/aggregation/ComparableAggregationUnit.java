@@ -31,19 +31,24 @@ public final class ComparableAggregationUnit implements AggregationUnit {
     
     private Comparable<?> result;
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        mergeValue(null == values ? null : values.get(0));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void mergeValue(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
-            result = values.get(0);
+            result = value;
             return;
         }
-        int comparedValue = ((Comparable) values.get(0)).compareTo(result);
+        int comparedValue = ((Comparable) value).compareTo(result);
         if (asc ? comparedValue < 0 : comparedValue > 0) {
-            result = values.get(0);
+            result = value;
         }
     }
     
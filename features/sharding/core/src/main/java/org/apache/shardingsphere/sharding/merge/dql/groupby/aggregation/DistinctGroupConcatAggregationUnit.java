@@ -38,10 +38,15 @@ public final class DistinctGroupConcatAggregationUnit implements AggregationUnit
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        mergeValue(null == values ? null : values.get(0));
+    }
+    
+    @Override
+    public void mergeValue(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
-        this.values.add(String.valueOf(values.get(0)));
+        this.values.add(String.valueOf(value));
     }
     
     @Override
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ *
+ * <p>Values are accumulated into a primitive long, and switch to {@code BigDecimal} only when the sum overflows or a non integral value is merged.</p>
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private long sum;
+    
+    private boolean merged;
+    
+    private BigDecimal decimalSum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        mergeValue(null == values ? null : values.get(0));
+    }
+    
+    @Override
+    public void mergeValue(final Comparable<?> value) {
+        if (null == value) {
+            return;
+        }
+        if (null == decimalSum && isIntegral(value) && mergeLongValue(((Number) value).longValue())) {
+            return;
+        }
+        if (null == decimalSum) {
+            decimalSum = BigDecimal.valueOf(sum);
+        }
+        decimalSum = decimalSum.add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean mergeLongValue(final long value) {
+        long result = sum + value;
+        if (((sum ^ result) & (value ^ result)) < 0L) {
+            return false;
+        }
+        sum = result;
+        merged = true;
+        return true;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null != decimalSum) {
+            return decimalSum;
+        }
+        return merged ? BigDecimal.valueOf(sum) : null;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Average aggregation unit with primitive count and sum accumulators.
+ */
+@RequiredArgsConstructor
+public final class PrimitiveAverageAggregationUnit implements AggregationUnit {
+    
+    private final AggregationUnit countUnit = new LongAccumulationAggregationUnit();
+    
+    private final AggregationUnit sumUnit;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        countUnit.mergeValue(values.get(0));
+        sumUnit.mergeValue(values.get(1));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        BigDecimal count = (BigDecimal) countUnit.getResult();
+        if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
+            return count;
+        }
+        return ((BigDecimal) sumUnit.getResult()).divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -45,8 +45,13 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, schema, false);
+    }
+    
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final boolean loserTreeEnabled) throws SQLException {
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        orderByValuesQueue = loserTreeEnabled ? new OrderByValueLoserTree(queryResults.size()) : new PriorityQueue<>(queryResults.size());
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
         isFirstNext = true;
     }
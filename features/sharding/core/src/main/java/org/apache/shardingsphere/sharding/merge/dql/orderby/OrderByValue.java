@@ -19,25 +19,31 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 /**
  * Order by value.
+ *
+ * <p>Order values of current row are decoded once, integral and temporal values are compared as primitive longs,
+ * and case insensitive strings are compared with their upper case form which is cached when moving to the row.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
@@ -50,7 +56,17 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final OrderValueType[] orderValueTypes;
+    
+    private final long[] primitiveOrderValues;
+    
+    private final int[] primitiveOrderValueNanos;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -58,6 +74,18 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            index++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        orderValueTypes = new OrderValueType[orderByItems.size()];
+        primitiveOrderValues = new long[orderByItems.size()];
+        primitiveOrderValueNanos = new int[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +127,61 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int index = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            loadOrderValue(index, (Comparable<?>) value);
+            index++;
         }
-        return result;
+    }
+    
+    private void loadOrderValue(final int index, final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            orderValueTypes[index] = OrderValueType.INTEGRAL;
+            primitiveOrderValues[index] = ((Number) value).longValue();
+            primitiveOrderValueNanos[index] = 0;
+        } else if (value instanceof Date) {
+            orderValueTypes[index] = OrderValueType.TEMPORAL;
+            primitiveOrderValues[index] = ((Date) value).getTime();
+            primitiveOrderValueNanos[index] = value instanceof Timestamp ? ((Timestamp) value).getNanos() : 0;
+        } else {
+            orderValueTypes[index] = OrderValueType.OBJECT;
+        }
+        orderValues[index] = value instanceof String && !orderValuesCaseSensitive.get(index) ? ((String) value).toUpperCase() : value;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        if (OrderValueType.OBJECT == orderValueTypes[index] || orderValueTypes[index] != orderByValue.orderValueTypes[index]) {
+            return CompareUtils.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], true);
+        }
+        int result = Long.compare(primitiveOrderValues[index], orderByValue.primitiveOrderValues[index]);
+        if (0 == result) {
+            result = Integer.compare(primitiveOrderValueNanos[index], orderByValue.primitiveOrderValueNanos[index]);
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private enum OrderValueType {
+        
+        INTEGRAL, TEMPORAL, OBJECT
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Each leaf holds the head order by value of one query result, and every internal node keeps the loser of the match between its children,
+ * so replacing the winner only replays the path from its leaf to the root with one comparison per level.
+ * The leaf of the polled winner is replayed lazily, so polling the winner and offering its next value costs a single replay.</p>
+ */
+final class OrderByValueLoserTree extends AbstractQueue<OrderByValue> {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int size;
+    
+    private int pendingLeaf = -1;
+    
+    private boolean built;
+    
+    OrderByValueLoserTree(final int capacity) {
+        leaves = new OrderByValue[Math.max(capacity, 1)];
+        losers = new int[leaves.length];
+    }
+    
+    @Override
+    public boolean offer(final OrderByValue orderByValue) {
+        if (size == leaves.length) {
+            return false;
+        }
+        int leaf = -1 == pendingLeaf ? findEmptyLeaf() : pendingLeaf;
+        leaves[leaf] = orderByValue;
+        size++;
+        pendingLeaf = -1;
+        if (built) {
+            replay(leaf);
+        }
+        return true;
+    }
+    
+    private int findEmptyLeaf() {
+        for (int i = 0; i < leaves.length; i++) {
+            if (null == leaves[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Can not find empty leaf of loser tree.");
+    }
+    
+    @Override
+    public OrderByValue poll() {
+        OrderByValue result = peek();
+        if (null != result) {
+            leaves[winner] = null;
+            pendingLeaf = winner;
+            size--;
+        }
+        return result;
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        if (!built) {
+            build();
+        } else if (-1 != pendingLeaf) {
+            replay(pendingLeaf);
+            pendingLeaf = -1;
+        }
+        return leaves[winner];
+    }
+    
+    private void build() {
+        int[] winners = new int[leaves.length * 2];
+        for (int i = 0; i < leaves.length; i++) {
+            winners[leaves.length + i] = i;
+        }
+        for (int node = leaves.length - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWins = beats(left, right);
+            winners[node] = leftWins ? left : right;
+            losers[node] = leftWins ? right : left;
+        }
+        winner = 1 == leaves.length ? 0 : winners[1];
+        built = true;
+    }
+    
+    private void replay(final int leaf) {
+        int current = leaf;
+        for (int node = (leaves.length + leaf) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], current)) {
+                int loser = current;
+                current = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+    
+    @Override
+    public Iterator<OrderByValue> iterator() {
+        return Arrays.stream(leaves).filter(Objects::nonNull).iterator();
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+}
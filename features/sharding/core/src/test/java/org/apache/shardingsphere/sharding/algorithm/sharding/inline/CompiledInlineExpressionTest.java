@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertIsSimpleExpression() {
+        assertTrue(new CompiledInlineExpression("t_order_${order_id % 16}").isSimpleExpression());
+        assertTrue(new CompiledInlineExpression("ds_${ user_id%2 }_suffix").isSimpleExpression());
+        assertTrue(new CompiledInlineExpression("${value}").isSimpleExpression());
+        assertFalse(new CompiledInlineExpression("t_order_${(order_id % 4).abs()}").isSimpleExpression());
+        assertFalse(new CompiledInlineExpression("t_order_${order_id % 0}").isSimpleExpression());
+        assertFalse(new CompiledInlineExpression("t_${order_id % 2}_${user_id % 2}").isSimpleExpression());
+    }
+    
+    @Test
+    void assertEvaluateSimpleExpressionSameAsInlineExpressionParser() {
+        String expression = "t_order_${order_id % 16}";
+        CompiledInlineExpression compiledExpression = new CompiledInlineExpression(expression);
+        for (Comparable<?> each : Arrays.<Comparable<?>>asList(0, 15, 17, -1, -33, 787694822390497280L, Long.MIN_VALUE, (short) 21, (byte) -7)) {
+            assertThat(compiledExpression.evaluate("order_id", each), is(InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(Collections.singletonMap("order_id", each))));
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithNonIntegralValue() {
+        CompiledInlineExpression compiledExpression = new CompiledInlineExpression("t_order_${order_id % 4}");
+        assertThat(compiledExpression.evaluate("order_id", new BigInteger("787694822390497280787694822390497281")), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateIdentityExpression() {
+        CompiledInlineExpression compiledExpression = new CompiledInlineExpression("${value}");
+        assertThat(compiledExpression.evaluate("value", "ds_1"), is("ds_1"));
+        assertThat(compiledExpression.evaluate("value", 3L), is("3"));
+    }
+    
+    @Test
+    void assertEvaluateComplexExpression() {
+        CompiledInlineExpression compiledExpression = new CompiledInlineExpression("t_order_${type % 2}_${order_id % 2}");
+        Map<String, Comparable<?>> columnNameAndValueMap = new HashMap<>(2, 1F);
+        columnNameAndValueMap.put("type", 1);
+        columnNameAndValueMap.put("order_id", 2);
+        assertThat(compiledExpression.evaluate(columnNameAndValueMap), is("t_order_1_0"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DoubleAccumulationAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.LongAccumulationAggregationUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByAggregationUnitCreatorTest {
+    
+    @Test
+    void assertCreateWithDeclaredColumnTypes() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext("SUM(price)", "SUM(amount)", "SUM(quantity)");
+        GroupByAggregationUnitCreator creator = new GroupByAggregationUnitCreator(selectStatementContext, createSchema());
+        AggregationProjection[] aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        assertThat(creator.create(aggregationProjections[0]), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(creator.create(aggregationProjections[1]), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(creator.create(aggregationProjections[2]), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateWithoutSchema() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext("SUM(amount)");
+        GroupByAggregationUnitCreator creator = new GroupByAggregationUnitCreator(selectStatementContext, null);
+        assertThat(creator.create(selectStatementContext.getProjectionsContext().getAggregationProjections().iterator().next()), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final String... expressions) {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        for (String each : expressions) {
+            AggregationProjectionSegment aggregationProjectionSegment = new AggregationProjectionSegment(0, 0, AggregationType.SUM, each);
+            aggregationProjectionSegment.getParameters().add(new ColumnSegment(0, 0, new IdentifierValue(each.substring(4, each.length() - 1))));
+            projectionsSegment.getProjections().add(aggregationProjectionSegment);
+        }
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("price", Types.DECIMAL, false, false, false, true, false, true),
+                new ShardingSphereColumn("amount", Types.DOUBLE, false, false, false, true, false, true),
+                new ShardingSphereColumn("quantity", Types.INTEGER, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema result = mock(ShardingSphereSchema.class);
+        when(result.containsTable("t_order")).thenReturn(true);
+        when(result.getTable("t_order")).thenReturn(table);
+        return result;
+    }
+}
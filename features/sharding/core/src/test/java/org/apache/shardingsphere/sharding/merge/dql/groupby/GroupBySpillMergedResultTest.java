@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GroupBySpillMergedResultTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual =
+                createResultMerger(1024L * 1024L).merge(Arrays.asList(createQueryResult(0, 3), createQueryResult(1, 3)), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertMergedResult(actual, 3);
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual =
+                createResultMerger(4096L).merge(Arrays.asList(createQueryResult(0, 100), createQueryResult(1, 100)), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertMergedResult(actual, 100);
+    }
+    
+    @Test
+    void assertNextWithRecursiveSpill() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual =
+                createResultMerger(1L).merge(Arrays.asList(createQueryResult(0, 200), createQueryResult(1, 200)), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertMergedResult(actual, 200);
+    }
+    
+    @Test
+    void assertCloseBeforeFullyRead() throws SQLException, IOException {
+        when(database.getName()).thenReturn("db_schema");
+        Collection<Path> expected = getSpillFiles();
+        MergedResult actual =
+                createResultMerger(1L).merge(Arrays.asList(createQueryResult(0, 200), createQueryResult(1, 200)), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(getSpillFiles().size(), greaterThan(expected.size()));
+        actual.close();
+        assertThat(getSpillFiles(), is(expected));
+    }
+    
+    @Test
+    void assertMergeFailedAfterSpill() throws SQLException, IOException {
+        when(database.getName()).thenReturn("db_schema");
+        Collection<Path> expected = getSpillFiles();
+        QueryResult failedQueryResult = createQueryResult(1, 200);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(failedQueryResult.next()).thenAnswer(invocation -> {
+            if (rowIndex.incrementAndGet() > 100) {
+                throw new IllegalStateException("foo");
+            }
+            return true;
+        });
+        assertThrows(IllegalStateException.class,
+                () -> createResultMerger(1L).merge(Arrays.asList(createQueryResult(0, 200), failedQueryResult), createSelectStatementContext(), database, mock(ConnectionContext.class)));
+        assertThat(getSpillFiles(), is(expected));
+    }
+    
+    private Collection<Path> getSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = createResultMerger(1L).merge(Arrays.asList(createQueryResult(0, 0), createQueryResult(1, 0)), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertFalse(actual.next());
+    }
+    
+    private void assertMergedResult(final MergedResult actual, final int groupCount) throws SQLException {
+        for (int i = groupCount - 1; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(4)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(i * 10 + 5));
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(i * 40 + 20)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private ShardingDQLResultMerger createResultMerger(final long spillThresholdBytes) {
+        return new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES.getKey(), String.valueOf(spillThresholdBytes)))));
+    }
+    
+    private QueryResult createQueryResult(final int shardIndex, final int groupCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < groupCount * 2);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> getValue(invocation.getArgument(0), (rowIndex.get() + shardIndex) % groupCount));
+        return result;
+    }
+    
+    private int getValue(final int columnIndex, final int groupIndex) {
+        switch (columnIndex) {
+            case 1:
+            case 4:
+                return 1;
+            case 3:
+                return groupIndex;
+            default:
+                return groupIndex * 10 + 5;
+        }
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -73,4 +75,24 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, null), instanceOf(DistinctGroupConcatAggregationUnit.class));
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, " "), instanceOf(DistinctGroupConcatAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreatePrimitiveAccumulationAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null, Types.DECIMAL), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Types.BIGINT), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Types.DOUBLE), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Types.DECIMAL), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreatePrimitiveAverageAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, null, Types.INTEGER), instanceOf(PrimitiveAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, null, Types.NUMERIC), instanceOf(AverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDistinctAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, null, Types.BIGINT), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, null, Types.BIGINT), instanceOf(ComparableAggregationUnit.class));
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DoubleAccumulationAggregationUnitTest {
+    
+    @Test
+    void assertAccumulationAggregation() {
+        DoubleAccumulationAggregationUnit aggregationUnit = new DoubleAccumulationAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.mergeValue(null);
+        assertThat(aggregationUnit.getResult(), nullValue());
+        aggregationUnit.mergeValue(1.5D);
+        aggregationUnit.mergeValue(2.25F);
+        aggregationUnit.mergeValue(1);
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.valueOf(4.75D)));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithFloat() {
+        DoubleAccumulationAggregationUnit aggregationUnit = new DoubleAccumulationAggregationUnit();
+        aggregationUnit.mergeValue(0.1F);
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("0.1")));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithOverflow() {
+        DoubleAccumulationAggregationUnit aggregationUnit = new DoubleAccumulationAggregationUnit();
+        aggregationUnit.mergeValue(Double.MAX_VALUE);
+        aggregationUnit.mergeValue(Double.MAX_VALUE);
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.valueOf(Double.MAX_VALUE).multiply(BigDecimal.valueOf(2L))));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PrimitiveAverageAggregationUnitTest {
+    
+    @Test
+    void assertAverageAggregation() {
+        PrimitiveAverageAggregationUnit aggregationUnit = new PrimitiveAverageAggregationUnit(new LongAccumulationAggregationUnit());
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Arrays.asList(10L, null));
+        assertThat(aggregationUnit.getResult(), nullValue());
+        aggregationUnit.merge(Arrays.asList(5L, 10L));
+        aggregationUnit.merge(Arrays.asList(10L, 15L));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("1.6667")));
+    }
+    
+    @Test
+    void assertAverageAggregationWithZeroCount() {
+        PrimitiveAverageAggregationUnit aggregationUnit = new PrimitiveAverageAggregationUnit(new DoubleAccumulationAggregationUnit());
+        aggregationUnit.merge(Arrays.asList(0L, 0D));
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.ZERO));
+    }
+}
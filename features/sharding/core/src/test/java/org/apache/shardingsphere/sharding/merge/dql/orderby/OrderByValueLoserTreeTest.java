@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @ParameterizedTest(name = "{0} query results")
+    @ValueSource(ints = {1, 2, 5, 16, 33})
+    void assertMerge(final int queryResultCount) throws SQLException {
+        Random random = new Random(queryResultCount);
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        Collection<OrderByItem> orderByItems = Collections.singleton(createOrderByItem());
+        List<Long> expected = new ArrayList<>();
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(queryResultCount);
+        for (int i = 0; i < queryResultCount; i++) {
+            List<Long> values = createSortedValues(random);
+            expected.addAll(values);
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(values), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+            if (orderByValue.next()) {
+                loserTree.offer(orderByValue);
+            }
+        }
+        Collections.sort(expected);
+        List<Long> actual = new ArrayList<>(expected.size());
+        while (!loserTree.isEmpty()) {
+            OrderByValue orderByValue = loserTree.poll();
+            actual.add((Long) orderByValue.getQueryResult().getValue(1, Object.class));
+            if (orderByValue.next()) {
+                loserTree.offer(orderByValue);
+            }
+        }
+        assertThat(actual, is(expected));
+        assertNull(loserTree.peek());
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        result.setIndex(1);
+        return result;
+    }
+    
+    private List<Long> createSortedValues(final Random random) {
+        Long[] result = new Long[random.nextInt(20)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (long) random.nextInt(100);
+        }
+        Arrays.sort(result);
+        return Arrays.asList(result);
+    }
+    
+    private QueryResult createQueryResult(final List<Long> values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.size());
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values.get(cursor.get()));
+        return result;
+    }
+}
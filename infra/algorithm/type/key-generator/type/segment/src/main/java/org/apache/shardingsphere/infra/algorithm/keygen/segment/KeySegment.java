@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment leased from storage.
+ */
+final class KeySegment {
+    
+    private static final int PREFETCH_PERCENT = 20;
+    
+    @Getter
+    private final long maxId;
+    
+    @Getter
+    private final long prefetchId;
+    
+    private final AtomicLong lastId;
+    
+    KeySegment(final long maxId, final int step) {
+        this.maxId = maxId;
+        lastId = new AtomicLong(maxId - step);
+        prefetchId = maxId - step + Math.max(step * PREFETCH_PERCENT / 100, 1);
+    }
+    
+    /**
+     * Get next ID.
+     *
+     * @return next ID, which is greater than max ID if segment is exhausted
+     */
+    long nextId() {
+        return lastId.incrementAndGet();
+    }
+    
+    /**
+     * Get remaining capacity.
+     *
+     * @return remaining capacity
+     */
+    long getRemainingCapacity() {
+        return Math.max(maxId - lastId.get(), 0L);
+    }
+}
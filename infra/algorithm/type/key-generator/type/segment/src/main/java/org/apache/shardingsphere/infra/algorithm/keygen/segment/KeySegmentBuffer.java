@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Double buffer of key segments.
+ *
+ * <p>The next segment is allocated asynchronously when 20% of current segment is consumed,
+ * so generating ID only waits for storage when the next segment is still not ready after current segment is exhausted.
+ * The first segment is allocated by the first caller of {@link #nextId()}, so creating buffer never blocks.</p>
+ */
+final class KeySegmentBuffer {
+    
+    private final String keyName;
+    
+    private final KeySegmentRepository repository;
+    
+    private final int step;
+    
+    private final ExecutorService prefetchExecutor;
+    
+    private volatile KeySegment currentSegment;
+    
+    private volatile CompletableFuture<KeySegment> nextSegment;
+    
+    KeySegmentBuffer(final String keyName, final KeySegmentRepository repository, final int step, final ExecutorService prefetchExecutor) {
+        this.keyName = keyName;
+        this.repository = repository;
+        this.step = step;
+        this.prefetchExecutor = prefetchExecutor;
+        SegmentKeyGenerateStatistics.getINSTANCE().registerRemainingCapacity(keyName, this::getRemainingCapacity);
+    }
+    
+    /**
+     * Get next ID.
+     *
+     * @return next ID
+     */
+    long nextId() {
+        while (true) {
+            KeySegment segment = currentSegment;
+            if (null == segment) {
+                switchSegment(null);
+                continue;
+            }
+            long result = segment.nextId();
+            if (result == segment.getPrefetchId()) {
+                prefetch();
+            }
+            if (result <= segment.getMaxId()) {
+                return result;
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    private synchronized void prefetch() {
+        if (null == nextSegment) {
+            nextSegment = CompletableFuture.supplyAsync(this::allocate, prefetchExecutor);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (currentSegment != exhaustedSegment) {
+            return;
+        }
+        KeySegment segment = null == nextSegment ? null : nextSegment.exceptionally(ex -> null).join();
+        nextSegment = null;
+        currentSegment = null == segment ? allocate() : segment;
+    }
+    
+    private KeySegment allocate() {
+        long startMillis = System.currentTimeMillis();
+        KeySegment result = repository.allocate(keyName, step);
+        SegmentKeyGenerateStatistics.getINSTANCE().recordRefill(keyName, System.currentTimeMillis() - startMillis);
+        return result;
+    }
+    
+    /**
+     * Get remaining capacity of current and next segments.
+     *
+     * @return remaining capacity
+     */
+    long getRemainingCapacity() {
+        KeySegment current = currentSegment;
+        long result = null == current ? 0L : current.getRemainingCapacity();
+        CompletableFuture<KeySegment> segment = nextSegment;
+        return null != segment && segment.isDone() && !segment.isCompletedExceptionally() ? result + segment.join().getRemainingCapacity() : result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Key segment repository.
+ */
+@RequiredArgsConstructor
+final class KeySegmentRepository {
+    
+    private final DataSource dataSource;
+    
+    private final String tableName;
+    
+    /**
+     * Allocate key segment.
+     *
+     * @param keyName key name
+     * @param step step
+     * @return allocated key segment
+     * @throws SQLWrapperException SQL wrapper exception
+     */
+    KeySegment allocate(final String keyName, final int step) {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<Long> maxId = increaseMaxId(connection, keyName, step);
+            if (!maxId.isPresent()) {
+                insertIfAbsent(connection, keyName);
+                maxId = increaseMaxId(connection, keyName, step);
+            }
+            ShardingSpherePreconditions.checkState(maxId.isPresent(), () -> new SQLWrapperException(new SQLException(String.format("Can not allocate key segment of `%s`.", keyName))));
+            return new KeySegment(maxId.get(), step);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private Optional<Long> increaseMaxId(final Connection connection, final String keyName, final int step) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            Optional<Long> result = 0 == executeIncreaseMaxId(connection, keyName, step) ? Optional.empty() : Optional.of(queryMaxId(connection, keyName));
+            connection.commit();
+            return result;
+        } catch (final SQLException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+    
+    private int executeIncreaseMaxId(final Connection connection, final String keyName, final int step) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET max_id = max_id + ? WHERE key_name = ?", tableName))) {
+            preparedStatement.setInt(1, step);
+            preparedStatement.setString(2, keyName);
+            return preparedStatement.executeUpdate();
+        }
+    }
+    
+    private long queryMaxId(final Connection connection, final String keyName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT max_id FROM %s WHERE key_name = ?", tableName))) {
+            preparedStatement.setString(1, keyName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+    
+    private void insertIfAbsent(final Connection connection, final String keyName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (key_name, max_id) VALUES (?, 0)", tableName))) {
+            preparedStatement.setString(1, keyName);
+            preparedStatement.executeUpdate();
+        } catch (final SQLException ex) {
+            if (!isDuplicateKey(ex)) {
+                throw ex;
+            }
+        }
+    }
+    
+    private boolean isDuplicateKey(final SQLException ex) {
+        return null != ex.getSQLState() && ex.getSQLState().startsWith("23");
+    }
+}
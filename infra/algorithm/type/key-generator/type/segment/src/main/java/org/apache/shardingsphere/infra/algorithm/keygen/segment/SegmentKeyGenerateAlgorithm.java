@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.base.Strings;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.DataSourcesAware;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Segment key generate algorithm.
+ *
+ * <p>Monotonically increasing ID segments are leased from a table of the configured storage unit, and IDs are served from memory.</p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, DataSourcesAware {
+    
+    private static final String STORAGE_UNIT_KEY = "storage-unit";
+    
+    private static final String TABLE_NAME_KEY = "table-name";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String KEY_NAME_KEY = "key-name";
+    
+    private static final String DEFAULT_TABLE_NAME = "shardingsphere_key_segment";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private final Map<String, KeySegmentBuffer> buffers = new ConcurrentHashMap<>();
+    
+    private final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("key-segment-prefetch-%d").build());
+    
+    private String storageUnitName;
+    
+    private String tableName;
+    
+    private int step;
+    
+    private String keyName;
+    
+    private KeySegmentRepository repository;
+    
+    @Override
+    public void init(final Properties props) {
+        storageUnitName = props.getProperty(STORAGE_UNIT_KEY);
+        ShardingSpherePreconditions.checkState(!Strings.isNullOrEmpty(storageUnitName), () -> new AlgorithmInitializationException(this, "%s can not be null or empty.", STORAGE_UNIT_KEY));
+        tableName = props.getProperty(TABLE_NAME_KEY, DEFAULT_TABLE_NAME);
+        step = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(step > 0, () -> new AlgorithmInitializationException(this, "Illegal step."));
+        keyName = props.getProperty(KEY_NAME_KEY);
+    }
+    
+    @Override
+    public void setDataSources(final Map<String, DataSource> dataSources) {
+        DataSource dataSource = dataSources.get(storageUnitName);
+        ShardingSpherePreconditions.checkNotNull(dataSource, () -> new AlgorithmInitializationException(this, "Can not find storage unit `%s`.", storageUnitName));
+        repository = new KeySegmentRepository(dataSource, tableName);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        ShardingSpherePreconditions.checkNotNull(repository, () -> new AlgorithmInitializationException(this, "Storage unit `%s` is not set.", storageUnitName));
+        KeySegmentBuffer buffer = buffers.computeIfAbsent(getKeyName(context), each -> new KeySegmentBuffer(each, repository, step, prefetchExecutor));
+        long[] result = new long[keyGenerateCount];
+        for (int i = 0; i < keyGenerateCount; i++) {
+            result[i] = buffer.nextId();
+        }
+        return Longs.asList(result);
+    }
+    
+    private String getKeyName(final AlgorithmSQLContext context) {
+        return null == keyName ? String.join(".", context.getTableName(), context.getColumnName()) : keyName;
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Statistics of segment key generate algorithm.
+ */
+@NoArgsConstructor(access = AccessLevel.NONE)
+public final class SegmentKeyGenerateStatistics {
+    
+    @Getter
+    private static final SegmentKeyGenerateStatistics INSTANCE = new SegmentKeyGenerateStatistics();
+    
+    private final Map<String, Long> refillLatencyMillis = new ConcurrentHashMap<>();
+    
+    private final Map<String, LongSupplier> remainingCapacitySuppliers = new ConcurrentHashMap<>();
+    
+    /**
+     * Record segment refill.
+     *
+     * @param keyName key name
+     * @param latencyMillis latency millis of refill
+     */
+    public void recordRefill(final String keyName, final long latencyMillis) {
+        refillLatencyMillis.put(keyName, latencyMillis);
+    }
+    
+    /**
+     * Register remaining capacity supplier.
+     *
+     * @param keyName key name
+     * @param remainingCapacitySupplier remaining capacity supplier
+     */
+    public void registerRemainingCapacity(final String keyName, final LongSupplier remainingCapacitySupplier) {
+        remainingCapacitySuppliers.put(keyName, remainingCapacitySupplier);
+    }
+    
+    /**
+     * Get latency millis of last segment refill.
+     *
+     * @return key name and latency millis map
+     */
+    public Map<String, Long> getRefillLatencyMillis() {
+        return Collections.unmodifiableMap(refillLatencyMillis);
+    }
+    
+    /**
+     * Get remaining capacity of leased segments.
+     *
+     * @return key name and remaining capacity map
+     */
+    public Map<String, Long> getRemainingCapacities() {
+        Map<String, Long> result = new LinkedHashMap<>(remainingCapacitySuppliers.size(), 1F);
+        for (Entry<String, LongSupplier> entry : remainingCapacitySuppliers.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getAsLong());
+        }
+        return result;
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        refillLatencyMillis.clear();
+        remainingCapacitySuppliers.clear();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.DataSourcesAware;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final String JDBC_URL = "jdbc:h2:mem:key_segment;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL";
+    
+    private final DataSource dataSource = createDataSource();
+    
+    private final AlgorithmSQLContext context = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id");
+    
+    private static DataSource createDataSource() {
+        JdbcDataSource result = new JdbcDataSource();
+        result.setURL(JDBC_URL);
+        result.setUser("sa");
+        return result;
+    }
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        executeUpdate("CREATE TABLE shardingsphere_key_segment (key_name VARCHAR(255) PRIMARY KEY, max_id BIGINT NOT NULL)");
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        executeUpdate("DROP TABLE shardingsphere_key_segment");
+        SegmentKeyGenerateStatistics.getINSTANCE().reset();
+    }
+    
+    private void executeUpdate(final String sql) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+    
+    @Test
+    void assertGenerateKeys() throws SQLException {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("10");
+        assertThat(new ArrayList<>(algorithm.generateKeys(context, 20)), is(LongStream.rangeClosed(1L, 20L).boxed().collect(Collectors.toList())));
+        assertThat(new ArrayList<>(algorithm.generateKeys(context, 1)), is(LongStream.of(21L).boxed().collect(Collectors.toList())));
+        assertThat(queryMaxId("t_order.order_id"), is(30L));
+        assertThat(SegmentKeyGenerateStatistics.getINSTANCE().getRemainingCapacities().get("t_order.order_id"), is(9L));
+        assertThat(SegmentKeyGenerateStatistics.getINSTANCE().getRefillLatencyMillis().containsKey("t_order.order_id"), is(true));
+    }
+    
+    @Test
+    void assertGenerateKeysWithExistedSegment() throws SQLException {
+        executeUpdate("INSERT INTO shardingsphere_key_segment (key_name, max_id) VALUES ('t_order.order_id', 100)");
+        KeyGenerateAlgorithm algorithm = createAlgorithm("10");
+        assertThat(new ArrayList<>(algorithm.generateKeys(context, 2)), is(LongStream.rangeClosed(101L, 102L).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("100");
+        AlgorithmSQLContext orderItemContext = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order_item", "order_item_id");
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(orderItemContext, 100)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(6400, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(6400));
+    }
+    
+    @Test
+    void assertInitWithoutStorageUnit() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT"));
+    }
+    
+    @Test
+    void assertInitWithIllegalStep() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("storage-unit", "foo_ds"), new Property("step", "0"))));
+    }
+    
+    @Test
+    void assertSetDataSourcesWithoutStorageUnit() {
+        DataSourcesAware algorithm = (DataSourcesAware) TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("storage-unit", "bar_ds")));
+        assertThrows(AlgorithmInitializationException.class, () -> algorithm.setDataSources(Collections.singletonMap("foo_ds", dataSource)));
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final String step) {
+        KeyGenerateAlgorithm result = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("storage-unit", "foo_ds"), new Property("step", step)));
+        ((DataSourcesAware) result).setDataSources(Collections.singletonMap("foo_ds", dataSource));
+        return result;
+    }
+    
+    private long queryMaxId(final String keyName) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT max_id FROM shardingsphere_key_segment WHERE key_name = '%s'", keyName))) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
 
+import com.google.common.primitives.Longs;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
@@ -47,6 +48,9 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ *
+ * <p>If {@code lock-free} is enabled, last millis and sequence are packed into one {@code AtomicLong},
+ * and a contiguous sequence range is reserved by one CAS for all keys of a batch in the same millisecond.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -56,6 +60,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String LOCK_FREE_KEY = "lock-free";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -83,12 +89,16 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicLong lastMillis = new AtomicLong();
     
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
+    
     private Properties props;
     
     private int maxVibrationOffset;
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private boolean lockFree;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +108,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        lockFree = Boolean.parseBoolean(props.getOrDefault(LOCK_FREE_KEY, Boolean.FALSE).toString());
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -122,6 +133,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        if (lockFree) {
+            return Longs.asList(generateKeysWithoutLock(keyGenerateCount));
+        }
         Collection<Long> result = new LinkedList<>();
         for (int index = 0; index < keyGenerateCount; index++) {
             result.add(generateKey());
@@ -147,6 +161,37 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
+    private long[] generateKeysWithoutLock(final int keyGenerateCount) {
+        long[] result = new long[keyGenerateCount];
+        long workerId = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            long lastState = lastMillisAndSequence.get();
+            long lastStateMillis = lastState >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            ShardingSpherePreconditions.checkState(lastStateMillis - currentMillis < Math.max(maxTolerateTimeDifferenceMillis, 1), () -> new AlgorithmExecuteException(this,
+                    "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastStateMillis, currentMillis));
+            long millis = Math.max(lastStateMillis, currentMillis);
+            long startSequence = millis == lastStateMillis ? (lastState & SEQUENCE_MASK) + 1L : nextSequenceOffset();
+            if (startSequence > SEQUENCE_MASK) {
+                continue;
+            }
+            int reservedCount = (int) Math.min(keyGenerateCount - generatedCount, SEQUENCE_MASK - startSequence + 1L);
+            if (lastMillisAndSequence.compareAndSet(lastState, millis << SEQUENCE_BITS | (startSequence + reservedCount - 1L))) {
+                long firstKey = ((millis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | workerId | startSequence;
+                for (int i = 0; i < reservedCount; i++) {
+                    result[generatedCount++] = firstKey + i;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long nextSequenceOffset() {
+        vibrateSequenceOffset();
+        return sequenceOffset.get();
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
         if (lastMillis.get() <= currentMillis) {
@@ -43,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -182,6 +183,63 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithLockFree() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysWithLockFreeBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5000));
+        assertThat(new HashSet<>(actual).size(), is(5000));
+        assertThat(actual.get(4095), is((1L << DEFAULT_SEQUENCE_BITS) - 1L));
+        assertThat(actual.get(4096), is(4194305L));
+        assertThat(actual.get(4999), is(4195208L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithLockFreeAndMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(64000, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(64000));
+    }
+    
+    @Test
+    void assertGenerateKeysWithLockFreeAndClockCallBackBeyondTolerateTime() {
+        TimeService timeService = new FixedTimeService(1);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE",
+                PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString()), new Property("max-tolerate-time-difference-milliseconds", "0")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        setLastMillisAndSequence(algorithm, (timeService.getCurrentMillis() + 2L) << DEFAULT_SEQUENCE_BITS);
+        assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastMillisAndSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm, new AtomicLong(value.longValue()));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of data source, which is estimated by exponentially weighted moving average of latency and count of in-flight executions.
+ */
+@RequiredArgsConstructor
+final class DataSourceLoad {
+    
+    private final long decayNanos;
+    
+    private final long errorPenaltyNanos;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private double latencyNanos;
+    
+    private long lastUpdateNanos;
+    
+    /**
+     * Start execution.
+     */
+    void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution.
+     *
+     * @param elapsedNanos elapsed nanos of execution
+     * @param isSuccess is execution success or not
+     */
+    void finish(final long elapsedNanos, final boolean isSuccess) {
+        inFlightCount.decrementAndGet();
+        update(isSuccess ? elapsedNanos : Math.max(elapsedNanos, errorPenaltyNanos), System.nanoTime());
+    }
+    
+    private synchronized void update(final long sampleNanos, final long currentNanos) {
+        double weight = 0L == lastUpdateNanos ? 0D : getDecayWeight(currentNanos);
+        latencyNanos = latencyNanos * weight + sampleNanos * (1D - weight);
+        lastUpdateNanos = currentNanos;
+    }
+    
+    /**
+     * Get load.
+     *
+     * <p>Latency decays while no execution finished, so a penalized data source will be probed again.</p>
+     *
+     * @param currentNanos current nanos
+     * @return load
+     */
+    synchronized double getLoad(final long currentNanos) {
+        return Math.max(latencyNanos * getDecayWeight(currentNanos), 1D) * (Math.max(inFlightCount.get(), 0) + 1);
+    }
+    
+    private double getDecayWeight(final long currentNanos) {
+        return Math.exp(-(double) Math.max(currentNanos - lastUpdateNanos, 0L) / decayNanos);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source load registry.
+ *
+ * <p>Loads are registered by least latency load balance algorithms of readwrite-splitting rules, and removed when the rules are closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class DataSourceLoadRegistry {
+    
+    private static final Map<String, Map<String, DataSourceLoad>> LOADS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create data source load.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param decayNanos decay nanos
+     * @param errorPenaltyNanos error penalty nanos
+     * @return data source load
+     */
+    static DataSourceLoad getOrCreate(final String databaseName, final String dataSourceName, final long decayNanos, final long errorPenaltyNanos) {
+        Map<String, DataSourceLoad> databaseLoads = LOADS.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        DataSourceLoad result = databaseLoads.get(dataSourceName);
+        return null == result ? databaseLoads.computeIfAbsent(dataSourceName, key -> new DataSourceLoad(decayNanos, errorPenaltyNanos)) : result;
+    }
+    
+    /**
+     * Find data source load.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found data source load, empty if data source is not balanced by least latency load balance algorithm
+     */
+    static Optional<DataSourceLoad> find(final String databaseName, final String dataSourceName) {
+        Map<String, DataSourceLoad> databaseLoads = null == databaseName ? null : LOADS.get(databaseName);
+        return null == databaseLoads ? Optional.empty() : Optional.ofNullable(databaseLoads.get(dataSourceName));
+    }
+    
+    /**
+     * Remove data source loads.
+     *
+     * @param databaseName database name
+     * @param dataSourceNames data source names
+     */
+    static void remove(final String databaseName, final Collection<String> dataSourceNames) {
+        LOADS.computeIfPresent(databaseName, (key, value) -> {
+            dataSourceNames.forEach(value::remove);
+            return value.isEmpty() ? null : value;
+        });
+    }
+    
+    /**
+     * Clear data source loads.
+     */
+    static void clear() {
+        LOADS.clear();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Least latency load balance algorithm.
+ *
+ * <p>Two random candidates are picked, and the one with less load is chosen.
+ * Load is the exponentially weighted moving average of latency multiplied by count of in-flight executions, which is fed back by SQL execution hook.</p>
+ */
+public final class LeastLatencyLoadBalanceAlgorithm implements LoadBalanceAlgorithm, DatabaseNameAware, AutoCloseable {
+    
+    private static final String DECAY_MILLISECONDS_KEY = "decay-milliseconds";
+    
+    private static final String ERROR_PENALTY_MILLISECONDS_KEY = "error-penalty-milliseconds";
+    
+    private static final long DEFAULT_DECAY_MILLISECONDS = 10000L;
+    
+    private static final long DEFAULT_ERROR_PENALTY_MILLISECONDS = 1000L;
+    
+    private final Collection<String> dataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private long decayNanos;
+    
+    private long errorPenaltyNanos;
+    
+    private String databaseName = "";
+    
+    @Override
+    public void init(final Properties props) {
+        long decayMillis = Long.parseLong(props.getOrDefault(DECAY_MILLISECONDS_KEY, DEFAULT_DECAY_MILLISECONDS).toString());
+        ShardingSpherePreconditions.checkState(decayMillis > 0L, () -> new AlgorithmInitializationException(this, "%s should be positive.", DECAY_MILLISECONDS_KEY));
+        long errorPenaltyMillis = Long.parseLong(props.getOrDefault(ERROR_PENALTY_MILLISECONDS_KEY, DEFAULT_ERROR_PENALTY_MILLISECONDS).toString());
+        ShardingSpherePreconditions.checkState(errorPenaltyMillis >= 0L, () -> new AlgorithmInitializationException(this, "%s can not be negative.", ERROR_PENALTY_MILLISECONDS_KEY));
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+        errorPenaltyNanos = TimeUnit.MILLISECONDS.toNanos(errorPenaltyMillis);
+    }
+    
+    @Override
+    public void setDatabaseName(final String databaseName) {
+        this.databaseName = databaseName;
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        if (1 == availableTargetNames.size()) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(availableTargetNames.size());
+        int secondIndex = (firstIndex + 1 + random.nextInt(availableTargetNames.size() - 1)) % availableTargetNames.size();
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        long currentNanos = System.nanoTime();
+        return getLoad(secondTargetName, currentNanos) < getLoad(firstTargetName, currentNanos) ? secondTargetName : firstTargetName;
+    }
+    
+    private double getLoad(final String targetName, final long currentNanos) {
+        if (!dataSourceNames.contains(targetName)) {
+            dataSourceNames.add(targetName);
+        }
+        return DataSourceLoadRegistry.getOrCreate(databaseName, targetName, decayNanos, errorPenaltyNanos).getLoad(currentNanos);
+    }
+    
+    @Override
+    public void close() {
+        DataSourceLoadRegistry.remove(databaseName, dataSourceNames);
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LATENCY";
+    }
+}
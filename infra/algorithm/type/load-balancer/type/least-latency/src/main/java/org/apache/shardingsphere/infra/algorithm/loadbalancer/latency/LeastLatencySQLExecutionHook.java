@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * SQL execution hook to feed back latency and in-flight count for least latency load balance algorithm.
+ */
+public final class LeastLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceLoad dataSourceLoad;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        dataSourceLoad = null;
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        dataSourceLoad = DataSourceLoadRegistry.find(databaseName, dataSourceName).orElse(null);
+        if (null != dataSourceLoad) {
+            dataSourceLoad.start();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != dataSourceLoad) {
+            dataSourceLoad.finish(System.nanoTime() - startNanos, true);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != dataSourceLoad) {
+            dataSourceLoad.finish(System.nanoTime() - startNanos, false);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeastLatencyLoadBalanceAlgorithmTest {
+    
+    private final List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+    
+    @AfterEach
+    void tearDown() {
+        DataSourceLoadRegistry.clear();
+    }
+    
+    @Test
+    void assertGetTargetNameWithSingleTarget() {
+        LoadBalanceAlgorithm algorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY");
+        assertThat(algorithm.getTargetName("ds", Collections.singletonList("read_ds_0")), is("read_ds_0"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithSlowTarget() {
+        LoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        algorithm.getTargetName("ds", availableTargetNames);
+        DataSourceLoadRegistry.find("foo_db", "read_ds_0").ifPresent(optional -> optional.finish(TimeUnit.MILLISECONDS.toNanos(1L), true));
+        DataSourceLoadRegistry.find("foo_db", "read_ds_1").ifPresent(optional -> optional.finish(TimeUnit.SECONDS.toNanos(1L), true));
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getTargetName("ds", availableTargetNames), is("read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithFailedTarget() {
+        LoadBalanceAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("error-penalty-milliseconds", "500")));
+        algorithm.getTargetName("ds", availableTargetNames);
+        DataSourceLoadRegistry.find("foo_db", "read_ds_0").ifPresent(optional -> optional.finish(TimeUnit.MILLISECONDS.toNanos(1L), false));
+        DataSourceLoadRegistry.find("foo_db", "read_ds_1").ifPresent(optional -> optional.finish(TimeUnit.MILLISECONDS.toNanos(10L), true));
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getTargetName("ds", availableTargetNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithInFlightExecutions() {
+        LoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        algorithm.getTargetName("ds", availableTargetNames);
+        DataSourceLoadRegistry.find("foo_db", "read_ds_0").ifPresent(DataSourceLoad::start);
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getTargetName("ds", availableTargetNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        LoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        algorithm.getTargetName("ds", availableTargetNames);
+        LoadBalanceAlgorithm otherDatabaseAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY");
+        ((DatabaseNameAware) otherDatabaseAlgorithm).setDatabaseName("bar_db");
+        otherDatabaseAlgorithm.getTargetName("ds", availableTargetNames);
+        ((AutoCloseable) algorithm).close();
+        assertFalse(DataSourceLoadRegistry.find("foo_db", "read_ds_0").isPresent());
+        assertTrue(DataSourceLoadRegistry.find("bar_db", "read_ds_0").isPresent());
+    }
+    
+    @Test
+    void assertInitWithIllegalDecay() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", PropertiesBuilder.build(new Property("decay-milliseconds", "0"))));
+    }
+    
+    private LoadBalanceAlgorithm createAlgorithm(final Properties props) {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", props);
+        ((DatabaseNameAware) result).setDatabaseName("foo_db");
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class LeastLatencySQLExecutionHookTest {
+    
+    @AfterEach
+    void tearDown() {
+        DataSourceLoadRegistry.clear();
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        DataSourceLoad dataSourceLoad = DataSourceLoadRegistry.getOrCreate("foo_db", "read_ds_0", TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(1L));
+        LeastLatencySQLExecutionHook hook = new LeastLatencySQLExecutionHook();
+        hook.start("foo_db", "read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(dataSourceLoad.getLoad(System.nanoTime()), is(2D));
+        hook.finishSuccess();
+        assertThat(dataSourceLoad.getLoad(System.nanoTime()), greaterThanOrEqualTo(1D));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        DataSourceLoad dataSourceLoad = DataSourceLoadRegistry.getOrCreate("foo_db", "read_ds_0", TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(1L));
+        LeastLatencySQLExecutionHook hook = new LeastLatencySQLExecutionHook();
+        hook.start("foo_db", "read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new SQLException(""));
+        assertThat(dataSourceLoad.getLoad(System.nanoTime()), greaterThan((double) TimeUnit.MILLISECONDS.toNanos(900L)));
+    }
+    
+    @Test
+    void assertStartWithAnotherDatabase() {
+        DataSourceLoad dataSourceLoad = DataSourceLoadRegistry.getOrCreate("foo_db", "read_ds_0", TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(1L));
+        LeastLatencySQLExecutionHook hook = new LeastLatencySQLExecutionHook();
+        hook.start("bar_db", "read_ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(dataSourceLoad.getLoad(System.nanoTime()), is(1D));
+        hook.finishSuccess();
+        assertFalse(DataSourceLoadRegistry.find("bar_db", "read_ds_0").isPresent());
+    }
+    
+    @Test
+    void assertStartWithoutRegisteredDataSource() {
+        LeastLatencySQLExecutionHook hook = new LeastLatencySQLExecutionHook();
+        hook.start("foo_db", "write_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertFalse(DataSourceLoadRegistry.find("foo_db", "write_ds").isPresent());
+    }
+}
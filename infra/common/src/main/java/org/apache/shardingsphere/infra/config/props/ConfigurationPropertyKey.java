@@ -54,6 +54,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads for kernel executor and proxy frontend command executors, only available on JDK 21 or above.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether cache route and rewrite results of prepared statements for repeated executions.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_ENABLED("kernel-execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -64,6 +74,35 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Directory of local table metadata snapshots, which are reused at startup when the DDL version of storage unit is unchanged.
+     * Empty means metadata snapshot is disabled.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, false),
+    
+    /**
+     * Max estimated bytes of groups held in memory when merging group by results, groups beyond the threshold will be spilled to disk.
+     * Less than or equal to 0 means spilling is disabled.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES("group-by-merge-spill-threshold-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether merge order by and group by stream results with loser tree instead of priority queue.
+     */
+    STREAM_MERGE_LOSER_TREE_ENABLED("stream-merge-loser-tree-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Interval milliseconds of probing replication positions of readwrite-splitting data sources, which are used to route reads after writes to caught up replicas.
+     * Less than or equal to 0 means reads after writes are routed without replication positions.
+     */
+    READWRITE_SPLITTING_REPLICATION_PROBE_INTERVAL_MILLISECONDS("readwrite-splitting-replication-probe-interval-milliseconds", String.valueOf(0), long.class, true),
+    
+    /**
+     * Interval milliseconds of refreshing table statistics, which are used to estimate costs of SQL federation execution plans.
+     * Less than or equal to 0 means table statistics are not collected.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS("sql-federation-statistics-refresh-interval-milliseconds", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,6 +119,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Proxy backend query timeout milliseconds. Statements still running on storage units after the timeout are cancelled.
+     * The default value is 0, which means no timeout.
+     */
+    PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS("proxy-backend-query-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -120,6 +165,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Proxy frontend compression enabled.
+     */
+    PROXY_FRONTEND_COMPRESSION_ENABLED("proxy-frontend-compression-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Proxy frontend compression level.
+     */
+    PROXY_FRONTEND_COMPRESSION_LEVEL("proxy-frontend-compression-level", String.valueOf(6), int.class, false),
+    
+    /**
+     * Proxy frontend compression min length.
+     */
+    PROXY_FRONTEND_COMPRESSION_MIN_LENGTH("proxy-frontend-compression-min-length", String.valueOf(50), int.class, false),
+    
+    /**
+     * Proxy backend driver type, JDBC or NATIVE.
+     */
+    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", "JDBC", String.class, false),
+    
+    /**
+     * Max native backend connections size of each storage unit.
+     */
+    PROXY_BACKEND_NATIVE_CONNECTIONS_SIZE("proxy-backend-native-connections-size", String.valueOf(4), int.class, true),
+    
     /**
      * Agent plugins enabled.
      */
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
+import org.apache.shardingsphere.infra.metadata.cache.MetaDataCache;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -39,6 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +60,9 @@ public final class ShardingSphereMetaData {
     
     private final TemporaryConfigurationProperties temporaryProps;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<? extends MetaDataCache>, MetaDataCache> caches = new ConcurrentHashMap<>();
+    
     public ShardingSphereMetaData() {
         this(Collections.emptyList(), new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
     }
@@ -111,6 +116,7 @@ public final class ShardingSphereMetaData {
         ShardingSphereDatabase database = ShardingSphereDatabase.create(databaseName, protocolType, props);
         databases.put(new ShardingSphereIdentifier(database.getName()), database);
         globalRuleMetaData.getRules().forEach(each -> ((GlobalRule) each).refresh(databases.values(), GlobalRuleChangedType.DATABASE_CHANGED));
+        invalidateCaches();
     }
     
     /**
@@ -120,6 +126,7 @@ public final class ShardingSphereMetaData {
      */
     public void putDatabase(final ShardingSphereDatabase database) {
         databases.put(new ShardingSphereIdentifier(database.getName()), database);
+        invalidateCaches();
     }
     
     /**
@@ -129,6 +136,7 @@ public final class ShardingSphereMetaData {
      */
     public void dropDatabase(final String databaseName) {
         cleanResources(databases.remove(new ShardingSphereIdentifier(databaseName)));
+        invalidateCaches();
     }
     
     @SneakyThrows(Exception.class)
@@ -143,4 +151,23 @@ public final class ShardingSphereMetaData {
         Optional.ofNullable(database.getResourceMetaData())
                 .ifPresent(optional -> optional.getStorageUnits().values().forEach(each -> new DataSourcePoolDestroyer(each.getDataSource()).asyncDestroy()));
     }
+    
+    /**
+     * Get cache owned by meta data, create it if absent.
+     *
+     * @param cacheClass cache class
+     * @param cacheCreator cache creator
+     * @param <T> type of cache
+     * @return cache
+     */
+    public <T extends MetaDataCache> T getCache(final Class<T> cacheClass, final Supplier<T> cacheCreator) {
+        return cacheClass.cast(caches.computeIfAbsent(cacheClass, key -> cacheCreator.get()));
+    }
+    
+    /**
+     * Invalidate all caches owned by meta data.
+     */
+    public void invalidateCaches() {
+        caches.values().forEach(MetaDataCache::invalidate);
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataSnapshotRepository;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableMetaDataSwapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Local meta data snapshot repository.
+ *
+ * <p>Each storage unit has its own snapshot file, which is named by digest of storage type, storage unit name, default schema name and actual table names.
+ * Snapshot files are replaced atomically, and broken or outdated snapshot files are ignored.</p>
+ */
+@Slf4j
+public final class LocalMetaDataSnapshotRepository implements MetaDataSnapshotRepository {
+    
+    private static final String FILE_SUFFIX = ".yaml";
+    
+    private final Path directory;
+    
+    private final YamlTableMetaDataSwapper tableSwapper = new YamlTableMetaDataSwapper();
+    
+    public LocalMetaDataSnapshotRepository(final String directory) {
+        this.directory = Paths.get(directory);
+    }
+    
+    @Override
+    public Optional<Collection<SchemaMetaData>> load(final MetaDataLoaderMaterial material, final String version) {
+        Path file = getSnapshotFile(material);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        YamlMetaDataSnapshot snapshot;
+        try {
+            snapshot = YamlEngine.unmarshal(file.toFile(), YamlMetaDataSnapshot.class);
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not load meta data snapshot `{}`.", file, ex);
+            return Optional.empty();
+        }
+        return version.equals(snapshot.getVersion()) && null != snapshot.getSchemas() ? Optional.of(swapToSchemaMetaDataList(snapshot.getSchemas())) : Optional.empty();
+    }
+    
+    private Collection<SchemaMetaData> swapToSchemaMetaDataList(final Map<String, YamlShardingSphereSchema> schemas) {
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        for (YamlShardingSphereSchema each : schemas.values()) {
+            Collection<TableMetaData> tables = null == each.getTables() ? new LinkedList<>() : each.getTables().values().stream().map(tableSwapper::swapToObject).collect(Collectors.toList());
+            result.add(new SchemaMetaData(each.getName(), tables));
+        }
+        return result;
+    }
+    
+    @Override
+    public void persist(final MetaDataLoaderMaterial material, final String version, final Collection<SchemaMetaData> schemaMetaDataList) {
+        YamlMetaDataSnapshot snapshot = new YamlMetaDataSnapshot();
+        snapshot.setVersion(version);
+        snapshot.setSchemas(schemaMetaDataList.stream().collect(Collectors.toMap(SchemaMetaData::getName, this::swapToYamlSchema, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        Path file = getSnapshotFile(material);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(snapshot).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Can not persist meta data snapshot `{}`.", file, ex);
+        }
+    }
+    
+    private YamlShardingSphereSchema swapToYamlSchema(final SchemaMetaData schemaMetaData) {
+        YamlShardingSphereSchema result = new YamlShardingSphereSchema();
+        result.setName(schemaMetaData.getName());
+        result.setTables(schemaMetaData.getTables().stream()
+                .collect(Collectors.toMap(TableMetaData::getName, tableSwapper::swapToYamlConfiguration, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        return result;
+    }
+    
+    private Path getSnapshotFile(final MetaDataLoaderMaterial material) {
+        String key = String.join("\n", material.getStorageType().getType(), material.getStorageUnitName(), String.valueOf(material.getDefaultSchemaName()),
+                String.join(",", new TreeSet<>(material.getActualTableNames())));
+        return directory.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + FILE_SUFFIX);
+    }
+}
@@ -41,16 +41,29 @@ class ConfigurationPropertiesTest {
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is("/tmp/metadata-snapshot"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES), is(67108864L));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.STREAM_MERGE_LOSER_TREE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_PROBE_INTERVAL_MILLISECONDS), is(500L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS), is(60000L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS), is(3000L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_LEVEL), is(3));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_MIN_LENGTH), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("NATIVE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_CONNECTIONS_SIZE), is(8));
     }
     
     private Properties createProperties() {
@@ -59,16 +72,29 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH.getKey(), "/tmp/metadata-snapshot"),
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES.getKey(), "67108864"),
+                new Property(ConfigurationPropertyKey.STREAM_MERGE_LOSER_TREE_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_PROBE_INTERVAL_MILLISECONDS.getKey(), "500"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS.getKey(), "60000"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS.getKey(), "3000"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
-                new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"));
+                new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_LEVEL.getKey(), "3"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_MIN_LENGTH.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "NATIVE"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_CONNECTIONS_SIZE.getKey(), "8"));
     }
     
     @Test
@@ -78,15 +104,28 @@ class ConfigurationPropertiesTest {
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is(""));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES), is(0L));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.STREAM_MERGE_LOSER_TREE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_PROBE_INTERVAL_MILLISECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS), is(0L));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS), is(0L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_LEVEL), is(6));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_MIN_LENGTH), is(50));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("JDBC"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_CONNECTIONS_SIZE), is(4));
     }
 }
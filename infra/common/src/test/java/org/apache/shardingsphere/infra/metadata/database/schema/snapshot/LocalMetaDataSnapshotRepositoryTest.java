@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LocalMetaDataSnapshotRepositoryTest {
+    
+    @TempDir
+    private Path directory;
+    
+    @Test
+    void assertLoadPersistedSnapshot() {
+        LocalMetaDataSnapshotRepository repository = new LocalMetaDataSnapshotRepository(directory.toString());
+        Collection<SchemaMetaData> expected = Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(createTableMetaData())));
+        repository.persist(createMaterial("foo_ds"), "v1", expected);
+        Optional<Collection<SchemaMetaData>> actual = repository.load(createMaterial("foo_ds"), "v1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().iterator().next(), is(expected.iterator().next()));
+    }
+    
+    @Test
+    void assertLoadWithChangedVersion() {
+        LocalMetaDataSnapshotRepository repository = new LocalMetaDataSnapshotRepository(directory.toString());
+        repository.persist(createMaterial("foo_ds"), "v1", Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(createTableMetaData()))));
+        assertFalse(repository.load(createMaterial("foo_ds"), "v2").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithAbsentSnapshot() {
+        LocalMetaDataSnapshotRepository repository = new LocalMetaDataSnapshotRepository(directory.toString());
+        repository.persist(createMaterial("foo_ds"), "v1", Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(createTableMetaData()))));
+        assertFalse(repository.load(createMaterial("bar_ds"), "v1").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithBrokenSnapshot() throws IOException {
+        LocalMetaDataSnapshotRepository repository = new LocalMetaDataSnapshotRepository(directory.toString());
+        repository.persist(createMaterial("foo_ds"), "v1", Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(createTableMetaData()))));
+        try (Stream<Path> files = Files.list(directory)) {
+            Files.write(files.findFirst().orElseThrow(IllegalStateException::new), "version: [".getBytes(StandardCharsets.UTF_8));
+        }
+        assertFalse(repository.load(createMaterial("foo_ds"), "v1").isPresent());
+    }
+    
+    private MetaDataLoaderMaterial createMaterial(final String storageUnitName) {
+        return new MetaDataLoaderMaterial(Arrays.asList("t_order", "t_order_item"), storageUnitName, mock(DataSource.class), TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), "foo_schema");
+    }
+    
+    private TableMetaData createTableMetaData() {
+        Collection<ColumnMetaData> columns = Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, true, false, true, false, false),
+                new ColumnMetaData("Status", Types.VARCHAR, false, false, true, true, false, true));
+        IndexMetaData index = new IndexMetaData("idx_status", new LinkedList<>(Collections.singletonList("Status")));
+        index.setUnique(true);
+        return new TableMetaData("t_order", columns, Collections.singletonList(index), Collections.singletonList(new ConstraintMetaData("fk_user", "t_user")), TableType.TABLE);
+    }
+}
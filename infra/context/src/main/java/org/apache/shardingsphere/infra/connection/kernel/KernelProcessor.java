@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.cache.ExecutionPlan;
+import org.apache.shardingsphere.infra.connection.kernel.cache.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.connection.kernel.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
@@ -32,6 +35,8 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -47,14 +52,42 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        ExecutionContext result = isExecutionPlanCacheable(queryContext, props)
+                ? generateCachedExecutionContext(queryContext, globalRuleMetaData, props)
+                : generateExecutionContextWithoutCache(queryContext, globalRuleMetaData, props);
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
+    private boolean isExecutionPlanCacheable(final QueryContext queryContext, final ConfigurationProperties props) {
+        return queryContext.isUseCache() && props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_ENABLED) && getExecutionPlanCache(queryContext).isCacheable(queryContext);
+    }
+    
+    private ExecutionPlanCache getExecutionPlanCache(final QueryContext queryContext) {
+        return queryContext.getMetaData().getCache(ExecutionPlanCache.class, ExecutionPlanCache::new);
+    }
+    
+    private ExecutionContext generateCachedExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         check(queryContext);
         RouteContext routeContext = route(queryContext, globalRuleMetaData, props);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, globalRuleMetaData, props, routeContext);
-        ExecutionContext result = createExecutionContext(queryContext, routeContext, rewriteResult);
-        logSQL(queryContext, props, result);
+        ExecutionPlanCache executionPlanCache = getExecutionPlanCache(queryContext);
+        ExecutionPlanCacheKey key = executionPlanCache.createKey(queryContext, routeContext);
+        Optional<ExecutionPlan> executionPlan = executionPlanCache.find(key);
+        if (executionPlan.isPresent()) {
+            return executionPlan.get().createExecutionContext(queryContext, routeContext);
+        }
+        ExecutionContext result = createExecutionContext(queryContext, routeContext, rewrite(queryContext, globalRuleMetaData, props, routeContext));
+        executionPlanCache.put(key, result);
         return result;
     }
     
+    private ExecutionContext generateExecutionContextWithoutCache(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        check(queryContext);
+        RouteContext routeContext = route(queryContext, globalRuleMetaData, props);
+        SQLRewriteResult rewriteResult = rewrite(queryContext, globalRuleMetaData, props, routeContext);
+        return createExecutionContext(queryContext, routeContext, rewriteResult);
+    }
+    
     private void check(final QueryContext queryContext) {
         if (queryContext.getHintValueContext().isSkipMetadataValidate()) {
             return;
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Execution plan, which holds the rewritten SQL template of each execution unit, parameters are bound on every execution.
+ */
+public final class ExecutionPlan {
+    
+    private final Collection<ExecutionUnitTemplate> executionUnitTemplates;
+    
+    private final boolean needAggregateRewrite;
+    
+    public ExecutionPlan(final ExecutionContext executionContext) {
+        executionUnitTemplates = new ArrayList<>(executionContext.getExecutionUnits().size());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            SQLUnit sqlUnit = each.getSqlUnit();
+            executionUnitTemplates.add(new ExecutionUnitTemplate(each.getDataSourceName(), sqlUnit.getSql(), copyTableRouteMappers(sqlUnit.getTableRouteMappers())));
+        }
+        SQLStatementContext sqlStatementContext = executionContext.getSqlStatementContext();
+        needAggregateRewrite = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+    }
+    
+    /**
+     * Create execution context with parameters of query bound.
+     *
+     * @param queryContext query context
+     * @param routeContext route context of current execution
+     * @return created execution context
+     */
+    public ExecutionContext createExecutionContext(final QueryContext queryContext, final RouteContext routeContext) {
+        if (queryContext.getSqlStatementContext() instanceof SelectStatementContext) {
+            ((SelectStatementContext) queryContext.getSqlStatementContext()).setNeedAggregateRewrite(needAggregateRewrite);
+        }
+        Collection<ExecutionUnit> executionUnits = new LinkedHashSet<>(executionUnitTemplates.size(), 1F);
+        for (ExecutionUnitTemplate each : executionUnitTemplates) {
+            executionUnits.add(new ExecutionUnit(each.dataSourceName, new SQLUnit(each.sql, new ArrayList<>(queryContext.getParameters()), copyTableRouteMappers(each.tableRouteMappers))));
+        }
+        return new ExecutionContext(queryContext, executionUnits, routeContext);
+    }
+    
+    private static List<RouteMapper> copyTableRouteMappers(final List<RouteMapper> tableRouteMappers) {
+        List<RouteMapper> result = new ArrayList<>(tableRouteMappers.size());
+        for (RouteMapper each : tableRouteMappers) {
+            result.add(new RouteMapper(each.getLogicName(), each.getActualName()));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExecutionUnitTemplate {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+        
+        private final List<RouteMapper> tableRouteMappers;
+    }
+}
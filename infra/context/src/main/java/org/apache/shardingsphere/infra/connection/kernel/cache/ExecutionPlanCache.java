@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.cache.MetaDataCache;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution plan cache, which is owned by ShardingSphere meta data.
+ */
+public final class ExecutionPlanCache implements MetaDataCache {
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    private final Cache<ExecutionPlanCacheKey, ExecutionPlan> cache = Caffeine.newBuilder().initialCapacity(128).maximumSize(65535L).softValues().build();
+    
+    /**
+     * Judge whether query is cacheable.
+     *
+     * @param queryContext query context
+     * @return query is cacheable or not
+     */
+    public boolean isCacheable(final QueryContext queryContext) {
+        if (!queryContext.isUseCache() || HintManager.isInstantiated()) {
+            return false;
+        }
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+            return null == insertStatementContext.getInsertSelectContext() && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        }
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            return !isParameterizedPagination(((SelectStatementContext) sqlStatementContext).getPaginationContext());
+        }
+        return sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private boolean isParameterizedPagination(final PaginationContext paginationContext) {
+        return null != paginationContext && paginationContext.isHasPagination()
+                && (paginationContext.getOffsetParameterIndex().isPresent() || paginationContext.getRowCountParameterIndex().isPresent());
+    }
+    
+    /**
+     * Create cache key.
+     *
+     * @param queryContext query context
+     * @param routeContext route context of current execution
+     * @return created cache key
+     */
+    public ExecutionPlanCacheKey createKey(final QueryContext queryContext, final RouteContext routeContext) {
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            routeUnits.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        return new ExecutionPlanCacheKey(version.get(), queryContext.getUsedDatabaseName(), queryContext.getSql(), getHintValues(queryContext.getHintValueContext()), routeUnits);
+    }
+    
+    private List<Object> getHintValues(final HintValueContext hintValueContext) {
+        return Arrays.asList(hintValueContext.getDataSourceName(), hintValueContext.isDatabaseShardingOnly(), hintValueContext.isWriteRouteOnly(), hintValueContext.isSkipSQLRewrite(),
+                hintValueContext.isSkipMetadataValidate(), hintValueContext.isShadow(), new LinkedHashSet<>(hintValueContext.getDisableAuditNames()),
+                hintValueContext.getShardingDatabaseValues().entries().toString(), hintValueContext.getShardingTableValues().entries().toString());
+    }
+    
+    /**
+     * Find execution plan.
+     *
+     * @param key cache key
+     * @return found execution plan
+     */
+    public Optional<ExecutionPlan> find(final ExecutionPlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put execution plan if the rewritten SQL units can be reused as template with other parameters.
+     *
+     * @param key cache key
+     * @param executionContext execution context
+     */
+    public void put(final ExecutionPlanCacheKey key, final ExecutionContext executionContext) {
+        if (key.getVersion() == version.get() && isParameterBindable(executionContext)) {
+            cache.put(key, new ExecutionPlan(executionContext));
+        }
+    }
+    
+    private boolean isParameterBindable(final ExecutionContext executionContext) {
+        List<Object> params = executionContext.getQueryContext().getParameters();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!isSameParameters(params, each.getSqlUnit().getParameters())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameParameters(final List<Object> params, final List<Object> rewrittenParams) {
+        if (params.size() != rewrittenParams.size()) {
+            return false;
+        }
+        Iterator<Object> iterator = rewrittenParams.iterator();
+        for (Object each : params) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.cache;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutionPlanCacheTest {
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+    
+    private final ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+    
+    @Test
+    void assertIsCacheable() {
+        assertTrue(executionPlanCache.isCacheable(createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext())));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithoutPreparedStatement() {
+        assertFalse(executionPlanCache.isCacheable(createQueryContext(Collections.singletonList(1), false, new TransactionConnectionContext())));
+    }
+    
+    @Test
+    void assertIsCacheableInTransaction() {
+        TransactionConnectionContext transactionContext = new TransactionConnectionContext();
+        transactionContext.beginTransaction("LOCAL");
+        assertTrue(executionPlanCache.isCacheable(createQueryContext(Collections.singletonList(1), true, transactionContext)));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithParameterizedPagination() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        PaginationContext paginationContext = mock(PaginationContext.class);
+        when(paginationContext.isHasPagination()).thenReturn(true);
+        when(paginationContext.getOffsetParameterIndex()).thenReturn(Optional.empty());
+        when(paginationContext.getRowCountParameterIndex()).thenReturn(Optional.of(0));
+        when(((SelectStatementContext) queryContext.getSqlStatementContext()).getPaginationContext()).thenReturn(paginationContext);
+        assertFalse(executionPlanCache.isCacheable(queryContext));
+    }
+    
+    @Test
+    void assertFindWithDifferentParameters() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, queryContext.getParameters());
+        executionPlanCache.put(executionPlanCache.createKey(queryContext, executionContext.getRouteContext()), executionContext);
+        QueryContext newQueryContext = createQueryContext(Collections.singletonList(2), true, new TransactionConnectionContext());
+        RouteContext newRouteContext = createRouteContext();
+        Optional<ExecutionPlan> actual = executionPlanCache.find(executionPlanCache.createKey(newQueryContext, newRouteContext));
+        assertTrue(actual.isPresent());
+        ExecutionContext actualExecutionContext = actual.get().createExecutionContext(newQueryContext, newRouteContext);
+        assertThat(actualExecutionContext.getQueryContext(), is(newQueryContext));
+        assertThat(actualExecutionContext.getRouteContext(), is(newRouteContext));
+        assertThat(actualExecutionContext.getExecutionUnits().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actualExecutionContext.getExecutionUnits().iterator().next();
+        assertThat(actualExecutionUnit, is(executionContext.getExecutionUnits().iterator().next()));
+        assertThat(actualExecutionUnit, not(sameInstance(executionContext.getExecutionUnits().iterator().next())));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertFindWithDifferentRouteUnits() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, queryContext.getParameters());
+        executionPlanCache.put(executionPlanCache.createKey(queryContext, executionContext.getRouteContext()), executionContext);
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "foo_ds"), Collections.singletonList(new RouteMapper("foo_tbl", "foo_tbl_1"))));
+        assertFalse(executionPlanCache.find(executionPlanCache.createKey(queryContext, routeContext)).isPresent());
+    }
+    
+    @Test
+    void assertFindWithDifferentHint() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, queryContext.getParameters());
+        executionPlanCache.put(executionPlanCache.createKey(queryContext, executionContext.getRouteContext()), executionContext);
+        QueryContext newQueryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        newQueryContext.getHintValueContext().setWriteRouteOnly(true);
+        assertFalse(executionPlanCache.find(executionPlanCache.createKey(newQueryContext, createRouteContext())).isPresent());
+    }
+    
+    @Test
+    void assertPutWithRewrittenParameters() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, Collections.singletonList("encrypted_1"));
+        ExecutionPlanCacheKey key = executionPlanCache.createKey(queryContext, executionContext.getRouteContext());
+        executionPlanCache.put(key, executionContext);
+        assertFalse(executionPlanCache.find(key).isPresent());
+    }
+    
+    @Test
+    void assertInvalidate() {
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, queryContext.getParameters());
+        ExecutionPlanCacheKey key = executionPlanCache.createKey(queryContext, executionContext.getRouteContext());
+        executionPlanCache.invalidate();
+        executionPlanCache.put(key, executionContext);
+        assertFalse(executionPlanCache.find(key).isPresent());
+        assertFalse(executionPlanCache.find(executionPlanCache.createKey(queryContext, executionContext.getRouteContext())).isPresent());
+    }
+    
+    @Test
+    void assertInvalidateByMetaData() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        ExecutionPlanCache cache = metaData.getCache(ExecutionPlanCache.class, ExecutionPlanCache::new);
+        assertThat(metaData.getCache(ExecutionPlanCache.class, ExecutionPlanCache::new), is(cache));
+        QueryContext queryContext = createQueryContext(Collections.singletonList(1), true, new TransactionConnectionContext());
+        ExecutionContext executionContext = createExecutionContext(queryContext, queryContext.getParameters());
+        cache.put(cache.createKey(queryContext, executionContext.getRouteContext()), executionContext);
+        metaData.invalidateCaches();
+        assertFalse(cache.find(cache.createKey(queryContext, executionContext.getRouteContext())).isPresent());
+    }
+    
+    private QueryContext createQueryContext(final List<Object> params, final boolean useCache, final TransactionConnectionContext transactionContext) {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getDatabaseName()).thenReturn(Optional.empty());
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singletonList("foo_tbl"));
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of("foo_db"));
+        when(connectionContext.getTransactionContext()).thenReturn(transactionContext);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.containsDatabase("foo_db")).thenReturn(true);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        return new QueryContext(sqlStatementContext, "SELECT * FROM foo_tbl WHERE id = ?", params, new HintValueContext(), connectionContext, metaData, useCache);
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "foo_ds"), Collections.singletonList(new RouteMapper("foo_tbl", "foo_tbl_0"))));
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final QueryContext queryContext, final List<Object> rewrittenParams) {
+        ExecutionUnit executionUnit = new ExecutionUnit("foo_ds", new SQLUnit("SELECT * FROM foo_tbl_0 WHERE id = ?", new ArrayList<>(rewrittenParams)));
+        return new ExecutionContext(queryContext, Collections.singletonList(executionUnit), createRouteContext());
+    }
+}
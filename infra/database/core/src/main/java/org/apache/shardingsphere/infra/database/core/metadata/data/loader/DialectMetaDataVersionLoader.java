@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.SQLException;
+
+/**
+ * Dialect meta data version loader.
+ */
+@SingletonSPI
+public interface DialectMetaDataVersionLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load DDL version of schema.
+     *
+     * <p>The version must be changed by any DDL which changes the meta data of the actual tables in material, and should be loaded with a single cheap query.</p>
+     *
+     * @param material meta data loader material
+     * @return DDL version, null if no version is available and meta data should be loaded from database
+     * @throws SQLException SQL exception
+     */
+    String load(MetaDataLoaderMaterial material) throws SQLException;
+}
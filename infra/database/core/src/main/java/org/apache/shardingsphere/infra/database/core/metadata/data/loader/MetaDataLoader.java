@@ -59,11 +59,26 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, null);
+    }
+    
+    /**
+     * Load meta data with snapshot.
+     *
+     * <p>The snapshot of storage unit is reused if the DDL version loaded by dialect meta data version loader is unchanged,
+     * otherwise meta data is loaded from database and persisted as new snapshot.</p>
+     *
+     * @param materials meta data loader materials
+     * @param snapshotRepository meta data snapshot repository, null means snapshot is disabled
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final MetaDataSnapshotRepository snapshotRepository) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
             DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.add(EXECUTOR_SERVICE.submit(() -> null == snapshotRepository ? load(each) : loadWithSnapshot(each, snapshotRepository)));
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -92,6 +107,33 @@ public final class MetaDataLoader {
         return loadByDefault(material);
     }
     
+    private static Collection<SchemaMetaData> loadWithSnapshot(final MetaDataLoaderMaterial material, final MetaDataSnapshotRepository snapshotRepository) throws SQLException {
+        Optional<String> version = loadVersion(material);
+        if (!version.isPresent()) {
+            return load(material);
+        }
+        Optional<Collection<SchemaMetaData>> snapshot = snapshotRepository.load(material, version.get());
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        Collection<SchemaMetaData> result = load(material);
+        snapshotRepository.persist(material, version.get(), result);
+        return result;
+    }
+    
+    private static Optional<String> loadVersion(final MetaDataLoaderMaterial material) {
+        Optional<DialectMetaDataVersionLoader> versionLoader = DatabaseTypedSPILoader.findService(DialectMetaDataVersionLoader.class, material.getStorageType());
+        if (!versionLoader.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(versionLoader.get().load(material));
+        } catch (final SQLException ex) {
+            log.debug("Dialect load meta data version error.", ex);
+            return Optional.empty();
+        }
+    }
+    
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
         for (String each : material.getActualTableNames()) {
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Meta data snapshot repository.
+ */
+public interface MetaDataSnapshotRepository {
+    
+    /**
+     * Load schema meta data snapshot.
+     *
+     * @param material meta data loader material
+     * @param version DDL version of schema
+     * @return schema meta data collection, empty if snapshot is absent or version is changed
+     */
+    Optional<Collection<SchemaMetaData>> load(MetaDataLoaderMaterial material, String version);
+    
+    /**
+     * Persist schema meta data snapshot.
+     *
+     * @param material meta data loader material
+     * @param version DDL version of schema
+     * @param schemaMetaDataList schema meta data collection
+     */
+    void persist(MetaDataLoaderMaterial material, String version, Collection<SchemaMetaData> schemaMetaDataList);
+}
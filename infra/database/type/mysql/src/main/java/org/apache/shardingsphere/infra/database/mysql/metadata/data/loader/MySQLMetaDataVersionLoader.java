@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.mysql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataVersionLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data version loader for MySQL.
+ *
+ * <p>Version is composed of counts and digests of columns and index columns of the tables to be loaded, which are read from data dictionary.
+ * Cached table statistics such as create and update time are not used, because they are refreshed lazily, are not changed by instant DDL and are changed by DML.</p>
+ */
+public final class MySQLMetaDataVersionLoader implements DialectMetaDataVersionLoader {
+    
+    private static final String COLUMN_DIGEST_SQL = "SELECT COUNT(DISTINCT TABLE_NAME) AS table_count, COUNT(*) AS column_count, "
+            + "SUM(CAST(CONV(LEFT(MD5(CONCAT_WS(',', TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY, EXTRA, COLLATION_NAME)), 15), 16, 10) AS UNSIGNED)) "
+            + "AS column_digest FROM information_schema.COLUMNS WHERE TABLE_SCHEMA=?%s";
+    
+    private static final String INDEX_DIGEST_SQL = "SELECT COUNT(*) AS index_column_count, "
+            + "COALESCE(SUM(CAST(CONV(LEFT(MD5(CONCAT_WS(',', TABLE_NAME, INDEX_NAME, NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME, SUB_PART)), 15), 16, 10) AS UNSIGNED)), 0) "
+            + "AS index_digest FROM information_schema.STATISTICS WHERE TABLE_SCHEMA=?%s";
+    
+    private static final String VERSION_SQL = "SELECT c.table_count, c.column_count, c.column_digest, s.index_column_count, s.index_digest FROM (%s) c, (%s) s";
+    
+    private static final String TABLE_NAME_CONDITION = " AND TABLE_NAME IN (%s)";
+    
+    @Override
+    public String load(final MetaDataLoaderMaterial material) throws SQLException {
+        try (Connection connection = material.getDataSource().getConnection()) {
+            String databaseName = connection.getCatalog();
+            if (null == databaseName || databaseName.isEmpty()) {
+                return null;
+            }
+            return load(connection, databaseName, material.getActualTableNames());
+        }
+    }
+    
+    private String load(final Connection connection, final String databaseName, final Collection<String> tableNames) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getVersionSQL(tableNames))) {
+            preparedStatement.setString(1, databaseName);
+            preparedStatement.setString(2, databaseName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || 0 == resultSet.getInt(1)) {
+                    return null;
+                }
+                return String.join(":", databaseName, resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4), resultSet.getString(5));
+            }
+        }
+    }
+    
+    private String getVersionSQL(final Collection<String> tableNames) {
+        String tableNameCondition = tableNames.isEmpty() ? "" : String.format(TABLE_NAME_CONDITION, tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+        return String.format(VERSION_SQL, String.format(COLUMN_DIGEST_SQL, tableNameCondition), String.format(INDEX_DIGEST_SQL, tableNameCondition));
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
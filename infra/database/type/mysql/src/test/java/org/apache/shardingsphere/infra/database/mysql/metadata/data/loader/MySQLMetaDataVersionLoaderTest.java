@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.mysql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataVersionLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLMetaDataVersionLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    private final DialectMetaDataVersionLoader versionLoader = DatabaseTypedSPILoader.getService(DialectMetaDataVersionLoader.class, databaseType);
+    
+    @Test
+    void assertLoad() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("foo_db");
+        ResultSet resultSet = mockResultSet(2);
+        when(dataSource.getConnection().prepareStatement(argThat(sql -> sql.contains("FROM information_schema.COLUMNS WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('t_order','t_order_item')")
+                && sql.contains("FROM information_schema.STATISTICS WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('t_order','t_order_item')"))).executeQuery()).thenReturn(resultSet);
+        assertThat(versionLoader.load(new MetaDataLoaderMaterial(Arrays.asList("t_order", "t_order_item"), "foo_ds", dataSource, databaseType, "foo_db")),
+                is("foo_db:2:5:foo_column_digest:3:foo_index_digest"));
+    }
+    
+    @Test
+    void assertLoadWithoutTables() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("foo_db");
+        ResultSet resultSet = mockResultSet(0);
+        when(dataSource.getConnection().prepareStatement(anyString()).executeQuery()).thenReturn(resultSet);
+        assertThat(versionLoader.load(new MetaDataLoaderMaterial(Collections.emptyList(), "foo_ds", dataSource, databaseType, "foo_db")), nullValue());
+    }
+    
+    private ResultSet mockResultSet(final int tableCount) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getInt(1)).thenReturn(tableCount);
+        when(result.getString(1)).thenReturn(String.valueOf(tableCount));
+        when(result.getString(2)).thenReturn("5");
+        when(result.getString(3)).thenReturn("foo_column_digest");
+        when(result.getString(4)).thenReturn("3");
+        when(result.getString(5)).thenReturn("foo_index_digest");
+        return result;
+    }
+    
+    @Test
+    void assertLoadWithoutCatalog() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("");
+        assertThat(versionLoader.load(new MetaDataLoaderMaterial(Collections.emptyList(), "foo_ds", dataSource, databaseType, "foo_db")), nullValue());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.postgresql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataVersionLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data version loader for PostgreSQL.
+ *
+ * <p>Version is composed of count and digest of the tables to be loaded. The digest covers xmin, relfilenode and relnatts of the table in pg_class,
+ * its columns in pg_attribute and its indexes in pg_index, because creating or dropping index does not rewrite the row of table in pg_class.</p>
+ */
+public final class PostgreSQLMetaDataVersionLoader implements DialectMetaDataVersionLoader {
+    
+    private static final String VERSION_SQL = "SELECT current_database(), COUNT(*), "
+            + "md5(string_agg(concat_ws(',', n.nspname, c.relname, c.xmin, c.relfilenode, c.relnatts, "
+            + "(SELECT string_agg(concat_ws(':', a.attname, a.attnum, a.atttypid, a.atttypmod, a.attnotnull, a.xmin), '|' ORDER BY a.attnum) "
+            + "FROM pg_attribute a WHERE a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped), "
+            + "(SELECT string_agg(concat_ws(':', i.indexrelid, i.indkey, i.indisunique, i.indisprimary, i.xmin), '|' ORDER BY i.indexrelid) "
+            + "FROM pg_index i WHERE i.indrelid = c.oid)), ';' ORDER BY n.nspname, c.relname)) "
+            + "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE c.relkind IN ('r', 'p', 'v', 'm', 'f') AND n.nspname NOT IN ('pg_catalog', 'information_schema') AND n.nspname !~ '^pg_toast'";
+    
+    private static final String VERSION_SQL_IN_TABLES = VERSION_SQL + " AND c.relname IN (%s)";
+    
+    @Override
+    public String load(final MetaDataLoaderMaterial material) throws SQLException {
+        try (
+                Connection connection = material.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(getVersionSQL(material.getActualTableNames()));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || 0 == resultSet.getInt(2)) {
+                return null;
+            }
+            return String.join(":", resultSet.getString(1), resultSet.getString(2), resultSet.getString(3));
+        }
+    }
+    
+    private String getVersionSQL(final Collection<String> tableNames) {
+        return tableNames.isEmpty() ? VERSION_SQL : String.format(VERSION_SQL_IN_TABLES, tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
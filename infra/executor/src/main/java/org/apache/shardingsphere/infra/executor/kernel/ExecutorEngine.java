@@ -20,19 +20,28 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor engine.
@@ -41,10 +50,18 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final ScheduledThreadPoolExecutor TIMEOUT_EXECUTOR = createTimeoutExecutor();
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+    }
+    
+    private static ScheduledThreadPoolExecutor createTimeoutExecutor() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout"));
+        result.setRemoveOnCancelPolicy(true);
+        return result;
     }
     
     /**
@@ -54,7 +71,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size.
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether to execute with virtual threads
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -125,6 +153,106 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * <p>Execution groups are submitted to executor service without blocking the calling thread, and the returned future completes when all groups finished,
+     * or completes exceptionally as soon as any group failed. If the returned future is cancelled, timed out or failed, the callbacks are cancelled and
+     * the groups which have not started are skipped. All groups of parallel execution run on executor threads, so none of them is executed as trunk thread.
+     * Serial execution keeps running on the calling thread because the resources of distributed transaction may be bound to it.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param timeoutMillis timeout milliseconds, less than or equal to 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                          final ExecutorCallback<I, O> callback, final boolean serial, final long timeoutMillis) {
+        if (serial) {
+            return serialExecuteAsync(executionGroupContext, firstCallback, callback);
+        }
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        ExecutorCallback<I, O> actualFirstCallback = null == firstCallback ? callback : firstCallback;
+        CompletableFuture<List<O>> execution = parallelExecuteAsync(executionGroupContext, actualFirstCallback, callback);
+        if (timeoutMillis > 0L) {
+            ScheduledFuture<?> timeoutFuture = TIMEOUT_EXECUTOR.schedule(() -> execution.completeExceptionally(new TimeoutException()), timeoutMillis, TimeUnit.MILLISECONDS);
+            execution.whenComplete((unused, ex) -> timeoutFuture.cancel(false));
+        }
+        CompletableFuture<List<O>> result = execution.exceptionally(ex -> {
+            throw new CompletionException(translateException(ex, timeoutMillis));
+        });
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                execution.cancel(false);
+                actualFirstCallback.cancel();
+                callback.cancel();
+            }
+        });
+        return result;
+    }
+    
+    private <I, O> CompletableFuture<List<O>> serialExecuteAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                                 final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        try {
+            result.complete(execute(executionGroupContext, firstCallback, callback, true));
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+    
+    private <I, O> CompletableFuture<List<O>> parallelExecuteAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        List<CompletableFuture<Collection<O>>> groupFutures = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            ExecutorCallback<I, O> groupCallback = groupFutures.isEmpty() ? firstCallback : callback;
+            CompletableFuture<Collection<O>> groupFuture = CompletableFuture.supplyAsync(() -> executeGroup(each, processId, groupCallback), executorServiceManager.getExecutorService());
+            groupFuture.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+            groupFutures.add(groupFuture);
+        }
+        CompletableFuture.allOf(groupFutures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(joinGroupResults(groupFutures)));
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                groupFutures.forEach(each -> each.cancel(false));
+            }
+        });
+        return result;
+    }
+    
+    private <I, O> Collection<O> executeGroup(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        try {
+            return callback.execute(executionGroup.getInputs(), false, processId);
+        } catch (final SQLException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+    
+    private <O> List<O> joinGroupResults(final List<CompletableFuture<Collection<O>>> groupFutures) {
+        List<O> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
+    private Throwable translateException(final Throwable throwable, final long timeoutMillis) {
+        Throwable cause = throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable;
+        return cause instanceof TimeoutException ? new SQLExecutionTimeoutException(timeoutMillis) : cause;
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -38,4 +38,12 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, String processId) throws SQLException;
+    
+    /**
+     * Cancel execution.
+     *
+     * <p>Inputs which have not been executed yet should be skipped, and inputs being executed should be interrupted if possible.</p>
+     */
+    default void cancel() {
+    }
 }
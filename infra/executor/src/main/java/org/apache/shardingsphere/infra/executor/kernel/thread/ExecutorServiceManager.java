@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -41,15 +44,42 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            Optional<ExecutorService> virtualThreadExecutorService = createVirtualThreadPerTaskExecutorService(nameFormat);
+            if (virtualThreadExecutorService.isPresent()) {
+                return 0 == executorSize ? virtualThreadExecutorService.get() : new SemaphoreBoundedExecutorService(virtualThreadExecutorService.get(), executorSize);
+            }
+            log.warn("Virtual threads are unavailable in current JVM, fall back to platform threads for `{}`.", nameFormat);
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private Optional<ExecutorService> createVirtualThreadPerTaskExecutorService(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+        if (!threadFactory.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ignore) {
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
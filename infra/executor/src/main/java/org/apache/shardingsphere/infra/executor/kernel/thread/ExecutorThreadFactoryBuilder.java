@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -31,6 +32,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
     /**
      * Build thread factory with thread name format.
      *
@@ -40,4 +43,24 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory, empty if virtual threads are unavailable in current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String nameFormat) {
+        return null == VIRTUAL_THREAD_FACTORY ? Optional.empty()
+                : Optional.of(new ThreadFactoryBuilder().setThreadFactory(VIRTUAL_THREAD_FACTORY).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build());
+    }
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ignore) {
+            return null;
+        }
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JDBC executor.
@@ -69,4 +70,21 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>The calling thread is not blocked, the statements still running on storage units are cancelled when the timeout is reached.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds, less than or equal to 0 means no timeout
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) {
+        return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction(), timeoutMillis);
+    }
 }
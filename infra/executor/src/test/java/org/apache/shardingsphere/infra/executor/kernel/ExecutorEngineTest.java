@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -27,13 +29,25 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ExecutorEngineTest {
     
@@ -88,4 +102,52 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteAsync() throws ExecutionException, InterruptedException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, false, 0L).get();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertParallelExecuteAsyncNotInTrunkThread() throws SQLException, ExecutionException, InterruptedException {
+        ExecutorCallback<Object, String> mockedFirstCallback = mock(ExecutorCallback.class);
+        when(mockedFirstCallback.execute(anyCollection(), anyBoolean(), any())).thenReturn(Collections.singletonList("foo"));
+        executorEngine.executeAsync(executionGroupContext, mockedFirstCallback, callback, false, 0L).get();
+        verify(mockedFirstCallback).execute(anyCollection(), eq(false), any());
+    }
+    
+    @Test
+    void assertSerialExecuteAsync() throws ExecutionException, InterruptedException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, true, 0L);
+        assertThat(actual.isDone(), is(true));
+        assertThat(actual.get().size(), is(4));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteAsyncFailed() throws SQLException {
+        ExecutorCallback<Object, String> failedCallback = mock(ExecutorCallback.class);
+        SQLException expected = new SQLException("failed");
+        when(failedCallback.execute(anyCollection(), anyBoolean(), any())).thenThrow(expected);
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, firstCallback, failedCallback, false, 0L).get());
+        assertThat(actual.getCause(), is(expected));
+        verify(failedCallback, timeout(1000L)).cancel();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteAsyncTimeout() throws SQLException {
+        ExecutorCallback<Object, String> blockedCallback = mock(ExecutorCallback.class);
+        CountDownLatch blockedLatch = new CountDownLatch(1);
+        when(blockedCallback.execute(anyCollection(), anyBoolean(), any())).thenAnswer(invocation -> {
+            blockedLatch.await();
+            return Collections.emptyList();
+        });
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, firstCallback, blockedCallback, false, 50L).get());
+        assertThat(actual.getCause(), instanceOf(SQLExecutionTimeoutException.class));
+        verify(blockedCallback, timeout(1000L)).cancel();
+        blockedLatch.countDown();
+    }
 }
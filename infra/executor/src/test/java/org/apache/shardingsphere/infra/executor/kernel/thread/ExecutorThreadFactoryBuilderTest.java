@@ -33,4 +33,10 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildVirtualWithNameFormat() {
+        ExecutorThreadFactoryBuilder.buildVirtual("test").ifPresent(optional -> assertThat(optional.newThread(() -> {
+        }).getName(), is("ShardingSphere-test")));
+    }
 }
@@ -22,18 +22,24 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +58,27 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    void assertExecuteAsync() throws ExecutionException, InterruptedException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean(), anyLong())).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        assertThat(jdbcExecutor.executeAsync(context, null, null, 1000L).get(), is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithTimeoutExceeded() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(new SQLExecutionTimeoutException(1000L));
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean(), anyLong())).thenReturn(future);
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        CompletableFuture<List<Object>> actual = jdbcExecutor.executeAsync(context, null, null, 1000L);
+        assertThat(assertThrows(ExecutionException.class, actual::get).getCause(), instanceOf(SQLExecutionTimeoutException.class));
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
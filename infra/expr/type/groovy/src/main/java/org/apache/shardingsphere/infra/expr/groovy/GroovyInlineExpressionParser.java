@@ -51,6 +51,8 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private String inlineExpression;
     
+    private volatile Closure<?> closure;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
@@ -88,12 +90,21 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
-        Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
+        Closure<?> result = getClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
         return result.call().toString();
     }
     
+    private Closure<?> getClosure() {
+        Closure<?> result = closure;
+        if (null == result) {
+            result = (Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}");
+            closure = result;
+        }
+        return result;
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
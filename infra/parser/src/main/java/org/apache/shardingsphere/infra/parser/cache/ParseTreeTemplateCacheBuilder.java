@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.template.ParseTreeTemplate;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse tree template cache builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeTemplateCacheBuilder {
+    
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10L;
+    
+    /**
+     * Build parse tree template cache.
+     *
+     * @param parseTreeCacheOption parse tree cache option
+     * @return built parse tree template cache, key is SQL shape key, value is parse tree templates of SQL shape
+     */
+    public static Cache<String, Queue<ParseTreeTemplate>> build(final CacheOption parseTreeCacheOption) {
+        return Caffeine.newBuilder().initialCapacity(parseTreeCacheOption.getInitialCapacity()).maximumSize(parseTreeCacheOption.getMaximumSize())
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+    }
+}
@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -44,4 +45,16 @@ public final class SQLStatementCacheBuilder {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
                 .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
     }
+    
+    /**
+     * Build SQL statement cache.
+     *
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param sqlStatementParserExecutor SQL statement parser executor to load missed SQL
+     * @return built SQL statement cache
+     */
+    public static LoadingCache<String, SQLStatement> build(final CacheOption sqlStatementCacheOption, final SQLStatementParserExecutor sqlStatementParserExecutor) {
+        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
+                .build(new SQLStatementCacheLoader(sqlStatementParserExecutor));
+    }
 }
@@ -33,7 +33,11 @@ public final class SQLStatementCacheLoader implements CacheLoader<String, SQLSta
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
+        this(new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, true));
+    }
+    
+    public SQLStatementCacheLoader(final SQLStatementParserExecutor sqlStatementParserExecutor) {
+        this.sqlStatementParserExecutor = sqlStatementParserExecutor;
     }
     
     @ParametersAreNonnullByDefault
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -40,8 +42,8 @@ public final class SQLStatementParserEngine {
     private final CacheOption parseTreeCacheOption;
     
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
-        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, true);
+        sqlStatementCache = SQLStatementCacheBuilder.build(sqlStatementCacheOption, sqlStatementParserExecutor);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
     }
@@ -54,6 +56,14 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (!useCache) {
+            return sqlStatementParserExecutor.parse(sql);
+        }
+        Optional<SQLStatement> result = findCachedSQLStatement(sql);
+        return result.isPresent() ? result.get() : sqlStatementCache.get(sql);
+    }
+    
+    private Optional<SQLStatement> findCachedSQLStatement(final String sql) {
+        return Optional.ofNullable(sqlStatementCache.getIfPresent(sql));
     }
 }
@@ -17,24 +17,50 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.ParseTreeTemplateCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.template.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.core.database.template.SQLShapeKeyBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * SQL statement parser executor.
+ *
+ * <p>
+ * SQLs which only differ in literals share the same SQL shape. If parse tree template is enabled, the parse tree of the first parsed SQL is cached as template of its SQL shape,
+ * and the following SQLs with same shape are lexed only, their tokens are substituted into the template and visited without parsing again.
+ * </p>
  */
 public final class SQLStatementParserExecutor {
     
+    private static final int MAX_TEMPLATE_SIZE_PER_SHAPE = Runtime.getRuntime().availableProcessors();
+    
+    private static final int MAX_TEMPLATE_TOKEN_SIZE = 1024;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLStatementVisitorEngine visitorEngine;
     
+    private final Cache<String, Queue<ParseTreeTemplate>> parseTreeTemplateCache;
+    
     public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
+        this(databaseType, parseTreeCacheOption, false);
+    }
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean parseTreeTemplateEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        parseTreeTemplateCache = parseTreeTemplateEnabled ? ParseTreeTemplateCacheBuilder.build(parseTreeCacheOption) : null;
     }
     
     /**
@@ -44,6 +70,37 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        if (null == parseTreeTemplateCache) {
+            return visitorEngine.visit(parserEngine.parse(sql, false));
+        }
+        CommonTokenStream tokenStream = parserEngine.tokenize(sql);
+        if (tokenStream.size() > MAX_TEMPLATE_TOKEN_SIZE) {
+            return visitorEngine.visit(parserEngine.parse(sql, tokenStream));
+        }
+        Queue<ParseTreeTemplate> templates = parseTreeTemplateCache.get(SQLShapeKeyBuilder.build(tokenStream), unused -> new ConcurrentLinkedQueue<>());
+        Optional<SQLStatement> result = findTemplateSQLStatement(templates, tokenStream);
+        return result.isPresent() ? result.get() : parseAndCreateTemplate(sql, tokenStream, templates);
+    }
+    
+    private Optional<SQLStatement> findTemplateSQLStatement(final Queue<ParseTreeTemplate> templates, final CommonTokenStream tokenStream) {
+        ParseTreeTemplate template = templates.poll();
+        if (null == template) {
+            return Optional.empty();
+        }
+        try {
+            return template.bind(tokenStream).map(visitorEngine::visit);
+        } finally {
+            template.release();
+            templates.offer(template);
+        }
+    }
+    
+    private SQLStatement parseAndCreateTemplate(final String sql, final CommonTokenStream tokenStream, final Queue<ParseTreeTemplate> templates) {
+        ParseASTNode parseASTNode = parserEngine.parse(sql, tokenStream);
+        SQLStatement result = visitorEngine.visit(parseASTNode);
+        if (templates.size() < MAX_TEMPLATE_SIZE_PER_SHAPE) {
+            ParseTreeTemplate.create(parseASTNode).ifPresent(templates::offer);
+        }
+        return result;
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SQLStatementParserEngineTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithoutCacheSkipParsingForSameSQLShape() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        SQLParserEngine parserEngine = mockParserEngine(engine);
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        SelectStatement actual = (SelectStatement) engine.parse("SELECT * FROM t_order WHERE order_id = 10", false);
+        verify(parserEngine, times(2)).tokenize(anyString());
+        verify(parserEngine, times(1)).parse(anyString(), any(CommonTokenStream.class));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) actual.getWhere().get().getExpr()).getRight()).getLiterals(), is(10));
+    }
+    
+    @Test
+    void assertParseWithCacheSharesSQLShapeWithoutCache() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        SQLParserEngine parserEngine = mockParserEngine(engine);
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", false);
+        verify(parserEngine, times(1)).parse(anyString(), any(CommonTokenStream.class));
+    }
+    
+    private SQLParserEngine mockParserEngine(final SQLStatementParserEngine engine) throws ReflectiveOperationException {
+        SQLStatementParserExecutor executor = (SQLStatementParserExecutor) Plugins.getMemberAccessor().get(SQLStatementParserEngine.class.getDeclaredField("sqlStatementParserExecutor"), engine);
+        SQLParserEngine result = spy((SQLParserEngine) Plugins.getMemberAccessor().get(SQLStatementParserExecutor.class.getDeclaredField("parserEngine"), executor));
+        Plugins.getMemberAccessor().set(SQLStatementParserExecutor.class.getDeclaredField("parserEngine"), executor, result);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.template.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Collections;
+import java.util.Queue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SQLStatementParserExecutorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithSameSQLShape() throws ReflectiveOperationException {
+        SQLStatementParserExecutor executor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L), true);
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'");
+        String sql = "/* comment */ SELECT * FROM t_order WHERE order_id = 1000001 AND status = 'FINISHED'";
+        SQLStatement actual = executor.parse(sql);
+        assertSameSelectStatement(actual, new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L)).parse(sql));
+        assertThat(((AbstractSQLStatement) actual).getCommentSegments().size(), is(1));
+        Cache<String, Queue<ParseTreeTemplate>> templateCache = getParseTreeTemplateCache(executor);
+        assertThat(templateCache.estimatedSize(), is(1L));
+        assertThat(templateCache.asMap().values().iterator().next().size(), is(1));
+    }
+    
+    @Test
+    void assertParseWithDifferentSQLShapes() throws ReflectiveOperationException {
+        SQLStatementParserExecutor executor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L), true);
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        executor.parse("SELECT * FROM t_order WHERE order_id = 'foo'");
+        executor.parse("SELECT * FROM t_order_item WHERE order_id = 1");
+        assertThat(getParseTreeTemplateCache(executor).estimatedSize(), is(3L));
+    }
+    
+    @Test
+    void assertParseRepeatedlyWithSameSQLShape() {
+        SQLStatementParserExecutor executor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L), true);
+        SQLStatementParserExecutor expectedExecutor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L));
+        for (int i = 0; i < 10; i++) {
+            String sql = String.format("SELECT * FROM t_order WHERE order_id = %d AND status = '%s'", i * 997, String.join("", Collections.nCopies(i, "x")));
+            assertSameSelectStatement(executor.parse(sql), expectedExecutor.parse(sql));
+        }
+    }
+    
+    @Test
+    void assertParseWithoutParseTreeTemplate() throws ReflectiveOperationException {
+        SQLStatementParserExecutor executor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L));
+        assertThat(executor.parse("SELECT * FROM t_order WHERE order_id = 1"), instanceOf(SelectStatement.class));
+        assertNull(getParseTreeTemplateCache(executor));
+    }
+    
+    private void assertSameSelectStatement(final SQLStatement actual, final SQLStatement expected) {
+        BinaryOperationExpression actualExpression = (BinaryOperationExpression) ((SelectStatement) actual).getWhere().get().getExpr();
+        BinaryOperationExpression expectedExpression = (BinaryOperationExpression) ((SelectStatement) expected).getWhere().get().getExpr();
+        assertThat(actualExpression.getText(), is(expectedExpression.getText()));
+        assertThat(actualExpression.getStartIndex(), is(expectedExpression.getStartIndex()));
+        assertThat(actualExpression.getStopIndex(), is(expectedExpression.getStopIndex()));
+        assertSameLiteral((BinaryOperationExpression) actualExpression.getLeft(), (BinaryOperationExpression) expectedExpression.getLeft());
+        assertSameLiteral((BinaryOperationExpression) actualExpression.getRight(), (BinaryOperationExpression) expectedExpression.getRight());
+    }
+    
+    private void assertSameLiteral(final BinaryOperationExpression actual, final BinaryOperationExpression expected) {
+        LiteralExpressionSegment actualLiteral = (LiteralExpressionSegment) actual.getRight();
+        LiteralExpressionSegment expectedLiteral = (LiteralExpressionSegment) expected.getRight();
+        assertThat(actualLiteral.getLiterals(), is(expectedLiteral.getLiterals()));
+        assertThat(actualLiteral.getStartIndex(), is(expectedLiteral.getStartIndex()));
+        assertThat(actualLiteral.getStopIndex(), is(expectedLiteral.getStopIndex()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Cache<String, Queue<ParseTreeTemplate>> getParseTreeTemplateCache(final SQLStatementParserExecutor executor) throws ReflectiveOperationException {
+        return (Cache<String, Queue<ParseTreeTemplate>>) Plugins.getMemberAccessor().get(SQLStatementParserExecutor.class.getDeclaredField("parseTreeTemplateCache"), executor);
+    }
+}
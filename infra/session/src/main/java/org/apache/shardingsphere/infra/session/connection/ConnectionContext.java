@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadYourWritesConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
@@ -47,6 +48,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final ReadYourWritesConnectionContext readYourWritesContext = new ReadYourWritesConnectionContext();
+    
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.consistency;
+
+import java.util.OptionalLong;
+
+/**
+ * Read your writes connection context.
+ */
+public final class ReadYourWritesConnectionContext {
+    
+    private volatile boolean writePending;
+    
+    private volatile boolean writeFinished;
+    
+    private volatile long writeFinishedNanos;
+    
+    /**
+     * Mark write routed.
+     */
+    public void markWriteRouted() {
+        writePending = true;
+    }
+    
+    /**
+     * Find time which data sources should have caught up with to make writes of current connection visible.
+     *
+     * <p>Statements of a connection are routed and executed one by one, so the pending write has finished before the next statement is routed.</p>
+     *
+     * @return time in nanoseconds, empty if no write has been routed or the writes are visible on all data sources
+     */
+    public OptionalLong findWriteFinishedNanos() {
+        if (writePending) {
+            writeFinishedNanos = System.nanoTime();
+            writeFinished = true;
+            writePending = false;
+        }
+        return writeFinished ? OptionalLong.of(writeFinishedNanos) : OptionalLong.empty();
+    }
+    
+    /**
+     * Mark writes visible on all data sources.
+     *
+     * <p>Writes finished after the given time or routed but not finished yet are still tracked.</p>
+     *
+     * @param caughtUpNanos time in nanoseconds which all data sources have caught up with
+     */
+    public void markWritesVisible(final long caughtUpNanos) {
+        if (!writePending && writeFinished && caughtUpNanos - writeFinishedNanos >= 0L) {
+            writeFinished = false;
+        }
+    }
+}
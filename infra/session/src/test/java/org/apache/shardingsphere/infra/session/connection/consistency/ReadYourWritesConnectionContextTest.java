@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.consistency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesConnectionContextTest {
+    
+    private final ReadYourWritesConnectionContext readYourWritesConnectionContext = new ReadYourWritesConnectionContext();
+    
+    @Test
+    void assertFindWriteFinishedNanosWithoutWrite() {
+        assertFalse(readYourWritesConnectionContext.findWriteFinishedNanos().isPresent());
+    }
+    
+    @Test
+    void assertFindWriteFinishedNanosAfterWrite() {
+        long beforeWriteNanos = System.nanoTime();
+        readYourWritesConnectionContext.markWriteRouted();
+        OptionalLong actual = readYourWritesConnectionContext.findWriteFinishedNanos();
+        assertTrue(actual.isPresent());
+        assertTrue(actual.getAsLong() - beforeWriteNanos >= 0L);
+        assertThat(readYourWritesConnectionContext.findWriteFinishedNanos(), is(actual));
+    }
+    
+    @Test
+    void assertMarkWritesVisible() {
+        readYourWritesConnectionContext.markWriteRouted();
+        long writeFinishedNanos = readYourWritesConnectionContext.findWriteFinishedNanos().getAsLong();
+        readYourWritesConnectionContext.markWritesVisible(writeFinishedNanos - 1L);
+        assertTrue(readYourWritesConnectionContext.findWriteFinishedNanos().isPresent());
+        readYourWritesConnectionContext.markWritesVisible(writeFinishedNanos);
+        assertFalse(readYourWritesConnectionContext.findWriteFinishedNanos().isPresent());
+    }
+    
+    @Test
+    void assertMarkWritesVisibleWithPendingWrite() {
+        readYourWritesConnectionContext.markWriteRouted();
+        long writeFinishedNanos = readYourWritesConnectionContext.findWriteFinishedNanos().getAsLong();
+        readYourWritesConnectionContext.markWriteRouted();
+        readYourWritesConnectionContext.markWritesVisible(writeFinishedNanos);
+        assertTrue(readYourWritesConnectionContext.findWriteFinishedNanos().isPresent());
+    }
+    
+    @Test
+    void assertFindWriteFinishedNanosAfterAnotherWrite() {
+        readYourWritesConnectionContext.markWriteRouted();
+        long firstWriteFinishedNanos = readYourWritesConnectionContext.findWriteFinishedNanos().getAsLong();
+        readYourWritesConnectionContext.markWriteRouted();
+        assertTrue(readYourWritesConnectionContext.findWriteFinishedNanos().getAsLong() - firstWriteFinishedNanos >= 0L);
+    }
+}
@@ -400,6 +400,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     protected void closeExecutor() throws SQLException {
-        driverExecutorFacade.close();
+        try {
+            if (null != currentResultSet) {
+                currentResultSet.close();
+            }
+        } finally {
+            driverExecutorFacade.close();
+        }
     }
 }
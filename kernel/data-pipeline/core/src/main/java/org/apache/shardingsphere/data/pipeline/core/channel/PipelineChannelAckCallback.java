@@ -33,4 +33,12 @@ public interface PipelineChannelAckCallback {
      * @param records acknowledged records
      */
     void onAck(List<Record> records);
+    
+    /**
+     * Call after records acknowledged, if channel reports its progress.
+     *
+     * @param channelProgress channel progress
+     */
+    default void onProgress(final PipelineChannelProgress channelProgress) {
+    }
 }
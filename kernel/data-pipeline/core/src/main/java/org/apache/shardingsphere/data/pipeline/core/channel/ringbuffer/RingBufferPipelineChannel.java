@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelProgress;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread, consumer claims published slots up to batch size and releases them with one sequence update.</p>
+ * <p>Occupancy and producer wait are reported to ack callback on every ack.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final AtomicReferenceArray<List<Record>> buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final LongAdder producerWaitCount = new LongAdder();
+    
+    private final LongAdder producerWaitNanos = new LongAdder();
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        buffer = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long sequence = producerSequence.get();
+        if (sequence - consumerSequence.get() > mask) {
+            long startNanos = System.nanoTime();
+            producerWaitCount.increment();
+            try {
+                waitForFreeSlot(sequence);
+            } finally {
+                producerWaitNanos.add(System.nanoTime() - startNanos);
+            }
+        }
+        buffer.lazySet((int) sequence & mask, records);
+        producerSequence.lazySet(sequence + 1L);
+    }
+    
+    private void waitForFreeSlot(final long sequence) throws InterruptedException {
+        while (sequence - consumerSequence.get() > mask) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.await();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        boolean completed = drainTo(result, batchSize);
+        while (!completed && !waitOrTimeout(deadlineNanos)) {
+            completed = drainTo(result, batchSize);
+        }
+        return result;
+    }
+    
+    private boolean drainTo(final List<Record> result, final int batchSize) {
+        long consumed = consumerSequence.get();
+        long published = producerSequence.get();
+        long claimed = consumed;
+        boolean completed = result.size() >= batchSize;
+        while (!completed && claimed < published) {
+            int index = (int) claimed & mask;
+            List<Record> records = buffer.get(index);
+            if (!result.isEmpty() && result.size() + records.size() > batchSize) {
+                completed = true;
+                break;
+            }
+            result.addAll(records);
+            buffer.lazySet(index, null);
+            claimed++;
+            completed = result.size() >= batchSize;
+        }
+        if (claimed > consumed) {
+            consumerSequence.lazySet(claimed);
+        }
+        return completed;
+    }
+    
+    private boolean waitOrTimeout(final long deadlineNanos) throws InterruptedException {
+        if (System.nanoTime() - deadlineNanos >= 0L) {
+            return true;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        waitStrategy.await();
+        return false;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long sequence = consumerSequence.get();
+        return sequence < producerSequence.get() ? buffer.get((int) sequence & mask) : Collections.emptyList();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long sequence = consumerSequence.get();
+        if (sequence >= producerSequence.get()) {
+            return Collections.emptyList();
+        }
+        int index = (int) sequence & mask;
+        List<Record> result = buffer.get(index);
+        buffer.lazySet(index, null);
+        consumerSequence.lazySet(sequence + 1L);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+        ackCallback.onProgress(new PipelineChannelProgress(getOccupancy(), getProducerWaitCount(), getProducerWaitMillis()));
+    }
+    
+    int getCapacity() {
+        return mask + 1;
+    }
+    
+    /**
+     * Get occupancy.
+     *
+     * @return count of published but not consumed slots
+     */
+    public int getOccupancy() {
+        return (int) (producerSequence.get() - consumerSequence.get());
+    }
+    
+    /**
+     * Get producer wait count, which is how many pushes are blocked by a full ring buffer.
+     *
+     * @return producer wait count
+     */
+    public long getProducerWaitCount() {
+        return producerWaitCount.sum();
+    }
+    
+    /**
+     * Get producer wait time in milliseconds.
+     *
+     * @return producer wait time in milliseconds
+     */
+    public long getProducerWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerWaitNanos.sum());
+    }
+}
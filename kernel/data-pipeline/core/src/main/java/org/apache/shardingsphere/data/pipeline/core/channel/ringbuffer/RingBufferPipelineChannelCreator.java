@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+
+import java.util.Properties;
+
+/**
+ * Pipeline channel creator of ring buffer.
+ */
+public final class RingBufferPipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String BUFFER_SIZE_KEY = "buffer-size";
+    
+    private static final String BUFFER_SIZE_DEFAULT_VALUE = "2000";
+    
+    private static final String WAIT_STRATEGY_KEY = "wait-strategy";
+    
+    private static final String WAIT_STRATEGY_DEFAULT_VALUE = RingBufferWaitStrategy.PARK.name();
+    
+    private int bufferSize;
+    
+    private RingBufferWaitStrategy waitStrategy;
+    
+    @Override
+    public void init(final Properties props) {
+        bufferSize = Integer.parseInt(props.getProperty(BUFFER_SIZE_KEY, BUFFER_SIZE_DEFAULT_VALUE));
+        waitStrategy = RingBufferWaitStrategy.valueOf(props.getProperty(WAIT_STRATEGY_KEY, WAIT_STRATEGY_DEFAULT_VALUE).trim().toUpperCase());
+    }
+    
+    @Override
+    public PipelineChannel newInstance(final int importerBatchSize, final PipelineChannelAckCallback ackCallback) {
+        return new RingBufferPipelineChannel(bufferSize / importerBatchSize, waitStrategy, ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return "RING_BUFFER";
+    }
+}
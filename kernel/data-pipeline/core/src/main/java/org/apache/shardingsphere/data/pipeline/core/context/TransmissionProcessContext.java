@@ -50,6 +50,8 @@ public final class TransmissionProcessContext implements PipelineProcessContext
     
     private final PipelineLazyInitializer<PipelineExecuteEngine> incrementalExecuteEngineLazyInitializer;
     
+    private final PipelineLazyInitializer<PipelineExecuteEngine> sinkLaneExecuteEngineLazyInitializer;
+    
     public TransmissionProcessContext(final String jobId, final PipelineProcessConfiguration originalProcessConfig) {
         processConfiguration = PipelineProcessConfigurationUtils.fillInDefaultValue(originalProcessConfig);
         PipelineReadConfiguration readConfig = processConfiguration.getRead();
@@ -79,6 +81,13 @@ public final class TransmissionProcessContext implements PipelineProcessContext
                 return PipelineExecuteEngine.newCachedThreadInstance("Incremental-" + jobId);
             }
         };
+        sinkLaneExecuteEngineLazyInitializer = new PipelineLazyInitializer<PipelineExecuteEngine>() {
+            
+            @Override
+            protected PipelineExecuteEngine doInitialize() {
+                return PipelineExecuteEngine.newCachedThreadInstance("SinkLane-" + jobId);
+            }
+        };
     }
     
     /**
@@ -111,11 +120,22 @@ public final class TransmissionProcessContext implements PipelineProcessContext
         return incrementalExecuteEngineLazyInitializer.get();
     }
     
+    /**
+     * Get sink lane execute engine.
+     *
+     * @return sink lane execute engine
+     */
+    @SneakyThrows(ConcurrentException.class)
+    public PipelineExecuteEngine getSinkLaneExecuteEngine() {
+        return sinkLaneExecuteEngineLazyInitializer.get();
+    }
+    
     @Override
     public void close() throws Exception {
         shutdownExecuteEngine(inventoryDumperExecuteEngineLazyInitializer);
         shutdownExecuteEngine(inventoryImporterExecuteEngineLazyInitializer);
         shutdownExecuteEngine(incrementalExecuteEngineLazyInitializer);
+        shutdownExecuteEngine(sinkLaneExecuteEngineLazyInitializer);
     }
     
     private void shutdownExecuteEngine(final PipelineLazyInitializer<PipelineExecuteEngine> lazyInitializer) throws ConcurrentException {
@@ -97,6 +97,16 @@ public final class PipelineExecuteEngine {
         }, CALLBACK_EXECUTOR);
     }
     
+    /**
+     * Submit a runnable to execute.
+     *
+     * @param runnable runnable
+     * @return execute future
+     */
+    public CompletableFuture<?> submit(final Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, executorService);
+    }
+    
     /**
      * Shutdown.
      */
@@ -59,6 +59,8 @@ public final class ImporterConfiguration {
     
     private final int concurrency;
     
+    private final int sinkLaneCount;
+    
     /**
      * Get sharding columns.
      *
@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
@@ -31,6 +32,8 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.RecordUtils;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.DataRecordGroupEngine;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
@@ -40,20 +43,34 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Pipeline data source sink.
+ *
+ * <p>If sink lane count is configured greater than 1 and a lane execute engine is provided, merged data records are partitioned by unique key hash into parallel writer lanes,
+ * records with the same unique key are always written by the same lane, and writing returns after all lanes finished.
+ * Tables with more than one unique key are always written in a single lane, because rows in different lanes may conflict on the other unique keys.</p>
+ *
+ * <p>Inserted records are written by multi-row insert statements if the dialect supports them, otherwise by JDBC batch of single-row insert statements.</p>
  */
 @HighFrequencyInvocation
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MAX_INSERT_PARAMETER_COUNT = 32767;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -62,14 +79,32 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
-    private final AtomicReference<PreparedStatement> runningStatement;
+    private final Map<Thread, PreparedStatement> runningStatements;
+    
+    private final List<PipelineSinkLaneStatistics> laneStatistics;
+    
+    private final PipelineExecuteEngine laneExecuteEngine;
+    
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
+    private final Map<String, Boolean> laneWritableTables;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, null, null);
+    }
+    
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager,
+                                  final PipelineExecuteEngine laneExecuteEngine, final PipelineTableMetaDataLoader metaDataLoader) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
-        runningStatement = new AtomicReference<>();
+        runningStatements = new ConcurrentHashMap<>();
+        int laneCount = null == laneExecuteEngine || null == metaDataLoader ? 1 : Math.max(1, importerConfig.getSinkLaneCount());
+        laneStatistics = IntStream.range(0, laneCount).mapToObj(PipelineSinkLaneStatistics::new).collect(Collectors.toList());
+        this.laneExecuteEngine = laneExecuteEngine;
+        this.metaDataLoader = metaDataLoader;
+        laneWritableTables = new ConcurrentHashMap<>();
     }
     
     @Override
@@ -78,23 +113,82 @@ public final class PipelineDataSourceSink implements PipelineSink {
         if (dataRecords.isEmpty()) {
             return new PipelineJobUpdateProgress(0);
         }
-        for (GroupedDataRecord each : groupEngine.group(dataRecords)) {
-            batchWrite(each.getDeleteDataRecords());
-            batchWrite(each.getInsertDataRecords());
-            batchWrite(each.getUpdateDataRecords());
+        if (laneStatistics.size() > 1 && isLaneWritable(dataRecords)) {
+            writeInLanes(groupEngine.merge(dataRecords));
+        } else {
+            write(groupEngine.group(dataRecords), laneStatistics.get(0));
         }
         return new PipelineJobUpdateProgress((int) dataRecords.stream().filter(each -> PipelineSQLOperationType.INSERT == each.getType()).count());
     }
     
+    private void write(final List<GroupedDataRecord> groupedDataRecords, final PipelineSinkLaneStatistics statistics) {
+        for (GroupedDataRecord each : groupedDataRecords) {
+            batchWrite(each.getDeleteDataRecords(), statistics);
+            batchWrite(each.getInsertDataRecords(), statistics);
+            batchWrite(each.getUpdateDataRecords(), statistics);
+        }
+    }
+    
+    private boolean isLaneWritable(final List<DataRecord> dataRecords) {
+        if (dataRecords.stream().anyMatch(each -> each.getUniqueKeyValue().isEmpty())) {
+            return false;
+        }
+        return dataRecords.stream().map(DataRecord::getTableName).distinct().allMatch(each -> laneWritableTables.computeIfAbsent(each, this::hasSingleUniqueKey));
+    }
+    
+    private boolean hasSingleUniqueKey(final String tableName) {
+        PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(importerConfig.findSchemaName(tableName).orElse(null), tableName);
+        return null != tableMetaData && tableMetaData.getUniqueIndexes().size() <= 1;
+    }
+    
+    private void writeInLanes(final List<DataRecord> mergedDataRecords) {
+        List<List<DataRecord>> laneDataRecords = IntStream.range(0, laneStatistics.size()).mapToObj(each -> new LinkedList<DataRecord>()).collect(Collectors.toList());
+        for (DataRecord each : mergedDataRecords) {
+            DataRecord.Key key = PipelineSQLOperationType.DELETE == each.getType() ? each.getOldKey() : each.getKey();
+            laneDataRecords.get(Math.floorMod(key.hashCode(), laneDataRecords.size())).add(each);
+        }
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < laneDataRecords.size(); i++) {
+            if (!laneDataRecords.get(i).isEmpty()) {
+                List<DataRecord> dataRecords = laneDataRecords.get(i);
+                PipelineSinkLaneStatistics statistics = laneStatistics.get(i);
+                futures.add(laneExecuteEngine.submit(() -> write(groupEngine.groupMerged(dataRecords), statistics)));
+            }
+        }
+        waitLanesFinished(futures);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitLanesFinished(final Collection<Future<?>> futures) {
+        RuntimeException failure = null;
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final ExecutionException ex) {
+                if (null == failure) {
+                    failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineImporterJobWriteException(ex);
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
     @SuppressWarnings("BusyWait")
     @SneakyThrows(InterruptedException.class)
-    private void batchWrite(final Collection<DataRecord> records) {
+    private void batchWrite(final Collection<DataRecord> records, final PipelineSinkLaneStatistics statistics) {
         if (records.isEmpty()) {
             return;
         }
         for (int i = 0; !Thread.interrupted() && i <= importerConfig.getRetryTimes(); i++) {
             try {
+                long startNanos = System.nanoTime();
                 doWrite(records, 0 == i);
+                statistics.recordBatch(records.size(), System.nanoTime() - startNanos);
+                if (log.isDebugEnabled()) {
+                    log.debug("Pipeline sink batch written, {}", statistics);
+                }
                 break;
             } catch (final SQLException ex) {
                 log.error("Flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -126,46 +220,83 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
-        DataRecord dataRecord = dataRecords.iterator().next();
-        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+        try (Connection connection = dataSource.getConnection()) {
             if (firstTimeRun) {
-                executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
+                executeBatchInsertFirstTime(connection, dataRecords);
             } else {
-                retryBatchInsert(preparedStatement, dataRecords);
+                retryBatchInsert(connection, dataRecords);
             }
-        } finally {
-            runningStatement.set(null);
         }
     }
     
-    private void executeBatchInsertFirstTime(final Connection connection, final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchInsertFirstTime(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
         boolean transactionEnabled = dataRecords.size() > 1;
         if (transactionEnabled) {
             connection.setAutoCommit(false);
         }
-        preparedStatement.setQueryTimeout(30);
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+        if (importSQLBuilder.isMultiRowInsertSupported()) {
+            List<DataRecord> records = new ArrayList<>(dataRecords);
+            int rowsPerStatement = Math.max(1, Math.min(records.size(), MAX_INSERT_PARAMETER_COUNT / Math.max(1, records.get(0).getColumnCount())));
+            for (int i = 0; i < records.size(); i += rowsPerStatement) {
+                executeMultiRowInsert(connection, records.subList(i, Math.min(records.size(), i + rowsPerStatement)));
             }
-            preparedStatement.addBatch();
+        } else {
+            executeSingleRowBatchInsert(connection, dataRecords);
         }
-        preparedStatement.executeBatch();
         if (transactionEnabled) {
             connection.commit();
         }
     }
     
-    private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.get(0);
+        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, dataRecords.size());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
             }
             preparedStatement.executeUpdate();
+        } finally {
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
+    private void executeSingleRowBatchInsert(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        } finally {
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
+    private void retryBatchInsert(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.executeUpdate();
+            }
+        } finally {
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -190,7 +321,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             for (int i = 0; i < setColumns.size(); i++) {
                 preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
             }
@@ -214,7 +345,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
             throw ex;
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -236,7 +367,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
@@ -251,12 +382,13 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
             preparedStatement.executeBatch();
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
     @Override
     public void close() {
-        Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+        runningStatements.values().forEach(PipelineJdbcUtils::cancelStatement);
+        laneStatistics.stream().filter(each -> each.getBatches() > 0L).forEach(each -> log.info("Pipeline sink lane closed, {}", each));
     }
 }
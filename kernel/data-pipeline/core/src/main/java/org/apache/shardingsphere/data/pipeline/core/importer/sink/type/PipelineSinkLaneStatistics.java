@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipeline sink lane statistics.
+ */
+@RequiredArgsConstructor
+final class PipelineSinkLaneStatistics {
+    
+    @Getter
+    private final int laneIndex;
+    
+    private final long startNanos = System.nanoTime();
+    
+    private final LongAdder rows = new LongAdder();
+    
+    private final AtomicLong batches = new AtomicLong();
+    
+    private final LongAdder totalBatchNanos = new LongAdder();
+    
+    private final LongAccumulator maxBatchNanos = new LongAccumulator(Math::max, 0L);
+    
+    /**
+     * Record written batch.
+     *
+     * @param rowCount row count of batch
+     * @param batchNanos elapsed nanos of batch
+     */
+    void recordBatch(final int rowCount, final long batchNanos) {
+        rows.add(rowCount);
+        batches.incrementAndGet();
+        totalBatchNanos.add(batchNanos);
+        maxBatchNanos.accumulate(batchNanos);
+    }
+    
+    /**
+     * Get written rows.
+     *
+     * @return written rows
+     */
+    long getRows() {
+        return rows.sum();
+    }
+    
+    /**
+     * Get written batches.
+     *
+     * @return written batches
+     */
+    long getBatches() {
+        return batches.get();
+    }
+    
+    /**
+     * Get rows per second since lane started.
+     *
+     * @return rows per second
+     */
+    long getRowsPerSecond() {
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return getRows() * 1000L / elapsedMillis;
+    }
+    
+    /**
+     * Get average batch latency in milliseconds.
+     *
+     * @return average batch latency in milliseconds
+     */
+    long getAverageBatchLatencyMillis() {
+        long batchCount = getBatches();
+        return 0L == batchCount ? 0L : TimeUnit.NANOSECONDS.toMillis(totalBatchNanos.sum() / batchCount);
+    }
+    
+    /**
+     * Get max batch latency in milliseconds.
+     *
+     * @return max batch latency in milliseconds
+     */
+    long getMaxBatchLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxBatchNanos.get());
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("lane=%d, rows=%d, batches=%d, rows/s=%d, avg batch latency=%dms, max batch latency=%dms",
+                laneIndex, getRows(), getBatches(), getRowsPerSecond(), getAverageBatchLatencyMillis(), getMaxBatchLatencyMillis());
+    }
+}
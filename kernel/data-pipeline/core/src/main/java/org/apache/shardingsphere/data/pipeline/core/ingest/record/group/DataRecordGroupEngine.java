@@ -76,8 +76,17 @@ public final class DataRecordGroupEngine {
      * @return grouped data records
      */
     public List<GroupedDataRecord> group(final List<DataRecord> dataRecords) {
+        return groupMerged(dataRecords.get(0).getUniqueKeyValue().isEmpty() ? dataRecords : merge(dataRecords));
+    }
+    
+    /**
+     * Group merged data records by table and type.
+     *
+     * @param mergedDataRecords merged data records
+     * @return grouped data records
+     */
+    public List<GroupedDataRecord> groupMerged(final List<DataRecord> mergedDataRecords) {
         List<GroupedDataRecord> result = new ArrayList<>(100);
-        List<DataRecord> mergedDataRecords = dataRecords.get(0).getUniqueKeyValue().isEmpty() ? dataRecords : merge(dataRecords);
         Map<String, List<DataRecord>> tableGroup = mergedDataRecords.stream().collect(Collectors.groupingBy(DataRecord::getTableName));
         for (Entry<String, List<DataRecord>> entry : tableGroup.entrySet()) {
             Map<PipelineSQLOperationType, List<DataRecord>> typeGroup = entry.getValue().stream().collect(Collectors.groupingBy(DataRecord::getType));
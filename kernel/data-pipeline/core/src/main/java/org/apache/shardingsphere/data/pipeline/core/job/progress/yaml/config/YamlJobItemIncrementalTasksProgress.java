@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.config;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelProgress;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskDelay;
 
 /**
@@ -31,4 +32,6 @@ public final class YamlJobItemIncrementalTasksProgress {
     private String position;
     
     private IncrementalTaskDelay delay;
+    
+    private PipelineChannelProgress channel;
 }
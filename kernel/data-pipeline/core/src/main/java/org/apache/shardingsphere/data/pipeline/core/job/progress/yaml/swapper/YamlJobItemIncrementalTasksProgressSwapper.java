@@ -47,6 +47,7 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         YamlJobItemIncrementalTasksProgress result = new YamlJobItemIncrementalTasksProgress();
         result.setPosition(progress.getIncrementalTaskProgress().getPosition().toString());
         result.setDelay(progress.getIncrementalTaskProgress().getIncrementalTaskDelay());
+        result.setChannel(progress.getIncrementalTaskProgress().getChannelProgress());
         return result;
     }
     
@@ -64,6 +65,9 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         DialectIncrementalPositionManager positionInitializer = DatabaseTypedSPILoader.getService(DialectIncrementalPositionManager.class, TypedSPILoader.getService(DatabaseType.class, databaseType));
         IncrementalTaskProgress taskProgress = new IncrementalTaskProgress(positionInitializer.init(yamlProgress.getPosition()));
         taskProgress.setIncrementalTaskDelay(yamlProgress.getDelay());
+        if (null != yamlProgress.getChannel()) {
+            taskProgress.setChannelProgress(yamlProgress.getChannel());
+        }
         return new JobItemIncrementalTasksProgress(taskProgress);
     }
 }
@@ -52,6 +52,15 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Judge whether multi-row values clause of insert SQL is supported.
+     *
+     * @return supported or not
+     */
+    default boolean isMultiRowInsertSupported() {
+        return false;
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -54,6 +55,15 @@ public final class PipelineImportSQLBuilder {
         sqlCache = Caffeine.newBuilder().initialCapacity(16).maximumSize(1024L).build();
     }
     
+    /**
+     * Judge whether multi-row insert SQL is supported.
+     *
+     * @return supported or not
+     */
+    public boolean isMultiRowInsertSupported() {
+        return dialectSQLBuilder.isMultiRowInsertSupported();
+    }
+    
     /**
      * Build insert SQL.
      *
@@ -69,15 +79,32 @@ public final class PipelineImportSQLBuilder {
         return sqlCache.getIfPresent(sqlCacheKey);
     }
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values clause
+     * @return multi-row insert SQL
+     */
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        if (1 == rowCount) {
+            return buildInsertSQL(schemaName, dataRecord);
+        }
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, rowCount);
+        return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
+    }
+    
     private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord) {
-        String insertMainClause = buildInsertMainClause(schemaName, dataRecord);
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, 1);
         return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
     }
     
-    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        String valuesLiteral = "(" + dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",")) + ")";
+        return String.format("INSERT INTO %s(%s) VALUES%s", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral,
+                String.join(",", Collections.nCopies(rowCount, valuesLiteral)));
     }
     
     /**
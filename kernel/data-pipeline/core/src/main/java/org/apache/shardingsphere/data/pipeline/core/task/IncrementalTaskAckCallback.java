@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelProgress;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskProgress;
@@ -42,4 +43,9 @@ public final class IncrementalTaskAckCallback implements PipelineChannelAckCallb
         }
         progress.getIncrementalTaskDelay().setLatestActiveTimeMillis(System.currentTimeMillis());
     }
+    
+    @Override
+    public void onProgress(final PipelineChannelProgress channelProgress) {
+        progress.setChannelProgress(channelProgress);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.task.progress;
 
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelProgress;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 
 import java.util.concurrent.atomic.AtomicReference;
@@ -30,9 +31,12 @@ public final class IncrementalTaskProgress implements TaskProgress {
     
     private final AtomicReference<IncrementalTaskDelay> incrementalTaskDelay = new AtomicReference<>();
     
+    private final AtomicReference<PipelineChannelProgress> channelProgress = new AtomicReference<>();
+    
     public IncrementalTaskProgress(final IngestPosition position) {
         this.position.set(position);
         incrementalTaskDelay.set(new IncrementalTaskDelay());
+        channelProgress.set(new PipelineChannelProgress());
     }
     
     @Override
@@ -66,4 +70,22 @@ public final class IncrementalTaskProgress implements TaskProgress {
     public void setIncrementalTaskDelay(final IncrementalTaskDelay incrementalTaskDelay) {
         this.incrementalTaskDelay.set(incrementalTaskDelay);
     }
+    
+    /**
+     * Get channel progress.
+     *
+     * @return channel progress
+     */
+    public PipelineChannelProgress getChannelProgress() {
+        return channelProgress.get();
+    }
+    
+    /**
+     * Set channel progress.
+     *
+     * @param channelProgress channel progress
+     */
+    public void setChannelProgress(final PipelineChannelProgress channelProgress) {
+        this.channelProgress.set(channelProgress);
+    }
 }
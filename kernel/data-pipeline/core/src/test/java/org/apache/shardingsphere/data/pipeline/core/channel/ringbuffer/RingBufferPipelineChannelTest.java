@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.getOccupancy(), is(1));
+        assertThat(channel.fetch(10, 0L), is(records));
+        assertThat(channel.getOccupancy(), is(0));
+    }
+    
+    @Test
+    void assertFetchInBatch() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            List<Record> records = createRecords(2);
+            channel.push(records);
+            expected.addAll(records);
+        }
+        assertThat(channel.fetch(6, 1000L), is(expected));
+    }
+    
+    @Test
+    void assertFetchWithBatchSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(8, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> first = createRecords(2);
+        List<Record> second = createRecords(2);
+        List<Record> third = createRecords(2);
+        channel.push(first);
+        channel.push(second);
+        channel.push(third);
+        List<Record> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertThat(channel.fetch(5, 1000L), is(expected));
+        assertThat(channel.fetch(5, 0L), is(third));
+    }
+    
+    @Test
+    void assertFetchTimeoutWithoutRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPushWithBackpressure() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, RingBufferWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                channel.push(createRecords(1));
+            }
+        });
+        producer.start();
+        while (expected.size() < 100) {
+            expected.addAll(channel.fetch(100, 100L));
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(expected.size(), is(100));
+        assertThat(channel.getCapacity(), is(2));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPushWaitForFullRingBuffer() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(createRecords(1));
+        channel.push(createRecords(1));
+        assertThat(channel.getProducerWaitCount(), is(0L));
+        Thread producer = new Thread(() -> channel.push(createRecords(1)));
+        producer.start();
+        while (0L == channel.getProducerWaitCount()) {
+            Thread.yield();
+        }
+        assertThat(channel.getOccupancy(), is(2));
+        assertThat(channel.fetch(1, 0L).size(), is(1));
+        producer.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(channel.getProducerWaitCount(), is(1L));
+        assertThat(channel.getOccupancy(), is(2));
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = createRecords(1);
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SPIN, callback);
+        channel.push(records);
+        channel.ack(records);
+        verify(callback).onAck(records);
+        verify(callback).onProgress(argThat(optional -> 1 == optional.getOccupancy() && 0L == optional.getProducerWaitCount()));
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new PlaceholderRecord(new IngestFinishedPosition());
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -47,6 +47,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getWorkerThread(), is(20));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
+        assertThat(actual.getWrite().getSinkLaneCount(), is(1));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
@@ -79,7 +80,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
         PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
-                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
+                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))), 4);
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
         YamlPipelineProcessConfiguration actual = new YamlPipelineProcessConfigurationSwapper().swapToYamlConfiguration(config);
@@ -92,6 +93,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
+        assertThat(actual.getWrite().getSinkLaneCount(), is(4));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
@@ -32,6 +32,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class PipelineImportSQLBuilderTest {
     
@@ -43,6 +44,23 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertIsMultiRowInsertSupported() {
+        assertFalse(sqlBuilder.isMultiRowInsertSupported());
+    }
+    
+    @Test
+    void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 3);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    void assertBuildMultiRowInsertSQLWithSingleRow() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 1);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.task;
 
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelProgress;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
@@ -63,4 +64,11 @@ class IncrementalTaskAckCallbackTest {
         assertThat(taskProgress.getIncrementalTaskDelay().getLastEventTimestamps(), is(1L));
         assertThat(System.currentTimeMillis() - taskProgress.getIncrementalTaskDelay().getLatestActiveTimeMillis(), lessThan(10000L));
     }
+    
+    @Test
+    void assertOnProgress() {
+        PipelineChannelProgress channelProgress = new PipelineChannelProgress(1, 2L, 3L);
+        callback.onProgress(channelProgress);
+        assertThat(taskProgress.getChannelProgress(), is(channelProgress));
+    }
 }
@@ -49,6 +49,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(result.toString());
     }
     
+    @Override
+    public boolean isMultiRowInsertSupported() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
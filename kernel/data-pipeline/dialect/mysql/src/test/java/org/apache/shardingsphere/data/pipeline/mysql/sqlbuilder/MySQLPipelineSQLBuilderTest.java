@@ -64,6 +64,11 @@ class MySQLPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertIsMultiRowInsertSupported() {
+        assertTrue(sqlBuilder.isMultiRowInsertSupported());
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -69,6 +69,11 @@ class OpenGaussPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertIsMultiRowInsertSupported() {
+        assertTrue(sqlBuilder.isMultiRowInsertSupported());
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.Pipeli
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.persist.PipelineJobProgressPersistService;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
@@ -93,6 +94,19 @@ public final class MigrationJobItemContext implements TransmissionJobItemContext
         }
     };
     
+    private final LazyInitializer<PipelineSink> sinkLazyInitializer = new LazyInitializer<PipelineSink>() {
+        
+        @Override
+        protected PipelineSink initialize() {
+            ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
+            if (importerConfig.getSinkLaneCount() <= 1) {
+                return new PipelineDataSourceSink(importerConfig, dataSourceManager);
+            }
+            PipelineTableMetaDataLoader targetMetaDataLoader = new StandardPipelineTableMetaDataLoader(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()));
+            return new PipelineDataSourceSink(importerConfig, dataSourceManager, jobProcessContext.getSinkLaneExecuteEngine(), targetMetaDataLoader);
+        }
+    };
+    
     public MigrationJobItemContext(final MigrationJobConfiguration jobConfig, final int shardingItem, final TransmissionJobItemProgress initProgress,
                                    final TransmissionProcessContext jobProcessContext, final MigrationTaskConfiguration taskConfig, final PipelineDataSourceManager dataSourceManager) {
         this.jobConfig = jobConfig;
@@ -126,8 +140,9 @@ public final class MigrationJobItemContext implements TransmissionJobItemContext
     }
     
     @Override
+    @SneakyThrows(ConcurrentException.class)
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return sinkLazyInitializer.get();
     }
     
     /**
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Global clock transaction executor.
@@ -47,4 +48,15 @@ public interface GlobalClockTransactionExecutor extends DatabaseTypedSPI {
      * @throws SQLException SQL exception
      */
     void sendCommitTimestamp(Collection<Connection> connections, long globalTimestamp) throws SQLException;
+    
+    /**
+     * Find latest timestamp of storage nodes, which covers commit timestamps sent by other compute nodes.
+     *
+     * @param connections connections
+     * @return latest timestamp of storage nodes
+     * @throws SQLException SQL exception
+     */
+    default Optional<Long> findStorageTimestamp(final Collection<Connection> connections) throws SQLException {
+        return Optional.empty();
+    }
 }
@@ -41,6 +41,8 @@ import java.util.Optional;
  */
 public final class GlobalClockTransactionHook implements TransactionHook<GlobalClockRule> {
     
+    private static final String HYBRID_LOGICAL_CLOCK_TYPE = "HLC";
+    
     private final LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.GLOBAL_LOCK.getLockName());
     
     @Override
@@ -59,9 +61,16 @@ public final class GlobalClockTransactionHook implements TransactionHook<GlobalC
             return;
         }
         Optional<GlobalClockTransactionExecutor> globalClockTransactionExecutor = DatabaseTypedSPILoader.findService(GlobalClockTransactionExecutor.class, databaseType);
-        if (globalClockTransactionExecutor.isPresent()) {
-            globalClockTransactionExecutor.get().sendSnapshotTimestamp(connections, transactionContext.getBeginMills());
+        if (!globalClockTransactionExecutor.isPresent()) {
+            return;
+        }
+        if (isHybridLogicalClock(rule)) {
+            Optional<GlobalClockProvider> globalClockProvider = rule.getGlobalClockProvider();
+            Preconditions.checkState(globalClockProvider.isPresent());
+            mergeStorageTimestamp(globalClockProvider.get(), globalClockTransactionExecutor.get(), connections);
+            transactionContext.setBeginMills(globalClockProvider.get().getCurrentTimestamp());
         }
+        globalClockTransactionExecutor.get().sendSnapshotTimestamp(connections, transactionContext.getBeginMills());
     }
     
     @Override
@@ -93,6 +102,9 @@ public final class GlobalClockTransactionHook implements TransactionHook<GlobalC
             }
             Optional<GlobalClockProvider> globalClockProvider = rule.getGlobalClockProvider();
             Preconditions.checkState(globalClockProvider.isPresent());
+            if (isHybridLogicalClock(rule)) {
+                mergeStorageTimestamp(globalClockProvider.get(), globalClockTransactionExecutor.get(), connections);
+            }
             globalClockTransactionExecutor.get().sendCommitTimestamp(connections, globalClockProvider.get().getCurrentTimestamp());
         }
     }
@@ -112,6 +124,15 @@ public final class GlobalClockTransactionHook implements TransactionHook<GlobalC
         }
     }
     
+    private boolean isHybridLogicalClock(final GlobalClockRule rule) {
+        return HYBRID_LOGICAL_CLOCK_TYPE.equals(rule.getConfiguration().getType());
+    }
+    
+    private void mergeStorageTimestamp(final GlobalClockProvider globalClockProvider, final GlobalClockTransactionExecutor globalClockTransactionExecutor,
+                                       final Collection<Connection> connections) throws SQLException {
+        globalClockTransactionExecutor.findStorageTimestamp(connections).ifPresent(globalClockProvider::update);
+    }
+    
     @Override
     public void beforeRollback(final GlobalClockRule rule, final DatabaseType databaseType, final Collection<Connection> connections, final TransactionConnectionContext transactionContext) {
     }
@@ -20,9 +20,11 @@ package org.apache.shardingsphere.globalclock.executor.type;
 import org.apache.shardingsphere.globalclock.executor.GlobalClockTransactionExecutor;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Global clock transaction executor for openGauss.
@@ -49,6 +51,24 @@ public final class OpenGaussGlobalClockTransactionExecutor implements GlobalCloc
         }
     }
     
+    @Override
+    public Optional<Long> findStorageTimestamp(final Collection<Connection> connections) throws SQLException {
+        Optional<Long> result = Optional.empty();
+        for (Connection each : connections) {
+            try (
+                    Statement statement = each.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT next_csn FROM pg_catalog.gs_get_next_xid_csn()")) {
+                while (resultSet.next()) {
+                    long latestCSN = resultSet.getLong(1) - 1L;
+                    if (!result.isPresent() || latestCSN > result.get()) {
+                        result = Optional.of(latestCSN);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
@@ -39,4 +39,16 @@ public interface GlobalClockProvider extends TypedSPI {
      * @return next timestamp
      */
     long getNextTimestamp();
+    
+    /**
+     * Merge timestamp observed from storage node or other compute node.
+     *
+     * <p>Providers which issue timestamps from a central oracle ignore remote timestamps.</p>
+     *
+     * @param remoteTimestamp remote timestamp
+     * @return merged timestamp
+     */
+    default long update(final long remoteTimestamp) {
+        return getCurrentTimestamp();
+    }
 }
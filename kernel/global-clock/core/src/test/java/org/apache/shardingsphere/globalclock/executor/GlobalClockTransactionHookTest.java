@@ -32,6 +32,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
 import java.sql.SQLException;
@@ -41,6 +42,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -113,6 +115,32 @@ class GlobalClockTransactionHookTest {
         verify(globalClockTransactionExecutor).sendSnapshotTimestamp(Collections.emptyList(), 0L);
     }
     
+    @Test
+    void assertAfterCreateConnectionsWithHybridLogicalClock() throws SQLException {
+        when(DatabaseTypedSPILoader.findService(GlobalClockTransactionExecutor.class, databaseType)).thenReturn(Optional.of(globalClockTransactionExecutor));
+        when(rule.getConfiguration().isEnabled()).thenReturn(true);
+        when(rule.getConfiguration().getType()).thenReturn("HLC");
+        when(rule.getGlobalClockProvider()).thenReturn(Optional.of(globalClockProvider));
+        when(globalClockTransactionExecutor.findStorageTimestamp(Collections.emptyList())).thenReturn(Optional.of(20L));
+        when(globalClockProvider.getCurrentTimestamp()).thenReturn(21L);
+        when(transactionContext.getBeginMills()).thenReturn(21L);
+        transactionHook.afterCreateConnections(rule, databaseType, Collections.emptyList(), transactionContext);
+        InOrder inOrder = inOrder(globalClockProvider, transactionContext, globalClockTransactionExecutor);
+        inOrder.verify(globalClockProvider).update(20L);
+        inOrder.verify(transactionContext).setBeginMills(21L);
+        inOrder.verify(globalClockTransactionExecutor).sendSnapshotTimestamp(Collections.emptyList(), 21L);
+    }
+    
+    @Test
+    void assertAfterCreateConnectionsWithTimestampOracle() throws SQLException {
+        when(DatabaseTypedSPILoader.findService(GlobalClockTransactionExecutor.class, databaseType)).thenReturn(Optional.of(globalClockTransactionExecutor));
+        when(rule.getConfiguration().isEnabled()).thenReturn(true);
+        when(rule.getConfiguration().getType()).thenReturn("TSO");
+        transactionHook.afterCreateConnections(rule, databaseType, Collections.emptyList(), transactionContext);
+        verify(globalClockTransactionExecutor, times(0)).findStorageTimestamp(any());
+        verify(globalClockProvider, times(0)).update(anyLong());
+    }
+    
     @Test
     void assertBeforeExecuteSQLWhenDisabledGlobalClockRule() throws SQLException {
         transactionHook.beforeExecuteSQL(rule, databaseType, Collections.emptyList(), transactionContext, TransactionIsolationLevel.READ_COMMITTED);
@@ -186,6 +214,23 @@ class GlobalClockTransactionHookTest {
         verify(globalClockTransactionExecutor).sendCommitTimestamp(Collections.emptyList(), 10L);
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    void assertBeforeCommitWithHybridLogicalClock() throws SQLException {
+        when(rule.getConfiguration().isEnabled()).thenReturn(true);
+        when(rule.getConfiguration().getType()).thenReturn("HLC");
+        when(rule.getGlobalClockProvider()).thenReturn(Optional.of(globalClockProvider));
+        when(globalClockTransactionExecutor.findStorageTimestamp(Collections.emptyList())).thenReturn(Optional.of(20L));
+        when(globalClockProvider.getCurrentTimestamp()).thenReturn(21L);
+        LockContext lockContext = mock(LockContext.class);
+        when(lockContext.tryLock(any(), anyLong())).thenReturn(true);
+        when(DatabaseTypedSPILoader.findService(GlobalClockTransactionExecutor.class, databaseType)).thenReturn(Optional.of(globalClockTransactionExecutor));
+        transactionHook.beforeCommit(rule, databaseType, Collections.emptyList(), transactionContext, lockContext);
+        InOrder inOrder = inOrder(globalClockProvider, globalClockTransactionExecutor);
+        inOrder.verify(globalClockProvider).update(20L);
+        inOrder.verify(globalClockTransactionExecutor).sendCommitTimestamp(Collections.emptyList(), 21L);
+    }
+    
     @Test
     void assertAfterCommitWhenGlobalClockProviderAbsent() {
         transactionHook.afterCommit(rule, databaseType, Collections.emptyList(), transactionContext, mock(LockContext.class));
@@ -25,10 +25,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,4 +66,25 @@ class OpenGaussGlobalClockTransactionExecutorTest {
         executor.sendCommitTimestamp(Collections.singleton(connection), 10L);
         verify(statement).execute("SELECT 10 AS SETCOMMITCSN");
     }
+    
+    @Test
+    void assertFindStorageTimestamp() throws SQLException {
+        Connection connection0 = mockStorageConnection(11L);
+        Connection connection1 = mockStorageConnection(21L);
+        assertThat(executor.findStorageTimestamp(Arrays.asList(connection0, connection1)), is(Optional.of(20L)));
+    }
+    
+    @Test
+    void assertFindStorageTimestampWithoutConnections() throws SQLException {
+        assertFalse(executor.findStorageTimestamp(Collections.emptyList()).isPresent());
+    }
+    
+    private Connection mockStorageConnection(final long nextCSN) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(nextCSN);
+        when(result.createStatement().executeQuery("SELECT next_csn FROM pg_catalog.gs_get_next_xid_csn()")).thenReturn(resultSet);
+        return result;
+    }
 }
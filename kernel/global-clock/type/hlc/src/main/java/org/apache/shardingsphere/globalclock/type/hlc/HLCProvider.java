@@ -23,4 +23,12 @@ import org.apache.shardingsphere.globalclock.provider.GlobalClockProvider;
  * Hybrid logical clock provider.
  */
 public interface HLCProvider extends GlobalClockProvider {
+    
+    /**
+     * Merge timestamp observed from storage node or other compute node.
+     *
+     * @param remoteTimestamp remote timestamp
+     * @return merged timestamp, which is greater than both local and remote timestamp
+     */
+    long update(long remoteTimestamp);
 }
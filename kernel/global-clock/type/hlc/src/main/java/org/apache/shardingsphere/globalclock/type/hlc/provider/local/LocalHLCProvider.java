@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.provider.local;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local hybrid logical clock provider.
+ *
+ * <p>The timestamp is composed of physical milliseconds in high bits and logical counter in low {@value #LOGICAL_BITS} bits.
+ * Timestamps are issued by CAS on local state without any network round-trip, and remote timestamps whose physical time is ahead of local physical time
+ * more than max clock skew are rejected.</p>
+ *
+ * <p>Global clock transaction hook merges the latest timestamp of storage nodes by {@link #update(long)} before taking snapshot and commit timestamps,
+ * so commits of other compute nodes are ordered before following transactions.</p>
+ */
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private static final String MAX_CLOCK_SKEW_MILLISECONDS_KEY = "maxClockSkewMilliseconds";
+    
+    private static final long DEFAULT_MAX_CLOCK_SKEW_MILLISECONDS = 500L;
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
+    private long maxClockSkewMilliseconds = DEFAULT_MAX_CLOCK_SKEW_MILLISECONDS;
+    
+    @Override
+    public void init(final Properties props) {
+        maxClockSkewMilliseconds = Long.parseLong(props.getProperty(MAX_CLOCK_SKEW_MILLISECONDS_KEY, String.valueOf(DEFAULT_MAX_CLOCK_SKEW_MILLISECONDS)));
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        return lastTimestamp.accumulateAndGet(getPhysicalTimestamp(), Math::max);
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        return lastTimestamp.accumulateAndGet(getPhysicalTimestamp(), (last, physical) -> Math.max(last + 1L, physical));
+    }
+    
+    @Override
+    public long update(final long remoteTimestamp) {
+        long physicalTimestamp = getPhysicalTimestamp();
+        long skewMilliseconds = (remoteTimestamp >>> LOGICAL_BITS) - (physicalTimestamp >>> LOGICAL_BITS);
+        Preconditions.checkArgument(skewMilliseconds <= maxClockSkewMilliseconds,
+                "Remote timestamp `%s` is ahead of local clock by %s milliseconds, which exceeds max clock skew %s milliseconds.", remoteTimestamp, skewMilliseconds, maxClockSkewMilliseconds);
+        return lastTimestamp.accumulateAndGet(physicalTimestamp, (last, physical) -> Math.max(Math.max(last, remoteTimestamp) + 1L, physical));
+    }
+    
+    private long getPhysicalTimestamp() {
+        return System.currentTimeMillis() << LOGICAL_BITS;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
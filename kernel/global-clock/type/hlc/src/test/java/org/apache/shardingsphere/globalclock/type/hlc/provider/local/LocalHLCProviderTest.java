@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.provider.local;
+
+import org.apache.shardingsphere.globalclock.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalHLCProviderTest {
+    
+    private HLCProvider hlcProvider;
+    
+    @BeforeEach
+    void setUp() {
+        hlcProvider = (HLCProvider) TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local", PropertiesBuilder.build(new Property("maxClockSkewMilliseconds", "1000")));
+    }
+    
+    @Test
+    void assertGetCurrentTimestamp() {
+        long physicalMilliseconds = System.currentTimeMillis();
+        long actual = hlcProvider.getCurrentTimestamp();
+        assertThat(actual >>> 16, greaterThanOrEqualTo(physicalMilliseconds));
+        assertThat(hlcProvider.getCurrentTimestamp(), greaterThanOrEqualTo(actual));
+    }
+    
+    @Test
+    void assertGetNextTimestamp() {
+        long currentTimestamp = hlcProvider.getCurrentTimestamp();
+        long nextTimestamp = hlcProvider.getNextTimestamp();
+        assertThat(nextTimestamp, greaterThan(currentTimestamp));
+        assertThat(hlcProvider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+    }
+    
+    @Test
+    void assertGetNextTimestampConcurrently() {
+        Set<Long> actual = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 10000).parallel().forEach(each -> actual.add(hlcProvider.getNextTimestamp()));
+        assertThat(actual.size(), is(10000));
+    }
+    
+    @Test
+    void assertUpdateWithRemoteTimestampAhead() {
+        long remoteTimestamp = (System.currentTimeMillis() + 500L) << 16 | 10L;
+        assertThat(hlcProvider.update(remoteTimestamp), is(remoteTimestamp + 1L));
+        assertThat(hlcProvider.getNextTimestamp(), greaterThan(remoteTimestamp + 1L));
+    }
+    
+    @Test
+    void assertUpdateWithRemoteTimestampBehind() {
+        long localTimestamp = hlcProvider.getNextTimestamp();
+        assertThat(hlcProvider.update(1L << 16), greaterThan(localTimestamp));
+    }
+    
+    @Test
+    void assertUpdateWithRemoteTimestampExceedMaxClockSkew() {
+        assertThrows(IllegalArgumentException.class, () -> hlcProvider.update((System.currentTimeMillis() + 60000L) << 16));
+    }
+}
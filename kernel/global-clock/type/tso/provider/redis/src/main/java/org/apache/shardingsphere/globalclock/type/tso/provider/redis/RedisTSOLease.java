@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Leased timestamp range of Redis TSO.
+ */
+final class RedisTSOLease {
+    
+    @Getter
+    private final long endTimestamp;
+    
+    private final long expireTimeMillis;
+    
+    private final AtomicLong timestamp;
+    
+    RedisTSOLease(final long endTimestamp, final int size, final long expireTimeMillis) {
+        this.endTimestamp = endTimestamp;
+        this.expireTimeMillis = expireTimeMillis;
+        timestamp = new AtomicLong(endTimestamp - size);
+    }
+    
+    /**
+     * Get current timestamp.
+     *
+     * @return current timestamp
+     */
+    long getCurrentTimestamp() {
+        return Math.min(timestamp.get(), endTimestamp);
+    }
+    
+    /**
+     * Get next timestamp.
+     *
+     * @return next timestamp, which is greater than end timestamp if lease is exhausted
+     */
+    long getNextTimestamp() {
+        return timestamp.incrementAndGet();
+    }
+    
+    /**
+     * Judge whether lease is expired.
+     *
+     * @param currentTimeMillis current time millis
+     * @return is expired or not
+     */
+    boolean isExpired(final long currentTimeMillis) {
+        return currentTimeMillis >= expireTimeMillis;
+    }
+}
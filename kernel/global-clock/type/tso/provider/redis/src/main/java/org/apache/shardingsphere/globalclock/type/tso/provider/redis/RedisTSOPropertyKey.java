@@ -38,7 +38,11 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    LEASE_SIZE("leaseSize", "1", int.class),
+    
+    LEASE_MAX_STALENESS_MILLISECONDS("leaseMaxStalenessMilliseconds", "1000", long.class);
     
     private final String key;
     
@@ -18,16 +18,25 @@
 package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.shardingsphere.globalclock.type.tso.provider.TSOProvider;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Redis TSO provider.
+ *
+ * <p>If lease size is greater than 1, a block of timestamps is reserved by one Redis INCRBY and served locally,
+ * and the next block is prefetched in background when half of current block is used.
+ * A leased block is abandoned after lease max staleness milliseconds to bound the lag behind other compute nodes.</p>
  */
 public final class RedisTSOProvider implements TSOProvider {
     
@@ -39,14 +48,25 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     
+    private final AtomicReference<RedisTSOLease> lease = new AtomicReference<>();
+    
     private JedisPool jedisPool;
     
+    private int leaseSize;
+    
+    private long leaseMaxStalenessMillis;
+    
+    private ExecutorService leasePrefetchExecutor;
+    
+    private CompletableFuture<RedisTSOLease> prefetchedLease;
+    
     @Override
     public void init(final Properties props) {
         if (initialized.compareAndSet(false, true)) {
             createJedisPool(props);
             checkJedisPool();
             initCSN();
+            initLease(props);
         }
     }
     
@@ -77,8 +97,24 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    private void initLease(final Properties props) {
+        leaseSize = Integer.parseInt(getValue(props, RedisTSOPropertyKey.LEASE_SIZE));
+        leaseMaxStalenessMillis = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_MAX_STALENESS_MILLISECONDS));
+        if (isLeaseEnabled()) {
+            leasePrefetchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("redis-tso-lease-prefetch-%d").build());
+        }
+    }
+    
+    private boolean isLeaseEnabled() {
+        return leaseSize > 1;
+    }
+    
     @Override
     public long getCurrentTimestamp() {
+        RedisTSOLease currentLease = isLeaseEnabled() ? lease.get() : null;
+        if (null != currentLease && !currentLease.isExpired(System.currentTimeMillis())) {
+            return currentLease.getCurrentTimestamp();
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             return Long.parseLong(jedis.get(CSN_KEY));
         }
@@ -86,8 +122,45 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getNextTimestamp() {
+        if (!isLeaseEnabled()) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                return jedis.incr(CSN_KEY);
+            }
+        }
+        while (true) {
+            RedisTSOLease currentLease = lease.get();
+            if (null != currentLease && !currentLease.isExpired(System.currentTimeMillis())) {
+                long result = currentLease.getNextTimestamp();
+                if (result == currentLease.getEndTimestamp() - leaseSize / 2) {
+                    prefetchLease();
+                }
+                if (result <= currentLease.getEndTimestamp()) {
+                    return result;
+                }
+            }
+            renewLease(currentLease);
+        }
+    }
+    
+    private synchronized void prefetchLease() {
+        if (null == prefetchedLease) {
+            prefetchedLease = CompletableFuture.supplyAsync(this::reserveLease, leasePrefetchExecutor);
+        }
+    }
+    
+    private synchronized void renewLease(final RedisTSOLease expectedLease) {
+        if (lease.get() != expectedLease) {
+            return;
+        }
+        RedisTSOLease nextLease = null == prefetchedLease ? null : prefetchedLease.exceptionally(ex -> null).join();
+        prefetchedLease = null;
+        lease.set(null == nextLease || nextLease.isExpired(System.currentTimeMillis()) ? reserveLease() : nextLease);
+    }
+    
+    private RedisTSOLease reserveLease() {
+        long expireTimeMillis = leaseMaxStalenessMillis > 0L ? System.currentTimeMillis() + leaseMaxStalenessMillis : Long.MAX_VALUE;
         try (Jedis jedis = jedisPool.getResource()) {
-            return jedis.incr(CSN_KEY);
+            return new RedisTSOLease(jedis.incrBy(CSN_KEY, leaseSize), leaseSize, expireTimeMillis);
         }
     }
     
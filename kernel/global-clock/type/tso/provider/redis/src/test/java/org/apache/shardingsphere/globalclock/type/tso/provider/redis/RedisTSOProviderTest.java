@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisTSOProviderTest {
+    
+    private static final long INIT_CSN = Integer.MAX_VALUE;
+    
+    private final AtomicLong csn = new AtomicLong();
+    
+    private final Jedis jedis = mock(Jedis.class);
+    
+    private MockedConstruction<JedisPool> mockedJedisPool;
+    
+    @BeforeEach
+    void setUp() {
+        when(jedis.get("csn")).thenAnswer(invocation -> 0L == csn.get() ? null : String.valueOf(csn.get()));
+        when(jedis.set(anyString(), anyString())).thenAnswer(invocation -> {
+            csn.set(Long.parseLong(invocation.getArgument(1)));
+            return "OK";
+        });
+        when(jedis.incr("csn")).thenAnswer(invocation -> csn.incrementAndGet());
+        when(jedis.incrBy(anyString(), anyLong())).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        mockedJedisPool = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        mockedJedisPool.close();
+    }
+    
+    @Test
+    void assertGetNextTimestampWithoutLease() {
+        RedisTSOProvider provider = createProvider(new Properties());
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN));
+        assertThat(provider.getNextTimestamp(), is(INIT_CSN + 1L));
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN + 1L));
+        verify(jedis, never()).incrBy(anyString(), anyLong());
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLease() {
+        RedisTSOProvider provider = createProvider(PropertiesBuilder.build(new Property("leaseSize", "100"), new Property("leaseMaxStalenessMilliseconds", "0")));
+        for (int i = 1; i <= 250; i++) {
+            assertThat(provider.getNextTimestamp(), is(INIT_CSN + i));
+        }
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN + 250L));
+        verify(jedis, never()).incr(anyString());
+        verify(jedis, atMost(4)).incrBy("csn", 100L);
+    }
+    
+    @Test
+    void assertGetNextTimestampWithExpiredLease() throws InterruptedException {
+        RedisTSOProvider provider = createProvider(PropertiesBuilder.build(new Property("leaseSize", "100"), new Property("leaseMaxStalenessMilliseconds", "1")));
+        assertThat(provider.getNextTimestamp(), is(INIT_CSN + 1L));
+        TimeUnit.MILLISECONDS.sleep(5L);
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN + 100L));
+        assertThat(provider.getNextTimestamp(), is(INIT_CSN + 101L));
+        verify(jedis, times(2)).incrBy("csn", 100L);
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLeaseConcurrently() {
+        RedisTSOProvider provider = createProvider(PropertiesBuilder.build(new Property("leaseSize", "64")));
+        Set<Long> actual = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 10000).parallel().forEach(each -> actual.add(provider.getNextTimestamp()));
+        assertThat(actual.size(), is(10000));
+    }
+    
+    private RedisTSOProvider createProvider(final Properties props) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        result.init(props);
+        return result;
+    }
+}
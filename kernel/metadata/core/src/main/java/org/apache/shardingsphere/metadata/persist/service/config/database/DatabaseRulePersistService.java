@@ -32,9 +32,12 @@ import org.apache.shardingsphere.mode.tuple.annotation.RepositoryTupleEntity;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Database rule persist service.
@@ -84,15 +87,19 @@ public final class DatabaseRulePersistService {
     
     private Collection<MetaDataVersion> persistDataNodes(final String databaseName, final String ruleName, final Collection<RepositoryTuple> repositoryTuples) {
         Collection<MetaDataVersion> result = new LinkedList<>();
+        Map<String, String> toBePersistedNodes = new LinkedHashMap<>(repositoryTuples.size() * 2, 1F);
         for (RepositoryTuple each : repositoryTuples) {
             List<String> versions = metaDataVersionPersistService.getVersions(DatabaseRuleMetaDataNode.getDatabaseRuleVersionsNode(databaseName, ruleName, each.getKey()));
             String nextVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(DatabaseRuleMetaDataNode.getDatabaseRuleVersionNode(databaseName, ruleName, each.getKey(), nextVersion), each.getValue());
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, ruleName, each.getKey()))) {
-                repository.persist(DatabaseRuleMetaDataNode.getDatabaseRuleActiveVersionNode(databaseName, ruleName, each.getKey()), MetaDataVersion.DEFAULT_VERSION);
+            toBePersistedNodes.put(DatabaseRuleMetaDataNode.getDatabaseRuleVersionNode(databaseName, ruleName, each.getKey(), nextVersion), each.getValue());
+            String activeVersion = getActiveVersion(databaseName, ruleName, each.getKey());
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                toBePersistedNodes.put(DatabaseRuleMetaDataNode.getDatabaseRuleActiveVersionNode(databaseName, ruleName, each.getKey()), activeVersion);
             }
-            result.add(new MetaDataVersion(DatabaseRuleMetaDataNode.getDatabaseRuleNode(databaseName, ruleName, each.getKey()), getActiveVersion(databaseName, ruleName, each.getKey()), nextVersion));
+            result.add(new MetaDataVersion(DatabaseRuleMetaDataNode.getDatabaseRuleNode(databaseName, ruleName, each.getKey()), activeVersion, nextVersion));
         }
+        repository.batchPersist(toBePersistedNodes);
         return result;
     }
     
@@ -133,12 +140,8 @@ public final class DatabaseRulePersistService {
     }
     
     private Collection<MetaDataVersion> delete(final String databaseName, final String ruleName, final Collection<RepositoryTuple> repositoryTuples) {
-        Collection<MetaDataVersion> result = new LinkedList<>();
-        for (RepositoryTuple each : repositoryTuples) {
-            String toBeDeletedKey = DatabaseRuleMetaDataNode.getDatabaseRuleNode(databaseName, ruleName, each.getKey());
-            repository.delete(toBeDeletedKey);
-            result.add(new MetaDataVersion(toBeDeletedKey));
-        }
-        return result;
+        List<String> toBeDeletedKeys = repositoryTuples.stream().map(each -> DatabaseRuleMetaDataNode.getDatabaseRuleNode(databaseName, ruleName, each.getKey())).collect(Collectors.toList());
+        repository.batchDelete(toBeDeletedKeys);
+        return toBeDeletedKeys.stream().map(MetaDataVersion::new).collect(Collectors.toList());
     }
 }
@@ -30,8 +30,10 @@ import org.apache.shardingsphere.mode.tuple.RepositoryTuple;
 import org.apache.shardingsphere.mode.tuple.RepositoryTupleSwapperEngine;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,14 +88,20 @@ public final class GlobalRulePersistService {
     
     private Collection<MetaDataVersion> persistTuples(final Collection<RepositoryTuple> repositoryTuples) {
         Collection<MetaDataVersion> result = new LinkedList<>();
+        Map<String, String> toBePersistedNodes = new LinkedHashMap<>(repositoryTuples.size() * 2, 1F);
         for (RepositoryTuple each : repositoryTuples) {
             List<String> versions = metaDataVersionPersistService.getVersions(GlobalNode.getGlobalRuleVersionsNode(each.getKey()));
             String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(GlobalNode.getGlobalRuleVersionNode(each.getKey(), nextActiveVersion), each.getValue());
-            if (Strings.isNullOrEmpty(repository.query(GlobalNode.getGlobalRuleActiveVersionNode(each.getKey())))) {
-                repository.persist(GlobalNode.getGlobalRuleActiveVersionNode(each.getKey()), MetaDataVersion.DEFAULT_VERSION);
+            toBePersistedNodes.put(GlobalNode.getGlobalRuleVersionNode(each.getKey(), nextActiveVersion), each.getValue());
+            String activeVersion = repository.query(GlobalNode.getGlobalRuleActiveVersionNode(each.getKey()));
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                toBePersistedNodes.put(GlobalNode.getGlobalRuleActiveVersionNode(each.getKey()), activeVersion);
             }
-            result.add(new MetaDataVersion(GlobalNode.getGlobalRuleNode(each.getKey()), repository.query(GlobalNode.getGlobalRuleActiveVersionNode(each.getKey())), nextActiveVersion));
+            result.add(new MetaDataVersion(GlobalNode.getGlobalRuleNode(each.getKey()), activeVersion, nextActiveVersion));
+        }
+        if (!toBePersistedNodes.isEmpty()) {
+            repository.batchPersist(toBePersistedNodes);
         }
         return result;
     }
@@ -29,8 +29,10 @@ import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersio
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -77,22 +79,31 @@ public final class TableMetaDataPersistService {
      */
     public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
         Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
+        Map<String, String> toBePersistedNodes = new LinkedHashMap<>(tables.size() * 2, 1F);
+        Map<String, String> activeVersions =
+                repository.batchQuery(tables.stream().map(each -> TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each.getName().toLowerCase())).collect(Collectors.toList()));
         for (ShardingSphereTable each : tables) {
             String tableName = each.getName().toLowerCase();
-            List<String> versions = metaDataVersionPersistService.getVersions(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
-            String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(
+            String activeVersionNode = TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName);
+            String activeVersion = activeVersions.get(activeVersionNode);
+            String nextActiveVersion = Strings.isNullOrEmpty(activeVersion) ? MetaDataVersion.DEFAULT_VERSION : getNextActiveVersion(databaseName, schemaName, tableName);
+            toBePersistedNodes.put(
                     TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion), YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(each)));
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                toBePersistedNodes.put(activeVersionNode, activeVersion);
             }
-            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion));
+        }
+        if (!toBePersistedNodes.isEmpty()) {
+            repository.batchPersist(toBePersistedNodes);
         }
         metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
     }
     
-    private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
-        return repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
+    private String getNextActiveVersion(final String databaseName, final String schemaName, final String tableName) {
+        List<String> versions = metaDataVersionPersistService.getVersions(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
+        return versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
     }
     
     /**
@@ -114,6 +125,6 @@ public final class TableMetaDataPersistService {
      * @param tables to be dropped tables
      */
     public void drop(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
-        tables.forEach(each -> drop(databaseName, schemaName, each.getName()));
+        repository.batchDelete(tables.stream().map(each -> TableMetaDataNode.getTableNode(databaseName, schemaName, each.getName().toLowerCase())).collect(Collectors.toList()));
     }
 }
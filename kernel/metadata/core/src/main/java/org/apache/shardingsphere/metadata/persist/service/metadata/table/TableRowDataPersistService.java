@@ -29,6 +29,9 @@ import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Table row data persist service.
@@ -50,7 +53,9 @@ public final class TableRowDataPersistService {
         if (rows.isEmpty()) {
             repository.persist(ShardingSphereDataNode.getTablePath(databaseName, schemaName, tableName.toLowerCase()), "");
         } else {
-            rows.forEach(each -> repository.persist(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+            Map<String, String> toBePersistedRows = new LinkedHashMap<>(rows.size(), 1F);
+            rows.forEach(each -> toBePersistedRows.put(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+            repository.batchPersist(toBePersistedRows);
         }
     }
     
@@ -63,7 +68,10 @@ public final class TableRowDataPersistService {
      * @param rows rows
      */
     public void delete(final String databaseName, final String schemaName, final String tableName, final Collection<YamlShardingSphereRowData> rows) {
-        rows.forEach(each -> repository.delete(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey())));
+        if (!rows.isEmpty()) {
+            repository.batchDelete(
+                    rows.stream().map(each -> ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey())).collect(Collectors.toList()));
+        }
     }
     
     /**
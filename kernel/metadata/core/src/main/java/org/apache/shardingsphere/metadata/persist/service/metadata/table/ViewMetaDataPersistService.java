@@ -29,8 +29,10 @@ import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersio
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -77,22 +79,31 @@ public final class ViewMetaDataPersistService {
      */
     public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereView> views) {
         Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
+        Map<String, String> toBePersistedNodes = new LinkedHashMap<>(views.size() * 2, 1F);
+        Map<String, String> activeVersions =
+                repository.batchQuery(views.stream().map(each -> ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each.getName().toLowerCase())).collect(Collectors.toList()));
         for (ShardingSphereView each : views) {
             String viewName = each.getName().toLowerCase();
-            List<String> versions = metaDataVersionPersistService.getVersions(ViewMetaDataNode.getViewVersionsNode(databaseName, schemaName, viewName));
-            String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, viewName, nextActiveVersion),
+            String activeVersionNode = ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName);
+            String activeVersion = activeVersions.get(activeVersionNode);
+            String nextActiveVersion = Strings.isNullOrEmpty(activeVersion) ? MetaDataVersion.DEFAULT_VERSION : getNextActiveVersion(databaseName, schemaName, viewName);
+            toBePersistedNodes.put(ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, viewName, nextActiveVersion),
                     YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(each)));
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, viewName))) {
-                repository.persist(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName), MetaDataVersion.DEFAULT_VERSION);
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                toBePersistedNodes.put(activeVersionNode, activeVersion);
             }
-            metaDataVersions.add(new MetaDataVersion(ViewMetaDataNode.getViewNode(databaseName, schemaName, viewName), getActiveVersion(databaseName, schemaName, viewName), nextActiveVersion));
+            metaDataVersions.add(new MetaDataVersion(ViewMetaDataNode.getViewNode(databaseName, schemaName, viewName), activeVersion, nextActiveVersion));
+        }
+        if (!toBePersistedNodes.isEmpty()) {
+            repository.batchPersist(toBePersistedNodes);
         }
         metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
     }
     
-    private String getActiveVersion(final String databaseName, final String schemaName, final String viewName) {
-        return repository.query(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName));
+    private String getNextActiveVersion(final String databaseName, final String schemaName, final String viewName) {
+        List<String> versions = metaDataVersionPersistService.getVersions(ViewMetaDataNode.getViewVersionsNode(databaseName, schemaName, viewName));
+        return versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
     }
     
     /**
@@ -24,7 +24,10 @@ import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Meta data version persist service.
@@ -37,14 +40,22 @@ public final class MetaDataVersionPersistService implements MetaDataVersionBased
     
     @Override
     public void switchActiveVersion(final Collection<MetaDataVersion> metaDataVersions) {
+        Map<String, String> activeVersions = new LinkedHashMap<>(metaDataVersions.size(), 1F);
+        Collection<String> toBeDeletedVersionNodes = new LinkedList<>();
         for (MetaDataVersion each : metaDataVersions) {
             if (each.getNextActiveVersion().equals(each.getCurrentActiveVersion())) {
                 continue;
             }
-            repository.persist(each.getActiveVersionNodePath(), each.getNextActiveVersion());
+            activeVersions.put(each.getActiveVersionNodePath(), each.getNextActiveVersion());
             getVersions(each.getVersionsPath()).stream()
                     .filter(version -> !version.equals(each.getNextActiveVersion()))
-                    .forEach(version -> repository.delete(each.getVersionsNodePath(version)));
+                    .forEach(version -> toBeDeletedVersionNodes.add(each.getVersionsNodePath(version)));
+        }
+        if (!activeVersions.isEmpty()) {
+            repository.batchPersist(activeVersions);
+        }
+        if (!toBeDeletedVersionNodes.isEmpty()) {
+            repository.batchDelete(toBeDeletedVersionNodes);
         }
     }
     
@@ -35,7 +35,6 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,7 +66,7 @@ class DatabaseRulePersistServiceTest {
         Collection<MetaDataVersion> actual = persistService.persist("foo_db", Arrays.asList(new MetaDataRuleConfigurationFixture("test"), new NoTupleRuleConfigurationFixture("test")));
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next().getKey(), is("/metadata/foo_db/rules/fixture/fixture"));
-        assertNull(actual.iterator().next().getCurrentActiveVersion());
+        assertThat(actual.iterator().next().getCurrentActiveVersion(), is("0"));
         assertThat(actual.iterator().next().getNextActiveVersion(), is("0"));
     }
     
@@ -34,11 +34,12 @@ import org.mockito.Mock;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -87,9 +88,9 @@ class GlobalRulePersistServiceTest {
         when(repository.query("/rules/fixture/active_version")).thenReturn("10");
         when(repository.getChildrenKeys("/rules/fixture/versions")).thenReturn(Collections.singletonList("10"));
         globalRulePersistService.persist(Collections.singleton(ruleConfig));
-        verify(repository).persist("/rules/fixture/versions/11", "{}" + System.lineSeparator());
-        verify(repository, times(0)).persist("/rules/fixture/active_version", "0");
-        verify(repository, times(2)).query("/rules/fixture/active_version");
+        verify(repository).batchPersist(Collections.singletonMap("/rules/fixture/versions/11", "{}" + System.lineSeparator()));
+        verify(repository).batchPersist(Collections.singletonMap("/rules/fixture/active_version", "11"));
+        verify(repository).query("/rules/fixture/active_version");
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -101,10 +102,12 @@ class GlobalRulePersistServiceTest {
         YamlRuleConfiguration yamlRuleConfig = new MetaDataYamlRuleConfigurationFixture();
         when(swapper.swapToYamlConfiguration(ruleConfig)).thenReturn(yamlRuleConfig);
         when(repository.getChildrenKeys("/rules/fixture/versions")).thenReturn(Collections.emptyList());
-        when(repository.query("/rules/fixture/active_version")).thenReturn("", "0");
+        when(repository.query("/rules/fixture/active_version")).thenReturn("");
         globalRulePersistService.persist(Collections.singleton(ruleConfig));
-        verify(repository).persist("/rules/fixture/versions/0", "{}" + System.lineSeparator());
-        verify(repository).persist("/rules/fixture/active_version", "0");
-        verify(repository, times(2)).query("/rules/fixture/active_version");
+        Map<String, String> expectedPersistedNodes = new LinkedHashMap<>(2, 1F);
+        expectedPersistedNodes.put("/rules/fixture/versions/0", "{}" + System.lineSeparator());
+        expectedPersistedNodes.put("/rules/fixture/active_version", "0");
+        verify(repository).batchPersist(expectedPersistedNodes);
+        verify(repository).query("/rules/fixture/active_version");
     }
 }
@@ -77,6 +77,6 @@ class PropertiesPersistServiceTest {
         when(repository.getChildrenKeys("/props/versions")).thenReturn(Collections.singletonList("10"));
         persistService.persist(PropertiesBuilder.build(new Property("k", "v")));
         verify(repository).persist("/props/versions/11", "k: v" + System.lineSeparator());
-        verify(repository).persist("/props/active_version", "11");
+        verify(repository).batchPersist(Collections.singletonMap("/props/active_version", "11"));
     }
 }
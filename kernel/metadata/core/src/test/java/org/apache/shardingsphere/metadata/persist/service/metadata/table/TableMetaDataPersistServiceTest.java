@@ -28,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -61,23 +63,26 @@ class TableMetaDataPersistServiceTest {
     
     @Test
     void assertPersistWithoutVersion() {
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("", "0");
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
         persistService.persist("foo_db", "foo_schema", Collections.singleton(table));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "name: foo_tbl" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        Map<String, String> expectedPersistedNodes = new LinkedHashMap<>(2, 1F);
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "name: foo_tbl" + System.lineSeparator());
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        verify(repository).batchPersist(expectedPersistedNodes);
     }
     
     @Test
     void assertPersistWithVersion() {
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions")).thenReturn(Collections.singletonList("10"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("10");
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "10"));
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
         persistService.persist("foo_db", "foo_schema", Collections.singleton(table));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "name: foo_tbl" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "11");
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "name: foo_tbl" + System.lineSeparator()));
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "11"));
+        verify(repository).batchDelete(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10"));
     }
     
     @Test
@@ -91,6 +96,6 @@ class TableMetaDataPersistServiceTest {
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
         persistService.drop("foo_db", "foo_schema", Collections.singleton(table));
-        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl");
+        verify(repository).batchDelete(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl"));
     }
 }
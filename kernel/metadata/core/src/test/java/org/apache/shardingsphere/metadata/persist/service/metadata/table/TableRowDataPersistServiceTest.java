@@ -60,7 +60,7 @@ class TableRowDataPersistServiceTest {
         YamlShardingSphereRowData rowData = new YamlShardingSphereRowData();
         rowData.setUniqueKey("foo_key");
         persistService.persist("foo_db", "foo_schema", "foo_tbl", Collections.singletonList(rowData));
-        verify(repository).persist("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl/foo_key", "uniqueKey: foo_key" + System.lineSeparator());
+        verify(repository).batchPersist(Collections.singletonMap("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl/foo_key", "uniqueKey: foo_key" + System.lineSeparator()));
     }
     
     @Test
@@ -68,7 +68,7 @@ class TableRowDataPersistServiceTest {
         YamlShardingSphereRowData rowData = new YamlShardingSphereRowData();
         rowData.setUniqueKey("foo_key");
         persistService.delete("foo_db", "foo_schema", "foo_tbl", Collections.singletonList(rowData));
-        verify(repository).delete("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl/foo_key");
+        verify(repository).batchDelete(Collections.singletonList("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl/foo_key"));
     }
     
     @Test
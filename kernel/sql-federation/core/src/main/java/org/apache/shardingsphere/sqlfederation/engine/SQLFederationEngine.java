@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.engine;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
@@ -29,12 +30,15 @@ import org.apache.calcite.prepare.CalciteCatalogReader;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.util.SqlString;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.ShardingSphereSQLException;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -42,6 +46,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -49,9 +54,12 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationBindContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
@@ -63,6 +71,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.Optimiz
 import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederationSchemaNotFoundException;
 import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederationUnsupportedSQLException;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
@@ -73,6 +82,7 @@ import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -85,6 +95,7 @@ import java.util.Map.Entry;
  * SQL federation engine.
  */
 @Getter
+@Slf4j
 public final class SQLFederationEngine implements AutoCloseable {
     
     private static final int DEFAULT_METADATA_VERSION = 0;
@@ -137,7 +148,6 @@ public final class SQLFederationEngine implements AutoCloseable {
      * @param globalRuleMetaData global rule meta data
      * @return use SQL federation or not
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public boolean decide(final QueryContext queryContext, final RuleMetaData globalRuleMetaData) {
         // TODO BEGIN: move this logic to SQLFederationDecider implement class when we remove sql federation type
         if (isQuerySystemSchema(queryContext)) {
@@ -153,7 +163,11 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (allQueryUseSQLFederation) {
             return true;
         }
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return isUseSQLFederationByRules((SelectStatementContext) sqlStatementContext, queryContext, globalRuleMetaData);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean isUseSQLFederationByRules(final SelectStatementContext selectStatementContext, final QueryContext queryContext, final RuleMetaData globalRuleMetaData) {
         Collection<String> databaseNames = selectStatementContext.getTablesContext().getDatabaseNames();
         if (databaseNames.size() > 1) {
             return true;
@@ -221,18 +235,61 @@ public final class SQLFederationEngine implements AutoCloseable {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
-        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter);
+        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, sqlString -> isPushDownAvailable(sqlString, federationContext, databaseName));
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         // TODO open useCache flag when ShardingSphereTable contains version
         return compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
     }
     
+    private boolean isPushDownAvailable(final SqlString sqlString, final SQLFederationContext federationContext, final String databaseName) {
+        try {
+            QueryContext queryContext = createPushDownQueryContext(sqlString, federationContext, databaseName);
+            return queryContext.getSqlStatementContext() instanceof SelectStatementContext && !isQuerySystemSchema(queryContext)
+                    && !isUseSQLFederationByRules((SelectStatementContext) queryContext.getSqlStatementContext(), queryContext, metaData.getGlobalRuleMetaData());
+        } catch (final ShardingSphereSQLException ex) {
+            log.debug("Push down SQL `{}` is not supported by kernel.", sqlString.getSql(), ex);
+            return false;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not judge whether push down SQL `{}` is available, SQL federation will execute it without push down.", sqlString.getSql(), ex);
+            return false;
+        }
+    }
+    
+    private QueryContext createPushDownQueryContext(final SqlString sqlString, final SQLFederationContext federationContext, final String databaseName) {
+        String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
+        SQLParserRule sqlParserRule = sqlFederationRule.getOptimizerContext().getSqlParserRule();
+        SQLStatement sqlStatement = new SQLStatementParserEngine(sqlFederationRule.getOptimizerContext().getParserContext(databaseName).getDatabaseType(),
+                sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache()).parse(sql, false);
+        List<Object> params = getPushDownParameters(sqlString.getDynamicParameters(), federationContext.getQueryContext().getParameters());
+        HintValueContext hintValueContext = new HintValueContext();
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(federationContext.getMetaData(), databaseName, hintValueContext).bind(sqlStatement, params);
+        return new QueryContext(sqlStatementContext, sql, params, hintValueContext, federationContext.getQueryContext().getConnectionContext(), federationContext.getMetaData(), false);
+    }
+    
+    private List<Object> getPushDownParameters(final Collection<Integer> dynamicParameters, final List<Object> params) {
+        if (null == dynamicParameters) {
+            return Collections.emptyList();
+        }
+        List<Object> result = new ArrayList<>(dynamicParameters.size());
+        for (int each : dynamicParameters) {
+            result.add(params.get(each));
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final SqlValidator validator, final SqlToRelConverter converter,
                                   final Schema sqlFederationSchema) {
         try {
-            Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
+            Map<String, Object> internalParams = new HashMap<>();
+            Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(internalParams, null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
             Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+            params.putAll(internalParams);
+            if (!federationContext.isPreview()) {
+                params.put(DynamicFilterContext.DATA_CONTEXT_NAME, new DynamicFilterContext());
+            }
             Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(validator, converter, params)).enumerator();
             return new SQLFederationResultSet(enumerator, sqlFederationSchema, (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext(),
                     executionPlan.getResultColumnType());
@@ -18,34 +18,45 @@
 package org.apache.shardingsphere.sqlfederation.rule;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsManager;
 
 import java.util.Collection;
+import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * SQL federation rule.
  */
 @Getter
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, AutoCloseable {
     
     private final SQLFederationRuleConfiguration configuration;
     
+    private final SQLFederationStatisticsManager statisticsManager;
+    
     private final AtomicReference<OptimizerContext> optimizerContext;
     
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
+        this(ruleConfig, databases, new ConfigurationProperties(new Properties()));
+    }
+    
+    public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
-        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases));
+        statisticsManager = new SQLFederationStatisticsManager(props.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS));
+        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases, statisticsManager));
     }
     
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
-        optimizerContext.set(OptimizerContextFactory.create(databases));
+        optimizerContext.set(OptimizerContextFactory.create(databases, statisticsManager));
     }
     
     /**
@@ -57,6 +68,11 @@ public final class SQLFederationRule implements GlobalRule {
         return optimizerContext.get();
     }
     
+    @Override
+    public void close() {
+        statisticsManager.close();
+    }
+    
     @Override
     public int getOrder() {
         return SQLFederationOrder.ORDER;
@@ -34,7 +34,7 @@ public final class SQLFederationRuleBuilder implements GlobalRuleBuilder<SQLFede
     
     @Override
     public GlobalRule build(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
-        return new SQLFederationRule(ruleConfig, databases);
+        return new SQLFederationRule(ruleConfig, databases, props);
     }
     
     @Override
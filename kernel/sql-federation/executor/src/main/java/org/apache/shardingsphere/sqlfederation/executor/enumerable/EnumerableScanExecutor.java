@@ -72,7 +72,6 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -204,20 +203,21 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString.getParamIndexes(), sqlString.getDynamicFilterParams());
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, federationContext.getQueryContext().getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final int[] paramIndexes, final List<Object> dynamicFilterParams) {
         if (null == paramIndexes) {
-            return Collections.emptyList();
+            return dynamicFilterParams;
         }
-        List<Object> result = new ArrayList<>(paramIndexes.length);
+        List<Object> result = new ArrayList<>(paramIndexes.length + dynamicFilterParams.size());
         for (int each : paramIndexes) {
             result.add(federationContext.getQueryContext().getParameters().get(each));
         }
+        result.addAll(dynamicFilterParams);
         return result;
     }
     
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.sqlfederation.executor.enumerable;
 
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
@@ -27,14 +31,22 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
 
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -42,6 +54,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 class EnumerableScanExecutorTest {
@@ -73,4 +86,34 @@ class EnumerableScanExecutorTest {
             assertThat(((Object[]) row)[0], is(1));
         }
     }
+    
+    @Test
+    void assertExecuteWithDynamicFilterParametersAfterExistingParameters() {
+        OptimizerContext optimizerContext = mock(OptimizerContext.class, RETURNS_DEEP_STUBS);
+        when(optimizerContext.getParserContext(any()).getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        SQLFederationExecutorContext executorContext = mock(SQLFederationExecutorContext.class);
+        when(executorContext.getDatabaseName()).thenReturn("foo_db");
+        when(executorContext.getSchemaName()).thenReturn("foo_db");
+        SQLFederationContext federationContext = mock(SQLFederationContext.class, RETURNS_DEEP_STUBS);
+        when(federationContext.isPreview()).thenReturn(true);
+        when(federationContext.getQueryContext().getParameters()).thenReturn(Arrays.asList("OK", 10));
+        when(federationContext.getQueryContext().getConnectionContext()).thenReturn(mock(ConnectionContext.class));
+        String sql = "SELECT order_id FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?, ?)";
+        List<QueryContext> actual = new LinkedList<>();
+        try (
+                MockedConstruction<SQLStatementParserEngine> ignoredParserEngine = mockConstruction(SQLStatementParserEngine.class);
+                MockedConstruction<SQLBindEngine> ignoredBindEngine = mockConstruction(SQLBindEngine.class,
+                        (mock, context) -> when(mock.bind(any(), any())).thenReturn(mock(SQLStatementContext.class)));
+                MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
+                        (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenAnswer(invocation -> {
+                            actual.add(invocation.getArgument(0));
+                            return mock(ExecutionContext.class);
+                        }))) {
+            new EnumerableScanExecutor(null, null, null, optimizerContext, executorContext, federationContext, null, null)
+                    .execute(mock(ShardingSphereTable.class), new ScanExecutorContext(null, sql, new int[]{1}, Arrays.asList(3L, 1L, 2L, 2L)));
+        }
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getSql(), is(sql));
+        assertThat(actual.get(0).getParameters(), is(Arrays.<Object>asList(10, 3L, 1L, 2L, 2L)));
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.Optimize
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContextFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaDataFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsManager;
 
 import java.util.Collection;
 import java.util.Map;
@@ -43,13 +44,14 @@ public final class OptimizerContextFactory {
      * Create optimize context.
      *
      * @param databases databases
+     * @param statisticsManager statistics manager
      * @return created optimizer context
      */
-    public static OptimizerContext create(final Collection<ShardingSphereDatabase> databases) {
+    public static OptimizerContext create(final Collection<ShardingSphereDatabase> databases, final SQLFederationStatisticsManager statisticsManager) {
         Map<String, OptimizerParserContext> parserContexts = OptimizerParserContextFactory.create(databases);
         // TODO consider to use sqlParserRule in global rule
         SQLParserRule sqlParserRule = new SQLParserRuleBuilder().build(new DefaultSQLParserRuleConfigurationBuilder().build(), databases, new ConfigurationProperties(new Properties()));
-        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases);
+        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases, statisticsManager);
         return new OptimizerContext(sqlParserRule, parserContexts, optimizerMetaData);
     }
 }
@@ -23,12 +23,22 @@ import lombok.NoArgsConstructor;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.schema.Schema;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsManager;
 
 import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Optimizer meta data factory.
@@ -42,12 +52,13 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data map.
      *
      * @param databases databases
+     * @param statisticsManager statistics manager
      * @return created optimizer planner context map
      */
-    public static Map<String, OptimizerMetaData> create(final Collection<ShardingSphereDatabase> databases) {
+    public static Map<String, OptimizerMetaData> create(final Collection<ShardingSphereDatabase> databases, final SQLFederationStatisticsManager statisticsManager) {
         Map<String, OptimizerMetaData> result = new CaseInsensitiveMap<>(databases.size(), 1F);
         for (ShardingSphereDatabase each : databases) {
-            result.put(each.getName(), create(each));
+            result.put(each.getName(), create(each, statisticsManager));
         }
         return result;
     }
@@ -56,13 +67,56 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data.
      *
      * @param database database
+     * @param statisticsManager statistics manager
      * @return created optimizer planner context
      */
-    public static OptimizerMetaData create(final ShardingSphereDatabase database) {
+    public static OptimizerMetaData create(final ShardingSphereDatabase database, final SQLFederationStatisticsManager statisticsManager) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
         for (ShardingSphereSchema each : database.getAllSchemas()) {
-            schemas.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY));
+            schemas.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY,
+                    table -> createStatistic(database, each.getName(), table, statisticsManager)));
         }
         return new OptimizerMetaData(schemas);
     }
+    
+    private static SQLFederationStatistic createStatistic(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table,
+                                                          final SQLFederationStatisticsManager statisticsManager) {
+        List<String> columnNames = table.getAllColumns().stream().map(ShardingSphereColumn::getName).collect(Collectors.toList());
+        return new SQLFederationStatistic(columnNames, getKeys(table, columnNames), () -> statisticsManager.findTableStatistics(database, schemaName, table));
+    }
+    
+    private static Collection<ImmutableBitSet> getKeys(final ShardingSphereTable table, final List<String> columnNames) {
+        Collection<ImmutableBitSet> result = new LinkedList<>();
+        findKey(table.getPrimaryKeyColumns(), columnNames).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            if (each.isUnique()) {
+                findKey(each.getColumns(), columnNames).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<ImmutableBitSet> findKey(final Collection<String> keyColumnNames, final List<String> columnNames) {
+        if (keyColumnNames.isEmpty()) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : keyColumnNames) {
+            int columnIndex = getColumnIndex(each, columnNames);
+            if (columnIndex < 0) {
+                return Optional.empty();
+            }
+            result.set(columnIndex);
+        }
+        return Optional.of(result.build());
+    }
+    
+    private static int getColumnIndex(final String columnName, final List<String> columnNames) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.converter.operator.common;
+
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlFunction;
+import org.apache.calcite.sql.SqlFunctionCategory;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOperandCountRange;
+import org.apache.calcite.sql.SqlSyntax;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.SqlWriter.Frame;
+import org.apache.calcite.sql.type.InferTypes;
+import org.apache.calcite.sql.type.OperandTypes;
+import org.apache.calcite.sql.type.ReturnTypes;
+import org.apache.calcite.sql.type.SqlOperandCountRanges;
+
+import java.util.List;
+
+/**
+ * In list operator, which is only used to generate push down SQL with in list of expressions.
+ */
+public final class InListOperator extends SqlFunction {
+    
+    public InListOperator() {
+        super("IN_LIST", SqlKind.OTHER_FUNCTION, ReturnTypes.BOOLEAN_NULLABLE, InferTypes.FIRST_KNOWN, OperandTypes.ANY, SqlFunctionCategory.SYSTEM);
+    }
+    
+    @Override
+    public void unparse(final SqlWriter writer, final SqlCall call, final int leftPrecedence, final int rightPrecedence) {
+        List<SqlNode> operandList = call.getOperandList();
+        operandList.get(0).unparse(writer, 0, 0);
+        writer.sep("IN");
+        Frame frame = writer.startList("(", ")");
+        for (int i = 1; i < operandList.size(); i++) {
+            writer.sep(",");
+            operandList.get(i).unparse(writer, 0, 0);
+        }
+        writer.endList(frame);
+    }
+    
+    @Override
+    public SqlOperandCountRange getOperandCountRange() {
+        return SqlOperandCountRanges.from(2);
+    }
+    
+    @Override
+    public SqlSyntax getSyntax() {
+        return SqlSyntax.SPECIAL;
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederation
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * SQL federation schema.
@@ -46,18 +47,23 @@ public final class SQLFederationSchema extends AbstractSchema {
     private final Map<String, Table> tableMap;
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        this(schemaName, schema, protocolType, javaTypeFactory, table -> new SQLFederationStatistic());
+    }
+    
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                               final Function<ShardingSphereTable, SQLFederationStatistic> statisticCreator) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, protocolType, javaTypeFactory, statisticCreator);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                                              final Function<ShardingSphereTable, SQLFederationStatistic> statisticCreator) {
         Map<String, Table> result = new CaseInsensitiveMap<>(schema.getAllTables().size(), 1F);
         for (ShardingSphereTable each : schema.getAllTables()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName(), new SQLFederationTable(each, statisticCreator.apply(each), protocolType));
             }
         }
         return result;
@@ -35,6 +35,8 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 import org.apache.calcite.rel.logical.LogicalTableModify;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.DistinctRowCount;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.Selectivity;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
@@ -47,16 +49,23 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterCollectEnumerator;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterValues;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationDistinctRowCountHandler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationSelectivityHandler;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -113,6 +122,78 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
     }
     
+    /**
+     * Execute and collect join key values for dynamic filter.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param dynamicFilterId dynamic filter ID
+     * @param keyIndex join key index
+     * @return enumerable result
+     */
+    public Enumerable<Object> executeAndCollectDynamicFilter(final DataContext root, final String sql, final int[] paramIndexes, final int dynamicFilterId, final int keyIndex) {
+        Enumerable<Object> result = execute(root, sql, paramIndexes);
+        Optional<DynamicFilterContext> dynamicFilterContext = DynamicFilterContext.find(root);
+        if (!dynamicFilterContext.isPresent()) {
+            return result;
+        }
+        DynamicFilterValues dynamicFilterValues = dynamicFilterContext.get().getValues(dynamicFilterId);
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return new DynamicFilterCollectEnumerator(result.enumerator(), dynamicFilterValues, keyIndex);
+            }
+        };
+    }
+    
+    /**
+     * Execute with dynamic filter collected from build side of join.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param dynamicFilterId dynamic filter ID
+     * @param sqlProvider provider of SQL with dynamic filter predicate
+     * @return enumerable result
+     */
+    public Enumerable<Object> executeWithDynamicFilter(final DataContext root, final String sql, final int[] paramIndexes, final int dynamicFilterId, final DynamicFilterSQLProvider sqlProvider) {
+        Optional<DynamicFilterContext> dynamicFilterContext = DynamicFilterContext.find(root);
+        if (null == scanExecutor || !dynamicFilterContext.isPresent()) {
+            return execute(root, sql, paramIndexes);
+        }
+        DynamicFilterValues dynamicFilterValues = dynamicFilterContext.get().getValues(dynamicFilterId);
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return createDynamicFilterEnumerable(root, sql, paramIndexes, dynamicFilterValues, sqlProvider).enumerator();
+            }
+        };
+    }
+    
+    private Enumerable<Object> createDynamicFilterEnumerable(final DataContext root, final String sql, final int[] paramIndexes, final DynamicFilterValues dynamicFilterValues,
+                                                             final DynamicFilterSQLProvider sqlProvider) {
+        if (!dynamicFilterValues.isCompleted()) {
+            return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+        }
+        if (dynamicFilterValues.isEmpty()) {
+            return createEmptyEnumerable();
+        }
+        int inListSize = 1 << (32 - Integer.numberOfLeadingZeros(dynamicFilterValues.getValuesCount() - 1));
+        Optional<List<Object>> inListParams = inListSize <= DynamicFilterContext.MAX_IN_LIST_SIZE ? dynamicFilterValues.findInListParameters(inListSize) : Optional.empty();
+        Optional<String> inListSQL = inListParams.isPresent() ? sqlProvider.findInListSQL(inListSize) : Optional.empty();
+        if (inListSQL.isPresent()) {
+            return scanExecutor.execute(table, new ScanExecutorContext(root, inListSQL.get(), paramIndexes, inListParams.get()));
+        }
+        Optional<List<Object>> rangeParams = dynamicFilterValues.findRangeParameters();
+        Optional<String> rangeSQL = rangeParams.isPresent() ? sqlProvider.findRangeSQL() : Optional.empty();
+        return rangeSQL.isPresent()
+                ? scanExecutor.execute(table, new ScanExecutorContext(root, rangeSQL.get(), paramIndexes, rangeParams.get()))
+                : scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+    }
+    
     private AbstractEnumerable<Object> createEmptyEnumerable() {
         return new AbstractEnumerable<Object>() {
             
@@ -133,6 +214,17 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return statistic;
     }
     
+    @Override
+    public <C> C unwrap(final Class<C> clazz) {
+        if (Selectivity.Handler.class == clazz && statistic.findTableStatistics().isPresent()) {
+            return clazz.cast(new SQLFederationSelectivityHandler(statistic));
+        }
+        if (DistinctRowCount.Handler.class == clazz && statistic.findTableStatistics().isPresent()) {
+            return clazz.cast(new SQLFederationDistinctRowCountHandler(statistic));
+        }
+        return super.unwrap(clazz);
+    }
+    
     @Override
     public Collection<Object[]> getModifiableCollection() {
         throw new UnsupportedOperationException();
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.apache.calcite.linq4j.Enumerator;
+
+/**
+ * Dynamic filter collect enumerator, which collects join key values of build side while enumerating.
+ */
+public final class DynamicFilterCollectEnumerator implements Enumerator<Object> {
+    
+    private final Enumerator<Object> enumerator;
+    
+    private final DynamicFilterValues dynamicFilterValues;
+    
+    private final int keyIndex;
+    
+    public DynamicFilterCollectEnumerator(final Enumerator<Object> enumerator, final DynamicFilterValues dynamicFilterValues, final int keyIndex) {
+        this.enumerator = enumerator;
+        this.dynamicFilterValues = dynamicFilterValues;
+        this.keyIndex = keyIndex;
+        dynamicFilterValues.reset();
+    }
+    
+    @Override
+    public Object current() {
+        return enumerator.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (enumerator.moveNext()) {
+            Object row = enumerator.current();
+            dynamicFilterValues.add(row instanceof Object[] ? ((Object[]) row)[keyIndex] : row);
+            return true;
+        }
+        dynamicFilterValues.complete();
+        return false;
+    }
+    
+    @Override
+    public void reset() {
+        enumerator.reset();
+        dynamicFilterValues.reset();
+    }
+    
+    @Override
+    public void close() {
+        enumerator.close();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.apache.calcite.DataContext;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic filter context of one SQL federation execution.
+ */
+public final class DynamicFilterContext {
+    
+    /**
+     * Name of dynamic filter context in data context.
+     */
+    public static final String DATA_CONTEXT_NAME = "sqlFederationDynamicFilterContext";
+    
+    /**
+     * Max size of in list which is pushed down to probe side of join.
+     */
+    public static final int MAX_IN_LIST_SIZE = 1024;
+    
+    private final Map<Integer, DynamicFilterValues> dynamicFilterValues = new ConcurrentHashMap<>();
+    
+    /**
+     * Get dynamic filter values.
+     *
+     * @param dynamicFilterId dynamic filter ID
+     * @return dynamic filter values
+     */
+    public DynamicFilterValues getValues(final int dynamicFilterId) {
+        return dynamicFilterValues.computeIfAbsent(dynamicFilterId, unused -> new DynamicFilterValues(MAX_IN_LIST_SIZE));
+    }
+    
+    /**
+     * Find dynamic filter context.
+     *
+     * @param root data context
+     * @return dynamic filter context
+     */
+    public static Optional<DynamicFilterContext> find(final DataContext root) {
+        Object result = null == root ? null : root.get(DATA_CONTEXT_NAME);
+        return result instanceof DynamicFilterContext ? Optional.of((DynamicFilterContext) result) : Optional.empty();
+    }
+}
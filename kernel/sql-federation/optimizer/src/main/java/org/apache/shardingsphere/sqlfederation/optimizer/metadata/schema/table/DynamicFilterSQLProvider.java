@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import java.util.Optional;
+
+/**
+ * Dynamic filter SQL provider, which provides SQL of probe side with dynamic filter predicate after values of build side are collected.
+ */
+public interface DynamicFilterSQLProvider {
+    
+    /**
+     * Find SQL with in list predicate.
+     *
+     * @param inListSize in list size, which is power of two
+     * @return found SQL, empty if in list predicate is unavailable
+     */
+    Optional<String> findInListSQL(int inListSize);
+    
+    /**
+     * Find SQL with range predicate.
+     *
+     * @return found SQL, empty if range predicate is unavailable
+     */
+    Optional<String> findRangeSQL();
+}
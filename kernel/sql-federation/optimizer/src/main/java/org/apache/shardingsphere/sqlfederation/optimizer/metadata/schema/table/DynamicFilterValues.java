@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dynamic filter values collected from build side of join.
+ */
+@RequiredArgsConstructor
+public final class DynamicFilterValues {
+    
+    private final int maxInListSize;
+    
+    private final Collection<Object> values = new LinkedHashSet<>();
+    
+    @Getter
+    private boolean completed;
+    
+    private boolean inListOverflowed;
+    
+    private boolean rangeAvailable = true;
+    
+    private Object minValue;
+    
+    private Object maxValue;
+    
+    /**
+     * Reset collected values.
+     */
+    public void reset() {
+        values.clear();
+        completed = false;
+        inListOverflowed = false;
+        rangeAvailable = true;
+        minValue = null;
+        maxValue = null;
+    }
+    
+    /**
+     * Add value.
+     *
+     * @param value value
+     */
+    public void add(final Object value) {
+        if (null == value) {
+            return;
+        }
+        if (!inListOverflowed) {
+            values.add(value);
+            if (values.size() > maxInListSize) {
+                inListOverflowed = true;
+                values.clear();
+            }
+        }
+        if (rangeAvailable) {
+            updateRange(value);
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void updateRange(final Object value) {
+        if (!(value instanceof Number && value instanceof Comparable) || null != minValue && minValue.getClass() != value.getClass()) {
+            rangeAvailable = false;
+            return;
+        }
+        if (null == minValue || ((Comparable) value).compareTo(minValue) < 0) {
+            minValue = value;
+        }
+        if (null == maxValue || ((Comparable) value).compareTo(maxValue) > 0) {
+            maxValue = value;
+        }
+    }
+    
+    /**
+     * Mark values as completed.
+     */
+    public void complete() {
+        completed = true;
+    }
+    
+    /**
+     * Judge whether no value is collected.
+     *
+     * @return no value is collected or not
+     */
+    public boolean isEmpty() {
+        return !inListOverflowed && values.isEmpty();
+    }
+    
+    /**
+     * Find in list parameters, the last value is repeated to fill the in list size.
+     *
+     * @param inListSize in list size
+     * @return in list parameters
+     */
+    public Optional<List<Object>> findInListParameters(final int inListSize) {
+        if (inListOverflowed || values.isEmpty() || values.size() > inListSize) {
+            return Optional.empty();
+        }
+        List<Object> result = new ArrayList<>(inListSize);
+        result.addAll(values);
+        Object lastValue = result.get(result.size() - 1);
+        while (result.size() < inListSize) {
+            result.add(lastValue);
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Find range parameters with min value and max value.
+     *
+     * @return range parameters
+     */
+    public Optional<List<Object>> findRangeParameters() {
+        return rangeAvailable && null != minValue ? Optional.of(Arrays.asList(minValue, maxValue)) : Optional.empty();
+    }
+    
+    /**
+     * Get values count.
+     *
+     * @return values count, max in list size plus one if in list is overflowed
+     */
+    public int getValuesCount() {
+        return inListOverflowed ? maxInListSize + 1 : values.size();
+    }
+}
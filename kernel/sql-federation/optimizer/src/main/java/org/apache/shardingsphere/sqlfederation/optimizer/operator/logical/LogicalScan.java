@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.sqlfederation.optimizer.operator.logical;
 
 import lombok.Getter;
+import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Filter;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
 import java.util.Collections;
@@ -57,7 +61,12 @@ public final class LogicalScan extends TableScan {
      * @param logicalFilter logical filter
      */
     public void pushDown(final LogicalFilter logicalFilter) {
-        pushDownRelBuilder.filter(logicalFilter.getVariablesSet(), logicalFilter.getCondition());
+        if (pushDownRelBuilder.peek() instanceof Filter && logicalFilter.getVariablesSet().isEmpty() && ((Filter) pushDownRelBuilder.peek()).getVariablesSet().isEmpty()) {
+            Filter pushedFilter = (Filter) pushDownRelBuilder.build();
+            pushDownRelBuilder.push(pushedFilter.getInput()).filter(pushedFilter.getCondition(), logicalFilter.getCondition());
+        } else {
+            pushDownRelBuilder.filter(logicalFilter.getVariablesSet(), logicalFilter.getCondition());
+        }
         resetRowType(logicalFilter);
     }
     
@@ -71,6 +80,18 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down rel node which is built on current push down rel node.
+     *
+     * @param pushDownRelNode push down rel node
+     * @param replacedRelNode rel node replaced by logical scan
+     */
+    public void pushDown(final RelNode pushDownRelNode, final RelNode replacedRelNode) {
+        pushDownRelBuilder.clear();
+        pushDownRelBuilder.push(pushDownRelNode);
+        resetRowType(replacedRelNode);
+    }
+    
     /**
      * Peek rel node.
      *
@@ -80,6 +101,22 @@ public final class LogicalScan extends TableScan {
         return pushDownRelBuilder.peek();
     }
     
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return isStatisticAvailable(table) && !(pushDownRelBuilder.peek() instanceof TableScan) ? mq.getRowCount(pushDownRelBuilder.peek()) : super.estimateRowCount(mq);
+    }
+    
+    /**
+     * Judge whether statistic of table is available.
+     *
+     * @param table table
+     * @return statistic of table is available or not
+     */
+    public static boolean isStatisticAvailable(final RelOptTable table) {
+        SQLFederationTable sqlFederationTable = table.unwrap(SQLFederationTable.class);
+        return null != sqlFederationTable && null != sqlFederationTable.getStatistic().getRowCount();
+    }
+    
     @Override
     public boolean deepEquals(final Object other) {
         if (pushDownRelBuilder.peek() instanceof LogicalTableScan) {
@@ -24,6 +24,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -31,11 +32,14 @@ import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 
 import java.util.Collection;
@@ -49,30 +53,62 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
+    private final Double estimatedRowCount;
+    
+    private final EnumerableScanDynamicFilter dynamicFilter;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
+        this.pushDownRelNode = pushDownRelNode;
+        this.databaseType = databaseType;
         sqlString = createSQLString(pushDownRelNode, databaseType);
         pushDownRowType = pushDownRelNode.getRowType();
+        estimatedRowCount = LogicalScan.isStatisticAvailable(table) ? cluster.getMetadataQuery().getRowCount(pushDownRelNode) : null;
+        dynamicFilter = null;
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        this.sqlString = sqlString;
-        this.pushDownRowType = pushDownRowType;
+    private EnumerableScan(final EnumerableScan enumerableScan, final RelTraitSet traitSet, final EnumerableScanDynamicFilter dynamicFilter) {
+        super(enumerableScan.getCluster(), traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), enumerableScan.getTable());
+        pushDownRelNode = enumerableScan.pushDownRelNode;
+        databaseType = enumerableScan.databaseType;
+        sqlString = enumerableScan.sqlString;
+        pushDownRowType = enumerableScan.pushDownRowType;
+        estimatedRowCount = enumerableScan.estimatedRowCount;
+        this.dynamicFilter = dynamicFilter;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(this, traitSet, dynamicFilter);
+    }
+    
+    /**
+     * Copy enumerable scan with dynamic filter.
+     *
+     * @param dynamicFilter dynamic filter
+     * @return copied enumerable scan
+     */
+    public EnumerableScan copy(final EnumerableScanDynamicFilter dynamicFilter) {
+        return new EnumerableScan(this, traitSet, dynamicFilter);
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return null == estimatedRowCount ? super.estimateRowCount(mq) : estimatedRowCount;
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters())
+                .itemIf("estimatedRows", estimatedRowCount, null != estimatedRowCount).itemIf("dynamicFilter", dynamicFilter, null != dynamicFilter);
     }
     
     @Override
@@ -83,17 +119,51 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     @Override
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
-        int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        return implementor.result(physType, Blocks.toBlock(createExecuteExpression(implementor)));
+    }
+    
+    private Expression createExecuteExpression(final EnumerableRelImplementor implementor) {
+        Expression tableExpression = Objects.requireNonNull(table.getExpression(SQLFederationTable.class));
+        Expression sqlExpression = Expressions.constant(formatSQL(sqlString));
+        Expression paramIndexesExpression = Expressions.constant(getParamIndexes(sqlString.getDynamicParameters()));
+        if (null == dynamicFilter) {
+            return Expressions.call(tableExpression, "execute", implementor.getRootExpression(), sqlExpression, paramIndexesExpression);
+        }
+        if (dynamicFilter.isProducer()) {
+            return Expressions.call(tableExpression, "executeAndCollectDynamicFilter", implementor.getRootExpression(), sqlExpression, paramIndexesExpression,
+                    Expressions.constant(dynamicFilter.getId()), Expressions.constant(dynamicFilter.getKeyIndex()));
+        }
+        Expression sqlProviderExpression = implementor.stash(dynamicFilter.getSqlProvider(), DynamicFilterSQLProvider.class);
+        return Expressions.call(tableExpression, "executeWithDynamicFilter", implementor.getRootExpression(), sqlExpression, paramIndexesExpression,
+                Expressions.constant(dynamicFilter.getId()), sqlProviderExpression);
+    }
+    
+    /**
+     * Format SQL string to SQL which can be executed by kernel.
+     *
+     * @param sqlString SQL string
+     * @return formatted SQL
+     */
+    public static String formatSQL(final SqlString sqlString) {
+        return sqlString.getSql().replace("u&'\\", "'\\u");
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    /**
+     * Create SQL string.
+     *
+     * @param scanContext push down rel node
+     * @param databaseType database type
+     * @return SQL string
+     */
+    public static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
     
     private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
+        if (null == dynamicParameters) {
+            return new int[]{};
+        }
         int[] result = new int[dynamicParameters.size()];
         int index = 0;
         for (Integer each : dynamicParameters) {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+
+/**
+ * Dynamic filter of enumerable scan.
+ *
+ * <p>Producer scan is the build side of hash join, which collects join key values while enumerating.
+ * Consumer scan is the probe side of hash join, which filters join key with the collected values.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class EnumerableScanDynamicFilter {
+    
+    private final int id;
+    
+    private final boolean producer;
+    
+    private final int keyIndex;
+    
+    private final DynamicFilterSQLProvider sqlProvider;
+    
+    /**
+     * Create dynamic filter producer.
+     *
+     * @param id dynamic filter ID
+     * @param keyIndex join key index
+     * @return dynamic filter producer
+     */
+    public static EnumerableScanDynamicFilter createProducer(final int id, final int keyIndex) {
+        return new EnumerableScanDynamicFilter(id, true, keyIndex, null);
+    }
+    
+    /**
+     * Create dynamic filter consumer.
+     *
+     * @param id dynamic filter ID
+     * @param keyIndex join key index
+     * @param sqlProvider provider of SQL with dynamic filter predicate
+     * @return dynamic filter consumer
+     */
+    public static EnumerableScanDynamicFilter createConsumer(final int id, final int keyIndex, final DynamicFilterSQLProvider sqlProvider) {
+        return new EnumerableScanDynamicFilter(id, false, keyIndex, sqlProvider);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s#%d($%d)", producer ? "producer" : "consumer", id, keyIndex);
+    }
+}
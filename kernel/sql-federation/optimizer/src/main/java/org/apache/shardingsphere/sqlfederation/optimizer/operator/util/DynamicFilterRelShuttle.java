@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScanDynamicFilter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Dynamic filter rel shuttle.
+ *
+ * <p>For hash join whose inputs are both enumerable scans, join key values of build side (right input) are collected while building hash table,
+ * and then pushed down to SQL of probe side (left input) as in list or range predicate.
+ * SQL of probe side is generated lazily by {@link DynamicFilterSQLGenerator} after values of build side are collected.</p>
+ */
+public final class DynamicFilterRelShuttle extends RelShuttleImpl {
+    
+    private static final EnumSet<JoinRelType> SUPPORTED_JOIN_TYPES = EnumSet.of(JoinRelType.INNER, JoinRelType.SEMI, JoinRelType.RIGHT);
+    
+    private int dynamicFilterId;
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        if (!(result instanceof EnumerableHashJoin)) {
+            return result;
+        }
+        EnumerableHashJoin hashJoin = (EnumerableHashJoin) result;
+        JoinInfo joinInfo = hashJoin.analyzeCondition();
+        if (!SUPPORTED_JOIN_TYPES.contains(hashJoin.getJoinType()) || joinInfo.leftKeys.isEmpty() || !isScanWithoutDynamicFilter(hashJoin.getLeft())
+                || !isScanWithoutDynamicFilter(hashJoin.getRight())) {
+            return result;
+        }
+        EnumerableScan probeScan = (EnumerableScan) hashJoin.getLeft();
+        EnumerableScan buildScan = (EnumerableScan) hashJoin.getRight();
+        Optional<EnumerableScanDynamicFilter> consumer = createConsumer(probeScan, joinInfo.leftKeys.get(0));
+        if (!consumer.isPresent()) {
+            return result;
+        }
+        EnumerableScanDynamicFilter producer = EnumerableScanDynamicFilter.createProducer(dynamicFilterId++, joinInfo.rightKeys.get(0));
+        return hashJoin.copy(hashJoin.getTraitSet(), Arrays.asList(probeScan.copy(consumer.get()), buildScan.copy(producer)));
+    }
+    
+    private boolean isScanWithoutDynamicFilter(final RelNode relNode) {
+        return relNode instanceof EnumerableScan && null == ((EnumerableScan) relNode).getDynamicFilter();
+    }
+    
+    private Optional<EnumerableScanDynamicFilter> createConsumer(final EnumerableScan probeScan, final int keyIndex) {
+        return DynamicFilterSQLGenerator.create(probeScan, keyIndex).map(optional -> EnumerableScanDynamicFilter.createConsumer(dynamicFilterId, keyIndex, optional));
+    }
+    
+    /**
+     * Add dynamic filter to physical plan.
+     *
+     * @param relNode physical plan
+     * @return physical plan with dynamic filter
+     */
+    public static RelNode apply(final RelNode relNode) {
+        return relNode.accept(new DynamicFilterRelShuttle());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import com.google.common.base.Suppliers;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.operator.common.InListOperator;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Dynamic filter SQL generator.
+ *
+ * <p>SQL of probe side is generated only when the variant is first required by collected values of build side, and then cached with the execution plan.</p>
+ */
+public final class DynamicFilterSQLGenerator implements DynamicFilterSQLProvider {
+    
+    private static final InListOperator IN_LIST = new InListOperator();
+    
+    private final EnumerableScan probeScan;
+    
+    private final int keyIndex;
+    
+    private final Map<Integer, Optional<String>> inListSQLs = new ConcurrentHashMap<>();
+    
+    private final Supplier<Optional<String>> rangeSQL;
+    
+    private DynamicFilterSQLGenerator(final EnumerableScan probeScan, final int keyIndex) {
+        this.probeScan = probeScan;
+        this.keyIndex = keyIndex;
+        rangeSQL = Suppliers.memoize(() -> generateSQL(2, false))::get;
+    }
+    
+    /**
+     * Create dynamic filter SQL generator.
+     *
+     * @param probeScan enumerable scan of probe side
+     * @param keyIndex join key index of probe side
+     * @return created dynamic filter SQL generator, empty if predicate can not be pushed down to probe side
+     */
+    public static Optional<DynamicFilterSQLGenerator> create(final EnumerableScan probeScan, final int keyIndex) {
+        if (null == probeScan.getPushDownRelNode()) {
+            return Optional.empty();
+        }
+        DynamicFilterSQLGenerator result = new DynamicFilterSQLGenerator(probeScan, keyIndex);
+        return result.createFilteredRelNode(1, true).isPresent() ? Optional.of(result) : Optional.empty();
+    }
+    
+    @Override
+    public Optional<String> findInListSQL(final int inListSize) {
+        return inListSQLs.computeIfAbsent(inListSize, key -> generateSQL(key, true));
+    }
+    
+    @Override
+    public Optional<String> findRangeSQL() {
+        return rangeSQL.get();
+    }
+    
+    private Optional<String> generateSQL(final int paramCount, final boolean inList) {
+        Optional<RelNode> filteredRelNode = createFilteredRelNode(paramCount, inList);
+        if (!filteredRelNode.isPresent()) {
+            return Optional.empty();
+        }
+        SqlString result = EnumerableScan.createSQLString(filteredRelNode.get(), probeScan.getDatabaseType());
+        return isDynamicFilterParametersAppended(probeScan.getSqlString(), result, paramCount) ? Optional.of(EnumerableScan.formatSQL(result)) : Optional.empty();
+    }
+    
+    private Optional<RelNode> createFilteredRelNode(final int paramCount, final boolean inList) {
+        RexBuilder rexBuilder = probeScan.getCluster().getRexBuilder();
+        return createFilteredRelNode(probeScan.getPushDownRelNode(), keyIndex, key -> createPredicate(rexBuilder, key, paramCount, inList));
+    }
+    
+    private Optional<RelNode> createFilteredRelNode(final RelNode relNode, final int columnIndex, final Function<RexNode, RexNode> predicateFactory) {
+        if (relNode instanceof Project) {
+            Project project = (Project) relNode;
+            RexNode projectedKey = project.getProjects().get(columnIndex);
+            return projectedKey instanceof RexInputRef
+                    ? createFilteredRelNode(project.getInput(), ((RexInputRef) projectedKey).getIndex(), predicateFactory)
+                            .map(optional -> project.copy(project.getTraitSet(), optional, project.getProjects(), project.getRowType()))
+                    : Optional.empty();
+        }
+        RexNode key = RexInputRef.of(columnIndex, relNode.getRowType());
+        if (relNode instanceof Filter && isTableScanOrJoin(((Filter) relNode).getInput())) {
+            Filter filter = (Filter) relNode;
+            RexNode condition = RexUtil.composeConjunction(relNode.getCluster().getRexBuilder(), Arrays.asList(filter.getCondition(), predicateFactory.apply(key)));
+            return Optional.of(filter.copy(filter.getTraitSet(), filter.getInput(), condition));
+        }
+        return isTableScanOrJoin(relNode) ? Optional.of(LogicalFilter.create(relNode, predicateFactory.apply(key))) : Optional.empty();
+    }
+    
+    private boolean isTableScanOrJoin(final RelNode relNode) {
+        return relNode instanceof TableScan || relNode instanceof Join;
+    }
+    
+    private RexNode createPredicate(final RexBuilder rexBuilder, final RexNode key, final int paramCount, final boolean inList) {
+        List<RexNode> operands = new ArrayList<>(paramCount + 1);
+        operands.add(key);
+        for (int i = 0; i < paramCount; i++) {
+            operands.add(rexBuilder.makeDynamicParam(key.getType(), -i - 1));
+        }
+        if (inList) {
+            return rexBuilder.makeCall(IN_LIST, operands);
+        }
+        return rexBuilder.makeCall(SqlStdOperatorTable.AND, rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, key, operands.get(1)),
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, key, operands.get(2)));
+    }
+    
+    private boolean isDynamicFilterParametersAppended(final SqlString sqlString, final SqlString filteredSQLString, final int paramCount) {
+        List<Integer> expected = null == sqlString.getDynamicParameters() ? new ArrayList<>(paramCount) : new ArrayList<>(sqlString.getDynamicParameters());
+        for (int i = 0; i < paramCount; i++) {
+            expected.add(-i - 1);
+        }
+        return expected.equals(null == filteredSQLString.getDynamicParameters() ? Collections.emptyList() : filteredSQLString.getDynamicParameters());
+    }
+}
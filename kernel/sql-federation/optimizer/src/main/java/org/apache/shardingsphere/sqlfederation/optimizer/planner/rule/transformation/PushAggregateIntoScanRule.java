@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+/**
+ * Push aggregate into scan rule.
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final EnumSet<SqlKind> SUPPORTED_AGGREGATION_KINDS = EnumSet.of(SqlKind.COUNT, SqlKind.MIN, SqlKind.MAX);
+    
+    private static final EnumSet<SqlTypeName> SUPPORTED_SUM_ARGUMENT_TYPES = EnumSet.of(SqlTypeName.DECIMAL, SqlTypeName.DOUBLE, SqlTypeName.FLOAT, SqlTypeName.REAL);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        if (ScanPushDownUtils.containsSystemSchema(logicalScan) || Group.SIMPLE != logicalAggregate.getGroupType() || !ScanPushDownUtils.isSimpleSelect(logicalScan.peek())) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isSupportedAggregateCall(logicalAggregate, each)) {
+                return false;
+            }
+        }
+        return ScanPushDownUtils.isPushDownAvailable(call, logicalScan, () -> createPushDownRelNode(logicalAggregate, logicalScan), false);
+    }
+    
+    private boolean isSupportedAggregateCall(final LogicalAggregate logicalAggregate, final AggregateCall aggregateCall) {
+        if (aggregateCall.isDistinct() || aggregateCall.isApproximate() || aggregateCall.hasFilter() || !aggregateCall.getCollation().getFieldCollations().isEmpty()) {
+            return false;
+        }
+        SqlKind kind = aggregateCall.getAggregation().getKind();
+        if (SUPPORTED_AGGREGATION_KINDS.contains(kind)) {
+            return true;
+        }
+        return SqlKind.SUM == kind && 1 == aggregateCall.getArgList().size()
+                && SUPPORTED_SUM_ARGUMENT_TYPES.contains(logicalAggregate.getInput().getRowType().getFieldList().get(aggregateCall.getArgList().get(0)).getType().getSqlTypeName());
+    }
+    
+    private RelNode createPushDownRelNode(final LogicalAggregate logicalAggregate, final LogicalScan logicalScan) {
+        return logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(logicalScan.peek()));
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(createPushDownRelNode(logicalAggregate, logicalScan), logicalAggregate);
+        call.transformTo(logicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
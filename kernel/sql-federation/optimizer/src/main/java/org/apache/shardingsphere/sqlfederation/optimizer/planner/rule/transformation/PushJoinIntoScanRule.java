@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+
+/**
+ * Push join into scan rule.
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        if (ScanPushDownUtils.containsSystemSchema(leftScan) || ScanPushDownUtils.containsSystemSchema(rightScan) || !isSupportedJoinType(logicalJoin.getJoinType())
+                || !logicalJoin.getVariablesSet().isEmpty() || RexUtil.containsCorrelation(logicalJoin.getCondition())) {
+            return false;
+        }
+        if (!leftScan.getDatabaseType().equals(rightScan.getDatabaseType())
+                || !ScanPushDownUtils.isFilterOverJoinTree(leftScan.peek()) || !ScanPushDownUtils.isFilterOverJoinTree(rightScan.peek())) {
+            return false;
+        }
+        return ScanPushDownUtils.isPushDownAvailable(call, leftScan, () -> createPushDownRelNode(logicalJoin, leftScan, rightScan), true);
+    }
+    
+    private boolean isSupportedJoinType(final JoinRelType joinType) {
+        return JoinRelType.INNER == joinType || JoinRelType.LEFT == joinType;
+    }
+    
+    private RelNode createPushDownRelNode(final LogicalJoin logicalJoin, final LogicalScan leftScan, final LogicalScan rightScan) {
+        RelNode leftInput = getFilterInput(leftScan.peek());
+        RelNode rightInput = getFilterInput(rightScan.peek());
+        RexNode joinCondition = logicalJoin.getCondition();
+        if (rightScan.peek() instanceof Filter) {
+            RexNode rightCondition = RexUtil.shift(((Filter) rightScan.peek()).getCondition(), leftInput.getRowType().getFieldCount());
+            joinCondition = RexUtil.composeConjunction(logicalJoin.getCluster().getRexBuilder(), Arrays.asList(joinCondition, rightCondition));
+        }
+        RelNode result = logicalJoin.copy(logicalJoin.getTraitSet(), joinCondition, leftInput, rightInput, logicalJoin.getJoinType(), logicalJoin.isSemiJoinDone());
+        return leftScan.peek() instanceof Filter ? LogicalFilter.create(result, ((Filter) leftScan.peek()).getCondition()) : result;
+    }
+    
+    private RelNode getFilterInput(final RelNode relNode) {
+        return relNode instanceof Filter ? ((Filter) relNode).getInput() : relNode;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        leftScan.pushDown(createPushDownRelNode(logicalJoin, leftScan, rightScan), logicalJoin);
+        call.transformTo(leftScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
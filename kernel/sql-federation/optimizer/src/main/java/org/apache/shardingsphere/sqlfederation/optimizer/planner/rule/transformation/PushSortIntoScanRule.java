@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Push sort into scan rule.
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        if (ScanPushDownUtils.containsSystemSchema(logicalScan) || !isSupportedInput(logicalScan.peek()) || !isSupportedOffsetOrFetch(logicalSort.offset)
+                || !isSupportedOffsetOrFetch(logicalSort.fetch) || !isDefaultNullDirection(logicalSort, SQLDialectFactory.getSQLDialect(logicalScan.getDatabaseType()))) {
+            return false;
+        }
+        return ScanPushDownUtils.isPushDownAvailable(call, logicalScan, () -> createPushDownRelNode(logicalSort, logicalScan), false);
+    }
+    
+    private boolean isSupportedInput(final RelNode input) {
+        return ScanPushDownUtils.isSimpleSelect(input) || input instanceof Aggregate && ScanPushDownUtils.isSimpleSelect(((Aggregate) input).getInput());
+    }
+    
+    private boolean isSupportedOffsetOrFetch(final RexNode offsetOrFetch) {
+        return null == offsetOrFetch || offsetOrFetch instanceof RexLiteral || offsetOrFetch instanceof RexDynamicParam;
+    }
+    
+    private boolean isDefaultNullDirection(final LogicalSort logicalSort, final SqlDialect sqlDialect) {
+        for (RelFieldCollation each : logicalSort.getCollation().getFieldCollations()) {
+            if (NullDirection.UNSPECIFIED == each.nullDirection || !logicalSort.getRowType().getFieldList().get(each.getFieldIndex()).getType().isNullable()) {
+                continue;
+            }
+            if (!sqlDialect.getNullCollation().isDefaultOrder(NullDirection.FIRST == each.nullDirection, each.direction.isDescending())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private RelNode createPushDownRelNode(final LogicalSort logicalSort, final LogicalScan logicalScan) {
+        List<RelFieldCollation> fieldCollations = new ArrayList<>(logicalSort.getCollation().getFieldCollations().size());
+        for (RelFieldCollation each : logicalSort.getCollation().getFieldCollations()) {
+            fieldCollations.add(each.withNullDirection(NullDirection.UNSPECIFIED));
+        }
+        RelCollation collation = RelCollations.of(fieldCollations);
+        return logicalSort.copy(logicalSort.getTraitSet().replace(collation), logicalScan.peek(), collation, logicalSort.offset, logicalSort.fetch);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(createPushDownRelNode(logicalSort, logicalScan), logicalSort);
+        call.transformTo(logicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
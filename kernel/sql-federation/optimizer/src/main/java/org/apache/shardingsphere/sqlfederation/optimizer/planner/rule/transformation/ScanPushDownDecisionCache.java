@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Scan push down decision cache.
+ *
+ * <p>Rules are fired repeatedly on the same rel nodes while rewriting, the cache keeps push down decision of matched rel nodes for one rewrite.
+ * Push down rel nodes of logical scans are part of the key, since logical scan is changed when rel node is pushed down.</p>
+ */
+public final class ScanPushDownDecisionCache {
+    
+    private final Map<List<Object>, Boolean> decisions = new HashMap<>();
+    
+    /**
+     * Get push down decision, which is judged only if decision of matched rel nodes is absent.
+     *
+     * @param call rule call
+     * @param decisionSupplier push down decision supplier
+     * @return can be pushed down or not
+     */
+    boolean get(final RelOptRuleCall call, final BooleanSupplier decisionSupplier) {
+        return decisions.computeIfAbsent(createKey(call), key -> decisionSupplier.getAsBoolean());
+    }
+    
+    private List<Object> createKey(final RelOptRuleCall call) {
+        List<Object> result = new ArrayList<>(call.getRelList().size() * 2 + 1);
+        result.add(call.getRule());
+        for (RelNode each : call.getRelList()) {
+            result.add(each);
+            if (each instanceof LogicalScan) {
+                result.add(((LogicalScan) each).peek());
+            }
+        }
+        return result;
+    }
+}
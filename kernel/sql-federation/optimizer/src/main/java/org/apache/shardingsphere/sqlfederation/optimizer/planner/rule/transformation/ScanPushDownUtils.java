@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Scan push down utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ScanPushDownUtils {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    /**
+     * Judge whether logical scan contains system schema.
+     *
+     * @param logicalScan logical scan
+     * @return contains system schema or not
+     */
+    static boolean containsSystemSchema(final LogicalScan logicalScan) {
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether rel node is simple select, which only contains column projection and filter over table scan or pushed down join.
+     *
+     * @param relNode rel node
+     * @return is simple select or not
+     */
+    static boolean isSimpleSelect(final RelNode relNode) {
+        RelNode input = relNode instanceof Project && isColumnProjection((Project) relNode) ? ((Project) relNode).getInput() : relNode;
+        return isFilterOverJoinTree(input);
+    }
+    
+    /**
+     * Judge whether rel node is filter over table scan or pushed down join, filter is optional.
+     *
+     * @param relNode rel node
+     * @return is filter over join tree or not
+     */
+    static boolean isFilterOverJoinTree(final RelNode relNode) {
+        return isJoinTree(relNode instanceof Filter ? ((Filter) relNode).getInput() : relNode);
+    }
+    
+    private static boolean isColumnProjection(final Project project) {
+        for (RexNode each : project.getProjects()) {
+            if (!(each instanceof RexInputRef)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isJoinTree(final RelNode relNode) {
+        if (relNode instanceof TableScan) {
+            return true;
+        }
+        return relNode instanceof Join && isJoinTree(((Join) relNode).getLeft()) && isJoinTree(((Join) relNode).getRight());
+    }
+    
+    /**
+     * Judge whether push down rel node can be executed by kernel.
+     *
+     * <p>Decision is memoized by scan push down decision cache of planner context if present, so push down SQL is only generated and checked once for matched rel nodes.</p>
+     *
+     * @param call rule call
+     * @param logicalScan logical scan
+     * @param pushDownRelNodeSupplier push down rel node supplier
+     * @param checkerRequired whether scan push down checker is required
+     * @return can be executed by kernel or not
+     */
+    static boolean isPushDownAvailable(final RelOptRuleCall call, final LogicalScan logicalScan, final Supplier<RelNode> pushDownRelNodeSupplier, final boolean checkerRequired) {
+        ScanPushDownChecker checker = call.getPlanner().getContext().unwrap(ScanPushDownChecker.class);
+        if (null == checker) {
+            return !checkerRequired;
+        }
+        BooleanSupplier decisionSupplier = () -> checker.isPushDownAvailable(EnumerableScan.createSQLString(pushDownRelNodeSupplier.get(), logicalScan.getDatabaseType()));
+        ScanPushDownDecisionCache decisionCache = call.getPlanner().getContext().unwrap(ScanPushDownDecisionCache.class);
+        return null == decisionCache ? decisionSupplier.getAsBoolean() : decisionCache.get(call, decisionSupplier);
+    }
+}
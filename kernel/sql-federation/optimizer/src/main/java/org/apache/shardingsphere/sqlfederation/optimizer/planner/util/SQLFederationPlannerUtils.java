@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableRules;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.plan.Context;
 import org.apache.calcite.plan.ConventionTraitDef;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
@@ -56,8 +57,11 @@ import org.apache.shardingsphere.sqlfederation.optimizer.function.SQLFederationF
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushJoinIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushSortIntoScanRule;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -97,9 +101,10 @@ public final class SQLFederationPlannerUtils {
     /**
      * Create new instance of hep planner.
      *
+     * @param context context
      * @return hep planner instance
      */
-    public static RelOptPlanner createHepPlanner() {
+    public static RelOptPlanner createHepPlanner(final Context context) {
         HepProgramBuilder builder = new HepProgramBuilder();
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
@@ -107,7 +112,7 @@ public final class SQLFederationPlannerUtils {
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
-        return new HepPlanner(builder.build());
+        return new HepPlanner(builder.build(), context);
     }
     
     private static void setUpRules(final RelOptPlanner planner) {
@@ -184,13 +189,16 @@ public final class SQLFederationPlannerUtils {
         result.add(CoreRules.JOIN_PUSH_EXPRESSIONS);
         result.add(CoreRules.JOIN_PUSH_TRANSITIVE_PREDICATES);
         result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushJoinIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
     private static Collection<RelOptRule> getAggregationRules() {
         Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
         result.add(CoreRules.AGGREGATE_MERGE);
         result.add(CoreRules.AGGREGATE_REDUCE_FUNCTIONS);
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
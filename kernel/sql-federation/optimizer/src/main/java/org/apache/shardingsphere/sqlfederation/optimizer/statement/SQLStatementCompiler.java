@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sqlfederation.optimizer.statement;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.Context;
+import org.apache.calcite.plan.Contexts;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
@@ -29,7 +31,10 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.DynamicFilterRelShuttle;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.ScanPushDownChecker;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.ScanPushDownDecisionCache;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 
 import java.util.Objects;
@@ -42,6 +47,12 @@ public final class SQLStatementCompiler {
     
     private final SqlToRelConverter converter;
     
+    private final ScanPushDownChecker scanPushDownChecker;
+    
+    public SQLStatementCompiler(final SqlToRelConverter converter) {
+        this(converter, null);
+    }
+    
     /**
      * Compile sql statement to execution plan.
      *
@@ -55,8 +66,9 @@ public final class SQLStatementCompiler {
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
-        RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
-        RelNode physicalPlan = optimize(rewritePlan, converter);
+        Context plannerContext = null == scanPushDownChecker ? Contexts.empty() : Contexts.of(scanPushDownChecker, new ScanPushDownDecisionCache());
+        RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner(plannerContext));
+        RelNode physicalPlan = DynamicFilterRelShuttle.apply(optimize(rewritePlan, converter));
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
     }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.DistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+
+import java.util.Optional;
+
+/**
+ * SQL federation distinct row count handler.
+ */
+@RequiredArgsConstructor
+public final class SQLFederationDistinctRowCountHandler implements DistinctRowCount.Handler {
+    
+    private final SQLFederationStatistic statistic;
+    
+    @Override
+    public Double getDistinctRowCount(final RelNode relNode, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        if (relNode instanceof LogicalScan && !(((LogicalScan) relNode).peek() instanceof TableScan)) {
+            return mq.getDistinctRowCount(((LogicalScan) relNode).peek(), groupKey, predicate);
+        }
+        if (groupKey.isEmpty()) {
+            return 1D;
+        }
+        Optional<SQLFederationTableStatistics> tableStatistics = statistic.findTableStatistics();
+        if (!tableStatistics.isPresent() || !statistic.isColumnStatisticsAvailable(relNode)) {
+            return null;
+        }
+        double result = 1D;
+        for (int each : groupKey) {
+            Optional<SQLFederationColumnStatistics> columnStatistics = statistic.findColumnStatistics(each);
+            if (!columnStatistics.isPresent()) {
+                return null;
+            }
+            result *= Math.max(columnStatistics.get().getDistinctCount(), 1L);
+        }
+        double rowCount = tableStatistics.get().getRowCount();
+        result = Math.min(result, rowCount);
+        return null == predicate ? result : RelMdUtil.numDistinctVals(result, rowCount * mq.getSelectivity(relNode, predicate));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+
+/**
+ * SQL federation histogram.
+ *
+ * <p>Histogram is kept as cumulative distribution points of non null values, which are sorted by value.
+ * Fraction of values between two adjacent points is assumed to be evenly spread.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationHistogram {
+    
+    private final double[] values;
+    
+    private final double[] fractions;
+    
+    /**
+     * Create histogram from equi-depth bucket bounds.
+     *
+     * @param bounds sorted bucket bounds, every bucket holds the same fraction of values
+     * @return created histogram
+     */
+    public static SQLFederationHistogram fromEquiDepthBounds(final List<Double> bounds) {
+        double[] values = new double[bounds.size()];
+        double[] fractions = new double[bounds.size()];
+        for (int i = 0; i < bounds.size(); i++) {
+            values[i] = bounds.get(i);
+            fractions[i] = 1 == bounds.size() ? 1D : (double) i / (bounds.size() - 1);
+        }
+        return new SQLFederationHistogram(values, fractions);
+    }
+    
+    /**
+     * Create histogram from cumulative distribution points.
+     *
+     * @param points cumulative fractions of values less than or equal to point values, sorted by point value and fraction
+     * @return created histogram
+     */
+    public static SQLFederationHistogram fromCumulativePoints(final List<Entry<Double, Double>> points) {
+        double lastFraction = points.get(points.size() - 1).getValue();
+        double[] values = new double[points.size()];
+        double[] fractions = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            values[i] = points.get(i).getKey();
+            fractions[i] = lastFraction > 0D ? points.get(i).getValue() / lastFraction : 1D;
+        }
+        return new SQLFederationHistogram(values, fractions);
+    }
+    
+    /**
+     * Merge histograms of actual tables.
+     *
+     * @param histograms histograms and row counts of actual tables
+     * @return merged histogram
+     */
+    public static SQLFederationHistogram merge(final Map<SQLFederationHistogram, Long> histograms) {
+        Collection<Double> mergedValues = new TreeSet<>();
+        for (SQLFederationHistogram each : histograms.keySet()) {
+            for (double value : each.values) {
+                mergedValues.add(value);
+            }
+        }
+        long totalRowCount = histograms.values().stream().mapToLong(Long::longValue).sum();
+        List<Double> values = new ArrayList<>(mergedValues);
+        double[] resultValues = new double[values.size()];
+        double[] resultFractions = new double[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            resultValues[i] = values.get(i);
+            resultFractions[i] = getMergedFraction(histograms, totalRowCount, values.get(i));
+        }
+        return new SQLFederationHistogram(resultValues, resultFractions);
+    }
+    
+    private static double getMergedFraction(final Map<SQLFederationHistogram, Long> histograms, final long totalRowCount, final double value) {
+        if (0L == totalRowCount) {
+            return histograms.keySet().stream().mapToDouble(each -> each.getFraction(value)).average().orElse(0D);
+        }
+        double result = 0D;
+        for (Entry<SQLFederationHistogram, Long> entry : histograms.entrySet()) {
+            result += entry.getKey().getFraction(value) * entry.getValue() / totalRowCount;
+        }
+        return result;
+    }
+    
+    /**
+     * Get min value.
+     *
+     * @return min value
+     */
+    public double getMinValue() {
+        return values[0];
+    }
+    
+    /**
+     * Get max value.
+     *
+     * @return max value
+     */
+    public double getMaxValue() {
+        return values[values.length - 1];
+    }
+    
+    /**
+     * Get fraction of values less than or equal to value.
+     *
+     * @param value value
+     * @return fraction between 0 and 1
+     */
+    public double getFraction(final double value) {
+        if (value < values[0]) {
+            return 0D;
+        }
+        int index = findLastIndex(value);
+        if (index == values.length - 1) {
+            return 1D;
+        }
+        double result = fractions[index] + (fractions[index + 1] - fractions[index]) * (value - values[index]) / (values[index + 1] - values[index]);
+        return Math.min(1D, Math.max(0D, result));
+    }
+    
+    private int findLastIndex(final double value) {
+        int low = 0;
+        int high = values.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (values[middle] <= value) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
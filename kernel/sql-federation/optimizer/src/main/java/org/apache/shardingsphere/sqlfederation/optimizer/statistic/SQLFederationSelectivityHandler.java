@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.Selectivity;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+
+import java.util.Optional;
+
+/**
+ * SQL federation selectivity handler.
+ *
+ * <p>Selectivity of equality predicates is estimated by distinct count, and selectivity of range predicates is interpolated by histogram.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLFederationSelectivityHandler implements Selectivity.Handler {
+    
+    private final SQLFederationStatistic statistic;
+    
+    @Override
+    public Double getSelectivity(final RelNode relNode, final RelMetadataQuery mq, final RexNode predicate) {
+        if (relNode instanceof LogicalScan && !(((LogicalScan) relNode).peek() instanceof TableScan)) {
+            return mq.getSelectivity(((LogicalScan) relNode).peek(), predicate);
+        }
+        if (null == predicate || !statistic.isColumnStatisticsAvailable(relNode)) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= getSelectivity(each);
+        }
+        return result;
+    }
+    
+    private double getSelectivity(final RexNode predicate) {
+        if (!(predicate instanceof RexCall) || 2 != ((RexCall) predicate).getOperands().size()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        RexNode left = RexUtil.removeCast(((RexCall) predicate).getOperands().get(0));
+        RexNode right = RexUtil.removeCast(((RexCall) predicate).getOperands().get(1));
+        SqlKind kind = predicate.getKind();
+        if (!(left instanceof RexInputRef)) {
+            RexNode operand = left;
+            left = right;
+            right = operand;
+            kind = kind.reverse();
+        }
+        if (!(left instanceof RexInputRef) || !(right instanceof RexLiteral || right instanceof RexDynamicParam)) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        Optional<SQLFederationColumnStatistics> columnStatistics = statistic.findColumnStatistics(((RexInputRef) left).getIndex());
+        if (!columnStatistics.isPresent() || 0L == columnStatistics.get().getDistinctCount()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        switch (kind) {
+            case EQUALS:
+                return 1D / columnStatistics.get().getDistinctCount();
+            case NOT_EQUALS:
+                return 1D - 1D / columnStatistics.get().getDistinctCount();
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return getRangeSelectivity(columnStatistics.get(), right).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return getRangeSelectivity(columnStatistics.get(), right).map(optional -> 1D - optional).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+            default:
+                return RelMdUtil.guessSelectivity(predicate);
+        }
+    }
+    
+    private Optional<Double> getRangeSelectivity(final SQLFederationColumnStatistics columnStatistics, final RexNode operand) {
+        Object value = operand instanceof RexLiteral ? ((RexLiteral) operand).getValue() : null;
+        return value instanceof Number ? columnStatistics.findHistogram().map(optional -> optional.getFraction(((Number) value).doubleValue())) : Optional.empty();
+    }
+}
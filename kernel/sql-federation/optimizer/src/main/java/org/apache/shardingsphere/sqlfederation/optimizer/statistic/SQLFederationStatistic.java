@@ -20,17 +20,78 @@ package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<String> columnNames;
+    
+    private final Collection<ImmutableBitSet> keys;
+    
+    private final Supplier<Optional<SQLFederationTableStatistics>> tableStatisticsSupplier;
+    
+    public SQLFederationStatistic() {
+        this(new ArrayList<>(), Collections.emptyList(), Optional::empty);
+    }
+    
+    public SQLFederationStatistic(final List<String> columnNames, final Collection<ImmutableBitSet> keys, final Supplier<Optional<SQLFederationTableStatistics>> tableStatisticsSupplier) {
+        this.columnNames = columnNames;
+        this.keys = keys;
+        this.tableStatisticsSupplier = tableStatisticsSupplier;
+    }
+    
+    /**
+     * Find table statistics.
+     *
+     * @return found table statistics, empty if statistics have not been collected
+     */
+    public Optional<SQLFederationTableStatistics> findTableStatistics() {
+        return tableStatisticsSupplier.get();
+    }
+    
+    /**
+     * Judge whether column statistics are available for rel node.
+     *
+     * @param relNode rel node
+     * @return column statistics are available or not
+     */
+    public boolean isColumnStatisticsAvailable(final RelNode relNode) {
+        return null != relNode.getTable() && relNode.getRowType().getFieldNames().equals(relNode.getTable().getRowType().getFieldNames()) && findTableStatistics().isPresent();
+    }
+    
+    /**
+     * Find column statistics.
+     *
+     * @param columnIndex column index of table row type
+     * @return found column statistics
+     */
+    public Optional<SQLFederationColumnStatistics> findColumnStatistics(final int columnIndex) {
+        return columnIndex < columnNames.size() ? findTableStatistics().flatMap(optional -> optional.findColumnStatistics(columnNames.get(columnIndex))) : Optional.empty();
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return findTableStatistics().map(optional -> (double) optional.getRowCount()).orElse(null);
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return keys.stream().anyMatch(columns::contains);
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.DialectTableStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation statistics collector.
+ *
+ * <p>Statistics of every actual table are loaded from database catalog without scanning the table, and merged into statistics of the logic table.</p>
+ */
+@Slf4j
+final class SQLFederationStatisticsCollector {
+    
+    /**
+     * Collect table statistics.
+     *
+     * @param database database
+     * @param table table
+     * @return collected table statistics, empty if statistics of actual tables can not be loaded
+     */
+    Optional<SQLFederationTableStatistics> collect(final ShardingSphereDatabase database, final ShardingSphereTable table) {
+        Collection<SQLFederationTableStatistics> actualTableStatistics = new LinkedList<>();
+        for (DataNode each : getDataNodes(database, table.getName())) {
+            findStorageUnit(database, each.getDataSourceName()).flatMap(optional -> collectActualTable(optional, each)).ifPresent(actualTableStatistics::add);
+        }
+        return actualTableStatistics.isEmpty() ? Optional.empty() : Optional.of(merge(actualTableStatistics, getKeyColumnNames(table)));
+    }
+    
+    private Collection<String> getKeyColumnNames(final ShardingSphereTable table) {
+        Collection<String> result = new CaseInsensitiveSet<>();
+        if (1 == table.getPrimaryKeyColumns().size()) {
+            result.addAll(table.getPrimaryKeyColumns());
+        }
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            if (each.isUnique() && 1 == each.getColumns().size()) {
+                result.addAll(each.getColumns());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getDataNodes(final ShardingSphereDatabase database, final String tableName) {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            Optional<DataNodeRuleAttribute> ruleAttribute = each.getAttributes().findAttribute(DataNodeRuleAttribute.class);
+            Collection<DataNode> dataNodes = ruleAttribute.map(optional -> optional.getDataNodesByTableName(tableName)).orElse(Collections.emptyList());
+            if (!dataNodes.isEmpty()) {
+                return ruleAttribute.get().isNeedAccumulate(Collections.singleton(tableName)) ? dataNodes : Collections.singleton(dataNodes.iterator().next());
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<StorageUnit> findStorageUnit(final ShardingSphereDatabase database, final String dataSourceName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        String actualDataSourceName = dataSourceName;
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (storageUnits.containsKey(actualDataSourceName)) {
+                break;
+            }
+            actualDataSourceName = getMappedDataSourceName(each, actualDataSourceName);
+        }
+        return Optional.ofNullable(storageUnits.get(actualDataSourceName));
+    }
+    
+    private String getMappedDataSourceName(final ShardingSphereRule rule, final String dataSourceName) {
+        Collection<String> mappedDataSourceNames = rule.getAttributes().findAttribute(DataSourceMapperRuleAttribute.class)
+                .map(optional -> optional.getDataSourceMapper().get(dataSourceName)).orElse(Collections.emptyList());
+        return mappedDataSourceNames.isEmpty() ? dataSourceName : mappedDataSourceNames.iterator().next();
+    }
+    
+    private Optional<SQLFederationTableStatistics> collectActualTable(final StorageUnit storageUnit, final DataNode dataNode) {
+        Optional<DialectTableStatisticsLoader> loader = DatabaseTypedSPILoader.findService(DialectTableStatisticsLoader.class, storageUnit.getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return loader.get().load(connection, dataNode.getSchemaName(), dataNode.getTableName());
+        } catch (final SQLException ex) {
+            log.warn("Can not load statistics of actual table `{}` in data source `{}`.", dataNode.getTableName(), dataNode.getDataSourceName(), ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Merge statistics of actual tables.
+     *
+     * <p>Distinct counts of declared single column keys are summed, since values of key columns rarely overlap across shards;
+     * otherwise the max distinct count is used, since values of non key columns usually repeat across shards.
+     * Histograms are merged by weighting fractions of every actual table with its row count.</p>
+     *
+     * @param actualTableStatistics statistics of actual tables
+     * @param keyColumnNames names of declared single column keys
+     * @return merged table statistics
+     */
+    SQLFederationTableStatistics merge(final Collection<SQLFederationTableStatistics> actualTableStatistics, final Collection<String> keyColumnNames) {
+        long rowCount = actualTableStatistics.stream().mapToLong(SQLFederationTableStatistics::getRowCount).sum();
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new CaseInsensitiveMap<>();
+        for (String each : actualTableStatistics.iterator().next().getColumnStatistics().keySet()) {
+            columnStatistics.put(each, mergeColumnStatistics(actualTableStatistics, each, keyColumnNames.contains(each)));
+        }
+        return new SQLFederationTableStatistics(rowCount, columnStatistics);
+    }
+    
+    private SQLFederationColumnStatistics mergeColumnStatistics(final Collection<SQLFederationTableStatistics> actualTableStatistics, final String columnName, final boolean isKey) {
+        long sumDistinctCount = 0L;
+        long maxDistinctCount = 0L;
+        Map<SQLFederationHistogram, Long> histograms = new IdentityHashMap<>();
+        boolean isHistogramComplete = true;
+        for (SQLFederationTableStatistics each : actualTableStatistics) {
+            Optional<SQLFederationColumnStatistics> columnStatistics = each.findColumnStatistics(columnName);
+            if (!columnStatistics.isPresent()) {
+                isHistogramComplete = false;
+                continue;
+            }
+            sumDistinctCount += columnStatistics.get().getDistinctCount();
+            maxDistinctCount = Math.max(maxDistinctCount, columnStatistics.get().getDistinctCount());
+            Optional<SQLFederationHistogram> histogram = columnStatistics.get().findHistogram();
+            if (histogram.isPresent()) {
+                histograms.put(histogram.get(), each.getRowCount());
+            } else {
+                isHistogramComplete = false;
+            }
+        }
+        return new SQLFederationColumnStatistics(isKey ? sumDistinctCount : maxDistinctCount, isHistogramComplete && !histograms.isEmpty() ? SQLFederationHistogram.merge(histograms) : null);
+    }
+}
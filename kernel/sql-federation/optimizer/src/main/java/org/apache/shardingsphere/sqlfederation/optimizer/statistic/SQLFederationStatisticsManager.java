@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * SQL federation statistics manager.
+ *
+ * <p>Table statistics are collected in background when they are first required or have been expired, and cached across refreshing of optimizer meta data.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SQLFederationStatisticsManager implements AutoCloseable {
+    
+    private final long refreshIntervalMillis;
+    
+    private final SQLFederationStatisticsCollector collector;
+    
+    private final ExecutorService executorService;
+    
+    private final Map<String, SQLFederationTableStatistics> tableStatistics = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> collectMillis = new ConcurrentHashMap<>();
+    
+    public SQLFederationStatisticsManager(final long refreshIntervalMillis) {
+        this(refreshIntervalMillis, new SQLFederationStatisticsCollector(), 0L < refreshIntervalMillis
+                ? Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SQLFederation-Statistics").build())
+                : null);
+    }
+    
+    /**
+     * Find table statistics.
+     *
+     * @param database database
+     * @param schemaName schema name
+     * @param table table
+     * @return found table statistics
+     */
+    public Optional<SQLFederationTableStatistics> findTableStatistics(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) {
+        if (null == executorService) {
+            return Optional.empty();
+        }
+        String key = String.join(".", database.getName(), schemaName, table.getName()).toLowerCase();
+        if (isExpired(key)) {
+            executorService.execute(() -> collect(key, database, table));
+        }
+        return Optional.ofNullable(tableStatistics.get(key));
+    }
+    
+    private boolean isExpired(final String key) {
+        long currentMillis = System.currentTimeMillis();
+        Long lastCollectMillis = collectMillis.get(key);
+        if (null == lastCollectMillis) {
+            return null == collectMillis.putIfAbsent(key, currentMillis);
+        }
+        return currentMillis - lastCollectMillis >= refreshIntervalMillis && collectMillis.replace(key, lastCollectMillis, currentMillis);
+    }
+    
+    private void collect(final String key, final ShardingSphereDatabase database, final ShardingSphereTable table) {
+        collector.collect(database, table).ifPresent(optional -> tableStatistics.put(key, optional));
+    }
+    
+    @Override
+    public void close() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
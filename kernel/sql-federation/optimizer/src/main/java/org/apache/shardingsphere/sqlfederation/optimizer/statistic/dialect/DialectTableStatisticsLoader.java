@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatistics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect table statistics loader, which reads statistics maintained by database catalog instead of scanning actual table.
+ */
+@SingletonSPI
+public interface DialectTableStatisticsLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load table statistics.
+     *
+     * @param connection connection
+     * @param schemaName schema name, null if schema is absent in data node
+     * @param tableName actual table name
+     * @return loaded table statistics, empty if table has not been analyzed by database
+     * @throws SQLException SQL exception
+     */
+    Optional<SQLFederationTableStatistics> load(Connection connection, String schemaName, String tableName) throws SQLException;
+}
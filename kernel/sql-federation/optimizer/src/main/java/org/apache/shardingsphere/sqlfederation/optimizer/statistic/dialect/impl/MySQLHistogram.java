@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationHistogram;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * MySQL histogram.
+ *
+ * <p>Buckets of equi-height histogram are [lower value, upper value, cumulative frequency, distinct count],
+ * and buckets of singleton histogram are [value, cumulative frequency].</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class MySQLHistogram {
+    
+    private static final String SINGLETON_TYPE = "singleton";
+    
+    private final long distinctCount;
+    
+    private final SQLFederationHistogram histogram;
+    
+    /**
+     * Parse histogram.
+     *
+     * @param json histogram JSON of information_schema.COLUMN_STATISTICS
+     * @return parsed histogram, empty if histogram has no bucket or values are not numeric
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<MySQLHistogram> parse(final String json) {
+        if (null == json) {
+            return Optional.empty();
+        }
+        Map<String, Object> jsonObject = JsonUtils.fromJsonString(json, new TypeReference<Map<String, Object>>() {
+        });
+        Object buckets = jsonObject.get("buckets");
+        if (!(buckets instanceof List) || ((List<?>) buckets).isEmpty()) {
+            return Optional.empty();
+        }
+        boolean isSingleton = SINGLETON_TYPE.equals(jsonObject.get("histogram-type"));
+        List<Entry<Double, Double>> points = new ArrayList<>();
+        long totalDistinctCount = 0L;
+        double lastFraction = 0D;
+        for (Object each : (List<Object>) buckets) {
+            List<Object> bucket = (List<Object>) each;
+            if (!isNumeric(bucket, isSingleton)) {
+                return Optional.empty();
+            }
+            double fraction = ((Number) bucket.get(isSingleton ? 1 : 2)).doubleValue();
+            points.add(new SimpleEntry<>(((Number) bucket.get(0)).doubleValue(), lastFraction));
+            points.add(new SimpleEntry<>(((Number) bucket.get(isSingleton ? 0 : 1)).doubleValue(), fraction));
+            totalDistinctCount += isSingleton ? 1L : ((Number) bucket.get(3)).longValue();
+            lastFraction = fraction;
+        }
+        return Optional.of(new MySQLHistogram(totalDistinctCount, SQLFederationHistogram.fromCumulativePoints(points)));
+    }
+    
+    private static boolean isNumeric(final List<Object> bucket, final boolean isSingleton) {
+        int size = isSingleton ? 2 : 4;
+        if (bucket.size() < size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!(bucket.get(i) instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
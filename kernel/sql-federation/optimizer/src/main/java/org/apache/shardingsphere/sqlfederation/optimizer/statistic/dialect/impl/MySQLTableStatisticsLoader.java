@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.impl;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.DialectTableStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Table statistics loader for MySQL, rows are from information_schema.TABLES and distinct counts are from index cardinality of information_schema.STATISTICS.
+ *
+ * <p>Histograms are loaded from information_schema.COLUMN_STATISTICS since MySQL 8, they are created by ANALYZE TABLE ... UPDATE HISTOGRAM.
+ * Distinct counts of columns without index are taken from histograms. Histograms of non numeric columns are not loaded.</p>
+ */
+public final class MySQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+    
+    private static final String CARDINALITY_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 AND CARDINALITY IS NOT NULL GROUP BY COLUMN_NAME";
+    
+    private static final String HISTOGRAM_SQL = "SELECT COLUMN_NAME, HISTOGRAM FROM information_schema.COLUMN_STATISTICS WHERE SCHEMA_NAME = DATABASE() AND TABLE_NAME = ?";
+    
+    private static final int HISTOGRAM_MIN_MAJOR_VERSION = 8;
+    
+    @Override
+    public Optional<SQLFederationTableStatistics> load(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        Optional<Long> rowCount = loadRowCount(connection, tableName);
+        return rowCount.isPresent() ? Optional.of(new SQLFederationTableStatistics(rowCount.get(), loadColumnStatistics(connection, tableName))) : Optional.empty();
+    }
+    
+    private Optional<Long> loadRowCount(final Connection connection, final String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(ROW_COUNT_SQL)) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long result = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
+            }
+        }
+    }
+    
+    private Map<String, SQLFederationColumnStatistics> loadColumnStatistics(final Connection connection, final String tableName) throws SQLException {
+        Map<String, Long> distinctCounts = loadDistinctCounts(connection, tableName);
+        Map<String, MySQLHistogram> histograms = connection.getMetaData().getDatabaseMajorVersion() >= HISTOGRAM_MIN_MAJOR_VERSION ? loadHistograms(connection, tableName) : Collections.emptyMap();
+        Map<String, SQLFederationColumnStatistics> result = new CaseInsensitiveMap<>();
+        for (Entry<String, Long> entry : distinctCounts.entrySet()) {
+            MySQLHistogram histogram = histograms.get(entry.getKey());
+            result.put(entry.getKey(), new SQLFederationColumnStatistics(entry.getValue(), null == histogram ? null : histogram.getHistogram()));
+        }
+        for (Entry<String, MySQLHistogram> entry : histograms.entrySet()) {
+            if (!result.containsKey(entry.getKey())) {
+                result.put(entry.getKey(), new SQLFederationColumnStatistics(entry.getValue().getDistinctCount(), entry.getValue().getHistogram()));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Long> loadDistinctCounts(final Connection connection, final String tableName) throws SQLException {
+        Map<String, Long> result = new CaseInsensitiveMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(CARDINALITY_SQL)) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString(1), resultSet.getLong(2));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, MySQLHistogram> loadHistograms(final Connection connection, final String tableName) throws SQLException {
+        Map<String, MySQLHistogram> result = new CaseInsensitiveMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(HISTOGRAM_SQL)) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String columnName = resultSet.getString(1);
+                    MySQLHistogram.parse(resultSet.getString(2)).ifPresent(optional -> result.put(columnName, optional));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
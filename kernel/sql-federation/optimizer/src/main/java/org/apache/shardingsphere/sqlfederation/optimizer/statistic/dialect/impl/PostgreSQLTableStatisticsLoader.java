@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.impl;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationHistogram;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.DialectTableStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table statistics loader for PostgreSQL, rows are from pg_class.reltuples, distinct counts are from pg_stats.n_distinct and histograms are from pg_stats.histogram_bounds.
+ *
+ * <p>Histogram bounds of PostgreSQL exclude most common values, so histograms are approximate for skewed columns. Histograms of non numeric columns are not loaded.</p>
+ */
+public final class PostgreSQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT c.reltuples FROM pg_catalog.pg_class c JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relname = ?";
+    
+    private static final String COLUMN_STATISTICS_SQL = "SELECT attname, n_distinct, histogram_bounds::text FROM pg_catalog.pg_stats WHERE schemaname = ? AND tablename = ?";
+    
+    @Override
+    public Optional<SQLFederationTableStatistics> load(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        String actualSchemaName = null == schemaName ? connection.getSchema() : schemaName;
+        Optional<Double> rowCount = loadRowCount(connection, actualSchemaName, tableName);
+        return rowCount.isPresent()
+                ? Optional.of(new SQLFederationTableStatistics(Math.round(rowCount.get()), loadColumnStatistics(connection, actualSchemaName, tableName, rowCount.get())))
+                : Optional.empty();
+    }
+    
+    private Optional<Double> loadRowCount(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(ROW_COUNT_SQL)) {
+            preparedStatement.setString(1, schemaName);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                double result = resultSet.getDouble(1);
+                return 0D > result ? Optional.empty() : Optional.of(result);
+            }
+        }
+    }
+    
+    private Map<String, SQLFederationColumnStatistics> loadColumnStatistics(final Connection connection, final String schemaName, final String tableName, final double rowCount) throws SQLException {
+        Map<String, SQLFederationColumnStatistics> result = new CaseInsensitiveMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(COLUMN_STATISTICS_SQL)) {
+            preparedStatement.setString(1, schemaName);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString(1), new SQLFederationColumnStatistics(getDistinctCount(resultSet.getDouble(2), rowCount), createHistogram(resultSet.getString(3))));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long getDistinctCount(final double distinct, final double rowCount) {
+        return Math.round(0D > distinct ? -distinct * rowCount : distinct);
+    }
+    
+    private SQLFederationHistogram createHistogram(final String histogramBounds) {
+        if (null == histogramBounds || histogramBounds.length() < 3) {
+            return null;
+        }
+        List<Double> bounds = new ArrayList<>();
+        for (String each : histogramBounds.substring(1, histogramBounds.length() - 1).split(",")) {
+            Optional<Double> bound = parseNumber(each);
+            if (!bound.isPresent()) {
+                return null;
+            }
+            bounds.add(bound.get());
+        }
+        return SQLFederationHistogram.fromEquiDepthBounds(bounds);
+    }
+    
+    private Optional<Double> parseNumber(final String value) {
+        try {
+            double result = Double.parseDouble(value);
+            return Double.isInfinite(result) || Double.isNaN(result) ? Optional.empty() : Optional.of(result);
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsManager;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -37,19 +38,19 @@ class OptimizerContextTest {
     
     @Test
     void assertGetSqlParserRule() {
-        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()));
+        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()), new SQLFederationStatisticsManager(0L));
         assertThat(actual.getSqlParserRule(), instanceOf(SQLParserRule.class));
     }
     
     @Test
     void assertGetParserContext() {
-        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()));
+        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()), new SQLFederationStatisticsManager(0L));
         assertThat(actual.getParserContext("foo_db"), instanceOf(OptimizerParserContext.class));
     }
     
     @Test
     void assertGetOptimizerMetaData() {
-        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()));
+        OptimizerContext actual = OptimizerContextFactory.create(Collections.singleton(mockDatabase()), new SQLFederationStatisticsManager(0L));
         assertThat(actual.getMetaData("foo_db"), instanceOf(OptimizerMetaData.class));
     }
     
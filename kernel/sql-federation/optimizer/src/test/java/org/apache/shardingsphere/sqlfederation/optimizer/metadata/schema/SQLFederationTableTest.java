@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterValues;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SQLFederationTableTest {
+    
+    private static final String SQL = "SELECT order_id FROM t_order WHERE user_id = ?";
+    
+    private static final String IN_LIST_SQL = "SELECT order_id FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?, ?)";
+    
+    private static final String RANGE_SQL = "SELECT order_id FROM t_order WHERE user_id = ? AND order_id >= ? AND order_id <= ?";
+    
+    private static final int[] PARAM_INDEXES = {1};
+    
+    @Mock
+    private ShardingSphereTable table;
+    
+    @Mock
+    private ScanExecutor scanExecutor;
+    
+    @Mock
+    private DynamicFilterSQLProvider sqlProvider;
+    
+    @Mock
+    private DataContext root;
+    
+    private final DynamicFilterContext dynamicFilterContext = new DynamicFilterContext();
+    
+    private SQLFederationTable federationTable;
+    
+    @BeforeEach
+    void setUp() {
+        when(root.get(DynamicFilterContext.DATA_CONTEXT_NAME)).thenReturn(dynamicFilterContext);
+        when(scanExecutor.execute(any(), any())).thenReturn(Linq4j.asEnumerable(Collections.singletonList(new Object[]{1L})));
+        when(sqlProvider.findInListSQL(anyInt())).thenReturn(Optional.of(IN_LIST_SQL));
+        when(sqlProvider.findRangeSQL()).thenReturn(Optional.of(RANGE_SQL));
+        federationTable = new SQLFederationTable(table, mock(SQLFederationStatistic.class), mock(DatabaseType.class));
+        federationTable.setScanExecutor(scanExecutor);
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterWhenBuildSideIsEmpty() {
+        collect();
+        try (Enumerator<Object> actual = federationTable.executeWithDynamicFilter(root, SQL, PARAM_INDEXES, 0, sqlProvider).enumerator()) {
+            assertFalse(actual.moveNext());
+        }
+        verify(scanExecutor, never()).execute(any(), any());
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterWhenBuildSideIsIncomplete() {
+        dynamicFilterContext.getValues(0).add(1L);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        assertThat(actual.getSql(), is(SQL));
+        assertThat(actual.getParamIndexes(), is(PARAM_INDEXES));
+        assertThat(actual.getDynamicFilterParams(), is(Collections.emptyList()));
+        verify(sqlProvider, never()).findInListSQL(anyInt());
+        verify(sqlProvider, never()).findRangeSQL();
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterInListPaddedToPowerOfTwo() {
+        collect(3L, 1L, 2L);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        verify(sqlProvider).findInListSQL(4);
+        assertThat(actual.getSql(), is(IN_LIST_SQL));
+        assertThat(actual.getParamIndexes(), is(PARAM_INDEXES));
+        assertThat(actual.getDynamicFilterParams(), is(Arrays.<Object>asList(3L, 1L, 2L, 2L)));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterInListOfExactPowerOfTwo() {
+        collect(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        verify(sqlProvider).findInListSQL(8);
+        assertThat(actual.getDynamicFilterParams(), is(Arrays.<Object>asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterInListOfSingleValue() {
+        collect(5L);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        verify(sqlProvider).findInListSQL(1);
+        assertThat(actual.getDynamicFilterParams(), is(Collections.<Object>singletonList(5L)));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterFallbackToRangeAboveMaxInListSize() {
+        Object[] values = new Object[DynamicFilterContext.MAX_IN_LIST_SIZE + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) values.length - i;
+        }
+        collect(values);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        verify(sqlProvider, never()).findInListSQL(anyInt());
+        assertThat(actual.getSql(), is(RANGE_SQL));
+        assertThat(actual.getParamIndexes(), is(PARAM_INDEXES));
+        assertThat(actual.getDynamicFilterParams(), is(Arrays.<Object>asList(1L, (long) values.length)));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterFallbackToRangeWhenInListSQLIsUnavailable() {
+        when(sqlProvider.findInListSQL(2)).thenReturn(Optional.empty());
+        collect(9L, 4L);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        assertThat(actual.getSql(), is(RANGE_SQL));
+        assertThat(actual.getDynamicFilterParams(), is(Arrays.<Object>asList(4L, 9L)));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterFallbackToOriginalSQLWhenRangeIsUnavailable() {
+        Object[] values = new Object[DynamicFilterContext.MAX_IN_LIST_SIZE + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "foo_" + i;
+        }
+        collect(values);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        verify(sqlProvider, never()).findRangeSQL();
+        assertThat(actual.getSql(), is(SQL));
+        assertThat(actual.getDynamicFilterParams(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertExecuteWithDynamicFilterWithoutDynamicFilterContext() {
+        when(root.get(DynamicFilterContext.DATA_CONTEXT_NAME)).thenReturn(null);
+        ScanExecutorContext actual = executeWithDynamicFilter();
+        assertThat(actual.getSql(), is(SQL));
+        verify(sqlProvider, never()).findInListSQL(anyInt());
+    }
+    
+    private void collect(final Object... values) {
+        DynamicFilterValues dynamicFilterValues = dynamicFilterContext.getValues(0);
+        for (Object each : values) {
+            dynamicFilterValues.add(each);
+        }
+        dynamicFilterValues.complete();
+    }
+    
+    private ScanExecutorContext executeWithDynamicFilter() {
+        List<Object> rows = new ArrayList<>();
+        try (Enumerator<Object> enumerator = federationTable.executeWithDynamicFilter(root, SQL, PARAM_INDEXES, 0, sqlProvider).enumerator()) {
+            while (enumerator.moveNext()) {
+                rows.add(enumerator.current());
+            }
+        }
+        assertThat(rows.size(), is(1));
+        ArgumentCaptor<ScanExecutorContext> result = ArgumentCaptor.forClass(ScanExecutorContext.class);
+        verify(scanExecutor).execute(any(), result.capture());
+        return result.getValue();
+    }
+}
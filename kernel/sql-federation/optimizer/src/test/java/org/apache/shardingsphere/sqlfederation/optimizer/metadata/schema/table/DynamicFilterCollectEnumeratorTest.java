@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DynamicFilterCollectEnumeratorTest {
+    
+    @Test
+    void assertMoveNextWithArrayRows() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(4);
+        Enumerator<Object> enumerator = Linq4j.enumerator(Arrays.<Object>asList(new Object[]{"foo", 2L}, new Object[]{"bar", null}, new Object[]{"baz", 1L}));
+        try (DynamicFilterCollectEnumerator actual = new DynamicFilterCollectEnumerator(enumerator, dynamicFilterValues, 1)) {
+            assertTrue(actual.moveNext());
+            assertThat(((Object[]) actual.current())[0], is("foo"));
+            assertFalse(dynamicFilterValues.isCompleted());
+            assertTrue(actual.moveNext());
+            assertTrue(actual.moveNext());
+            assertFalse(dynamicFilterValues.isCompleted());
+            assertFalse(actual.moveNext());
+        }
+        assertTrue(dynamicFilterValues.isCompleted());
+        assertThat(dynamicFilterValues.findInListParameters(2), is(Optional.of(Arrays.<Object>asList(2L, 1L))));
+    }
+    
+    @Test
+    void assertMoveNextWithScalarRows() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(4);
+        try (DynamicFilterCollectEnumerator actual = new DynamicFilterCollectEnumerator(Linq4j.enumerator(Arrays.<Object>asList(3, 5)), dynamicFilterValues, 0)) {
+            while (actual.moveNext()) {
+                actual.current();
+            }
+        }
+        assertTrue(dynamicFilterValues.isCompleted());
+        assertThat(dynamicFilterValues.findRangeParameters(), is(Optional.of(Arrays.<Object>asList(3, 5))));
+    }
+    
+    @Test
+    void assertCreateAndResetWithValuesOfPreviousExecution() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(4);
+        dynamicFilterValues.add(9L);
+        dynamicFilterValues.complete();
+        try (DynamicFilterCollectEnumerator actual = new DynamicFilterCollectEnumerator(Linq4j.enumerator(Arrays.<Object>asList(1L, 2L)), dynamicFilterValues, 0)) {
+            assertFalse(dynamicFilterValues.isCompleted());
+            assertTrue(dynamicFilterValues.isEmpty());
+            assertTrue(actual.moveNext());
+            actual.reset();
+            assertTrue(dynamicFilterValues.isEmpty());
+            while (actual.moveNext()) {
+                actual.current();
+            }
+        }
+        assertThat(dynamicFilterValues.getValuesCount(), is(2));
+        assertTrue(dynamicFilterValues.isCompleted());
+    }
+}
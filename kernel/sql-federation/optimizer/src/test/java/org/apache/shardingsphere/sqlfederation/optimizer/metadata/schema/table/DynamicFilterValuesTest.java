@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DynamicFilterValuesTest {
+    
+    @Test
+    void assertFindInListParameters() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(4);
+        dynamicFilterValues.add(3L);
+        dynamicFilterValues.add(null);
+        dynamicFilterValues.add(1L);
+        dynamicFilterValues.add(3L);
+        dynamicFilterValues.add(2L);
+        dynamicFilterValues.complete();
+        assertTrue(dynamicFilterValues.isCompleted());
+        assertFalse(dynamicFilterValues.isEmpty());
+        assertThat(dynamicFilterValues.getValuesCount(), is(3));
+        assertThat(dynamicFilterValues.findInListParameters(4), is(Optional.of(Arrays.<Object>asList(3L, 1L, 2L, 2L))));
+        assertFalse(dynamicFilterValues.findInListParameters(2).isPresent());
+        assertThat(dynamicFilterValues.findRangeParameters(), is(Optional.of(Arrays.<Object>asList(1L, 3L))));
+    }
+    
+    @Test
+    void assertAddWithInListOverflowed() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(2);
+        dynamicFilterValues.add(5);
+        dynamicFilterValues.add(1);
+        dynamicFilterValues.add(9);
+        assertFalse(dynamicFilterValues.isEmpty());
+        assertThat(dynamicFilterValues.getValuesCount(), is(3));
+        assertFalse(dynamicFilterValues.findInListParameters(4).isPresent());
+        assertThat(dynamicFilterValues.findRangeParameters(), is(Optional.of(Arrays.<Object>asList(1, 9))));
+    }
+    
+    @Test
+    void assertFindRangeParametersWithNonNumericValue() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(2);
+        dynamicFilterValues.add(1);
+        dynamicFilterValues.add("foo");
+        assertFalse(dynamicFilterValues.findRangeParameters().isPresent());
+    }
+    
+    @Test
+    void assertReset() {
+        DynamicFilterValues dynamicFilterValues = new DynamicFilterValues(1);
+        dynamicFilterValues.add(1);
+        dynamicFilterValues.add(2);
+        dynamicFilterValues.complete();
+        dynamicFilterValues.reset();
+        assertFalse(dynamicFilterValues.isCompleted());
+        assertTrue(dynamicFilterValues.isEmpty());
+        assertFalse(dynamicFilterValues.findRangeParameters().isPresent());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statement;
+
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.DynamicFilterSQLProvider;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScanDynamicFilter;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.ScanPushDownChecker;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class SQLStatementCompilerTest {
+    
+    private static final String SCHEMA_NAME = "foo_db";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    @Test
+    void assertCompileWithAggregationSortAndLimitPushDown() {
+        String actual = explain("SELECT user_id, COUNT(*) FROM t_order WHERE status = 'OK' GROUP BY user_id ORDER BY COUNT(*) LIMIT 10", sqlString -> true);
+        assertThat(actual, is("EnumerableScan(table=[[foo_db, t_order]], sql=[SELECT `user_id`, COUNT(*) FROM `foo_db`.`t_order` WHERE `status` = 'OK' GROUP BY `user_id` ORDER BY 2 LIMIT 10], "
+                + "dynamicParameters=[null]) "));
+    }
+    
+    @Test
+    void assertCompileWithNullableSortColumn() {
+        String actual = explain("SELECT order_id FROM t_order ORDER BY order_id DESC LIMIT 5", sqlString -> true);
+        assertThat(actual, containsString("EnumerableSort(sort0=[$0], dir0=[DESC])"));
+        assertThat(actual, containsString("sql=[SELECT `order_id` FROM `foo_db`.`t_order`]"));
+    }
+    
+    @Test
+    void assertCompileWithAverageAggregation() {
+        String actual = explain("SELECT user_id, AVG(amount) FROM t_order GROUP BY user_id", sqlString -> true);
+        assertThat(actual, containsString("sql=[SELECT `user_id`, SUM(`amount`) AS `$f1`, COUNT(`amount`) AS `$f2` FROM `foo_db`.`t_order` GROUP BY `user_id`]"));
+        assertThat(actual, not(containsString("EnumerableAggregate")));
+    }
+    
+    @Test
+    void assertCompileWithJoinPushDown() {
+        String actual = explain("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id WHERE i.status = 'OK'", sqlString -> true);
+        assertThat(actual, is("EnumerableScan(table=[[foo_db, t_order]], sql=[SELECT `t_order`.`order_id`, `t_order_item`.`item_id` FROM `foo_db`.`t_order` INNER JOIN `foo_db`.`t_order_item` "
+                + "ON `t_order`.`order_id` = `t_order_item`.`order_id` AND `t_order_item`.`status` = 'OK'], dynamicParameters=[null]) "));
+    }
+    
+    @Test
+    void assertCompileWithJoinPushDownUnavailable() {
+        String actual = explain("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id WHERE i.status = 'OK'", sqlString -> false);
+        assertThat(actual, containsString("EnumerableHashJoin"));
+    }
+    
+    @Test
+    void assertCompileWithPushDownCheckedOnce() {
+        Collection<String> checkedSQLs = new LinkedList<>();
+        compile("SELECT o.order_id FROM t_order o WHERE o.order_id IN (SELECT i.order_id FROM t_order_item i WHERE i.status = 'OK') ORDER BY o.order_id LIMIT 3",
+                sqlString -> checkedSQLs.add(sqlString.getSql()) && !sqlString.getSql().contains("JOIN"));
+        assertFalse(checkedSQLs.isEmpty());
+        assertThat(new HashSet<>(checkedSQLs).size(), is(checkedSQLs.size()));
+    }
+    
+    @Test
+    void assertCompileWithoutScanPushDownChecker() {
+        String actual = explain("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id", null);
+        assertThat(actual, containsString("EnumerableHashJoin"));
+    }
+    
+    @Test
+    void assertCompileWithDynamicFilter() {
+        RelNode actual = compile("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id WHERE i.status = 'OK'", sqlString -> false);
+        assertThat(actual.explain(), containsString("dynamicFilter=[consumer#0($0)]"));
+        assertThat(actual.explain(), containsString("dynamicFilter=[producer#0($1)]"));
+        EnumerableScanDynamicFilter actualDynamicFilter = findConsumerDynamicFilter(actual).orElseThrow(IllegalStateException::new);
+        DynamicFilterSQLProvider actualSQLProvider = actualDynamicFilter.getSqlProvider();
+        String actualInListSQL = actualSQLProvider.findInListSQL(2).orElseThrow(IllegalStateException::new);
+        assertThat(actualInListSQL.replaceAll(System.lineSeparator(), " "), is("SELECT `order_id` FROM `foo_db`.`t_order` WHERE `order_id` IN (?, ?)"));
+        assertThat(actualSQLProvider.findInListSQL(2).orElseThrow(IllegalStateException::new), sameInstance(actualInListSQL));
+        assertThat(actualSQLProvider.findRangeSQL().orElseThrow(IllegalStateException::new).replaceAll(System.lineSeparator(), " "),
+                is("SELECT `order_id` FROM `foo_db`.`t_order` WHERE `order_id` >= ? AND `order_id` <= ?"));
+    }
+    
+    @Test
+    void assertCompileWithDynamicFilterAfterExistingParameters() {
+        RelNode actual = compile("SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND i.status = ?", sqlString -> false);
+        DynamicFilterSQLProvider actualSQLProvider = findConsumerDynamicFilter(actual).orElseThrow(IllegalStateException::new).getSqlProvider();
+        assertThat(actualSQLProvider.findInListSQL(4).orElseThrow(IllegalStateException::new).replaceAll(System.lineSeparator(), " "),
+                is("SELECT `order_id` FROM `foo_db`.`t_order` WHERE `user_id` = ? AND `order_id` IN (?, ?, ?, ?)"));
+        assertThat(actualSQLProvider.findInListSQL(1).orElseThrow(IllegalStateException::new).replaceAll(System.lineSeparator(), " "),
+                is("SELECT `order_id` FROM `foo_db`.`t_order` WHERE `user_id` = ? AND `order_id` IN (?)"));
+        assertThat(actualSQLProvider.findRangeSQL().orElseThrow(IllegalStateException::new).replaceAll(System.lineSeparator(), " "),
+                is("SELECT `order_id` FROM `foo_db`.`t_order` WHERE `user_id` = ? AND `order_id` >= ? AND `order_id` <= ?"));
+    }
+    
+    private Optional<EnumerableScanDynamicFilter> findConsumerDynamicFilter(final RelNode relNode) {
+        if (relNode instanceof EnumerableScan && null != ((EnumerableScan) relNode).getDynamicFilter() && !((EnumerableScan) relNode).getDynamicFilter().isProducer()) {
+            return Optional.of(((EnumerableScan) relNode).getDynamicFilter());
+        }
+        return relNode.getInputs().stream().map(this::findConsumerDynamicFilter).filter(Optional::isPresent).map(Optional::get).findFirst();
+    }
+    
+    private String explain(final String sql, final ScanPushDownChecker scanPushDownChecker) {
+        return compile(sql, scanPushDownChecker).explain().replaceAll(System.lineSeparator(), " ");
+    }
+    
+    private RelNode compile(final String sql, final ScanPushDownChecker scanPushDownChecker) {
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false);
+        return new SQLStatementCompiler(createSqlToRelConverter(), scanPushDownChecker).compile(sqlStatement, "MySQL").getPhysicalPlan();
+    }
+    
+    private SqlToRelConverter createSqlToRelConverter() {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("amount", Types.DECIMAL, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderItemTable = new ShardingSphereTable("t_order_item", Arrays.asList(new ShardingSphereColumn("item_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("order_id", Types.BIGINT, false, false, false, true, false, false), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)),
+                Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(SCHEMA_NAME, Arrays.asList(orderTable, orderItemTable), Collections.emptyList());
+        SQLFederationSchema sqlFederationSchema = new SQLFederationSchema(SCHEMA_NAME, schema, databaseType, new JavaTypeFactoryImpl());
+        CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, sqlFederationSchema, relDataTypeFactory, connectionConfig, databaseType);
+        SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        return SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFederationHistogramTest {
+    
+    @Test
+    void assertGetFractionFromEquiDepthBounds() {
+        SQLFederationHistogram actual = SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(0D, 10D, 20D, 30D, 100D));
+        assertThat(actual.getFraction(-1D), is(0D));
+        assertThat(actual.getFraction(0D), is(0D));
+        assertThat(actual.getFraction(15D), is(0.375D));
+        assertThat(actual.getFraction(65D), is(0.875D));
+        assertThat(actual.getFraction(100D), is(1D));
+        assertThat(actual.getFraction(200D), is(1D));
+    }
+    
+    @Test
+    void assertGetFractionFromCumulativePoints() {
+        SQLFederationHistogram actual = SQLFederationHistogram.fromCumulativePoints(Arrays.asList(
+                new SimpleEntry<>(1D, 0D), new SimpleEntry<>(1D, 0.4D), new SimpleEntry<>(2D, 0.4D), new SimpleEntry<>(2D, 0.8D)));
+        assertThat(actual.getFraction(1D), is(0.5D));
+        assertThat(actual.getFraction(1.5D), is(0.5D));
+        assertThat(actual.getFraction(2D), is(1D));
+    }
+    
+    @Test
+    void assertMerge() {
+        Map<SQLFederationHistogram, Long> histograms = new IdentityHashMap<>(2);
+        histograms.put(SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(0D, 100D)), 300L);
+        histograms.put(SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(50D, 150D)), 100L);
+        SQLFederationHistogram actual = SQLFederationHistogram.merge(histograms);
+        assertThat(actual.getMinValue(), is(0D));
+        assertThat(actual.getMaxValue(), is(150D));
+        assertThat(actual.getFraction(50D), is(0.375D));
+        assertThat(actual.getFraction(100D), is(0.875D));
+    }
+}
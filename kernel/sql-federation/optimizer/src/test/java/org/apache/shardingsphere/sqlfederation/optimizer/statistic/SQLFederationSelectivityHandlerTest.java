@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLFederationSelectivityHandlerTest {
+    
+    private static final String SCHEMA_NAME = "foo_db";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    @Test
+    void assertExplainWithEqualitySelectivity() {
+        assertThat(explain("SELECT order_id FROM t_order WHERE user_id = 1", true), containsString("estimatedRows=[100.0]"));
+    }
+    
+    @Test
+    void assertExplainWithRangeSelectivity() {
+        assertThat(explain("SELECT order_id FROM t_order WHERE order_id > 7500", true), containsString("estimatedRows=[2500.0]"));
+    }
+    
+    @Test
+    void assertExplainWithSkewedRangeSelectivity() {
+        assertThat(explain("SELECT order_id FROM t_order WHERE user_id < 15", true), containsString("estimatedRows=[3750.0]"));
+    }
+    
+    @Test
+    void assertExplainWithoutTableStatistics() {
+        assertThat(explain("SELECT order_id FROM t_order WHERE user_id = 1", false), not(containsString("estimatedRows")));
+    }
+    
+    private String explain(final String sql, final boolean statisticsAvailable) {
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false);
+        return new SQLStatementCompiler(createSqlToRelConverter(statisticsAvailable)).compile(sqlStatement, "MySQL").getPhysicalPlan().explain();
+    }
+    
+    private SqlToRelConverter createSqlToRelConverter(final boolean statisticsAvailable) {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(SCHEMA_NAME, Collections.singleton(table), Collections.emptyList());
+        Optional<SQLFederationTableStatistics> tableStatistics = statisticsAvailable ? Optional.of(createTableStatistics()) : Optional.empty();
+        SQLFederationSchema sqlFederationSchema = new SQLFederationSchema(SCHEMA_NAME, schema, databaseType, new JavaTypeFactoryImpl(),
+                each -> new SQLFederationStatistic(each.getAllColumns().stream().map(ShardingSphereColumn::getName).collect(Collectors.toList()), Collections.emptyList(), () -> tableStatistics));
+        CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, sqlFederationSchema, relDataTypeFactory, connectionConfig, databaseType);
+        SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        return SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false);
+    }
+    
+    private SQLFederationTableStatistics createTableStatistics() {
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new CaseInsensitiveMap<>(2, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistics(10000L, SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(0D, 5000D, 10000D))));
+        columnStatistics.put("user_id", new SQLFederationColumnStatistics(100L, SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(0D, 10D, 20D, 30D, 100D))));
+        return new SQLFederationTableStatistics(10000L, columnStatistics);
+    }
+}
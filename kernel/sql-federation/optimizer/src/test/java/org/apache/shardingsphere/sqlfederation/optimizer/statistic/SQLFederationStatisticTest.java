@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertGetRowCountWithoutTableStatistics() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        assertNull(actual.getRowCount());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        assertThat(createStatistic().getRowCount(), is(1000D));
+    }
+    
+    @Test
+    void assertIsKey() {
+        SQLFederationStatistic actual = createStatistic();
+        assertTrue(actual.isKey(ImmutableBitSet.of(0)));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(2)));
+    }
+    
+    @Test
+    void assertIsNotKeyWithUniqueStatisticsOnly() {
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new CaseInsensitiveMap<>(1, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistics(1000L, null));
+        SQLFederationTableStatistics tableStatistics = new SQLFederationTableStatistics(1000L, columnStatistics);
+        assertFalse(new SQLFederationStatistic(Arrays.asList("order_id", "user_id"), Collections.emptyList(), () -> Optional.of(tableStatistics)).isKey(ImmutableBitSet.of(0)));
+    }
+    
+    private SQLFederationStatistic createStatistic() {
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new CaseInsensitiveMap<>(2, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistics(1000L, null));
+        columnStatistics.put("user_id", new SQLFederationColumnStatistics(10L, null));
+        SQLFederationTableStatistics tableStatistics = new SQLFederationTableStatistics(1000L, columnStatistics);
+        return new SQLFederationStatistic(Arrays.asList("order_id", "user_id", "status"), Collections.singleton(ImmutableBitSet.of(0)), () -> Optional.of(tableStatistics));
+    }
+}
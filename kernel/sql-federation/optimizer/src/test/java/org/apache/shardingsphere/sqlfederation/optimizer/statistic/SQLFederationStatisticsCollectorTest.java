@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SQLFederationStatisticsCollectorTest {
+    
+    @Test
+    void assertMerge() {
+        SQLFederationTableStatistics actual = new SQLFederationStatisticsCollector().merge(Arrays.asList(
+                createTableStatistics(100L, new SQLFederationColumnStatistics(100L, SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(0D, 100D))), new SQLFederationColumnStatistics(5L, null)),
+                createTableStatistics(100L, new SQLFederationColumnStatistics(100L, SQLFederationHistogram.fromEquiDepthBounds(Arrays.asList(100D, 200D))),
+                        new SQLFederationColumnStatistics(3L, null))),
+                Collections.singleton("order_id"));
+        assertThat(actual.getRowCount(), is(200L));
+        SQLFederationColumnStatistics orderIdStatistics = actual.findColumnStatistics("ORDER_ID").orElseThrow(IllegalStateException::new);
+        assertThat(orderIdStatistics.getDistinctCount(), is(200L));
+        SQLFederationHistogram orderIdHistogram = orderIdStatistics.findHistogram().orElseThrow(IllegalStateException::new);
+        assertThat(orderIdHistogram.getMinValue(), is(0D));
+        assertThat(orderIdHistogram.getMaxValue(), is(200D));
+        assertThat(orderIdHistogram.getFraction(150D), is(0.75D));
+        SQLFederationColumnStatistics statusStatistics = actual.findColumnStatistics("status").orElseThrow(IllegalStateException::new);
+        assertThat(statusStatistics.getDistinctCount(), is(5L));
+        assertFalse(statusStatistics.findHistogram().isPresent());
+    }
+    
+    @Test
+    void assertMergeUniqueColumnWithoutDeclaredKey() {
+        SQLFederationTableStatistics actual = new SQLFederationStatisticsCollector().merge(Arrays.asList(
+                createTableStatistics(100L, new SQLFederationColumnStatistics(100L, null), new SQLFederationColumnStatistics(5L, null)),
+                createTableStatistics(50L, new SQLFederationColumnStatistics(50L, null), new SQLFederationColumnStatistics(3L, null))), Collections.emptyList());
+        assertThat(actual.findColumnStatistics("order_id").orElseThrow(IllegalStateException::new).getDistinctCount(), is(100L));
+    }
+    
+    @Test
+    void assertMergeWithoutColumnStatistics() {
+        SQLFederationTableStatistics actual = new SQLFederationStatisticsCollector().merge(Arrays.asList(
+                new SQLFederationTableStatistics(10L, Collections.emptyMap()), new SQLFederationTableStatistics(20L, Collections.emptyMap())), Collections.emptyList());
+        assertThat(actual.getRowCount(), is(30L));
+        assertThat(actual.getColumnStatistics().size(), is(0));
+    }
+    
+    private SQLFederationTableStatistics createTableStatistics(final long rowCount, final SQLFederationColumnStatistics orderIdStatistics, final SQLFederationColumnStatistics statusStatistics) {
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new CaseInsensitiveMap<>(2, 1F);
+        columnStatistics.put("order_id", orderIdStatistics);
+        columnStatistics.put("status", statusStatistics);
+        return new SQLFederationTableStatistics(rowCount, columnStatistics);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.impl;
+
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLTableStatisticsLoaderTest {
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(5);
+        PreparedStatement rowCountStatement = mockPreparedStatement(connection, "information_schema.TABLES");
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountStatement.executeQuery()).thenReturn(rowCountResultSet);
+        when(rowCountResultSet.next()).thenReturn(true);
+        when(rowCountResultSet.getLong(1)).thenReturn(1000L);
+        PreparedStatement cardinalityStatement = mockPreparedStatement(connection, "information_schema.STATISTICS");
+        ResultSet cardinalityResultSet = mock(ResultSet.class);
+        when(cardinalityStatement.executeQuery()).thenReturn(cardinalityResultSet);
+        when(cardinalityResultSet.next()).thenReturn(true, false);
+        when(cardinalityResultSet.getString(1)).thenReturn("ORDER_ID");
+        when(cardinalityResultSet.getLong(2)).thenReturn(990L);
+        Optional<SQLFederationTableStatistics> actual = new MySQLTableStatisticsLoader().load(connection, null, "t_order_0");
+        assertThat(actual.map(SQLFederationTableStatistics::getRowCount).orElse(0L), is(1000L));
+        assertThat(actual.flatMap(optional -> optional.findColumnStatistics("order_id")).map(optional -> optional.getDistinctCount()).orElse(0L), is(990L));
+        verify(rowCountStatement).setString(1, "t_order_0");
+    }
+    
+    @Test
+    void assertLoadWithHistogram() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        PreparedStatement rowCountStatement = mockPreparedStatement(connection, "information_schema.TABLES");
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountStatement.executeQuery()).thenReturn(rowCountResultSet);
+        when(rowCountResultSet.next()).thenReturn(true);
+        when(rowCountResultSet.getLong(1)).thenReturn(1000L);
+        PreparedStatement cardinalityStatement = mockPreparedStatement(connection, "information_schema.STATISTICS");
+        when(cardinalityStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        PreparedStatement histogramStatement = mockPreparedStatement(connection, "information_schema.COLUMN_STATISTICS");
+        ResultSet histogramResultSet = mock(ResultSet.class);
+        when(histogramStatement.executeQuery()).thenReturn(histogramResultSet);
+        when(histogramResultSet.next()).thenReturn(true, true, false);
+        when(histogramResultSet.getString(1)).thenReturn("amount", "status");
+        when(histogramResultSet.getString(2)).thenReturn("{\"buckets\": [[0, 10, 0.5, 8], [10, 100, 1.0, 12]], \"histogram-type\": \"equi-height\"}",
+                "{\"buckets\": [[\"base64:type254:UEFJRA==\", 1.0]], \"histogram-type\": \"singleton\"}");
+        Optional<SQLFederationColumnStatistics> actual = new MySQLTableStatisticsLoader().load(connection, null, "t_order_0").flatMap(optional -> optional.findColumnStatistics("AMOUNT"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDistinctCount(), is(20L));
+        assertThat(actual.get().findHistogram().map(optional -> optional.getFraction(55D)).orElse(0D), is(0.75D));
+    }
+    
+    @Test
+    void assertLoadWithoutTable() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement rowCountStatement = mockPreparedStatement(connection, "information_schema.TABLES");
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountStatement.executeQuery()).thenReturn(rowCountResultSet);
+        assertFalse(new MySQLTableStatisticsLoader().load(connection, null, "t_order_0").isPresent());
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Connection connection, final String catalogTableName) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(connection.prepareStatement(contains(catalogTableName))).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.impl;
+
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLTableStatisticsLoaderTest {
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getSchema()).thenReturn("public");
+        PreparedStatement rowCountStatement = mockPreparedStatement(connection, "pg_class");
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountStatement.executeQuery()).thenReturn(rowCountResultSet);
+        when(rowCountResultSet.next()).thenReturn(true);
+        when(rowCountResultSet.getDouble(1)).thenReturn(1000D);
+        PreparedStatement distinctStatement = mockPreparedStatement(connection, "pg_stats");
+        ResultSet distinctResultSet = mock(ResultSet.class);
+        when(distinctStatement.executeQuery()).thenReturn(distinctResultSet);
+        when(distinctResultSet.next()).thenReturn(true, true, false);
+        when(distinctResultSet.getString(1)).thenReturn("order_id", "status");
+        when(distinctResultSet.getDouble(2)).thenReturn(-1D, 5D);
+        when(distinctResultSet.getString(3)).thenReturn("{0,250,500,750,1000}", "{PAID,UNPAID}");
+        Optional<SQLFederationTableStatistics> actual = new PostgreSQLTableStatisticsLoader().load(connection, null, "t_order_0");
+        assertThat(actual.map(SQLFederationTableStatistics::getRowCount).orElse(0L), is(1000L));
+        assertThat(actual.flatMap(optional -> optional.findColumnStatistics("order_id")).map(optional -> optional.getDistinctCount()).orElse(0L), is(1000L));
+        assertThat(actual.flatMap(optional -> optional.findColumnStatistics("order_id")).flatMap(SQLFederationColumnStatistics::findHistogram).map(optional -> optional.getFraction(875D)).orElse(0D),
+                is(0.875D));
+        assertThat(actual.flatMap(optional -> optional.findColumnStatistics("status")).map(optional -> optional.getDistinctCount()).orElse(0L), is(5L));
+        assertFalse(actual.flatMap(optional -> optional.findColumnStatistics("status")).flatMap(SQLFederationColumnStatistics::findHistogram).isPresent());
+        verify(rowCountStatement).setString(1, "public");
+    }
+    
+    @Test
+    void assertLoadWithoutAnalyzedTable() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement rowCountStatement = mockPreparedStatement(connection, "pg_class");
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountStatement.executeQuery()).thenReturn(rowCountResultSet);
+        when(rowCountResultSet.next()).thenReturn(true);
+        when(rowCountResultSet.getDouble(1)).thenReturn(-1D);
+        assertFalse(new PostgreSQLTableStatisticsLoader().load(connection, "public", "t_order_0").isPresent());
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Connection connection, final String catalogTableName) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(connection.prepareStatement(contains(catalogTableName))).thenReturn(result);
+        return result;
+    }
+}
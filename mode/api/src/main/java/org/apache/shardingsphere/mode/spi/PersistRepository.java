@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +42,25 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query data in batch.
+     *
+     * <p>Repositories which support multi-key reads should query the data with less round trips than querying keys one by one.</p>
+     *
+     * @param keys keys to be queried
+     * @return queried data of existed keys
+     */
+    default Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = query(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -87,6 +109,28 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void delete(String key);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Repositories which support multi-key transactions should persist the data in chunks, and each chunk is persisted atomically.</p>
+     *
+     * @param keyValues key and value pairs of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
+    /**
+     * Delete nodes in batch.
+     *
+     * <p>Repositories which support multi-key transactions should delete the nodes in chunks, and each chunk is deleted atomically.</p>
+     *
+     * @param keys keys of data
+     */
+    default void batchDelete(final Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     @Override
     void close();
 }
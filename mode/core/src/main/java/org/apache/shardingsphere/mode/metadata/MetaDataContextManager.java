@@ -105,7 +105,7 @@ public class MetaDataContextManager {
      * @param metaDataContexts meta data contexts
      */
     public void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
-        this.metaDataContexts.set(metaDataContexts);
+        this.metaDataContexts.getAndSet(metaDataContexts).getMetaData().invalidateCaches();
     }
     
     /**
@@ -115,8 +115,11 @@ public class MetaDataContextManager {
      */
     public void forceRefreshDatabaseMetaData(final ShardingSphereDatabase database) {
         try {
+            MetaDataContexts staleMetaDataContexts = metaDataContexts.get();
             MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(database);
             metaDataContexts.set(reloadedMetaDataContexts);
+            staleMetaDataContexts.closeRebuiltGlobalRules();
+            metaDataContexts.get().getMetaData().invalidateCaches();
             metaDataContexts.get().getMetaData().getDatabase(database.getName()).getAllSchemas()
                     .forEach(each -> {
                         if (each.isEmpty()) {
@@ -136,9 +139,12 @@ public class MetaDataContextManager {
      */
     public void refreshTableMetaData(final ShardingSphereDatabase database) {
         try {
+            MetaDataContexts staleMetaDataContexts = metaDataContexts.get();
             MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(database);
             dropSchemas(database.getName(), reloadedMetaDataContexts.getMetaData().getDatabase(database.getName()), database);
             metaDataContexts.set(reloadedMetaDataContexts);
+            staleMetaDataContexts.closeRebuiltGlobalRules();
+            metaDataContexts.get().getMetaData().invalidateCaches();
             metaDataContexts.get().getMetaData().getDatabase(database.getName()).getAllSchemas()
                     .forEach(each -> metaDataPersistService.getDatabaseMetaDataFacade().getSchema().alterByRefresh(database.getName(), each));
         } catch (final SQLException ex) {
@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -51,6 +52,20 @@ public final class MetaDataContexts implements AutoCloseable {
         }
     }
     
+    /**
+     * Close global rules, which have been rebuilt in reloaded meta data contexts.
+     *
+     * <p>Transaction rule is excluded, since it is closed only when transaction rule configuration is altered.</p>
+     */
+    @SneakyThrows(Exception.class)
+    public void closeRebuiltGlobalRules() {
+        for (ShardingSphereRule each : metaData.getGlobalRuleMetaData().getRules()) {
+            if (each instanceof AutoCloseable && !(each instanceof TransactionRule)) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
+    
     private Collection<ShardingSphereRule> getAllRules() {
         Collection<ShardingSphereRule> result = new LinkedList<>(metaData.getGlobalRuleMetaData().getRules());
         metaData.getAllDatabases().stream().map(each -> each.getRuleMetaData().getRules()).forEach(result::addAll);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.metadata.manager;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -64,6 +65,7 @@ public final class GlobalConfigurationManager {
             return;
         }
         closeStaleTransactionRule(ruleConfig);
+        closeStaleSQLFederationRule(ruleConfig);
         Collection<ShardingSphereRule> rules = new LinkedList<>(metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules());
         rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
         rules.addAll(GlobalRulesBuilder.buildSingleRules(ruleConfig, metaDataContexts.get().getMetaData().getAllDatabases(), metaDataContexts.get().getMetaData().getProps()));
@@ -72,6 +74,7 @@ public final class GlobalConfigurationManager {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(metaDataContexts.get().getMetaData().getAllDatabases(),
                 metaDataContexts.get().getMetaData().getGlobalResourceMetaData(), metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps());
         metaDataContexts.set(newMetaDataContexts(toBeChangedMetaData));
+        metaDataContexts.get().getMetaData().invalidateCaches();
     }
     
     // Optimize string comparison rule type.
@@ -84,15 +87,64 @@ public final class GlobalConfigurationManager {
         metaDataContexts.get().getMetaData().getGlobalRuleMetaData().findSingleRule(TransactionRule.class).ifPresent(TransactionRule::close);
     }
     
+    @SneakyThrows(Exception.class)
+    private void closeStaleSQLFederationRule(final RuleConfiguration ruleConfig) {
+        if (!isSQLFederationRuleConfiguration(ruleConfig)) {
+            return;
+        }
+        for (ShardingSphereRule each : metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules()) {
+            if (each instanceof AutoCloseable && each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass())) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
+    
+    private boolean isSQLFederationRuleConfiguration(final RuleConfiguration ruleConfig) {
+        YamlRuleConfiguration yamlRuleConfig = new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfiguration(ruleConfig);
+        return "sql_federation".equals(Objects.requireNonNull(yamlRuleConfig.getClass().getAnnotation(RepositoryTupleEntity.class)).value());
+    }
+    
     /**
      * Alter properties.
      *
+     * <p>SQL federation rule is rebuilt if SQL federation statistics refresh interval is altered, since its statistics manager is created by the interval.</p>
+     *
      * @param props properties to be altered
      */
     public synchronized void alterProperties(final Properties props) {
+        ConfigurationProperties toBeChangedProps = new ConfigurationProperties(props);
+        if (isSQLFederationStatisticsRefreshIntervalChanged(toBeChangedProps)) {
+            rebuildSQLFederationRule(toBeChangedProps);
+        }
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(metaDataContexts.get().getMetaData().getAllDatabases(),
-                metaDataContexts.get().getMetaData().getGlobalResourceMetaData(), metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
+                metaDataContexts.get().getMetaData().getGlobalResourceMetaData(), metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), toBeChangedProps);
         metaDataContexts.set(newMetaDataContexts(toBeChangedMetaData));
+        metaDataContexts.get().getMetaData().invalidateCaches();
+    }
+    
+    private boolean isSQLFederationStatisticsRefreshIntervalChanged(final ConfigurationProperties toBeChangedProps) {
+        ConfigurationPropertyKey key = ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS;
+        return !metaDataContexts.get().getMetaData().getProps().getValue(key).equals(toBeChangedProps.getValue(key));
+    }
+    
+    @SneakyThrows(Exception.class)
+    private void rebuildSQLFederationRule(final ConfigurationProperties toBeChangedProps) {
+        Collection<ShardingSphereRule> globalRules = metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules();
+        Collection<ShardingSphereRule> staleRules = new LinkedList<>();
+        Collection<ShardingSphereRule> rules = new LinkedList<>();
+        for (ShardingSphereRule each : globalRules) {
+            if (each instanceof AutoCloseable && isSQLFederationRuleConfiguration(each.getConfiguration())) {
+                staleRules.add(each);
+                rules.addAll(GlobalRulesBuilder.buildSingleRules(each.getConfiguration(), metaDataContexts.get().getMetaData().getAllDatabases(), toBeChangedProps));
+            } else {
+                rules.add(each);
+            }
+        }
+        globalRules.clear();
+        globalRules.addAll(rules);
+        for (ShardingSphereRule each : staleRules) {
+            ((AutoCloseable) each).close();
+        }
     }
     
     private MetaDataContexts newMetaDataContexts(final ShardingSphereMetaData metaData) {
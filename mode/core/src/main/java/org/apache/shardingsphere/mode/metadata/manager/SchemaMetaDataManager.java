@@ -92,6 +92,7 @@ public final class SchemaMetaDataManager {
         }
         database.addSchema(new ShardingSphereSchema(schemaName));
         metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
+        metaData.invalidateCaches();
     }
     
     /**
@@ -108,6 +109,7 @@ public final class SchemaMetaDataManager {
         }
         database.dropSchema(schemaName);
         metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
+        metaData.invalidateCaches();
     }
     
     /**
@@ -127,6 +129,7 @@ public final class SchemaMetaDataManager {
         Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
         if (null != toBeChangedTable || null != toBeChangedView) {
             metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
+            metaData.invalidateCaches();
         }
     }
     
@@ -147,6 +150,7 @@ public final class SchemaMetaDataManager {
         Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
         if (!Strings.isNullOrEmpty(toBeDeletedTableName) || !Strings.isNullOrEmpty(toBeDeletedViewName)) {
             metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
+            metaData.invalidateCaches();
         }
     }
     
@@ -108,9 +108,12 @@ public final class StorageUnitManager {
     }
     
     private void buildNewMetaDataContext(final String databaseName, final SwitchingResource switchingResource) throws SQLException {
+        MetaDataContexts staleMetaDataContexts = metaDataContexts.get();
         MetaDataContexts reloadMetaDataContexts = MetaDataContextsFactory.createBySwitchResource(
-                databaseName, true, switchingResource, metaDataContexts.get(), metaDataPersistService, computeNodeInstanceContext);
+                databaseName, true, switchingResource, staleMetaDataContexts, metaDataPersistService, computeNodeInstanceContext);
         metaDataContexts.set(reloadMetaDataContexts);
+        staleMetaDataContexts.closeRebuiltGlobalRules();
+        metaDataContexts.get().getMetaData().invalidateCaches();
         metaDataContexts.get().getMetaData().putDatabase(buildDatabase(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
         switchingResource.closeStaleDataSources();
     }
@@ -21,16 +21,23 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 class MetaDataContextsTest {
     
@@ -40,4 +47,15 @@ class MetaDataContextsTest {
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), new ConfigurationProperties(new Properties()));
         assertThat(MetaDataContextsFactory.create(mock(MetaDataPersistService.class), metaData).getMetaData().getDatabase("foo_db"), is(database));
     }
+    
+    @Test
+    void assertCloseRebuiltGlobalRules() throws Exception {
+        GlobalRule closeableRule = mock(GlobalRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        TransactionRule transactionRule = mock(TransactionRule.class);
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Arrays.asList(closeableRule, transactionRule));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.emptyList(), mock(), globalRuleMetaData, new ConfigurationProperties(new Properties()));
+        new MetaDataContexts(metaData, mock()).closeRebuiltGlobalRules();
+        verify((AutoCloseable) closeableRule).close();
+        verify(transactionRule, never()).close();
+    }
 }
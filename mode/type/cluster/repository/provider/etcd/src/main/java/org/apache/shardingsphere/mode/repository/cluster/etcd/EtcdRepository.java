@@ -19,11 +19,14 @@ package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -46,7 +49,15 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +70,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 1536 * 1024 - 64 * 1024;
+    
+    private static final int OPERATION_OVERHEAD_BYTES = 32;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -85,6 +100,23 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), getBatchSize())) {
+            Op[] operations = each.stream().map(key -> Op.get(ByteSequence.from(key, StandardCharsets.UTF_8), GetOption.DEFAULT)).toArray(Op[]::new);
+            Iterator<GetResponse> responses = client.getKVClient().txn().Then(operations).commit().get().getGetResponses().iterator();
+            for (String key : each) {
+                List<KeyValue> keyValues = responses.next().getKvs();
+                if (!keyValues.isEmpty()) {
+                    result.put(key, keyValues.get(0).getValue().toString(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -152,6 +184,67 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().isPrefix(true).build());
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Map<String, String> toBePersistedKeyValues = new LinkedHashMap<>(keyValues.size() * 2, 1F);
+        getAbsentParentPaths(keyValues.keySet()).forEach(each -> toBePersistedKeyValues.put(each, ""));
+        toBePersistedKeyValues.putAll(keyValues);
+        int batchSize = getBatchSize();
+        List<Op> chunk = new ArrayList<>(Math.min(toBePersistedKeyValues.size(), batchSize));
+        int chunkBytes = 0;
+        for (Entry<String, String> entry : toBePersistedKeyValues.entrySet()) {
+            ByteSequence key = ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8);
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            int operationBytes = key.size() + value.size() + OPERATION_OVERHEAD_BYTES;
+            if (!chunk.isEmpty() && (chunk.size() == batchSize || chunkBytes + operationBytes > MAX_TRANSACTION_BYTES)) {
+                client.getKVClient().txn().Then(chunk.toArray(new Op[0])).commit().get();
+                chunk.clear();
+                chunkBytes = 0;
+            }
+            chunk.add(Op.put(key, value, PutOption.DEFAULT));
+            chunkBytes += operationBytes;
+        }
+        if (!chunk.isEmpty()) {
+            client.getKVClient().txn().Then(chunk.toArray(new Op[0])).commit().get();
+        }
+    }
+    
+    private Collection<String> getAbsentParentPaths(final Collection<String> keys) throws ExecutionException, InterruptedException {
+        Collection<String> parentPaths = new LinkedHashSet<>();
+        for (String each : keys) {
+            for (int index = each.indexOf(PATH_SEPARATOR, 1); index > 0; index = each.indexOf(PATH_SEPARATOR, index + 1)) {
+                parentPaths.add(each.substring(0, index));
+            }
+        }
+        parentPaths.removeAll(keys);
+        Collection<String> result = new LinkedList<>();
+        GetOption countOnlyOption = GetOption.newBuilder().withCountOnly(true).build();
+        for (List<String> each : Lists.partition(new ArrayList<>(parentPaths), getBatchSize())) {
+            Op[] operations = each.stream().map(path -> Op.get(ByteSequence.from(path, StandardCharsets.UTF_8), countOnlyOption)).toArray(Op[]::new);
+            Iterator<GetResponse> responses = client.getKVClient().txn().Then(operations).commit().get().getGetResponses().iterator();
+            for (String path : each) {
+                if (0L == responses.next().getCount()) {
+                    result.add(path);
+                }
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        DeleteOption prefixOption = DeleteOption.newBuilder().isPrefix(true).build();
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), getBatchSize())) {
+            client.getKVClient().txn().Then(each.stream().map(key -> Op.delete(ByteSequence.from(key, StandardCharsets.UTF_8), prefixOption)).toArray(Op[]::new)).commit().get();
+        }
+    }
+    
+    private int getBatchSize() {
+        return etcdProps.getValue(EtcdPropertyKey.BATCH_SIZE);
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
         Watch.Listener listener = Watch.listener(response -> {
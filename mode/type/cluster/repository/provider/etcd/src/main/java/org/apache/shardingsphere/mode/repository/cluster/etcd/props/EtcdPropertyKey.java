@@ -36,7 +36,12 @@ public enum EtcdPropertyKey implements TypedPropertyKey {
     /**
      * Time out to connection.
      */
-    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class);
+    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class),
+    
+    /**
+     * Max operations count of one etcd transaction in batch persist and delete.
+     */
+    BATCH_SIZE("batchSize", "128", int.class);
     
     private final String key;
     
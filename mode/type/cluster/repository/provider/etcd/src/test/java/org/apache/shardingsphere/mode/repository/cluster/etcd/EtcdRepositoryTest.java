@@ -23,9 +23,12 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -46,6 +49,7 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -61,6 +65,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -97,6 +102,15 @@ class EtcdRepositoryTest {
     @Mock
     private CompletableFuture putFuture;
     
+    @Mock
+    private Txn txn;
+    
+    @Mock
+    private CompletableFuture txnFuture;
+    
+    @Mock
+    private TxnResponse txnResponse;
+    
     @BeforeEach
     void setUp() {
         setClient();
@@ -128,6 +142,10 @@ class EtcdRepositoryTest {
         when(leaseFuture.get()).thenReturn(leaseGrantResponse);
         when(leaseGrantResponse.getID()).thenReturn(123L);
         when(client.getWatchClient()).thenReturn(watch);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any(Op[].class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        when(txnFuture.get()).thenReturn(txnResponse);
     }
     
     @Test
@@ -212,6 +230,23 @@ class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    void assertBatchPersist() {
+        when(getResponse.getCount()).thenReturn(0L);
+        when(txnResponse.getGetResponses()).thenReturn(Collections.singletonList(getResponse));
+        repository.batchPersist(Collections.singletonMap("/key1/key1-1", "value1"));
+        verify(txn).Then(any(Op.GetOp.class));
+        verify(txn).Then(any(Op.PutOp.class), any(Op.PutOp.class));
+        verify(txn, times(2)).commit();
+    }
+    
+    @Test
+    void assertBatchDelete() {
+        repository.batchDelete(Arrays.asList("/key1", "/key2"));
+        verify(txn).Then(any(Op.DeleteOp.class), any(Op.DeleteOp.class));
+        verify(txn).commit();
+    }
+    
     @Test
     void assertClose() {
         repository.close();
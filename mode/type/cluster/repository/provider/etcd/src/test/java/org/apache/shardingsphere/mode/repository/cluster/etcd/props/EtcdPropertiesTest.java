@@ -33,8 +33,14 @@ class EtcdPropertiesTest {
         assertThat(new EtcdProperties(PropertiesBuilder.build(new Property(EtcdPropertyKey.TIME_TO_LIVE_SECONDS.getKey(), "50"))).getValue(EtcdPropertyKey.TIME_TO_LIVE_SECONDS), is(50L));
     }
     
+    @Test
+    void assertGetBatchSize() {
+        assertThat(new EtcdProperties(PropertiesBuilder.build(new Property(EtcdPropertyKey.BATCH_SIZE.getKey(), "64"))).getValue(EtcdPropertyKey.BATCH_SIZE), is(64));
+    }
+    
     @Test
     void assertGetDefaultValue() {
         assertThat(new EtcdProperties(new Properties()).getValue(EtcdPropertyKey.TIME_TO_LIVE_SECONDS), is(30L));
+        assertThat(new EtcdProperties(new Properties()).getValue(EtcdPropertyKey.BATCH_SIZE), is(128));
     }
 }
@@ -19,14 +19,17 @@ package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
@@ -47,20 +50,33 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 1024 * 1024 - 64 * 1024;
+    
+    private static final int OPERATION_OVERHEAD_BYTES = 64;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -69,6 +85,8 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     
     private CuratorFramework client;
     
+    private int batchSize;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
@@ -77,6 +95,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
         client = buildCuratorClient(config, zookeeperProps);
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
+        batchSize = zookeeperProps.getValue(ZookeeperPropertyKey.BATCH_SIZE);
         client.getConnectionStateListenable().addListener(new SessionConnectionReconnectListener(computeNodeInstanceContext, this));
         initCuratorClient(zookeeperProps);
     }
@@ -184,6 +203,40 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        try {
+            Map<String, CompletableFuture<byte[]>> futures = new LinkedHashMap<>(keys.size(), 1F);
+            for (String each : keys) {
+                futures.put(each, queryInBackground(each));
+            }
+            Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+            for (Entry<String, CompletableFuture<byte[]>> entry : futures.entrySet()) {
+                byte[] data = entry.getValue().get();
+                if (null != data) {
+                    result.put(entry.getKey(), new String(data, StandardCharsets.UTF_8));
+                }
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+    }
+    
+    private CompletableFuture<byte[]> queryInBackground(final String key) throws Exception {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        client.getData().inBackground((curatorClient, event) -> {
+            if (KeeperException.Code.OK.intValue() == event.getResultCode() || KeeperException.Code.NONODE.intValue() == event.getResultCode()) {
+                result.complete(event.getData());
+            } else {
+                result.completeExceptionally(KeeperException.create(KeeperException.Code.get(event.getResultCode()), key));
+            }
+        }).forPath(key);
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -237,6 +290,139 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            List<BatchOperation> operations = new ArrayList<>(keyValues.size());
+            Map<String, Boolean> existedPaths = new HashMap<>(keyValues.size() * 2, 1F);
+            Collection<String> loadedParentPaths = new HashSet<>();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                addCreateParentOperations(entry.getKey(), existedPaths, loadedParentPaths, operations);
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                CuratorOp operation = isPathExisted(entry.getKey(), existedPaths, loadedParentPaths)
+                        ? client.transactionOp().setData().forPath(entry.getKey(), data)
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), data);
+                operations.add(new BatchOperation(operation, getOperationBytes(entry.getKey(), data), () -> persist(entry.getKey(), entry.getValue())));
+                existedPaths.put(entry.getKey(), true);
+            }
+            commitInChunks(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void addCreateParentOperations(final String key, final Map<String, Boolean> existedPaths, final Collection<String> loadedParentPaths,
+                                           final List<BatchOperation> operations) throws Exception {
+        List<String> parentPaths = new LinkedList<>();
+        for (String each = ZKPaths.getPathAndNode(key).getPath(); !PATH_SEPARATOR.equals(each); each = ZKPaths.getPathAndNode(each).getPath()) {
+            parentPaths.add(0, each);
+        }
+        for (String each : parentPaths) {
+            if (!isPathExisted(each, existedPaths, loadedParentPaths)) {
+                operations.add(new BatchOperation(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(each, new byte[0]), getOperationBytes(each, new byte[0]), null));
+                existedPaths.put(each, true);
+                loadedParentPaths.add(each);
+            }
+        }
+    }
+    
+    private boolean isPathExisted(final String path, final Map<String, Boolean> existedPaths, final Collection<String> loadedParentPaths) throws Exception {
+        Boolean result = existedPaths.get(path);
+        if (null != result) {
+            return result;
+        }
+        String parentPath = ZKPaths.getPathAndNode(path).getPath();
+        if (!loadedParentPaths.contains(parentPath) && (PATH_SEPARATOR.equals(parentPath) || isPathExisted(parentPath, existedPaths, loadedParentPaths))) {
+            for (String each : getChildren(parentPath)) {
+                existedPaths.putIfAbsent(ZKPaths.makePath(parentPath, each), true);
+            }
+            loadedParentPaths.add(parentPath);
+        }
+        return existedPaths.computeIfAbsent(path, unused -> false);
+    }
+    
+    private List<String> getChildren(final String path) throws Exception {
+        try {
+            return client.getChildren().forPath(path);
+        } catch (final KeeperException.NoNodeException ignore) {
+            return Collections.emptyList();
+        }
+    }
+    
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        try {
+            List<BatchOperation> operations = new ArrayList<>(keys.size());
+            for (String each : keys) {
+                for (String path : getSubtreePaths(each)) {
+                    operations.add(new BatchOperation(client.transactionOp().delete().forPath(path), getOperationBytes(path, new byte[0]), () -> delete(path)));
+                }
+            }
+            commitInChunks(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private List<String> getSubtreePaths(final String path) throws Exception {
+        if (null == client.checkExists().forPath(path)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new LinkedList<>();
+        for (String each : getChildren(path)) {
+            result.addAll(getSubtreePaths(ZKPaths.makePath(path, each)));
+        }
+        result.add(path);
+        return result;
+    }
+    
+    private int getOperationBytes(final String path, final byte[] data) {
+        return path.getBytes(StandardCharsets.UTF_8).length + data.length + OPERATION_OVERHEAD_BYTES;
+    }
+    
+    private void commitInChunks(final List<BatchOperation> operations) throws Exception {
+        int fromIndex = 0;
+        while (fromIndex < operations.size()) {
+            int toIndex = getChunkEndIndex(operations, fromIndex);
+            if (!commit(operations.subList(fromIndex, toIndex))) {
+                fallback(operations.subList(fromIndex, operations.size()));
+                return;
+            }
+            fromIndex = toIndex;
+        }
+    }
+    
+    private int getChunkEndIndex(final List<BatchOperation> operations, final int fromIndex) {
+        int result = fromIndex;
+        int chunkBytes = 0;
+        while (result < operations.size() && result - fromIndex < batchSize && (result == fromIndex || chunkBytes + operations.get(result).bytes <= MAX_TRANSACTION_BYTES)) {
+            chunkBytes += operations.get(result).bytes;
+            result++;
+        }
+        return result;
+    }
+    
+    private void fallback(final Collection<BatchOperation> uncommittedOperations) {
+        for (BatchOperation each : uncommittedOperations) {
+            if (null != each.fallback) {
+                each.fallback.run();
+            }
+        }
+    }
+    
+    private boolean commit(final List<BatchOperation> operations) throws Exception {
+        try {
+            client.transaction().forOperations(operations.stream().map(each -> each.operation).collect(Collectors.toList()));
+            return true;
+        } catch (final KeeperException.NodeExistsException | KeeperException.NoNodeException | KeeperException.NotEmptyException ex) {
+            return false;
+        }
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         if (null != dataListeners.get(key)) {
@@ -294,4 +480,14 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     public String getType() {
         return "ZooKeeper";
     }
+    
+    @RequiredArgsConstructor
+    private static final class BatchOperation {
+        
+        private final CuratorOp operation;
+        
+        private final int bytes;
+        
+        private final Runnable fallback;
+    }
 }
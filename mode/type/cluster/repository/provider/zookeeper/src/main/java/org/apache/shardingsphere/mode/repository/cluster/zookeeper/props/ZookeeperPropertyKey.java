@@ -51,7 +51,12 @@ public enum ZookeeperPropertyKey implements TypedPropertyKey {
     /**
      * ZooKeeper client connection authorization schema name.
      */
-    DIGEST("digest", "", String.class);
+    DIGEST("digest", "", String.class),
+    
+    /**
+     * Max operations count of one ZooKeeper multi transaction in batch persist and delete.
+     */
+    BATCH_SIZE("batchSize", String.valueOf(100), int.class);
     
     private final String key;
     
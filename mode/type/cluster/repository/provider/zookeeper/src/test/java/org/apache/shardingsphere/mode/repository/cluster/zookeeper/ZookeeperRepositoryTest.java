@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
+import com.google.common.base.Strings;
 import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -29,6 +31,12 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -52,7 +60,9 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -63,6 +73,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -104,6 +115,24 @@ class ZookeeperRepositoryTest {
     @Mock
     private Builder builder;
     
+    @Mock
+    private TransactionOp transactionOp;
+    
+    @Mock
+    private TransactionCreateBuilder<CuratorOp> transactionCreateBuilder;
+    
+    @Mock
+    private ACLPathAndBytesable<CuratorOp> transactionCreatePath;
+    
+    @Mock
+    private TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder;
+    
+    @Mock
+    private TransactionDeleteBuilder<CuratorOp> transactionDeleteBuilder;
+    
+    @Mock
+    private CuratorMultiTransaction multiTransaction;
+    
     @BeforeEach
     void init() {
         mockClient();
@@ -144,6 +173,12 @@ class ZookeeperRepositoryTest {
         when(deleteBuilder.deletingChildrenIfNeeded()).thenReturn(backgroundVersionable);
         when(client.getChildren()).thenReturn(getChildrenBuilder);
         when(client.getConnectionStateListenable()).thenReturn(mock(Listenable.class));
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePath);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionOp.delete()).thenReturn(transactionDeleteBuilder);
+        when(client.transaction()).thenReturn(multiTransaction);
     }
     
     @Test
@@ -229,4 +264,41 @@ class ZookeeperRepositoryTest {
         REPOSITORY.delete("/test/children/1");
         verify(backgroundVersionable).forPath("/test/children/1");
     }
+    
+    @Test
+    void assertBatchPersist() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/existed", "value1");
+        keyValues.put("/test/foo/bar", "value2");
+        REPOSITORY.batchPersist(keyValues);
+        verify(transactionSetDataBuilder).forPath("/test/existed", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(transactionCreatePath).forPath("/test/foo", new byte[0]);
+        verify(transactionCreatePath).forPath("/test/foo/bar", "value2".getBytes(StandardCharsets.UTF_8));
+        verify(multiTransaction).forOperations(argThat((List<CuratorOp> operations) -> 3 == operations.size()));
+    }
+    
+    @Test
+    void assertBatchPersistWithLargeValues() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Arrays.asList("foo", "bar"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/foo", Strings.repeat("x", 600 * 1024));
+        keyValues.put("/test/bar", Strings.repeat("y", 600 * 1024));
+        REPOSITORY.batchPersist(keyValues);
+        verify(multiTransaction, times(2)).forOperations(argThat((List<CuratorOp> operations) -> 1 == operations.size()));
+    }
+    
+    @Test
+    void assertBatchDelete() throws Exception {
+        when(existsBuilder.forPath("/test")).thenReturn(new Stat());
+        when(existsBuilder.forPath("/test/child")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("child"));
+        when(getChildrenBuilder.forPath("/test/child")).thenReturn(Collections.emptyList());
+        REPOSITORY.batchDelete(Arrays.asList("/test", "/not_existed"));
+        verify(transactionDeleteBuilder).forPath("/test/child");
+        verify(transactionDeleteBuilder).forPath("/test");
+        verify(multiTransaction).forOperations(argThat((List<CuratorOp> operations) -> 2 == operations.size()));
+    }
 }
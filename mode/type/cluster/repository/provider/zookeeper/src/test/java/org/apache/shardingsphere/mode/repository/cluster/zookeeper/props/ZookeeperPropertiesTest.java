@@ -36,6 +36,7 @@ class ZookeeperPropertiesTest {
         assertThat(actual.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS), is(600));
         assertThat(actual.getValue(ZookeeperPropertyKey.OPERATION_TIMEOUT_MILLISECONDS), is(6000));
         assertThat(actual.getValue(ZookeeperPropertyKey.DIGEST), is("any"));
+        assertThat(actual.getValue(ZookeeperPropertyKey.BATCH_SIZE), is(50));
     }
     
     private Properties createProperties() {
@@ -44,7 +45,8 @@ class ZookeeperPropertiesTest {
                 new Property(ZookeeperPropertyKey.MAX_RETRIES.getKey(), "2"),
                 new Property(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS.getKey(), "600"),
                 new Property(ZookeeperPropertyKey.OPERATION_TIMEOUT_MILLISECONDS.getKey(), "6000"),
-                new Property(ZookeeperPropertyKey.DIGEST.getKey(), "any"));
+                new Property(ZookeeperPropertyKey.DIGEST.getKey(), "any"),
+                new Property(ZookeeperPropertyKey.BATCH_SIZE.getKey(), "50"));
     }
     
     @Test
@@ -55,5 +57,6 @@ class ZookeeperPropertiesTest {
         assertThat(actual.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS), is(60));
         assertThat(actual.getValue(ZookeeperPropertyKey.OPERATION_TIMEOUT_MILLISECONDS), is(500));
         assertThat(actual.getValue(ZookeeperPropertyKey.DIGEST), is(""));
+        assertThat(actual.getValue(ZookeeperPropertyKey.BATCH_SIZE), is(100));
     }
 }
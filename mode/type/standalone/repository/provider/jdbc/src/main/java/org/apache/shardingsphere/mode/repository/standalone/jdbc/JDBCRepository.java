@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.repository.standalone.jdbc;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -34,10 +35,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -53,11 +58,14 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     private HikariDataSource dataSource;
     
+    private int batchSize;
+    
     @SneakyThrows(SQLException.class)
     @Override
     public void init(final Properties props) {
         JDBCRepositoryProperties jdbcRepositoryProps = new JDBCRepositoryProperties(props);
         repositorySQL = JDBCRepositorySQLLoader.load(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.PROVIDER));
+        batchSize = jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.BATCH_SIZE);
         dataSource = new HikariDataSource();
         dataSource.setDriverClassName(repositorySQL.getDriverClassName());
         dataSource.setJdbcUrl(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.JDBC_URL));
@@ -207,6 +215,99 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        for (List<Entry<String, String>> each : Lists.partition(new ArrayList<>(keyValues.entrySet()), batchSize)) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    batchPersist(connection, each);
+                    connection.commit();
+                } catch (final SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            } catch (final SQLException ex) {
+                log.error("Batch persist {} data failed", getType(), ex);
+            }
+        }
+    }
+    
+    private void batchPersist(final Connection connection, final Collection<Entry<String, String>> keyValues) throws SQLException {
+        Collection<String> existedKeys = new HashSet<>();
+        try (
+                PreparedStatement selectStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL());
+                PreparedStatement insertStatement = connection.prepareStatement(repositorySQL.getInsertSQL());
+                PreparedStatement updateStatement = connection.prepareStatement(repositorySQL.getUpdateSQL())) {
+            for (Entry<String, String> entry : keyValues) {
+                String parent = SEPARATOR;
+                String[] paths = Arrays.stream(entry.getKey().split(SEPARATOR)).filter(each -> !Strings.isNullOrEmpty(each)).toArray(String[]::new);
+                for (int i = 0; i < paths.length - 1; i++) {
+                    String tempKey = (SEPARATOR.equals(parent) ? "" : parent) + SEPARATOR + paths[i];
+                    if (!isExisted(selectStatement, tempKey, existedKeys)) {
+                        addInsertBatch(insertStatement, tempKey, "", parent);
+                        existedKeys.add(tempKey);
+                    }
+                    parent = tempKey;
+                }
+                if (isExisted(selectStatement, entry.getKey(), existedKeys)) {
+                    updateStatement.setString(1, entry.getValue());
+                    updateStatement.setString(2, entry.getKey());
+                    updateStatement.addBatch();
+                } else {
+                    addInsertBatch(insertStatement, entry.getKey(), entry.getValue(), parent);
+                    existedKeys.add(entry.getKey());
+                }
+            }
+            insertStatement.executeBatch();
+            updateStatement.executeBatch();
+        }
+    }
+    
+    private boolean isExisted(final PreparedStatement selectStatement, final String key, final Collection<String> existedKeys) throws SQLException {
+        if (existedKeys.contains(key)) {
+            return true;
+        }
+        selectStatement.setString(1, key);
+        try (ResultSet resultSet = selectStatement.executeQuery()) {
+            if (resultSet.next()) {
+                existedKeys.add(key);
+                return true;
+            }
+            return false;
+        }
+    }
+    
+    private void addInsertBatch(final PreparedStatement insertStatement, final String key, final String value, final String parent) throws SQLException {
+        insertStatement.setString(1, UUID.randomUUID().toString());
+        insertStatement.setString(2, key);
+        insertStatement.setString(3, value);
+        insertStatement.setString(4, parent);
+        insertStatement.addBatch();
+    }
+    
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        if (dataSource.isClosed() && dataSource.getJdbcUrl().startsWith("jdbc:h2:mem:")) {
+            return;
+        }
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), batchSize)) {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getDeleteSQL())) {
+                connection.setAutoCommit(false);
+                for (String key : each) {
+                    preparedStatement.setString(1, key + "%");
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+            } catch (final SQLException ex) {
+                log.error("Batch delete {} data failed", getType(), ex);
+            }
+        }
+    }
+    
     @Override
     public void close() {
         dataSource.close();
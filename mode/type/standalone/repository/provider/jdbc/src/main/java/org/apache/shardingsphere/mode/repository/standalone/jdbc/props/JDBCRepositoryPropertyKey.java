@@ -34,7 +34,9 @@ public enum JDBCRepositoryPropertyKey implements TypedPropertyKey {
     
     USERNAME("username", "sa", String.class),
     
-    PASSWORD("password", "", String.class);
+    PASSWORD("password", "", String.class),
+    
+    BATCH_SIZE("batch_size", "1000", int.class);
     
     private final String key;
     
@@ -35,6 +35,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
@@ -66,6 +68,9 @@ class JDBCRepositoryTest {
     @Mock
     private PreparedStatement mockPreparedStatementForPersist;
     
+    @Mock
+    private PreparedStatement mockPreparedStatementForUpdate;
+    
     @Mock
     private ResultSet mockResultSet;
     
@@ -299,4 +304,31 @@ class JDBCRepositoryTest {
         HikariDataSource hikariDataSource = mockedConstruction.constructed().get(0);
         verify(hikariDataSource).close();
     }
+    
+    @Test
+    void assertBatchPersist() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getInsertSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getUpdateSQL())).thenReturn(mockPreparedStatementForUpdate);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        repository.batchPersist(Collections.singletonMap("/parent/key", "value"));
+        verify(mockJdbcConnection).setAutoCommit(false);
+        verify(mockPreparedStatementForPersist).setString(2, "/parent");
+        verify(mockPreparedStatementForPersist).setString(2, "/parent/key");
+        verify(mockPreparedStatementForPersist).setString(3, "value");
+        verify(mockPreparedStatementForPersist, times(2)).addBatch();
+        verify(mockPreparedStatementForPersist).executeBatch();
+        verify(mockJdbcConnection).commit();
+    }
+    
+    @Test
+    void assertBatchDelete() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getDeleteSQL())).thenReturn(mockPreparedStatement);
+        repository.batchDelete(Arrays.asList("/key1", "/key2"));
+        verify(mockPreparedStatement).setString(1, "/key1%");
+        verify(mockPreparedStatement).setString(1, "/key2%");
+        verify(mockPreparedStatement, times(2)).addBatch();
+        verify(mockPreparedStatement).executeBatch();
+        verify(mockJdbcConnection).commit();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
@@ -52,4 +53,25 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL with tokens.
+     *
+     * @param sql SQL to be parsed
+     * @param tokenStream token stream of SQL
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql, final CommonTokenStream tokenStream) {
+        return sqlParserExecutor.parse(sql, tokenStream);
+    }
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return token stream filled with all tokens of SQL
+     */
+    public CommonTokenStream tokenize(final String sql) {
+        return sqlParserExecutor.tokenize(sql);
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.template.SubstitutableTokenFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
 
@@ -38,6 +41,21 @@ public final class SQLParserExecutor {
     
     private final DatabaseType databaseType;
     
+    /**
+     * Tokenize SQL.
+     *
+     * <p>Tokens are created by {@link SubstitutableTokenFactory}, so the parse tree of the tokens can be used as parse tree template.</p>
+     *
+     * @param sql SQL to be tokenized
+     * @return token stream filled with all tokens of SQL
+     */
+    public CommonTokenStream tokenize(final String sql) {
+        CommonTokenStream result = SQLParserFactory.newTokenStream(sql, DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass());
+        ((Lexer) result.getTokenSource()).setTokenFactory(SubstitutableTokenFactory.INSTANCE);
+        result.fill();
+        return result;
+    }
+    
     /**
      * Parse SQL.
      *
@@ -46,16 +64,31 @@ public final class SQLParserExecutor {
      * @throws SQLParsingException SQL parsing exception
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        return parse(sql, SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass()));
+    }
+    
+    /**
+     * Parse SQL with tokens.
+     *
+     * @param sql SQL to be parsed
+     * @param tokenStream token stream of SQL
+     * @return parse AST node
+     * @throws SQLParsingException SQL parsing exception
+     */
+    public ParseASTNode parse(final String sql, final CommonTokenStream tokenStream) {
+        return parse(sql, SQLParserFactory.newInstance(tokenStream, DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getParserClass()));
+    }
+    
+    private ParseASTNode parse(final String sql, final SQLParser sqlParser) {
+        ParseASTNode result = twoPhaseParse(sql, sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException(sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
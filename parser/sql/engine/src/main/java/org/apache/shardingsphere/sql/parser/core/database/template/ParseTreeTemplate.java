@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parse tree template.
+ *
+ * <p>
+ * The parser only decides parse tree by token types, so SQLs with same token types have same parse tree.
+ * The parse tree of a parsed SQL can be reused by substituting its tokens with tokens of another SQL with same token types, without parsing again.
+ * Parse tree template is not thread-safe, it must be used by one thread until the bound parse AST node has been visited and released.
+ * </p>
+ */
+public final class ParseTreeTemplate {
+    
+    private final ParseTree parseTree;
+    
+    private final SubstitutableToken[] tokens;
+    
+    private ParseTreeTemplate(final ParseTree parseTree, final SubstitutableToken[] tokens) {
+        this.parseTree = parseTree;
+        this.tokens = tokens;
+        release();
+    }
+    
+    /**
+     * Create parse tree template.
+     *
+     * @param parseASTNode parse AST node whose tokens are created by {@link SubstitutableTokenFactory}
+     * @return created parse tree template, empty if tokens of parse AST node are not substitutable
+     */
+    public static Optional<ParseTreeTemplate> create(final ParseASTNode parseASTNode) {
+        List<Token> tokens = getDefaultChannelTokens(parseASTNode.getTokenStream());
+        SubstitutableToken[] substitutableTokens = new SubstitutableToken[tokens.size()];
+        for (int i = 0; i < substitutableTokens.length; i++) {
+            if (!(tokens.get(i) instanceof SubstitutableToken)) {
+                return Optional.empty();
+            }
+            substitutableTokens[i] = (SubstitutableToken) tokens.get(i);
+        }
+        return Optional.of(new ParseTreeTemplate(parseASTNode.getParseTree(), substitutableTokens));
+    }
+    
+    private static List<Token> getDefaultChannelTokens(final CommonTokenStream tokenStream) {
+        List<Token> result = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Bind tokens of SQL to parse tree template.
+     *
+     * @param tokenStream token stream filled with all tokens of SQL
+     * @return parse AST node of SQL, empty if tokens can not be bound to parse tree template
+     */
+    public Optional<ParseASTNode> bind(final CommonTokenStream tokenStream) {
+        List<Token> actualTokens = getDefaultChannelTokens(tokenStream);
+        if (!isSameTokenTypes(actualTokens)) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i].substitute(actualTokens.get(i));
+        }
+        return Optional.of(new ParseASTNode(parseTree, tokenStream));
+    }
+    
+    private boolean isSameTokenTypes(final List<Token> actualTokens) {
+        if (tokens.length != actualTokens.size()) {
+            return false;
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].getType() != actualTokens.get(i).getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Release bound SQL, in order not to retain SQL in cached template.
+     */
+    public void release() {
+        for (SubstitutableToken each : tokens) {
+            each.release();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL shape key builder.
+ *
+ * <p>SQL shape key is built by default channel tokens of SQL, and literals are replaced by placeholders with their token types.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLShapeKeyBuilder {
+    
+    private static final Collection<String> LITERAL_SYMBOLIC_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final Map<Class<?>, BitSet> LITERAL_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    /**
+     * Build SQL shape key.
+     *
+     * @param tokenStream token stream filled with all tokens of SQL
+     * @return SQL shape key
+     */
+    public static String build(final CommonTokenStream tokenStream) {
+        BitSet literalTokenTypes = LITERAL_TOKEN_TYPES.computeIfAbsent(tokenStream.getTokenSource().getClass(),
+                unused -> getLiteralTokenTypes(((Recognizer<?, ?>) tokenStream.getTokenSource()).getVocabulary()));
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel() || Token.EOF == each.getType()) {
+                continue;
+            }
+            if (literalTokenTypes.get(each.getType())) {
+                result.append('?').append(each.getType());
+            } else {
+                result.append(each.getText());
+            }
+            result.append(' ');
+        }
+        return result.toString();
+    }
+    
+    private static BitSet getLiteralTokenTypes(final Vocabulary vocabulary) {
+        BitSet result = new BitSet(vocabulary.getMaxTokenType() + 1);
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_SYMBOLIC_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+}
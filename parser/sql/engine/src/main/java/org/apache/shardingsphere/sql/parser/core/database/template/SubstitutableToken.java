@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Substitutable token.
+ *
+ * <p>Parse tree nodes keep references of tokens, so the parse tree can be reused for another SQL with same token types by substituting tokens in place.</p>
+ */
+public final class SubstitutableToken extends CommonToken {
+    
+    private static final long serialVersionUID = -2914823459171357106L;
+    
+    public SubstitutableToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop) {
+        super(source, type, channel, start, stop);
+    }
+    
+    public SubstitutableToken(final int type, final String text) {
+        super(type, text);
+    }
+    
+    /**
+     * Substitute with another token which has same token type.
+     *
+     * @param token token to be substituted with
+     */
+    public void substitute(final Token token) {
+        source = new Pair<>(token.getTokenSource(), token.getInputStream());
+        text = token instanceof SubstitutableToken ? ((SubstitutableToken) token).text : token.getText();
+        line = token.getLine();
+        charPositionInLine = token.getCharPositionInLine();
+        channel = token.getChannel();
+        index = token.getTokenIndex();
+        start = token.getStartIndex();
+        stop = token.getStopIndex();
+    }
+    
+    /**
+     * Release token source and input stream, in order not to retain SQL after substituted token has been used.
+     */
+    public void release() {
+        source = EMPTY_SOURCE;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SubstitutableTokenTest {
+    
+    @Test
+    void assertSubstitute() {
+        SubstitutableToken actual = SubstitutableTokenFactory.INSTANCE.create(new Pair<>((TokenSource) null, CharStreams.fromString("id = 1")), 1, null, Token.DEFAULT_CHANNEL, 5, 5, 1, 5);
+        assertThat(actual.getText(), is("1"));
+        actual.substitute(SubstitutableTokenFactory.INSTANCE.create(new Pair<>((TokenSource) null, CharStreams.fromString("order_id = 1001")), 1, null, Token.DEFAULT_CHANNEL, 11, 14, 2, 11));
+        assertThat(actual.getText(), is("1001"));
+        assertThat(actual.getStartIndex(), is(11));
+        assertThat(actual.getStopIndex(), is(14));
+        assertThat(actual.getLine(), is(2));
+        assertThat(actual.getCharPositionInLine(), is(11));
+        actual.substitute(new CommonToken(1, "foo"));
+        assertThat(actual.getText(), is("foo"));
+    }
+    
+    @Test
+    void assertRelease() {
+        SubstitutableToken actual = SubstitutableTokenFactory.INSTANCE.create(new Pair<>((TokenSource) null, CharStreams.fromString("id = 1")), 1, null, Token.DEFAULT_CHANNEL, 5, 5, 1, 5);
+        actual.release();
+        assertThat(actual.getInputStream(), nullValue());
+    }
+}
@@ -31,6 +31,8 @@ import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -45,6 +47,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecuti
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -55,6 +58,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.refresher.MetaDataRefreshEngine;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
@@ -88,7 +92,9 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -114,10 +120,14 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
+    private final Collection<NativeQueryResult> cachedNativeQueryResults = new LinkedList<>();
+    
     private List<QueryHeader> queryHeaders;
     
     private MergedResult mergedResult;
     
+    private NativeQueryResult rawRowQueryResult;
+    
     public StandardDatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -231,7 +241,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         Collection<AdvancedProxySQLExecutor> advancedExecutors = ShardingSphereServiceLoader.getServiceInstances(AdvancedProxySQLExecutor.class);
         List<ExecuteResult> executeResults = advancedExecutors.isEmpty()
-                ? proxySQLExecutor.execute(executionContext)
+                ? waitForExecuteResults(proxySQLExecutor.execute(executionContext))
                 : advancedExecutors.iterator().next().execute(executionContext, contextManager, database, this);
         if (MetaDataRefreshEngine.isRefreshMetaDataRequired(queryContext.getSqlStatementContext())) {
             getMetaDataRefreshEngine().refresh(queryContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
@@ -242,6 +252,25 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
+    private List<ExecuteResult> waitForExecuteResults(final CompletableFuture<List<ExecuteResult>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new SQLExecutionInterruptedException();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                SQLExecutorExceptionHandler.handleException((SQLException) ex.getCause());
+                return Collections.emptyList();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
     private ResultSet doExecuteFederation() {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType protocolType = database.getProtocolType();
@@ -276,11 +305,25 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     }
     
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
+        queryResults.stream().filter(NativeQueryResult.class::isInstance).map(NativeQueryResult.class::cast).forEach(cachedNativeQueryResults::add);
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        rawRowQueryResult = findRawRowQueryResult(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private NativeQueryResult findRawRowQueryResult(final List<QueryResult> queryResults) throws SQLException {
+        if (1 != queryResults.size() || !(queryResults.get(0) instanceof NativeQueryResult) || !isTransparentMergedResult()) {
+            return null;
+        }
+        NativeQueryResult result = (NativeQueryResult) queryResults.get(0);
+        return result.getDatabaseType().equals(database.getProtocolType().getType()) && result.getMetaData().getColumnCount() == queryHeaders.size() ? result : null;
+    }
+    
+    private boolean isTransparentMergedResult() {
+        return mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult;
+    }
+    
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -350,9 +393,25 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        Object[] result = new Object[queryHeaders.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    @Override
+    public Optional<byte[]> getRawRow() {
+        return null == rawRowQueryResult ? Optional.empty() : Optional.ofNullable(rawRowQueryResult.getCurrentRawRow());
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeNativeQueryResults();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -364,6 +423,12 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private void closeNativeQueryResults() {
+        cachedNativeQueryResults.forEach(NativeQueryResult::close);
+        cachedNativeQueryResults.clear();
+        rawRowQueryResult = null;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -391,6 +456,17 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         return result;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Optional<SQLException> closeSQLFederationEngine() {
         if (null != proxySQLExecutor.getSqlFederationEngine()) {
             try {
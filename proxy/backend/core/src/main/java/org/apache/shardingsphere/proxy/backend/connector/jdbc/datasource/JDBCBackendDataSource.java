@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
 import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -33,12 +34,17 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Map<DataSource, Lock> dataSourceLocks = new MapMaker().weakKeys().makeMap();
+    
     @Override
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         return getConnections(databaseName, dataSourceName, connectionSize, connectionMode,
@@ -73,8 +79,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
+        Lock lock = dataSourceLocks.computeIfAbsent(dataSource, unused -> new ReentrantLock());
+        lock.lock();
+        try {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            lock.unlock();
         }
     }
     
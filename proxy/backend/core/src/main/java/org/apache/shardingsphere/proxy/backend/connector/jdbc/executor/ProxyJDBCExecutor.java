@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -29,12 +30,14 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy JDBC executor.
@@ -55,30 +58,47 @@ public final class ProxyJDBCExecutor {
     /**
      * Execute.
      *
+     * <p>With backend query timeout, statements are executed asynchronously and the returned future is completed by executor threads,
+     * so that the calling thread is not blocked by storage units.</p>
+     *
      * @param queryContext query context
      * @param executionGroupContext execution group context
      * @param isReturnGeneratedKeys is return generated keys
      * @param isExceptionThrown is exception thrown
-     * @return execute results
+     * @return future of execute results
      * @throws SQLException SQL exception
      */
-    public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
-                                       final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+    public CompletableFuture<List<ExecuteResult>> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                          final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        boolean submitted = false;
         try {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
             ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, false);
+            CompletableFuture<List<ExecuteResult>> result = execute(executionGroupContext, firstCallback, callback,
+                    metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS))
+                            .whenComplete((unused, ex) -> processEngine.completeSQLExecution(processId));
+            submitted = true;
+            return result;
         } finally {
-            processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            if (!submitted) {
+                processEngine.completeSQLExecution(processId);
+            }
         }
     }
+    
+    private CompletableFuture<List<ExecuteResult>> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                           final ProxyJDBCExecutorCallback firstCallback, final ProxyJDBCExecutorCallback callback,
+                                                           final long timeoutMillis) throws SQLException {
+        return timeoutMillis > 0L
+                ? jdbcExecutor.executeAsync(executionGroupContext, firstCallback, callback, timeoutMillis)
+                : CompletableFuture.completedFuture(jdbcExecutor.execute(executionGroupContext, firstCallback, callback));
+    }
 }
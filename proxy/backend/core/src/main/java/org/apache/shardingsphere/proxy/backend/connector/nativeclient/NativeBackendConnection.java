@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Native backend connection.
+ *
+ * <p>Commands are pipelined, so one connection can be shared by the queries of many sessions at the same time.</p>
+ */
+public interface NativeBackendConnection {
+    
+    /**
+     * Execute query with simple query protocol.
+     *
+     * @param sql SQL to be executed
+     * @return future of native query result, completed exceptionally with SQL exception if backend returns error
+     */
+    CompletableFuture<NativeQueryResult> executeQuery(String sql);
+    
+    /**
+     * Get count of commands which are sent but not responded yet.
+     *
+     * @return pending command count
+     */
+    int getPendingCommandCount();
+    
+    /**
+     * Judge whether connection is active.
+     *
+     * @return is active or not
+     */
+    boolean isActive();
+    
+    /**
+     * Cancel the command being executed by backend database and close connection.
+     *
+     * <p>Connection is closed after cancel request is sent, so that it is evicted from pool and commands pipelined behind are failed instead of waiting.</p>
+     */
+    void cancel();
+    
+    /**
+     * Close connection.
+     */
+    void close();
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import io.netty.channel.EventLoopGroup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native backend connection pool.
+ *
+ * <p>Connections are shared by all sessions. The connection with the fewest pending commands is chosen,
+ * and a new connection is created only when all connections are busy and the pool is not full.</p>
+ */
+@RequiredArgsConstructor
+public final class NativeBackendConnectionPool {
+    
+    private final NativeBackendConnector connector;
+    
+    private final NativeBackendConnectInfo connectInfo;
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    private final int maxSize;
+    
+    @Getter
+    private final List<NativeBackendConnection> connections = new ArrayList<>();
+    
+    private int connectingCount;
+    
+    private boolean closed;
+    
+    /**
+     * Get connection.
+     *
+     * <p>Connecting to backend database is done outside of the lock, so that slow or unreachable backend database does not block other sessions.</p>
+     *
+     * @return native backend connection
+     * @throws SQLException SQL exception
+     */
+    public NativeBackendConnection getConnection() throws SQLException {
+        synchronized (this) {
+            NativeBackendConnection result = findLeastPendingConnection();
+            if (null != result && (0 == result.getPendingCommandCount() || connections.size() + connectingCount >= maxSize)) {
+                return result;
+            }
+            connectingCount++;
+        }
+        NativeBackendConnection result = null;
+        try {
+            result = connector.connect(connectInfo, eventLoopGroup);
+        } finally {
+            addConnection(result);
+        }
+        return result;
+    }
+    
+    private NativeBackendConnection findLeastPendingConnection() {
+        connections.removeIf(each -> !each.isActive());
+        NativeBackendConnection result = null;
+        for (NativeBackendConnection each : connections) {
+            if (null == result || each.getPendingCommandCount() < result.getPendingCommandCount()) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private synchronized void addConnection(final NativeBackendConnection connection) throws SQLException {
+        connectingCount--;
+        if (null == connection) {
+            return;
+        }
+        if (closed) {
+            connection.close();
+            throw new SQLException("Native backend connection pool is closed.");
+        }
+        connections.add(connection);
+    }
+    
+    /**
+     * Close all connections.
+     */
+    public synchronized void close() {
+        closed = true;
+        connections.forEach(NativeBackendConnection::close);
+        connections.clear();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.cache.MetaDataCache;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Native backend connection pool manager.
+ *
+ * <p>It is registered as cache of meta data, pools of dropped or altered storage units are closed when meta data changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NativeBackendConnectionPoolManager implements MetaDataCache {
+    
+    private static final NativeBackendConnectionPoolManager INSTANCE = new NativeBackendConnectionPoolManager();
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-Native-Backend", true));
+    
+    private final Map<String, StorageUnitPool> pools = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of native backend connection pool manager.
+     *
+     * @return instance of native backend connection pool manager
+     */
+    public static NativeBackendConnectionPoolManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get connection.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @param storageUnit storage unit
+     * @param connector native backend connector
+     * @param maxSize max connections size of storage unit
+     * @return native backend connection
+     * @throws SQLException SQL exception
+     */
+    public NativeBackendConnection getConnection(final String databaseName, final String storageUnitName, final StorageUnit storageUnit,
+                                                 final NativeBackendConnector connector, final int maxSize) throws SQLException {
+        String key = databaseName + "." + storageUnitName;
+        StorageUnitPool result = pools.get(key);
+        if (null == result || result.storageUnit != storageUnit) {
+            result = createPool(key, databaseName, storageUnitName, storageUnit, connector, maxSize);
+        }
+        return result.pool.getConnection();
+    }
+    
+    private synchronized StorageUnitPool createPool(final String key, final String databaseName, final String storageUnitName, final StorageUnit storageUnit,
+                                                    final NativeBackendConnector connector, final int maxSize) {
+        StorageUnitPool result = pools.get(key);
+        if (null != result && result.storageUnit == storageUnit) {
+            return result;
+        }
+        if (null != result) {
+            result.pool.close();
+        }
+        result = new StorageUnitPool(databaseName, storageUnitName, storageUnit, new NativeBackendConnectionPool(connector, createConnectInfo(storageUnit), eventLoopGroup, maxSize));
+        pools.put(key, result);
+        return result;
+    }
+    
+    /**
+     * Close pools of storage units which are dropped or altered in meta data.
+     *
+     * @param metaData meta data
+     */
+    public synchronized void closeStalePools(final ShardingSphereMetaData metaData) {
+        Iterator<Entry<String, StorageUnitPool>> iterator = pools.entrySet().iterator();
+        while (iterator.hasNext()) {
+            StorageUnitPool each = iterator.next().getValue();
+            if (isStale(metaData, each)) {
+                each.pool.close();
+                iterator.remove();
+            }
+        }
+    }
+    
+    private boolean isStale(final ShardingSphereMetaData metaData, final StorageUnitPool storageUnitPool) {
+        if (!metaData.containsDatabase(storageUnitPool.databaseName)) {
+            return true;
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(storageUnitPool.databaseName);
+        return null == database.getResourceMetaData() || database.getResourceMetaData().getStorageUnits().get(storageUnitPool.storageUnitName) != storageUnitPool.storageUnit;
+    }
+    
+    @Override
+    public void invalidate() {
+        if (null != ProxyContext.getInstance().getContextManager()) {
+            closeStalePools(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData());
+        }
+    }
+    
+    private NativeBackendConnectInfo createConnectInfo(final StorageUnit storageUnit) {
+        ConnectionProperties connectionProps = storageUnit.getConnectionProperties();
+        Map<String, Object> standardProps = storageUnit.getDataSourcePoolProperties().getConnectionPropertySynonyms().getStandardProperties();
+        Object username = standardProps.get("username");
+        Object password = standardProps.get("password");
+        return new NativeBackendConnectInfo(connectionProps.getHostname(), connectionProps.getPort(),
+                null == username ? "" : username.toString(), null == password ? "" : password.toString(), connectionProps.getCatalog());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class StorageUnitPool {
+        
+        private final String databaseName;
+        
+        private final String storageUnitName;
+        
+        private final StorageUnit storageUnit;
+        
+        private final NativeBackendConnectionPool pool;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future utility class of native backend.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NativeBackendFutureUtils {
+    
+    /**
+     * Wait for the result of future.
+     *
+     * @param future future
+     * @param <T> type of result
+     * @return result
+     * @throws SQLException SQL exception which the future is completed with, or which wraps other failures
+     */
+    public static <T> T get(final CompletableFuture<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Wait for the result of future with timeout.
+     *
+     * @param future future
+     * @param timeoutMillis timeout milliseconds
+     * @param <T> type of result
+     * @return result
+     * @throws SQLException SQL exception which the future is completed with, or which wraps other failures
+     * @throws TimeoutException timeout exception if the future is not completed in time
+     */
+    public static <T> T get(final CompletableFuture<T> future, final long timeoutMillis) throws SQLException, TimeoutException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.exception.core.external.sql.ShardingSphereSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Proxy SQL executor with native backend connections.
+ *
+ * <p>Only auto-committed queries without parameters are executed natively, because native connections are shared by sessions
+ * and can not carry transaction or session state. Other statements are still executed with JDBC.</p>
+ */
+@RequiredArgsConstructor
+public final class NativeProxySQLExecutor {
+    
+    /**
+     * Native driver type.
+     */
+    public static final String NATIVE_DRIVER_TYPE = "NATIVE";
+    
+    private final ProcessEngine processEngine = new ProcessEngine();
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Judge whether execution context can be executed with native backend connections.
+     *
+     * @param executionContext execution context
+     * @return can be executed natively or not
+     */
+    public boolean isAvailable(final ExecutionContext executionContext) {
+        if (!NATIVE_DRIVER_TYPE.equalsIgnoreCase(props.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE)) || !isSessionStateless()) {
+            return false;
+        }
+        if (!isStatelessQuery(executionContext.getSqlStatementContext().getSqlStatement())) {
+            return false;
+        }
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!each.getSqlUnit().getParameters().isEmpty() || !findConnector(each.getDataSourceName()).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSessionStateless() {
+        return connectionSession.isAutoCommit() && !connectionSession.getTransactionStatus().isInTransaction()
+                && !connectionSession.getIsolationLevel().isPresent() && connectionSession.getRequiredSessionVariableRecorder().isEmpty();
+    }
+    
+    private boolean isStatelessQuery(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement && !((SelectStatement) sqlStatement).getLock().isPresent() && !((SelectStatement) sqlStatement).getIntoSegment().isPresent();
+    }
+    
+    private Optional<NativeBackendConnector> findConnector(final String storageUnitName) {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(storageUnitName);
+        return null == storageUnit ? Optional.empty() : DatabaseTypedSPILoader.findService(NativeBackendConnector.class, storageUnit.getStorageType());
+    }
+    
+    /**
+     * Execute.
+     *
+     * <p>Queries of all execution units are sent before waiting for any result, so that they are executed by backend databases concurrently.
+     * Execution is registered as process so that it can be shown and killed, and it is interrupted when query timeout is exceeded.
+     * Backend queries which are not completed yet are canceled when execution is interrupted.</p>
+     *
+     * @param executionContext execution context
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public List<ExecuteResult> execute(final ExecutionContext executionContext) throws SQLException {
+        registerPoolManager(executionContext.getQueryContext().getMetaData());
+        ExecutionGroupContext<RawSQLExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext.getExecutionUnits());
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        try {
+            processEngine.executeSQL(executionGroupContext, executionContext.getQueryContext());
+            return executeQueries(executionContext.getExecutionUnits(), processId);
+        } finally {
+            processEngine.completeSQLExecution(processId);
+        }
+    }
+    
+    private void registerPoolManager(final ShardingSphereMetaData metaData) {
+        metaData.getCache(NativeBackendConnectionPoolManager.class, () -> {
+            NativeBackendConnectionPoolManager result = NativeBackendConnectionPoolManager.getInstance();
+            result.closeStalePools(metaData);
+            return result;
+        });
+    }
+    
+    private ExecutionGroupContext<RawSQLExecutionUnit> createExecutionGroupContext(final Collection<ExecutionUnit> executionUnits) {
+        List<RawSQLExecutionUnit> inputs = executionUnits.stream().map(each -> new RawSQLExecutionUnit(each, ConnectionMode.MEMORY_STRICTLY)).collect(Collectors.toList());
+        return new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(inputs)),
+                new ExecutionGroupReportContext(connectionSession.getProcessId(), database.getName(), connectionSession.getConnectionContext().getGrantee()));
+    }
+    
+    private List<ExecuteResult> executeQueries(final Collection<ExecutionUnit> executionUnits, final String processId) throws SQLException {
+        NativeQueryDeadline deadline = NativeQueryDeadline.create(processId, props.<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS));
+        List<SQLExecutionHook> hooks = new ArrayList<>(executionUnits.size());
+        List<NativeBackendConnection> connections = new ArrayList<>(executionUnits.size());
+        List<CompletableFuture<NativeQueryResult>> futures = new ArrayList<>(executionUnits.size());
+        List<ExecuteResult> result = new ArrayList<>(executionUnits.size());
+        try {
+            for (ExecutionUnit each : executionUnits) {
+                hooks.add(startHook(each));
+                connections.add(getConnection(each));
+                futures.add(connections.get(connections.size() - 1).executeQuery(each.getSqlUnit().getSql()));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                NativeQueryResult queryResult = await(futures.get(i), deadline);
+                queryResult.bindDeadline(deadline, connections.get(i));
+                result.add(queryResult);
+                hooks.get(i).finishSuccess();
+            }
+            return result;
+        } catch (final SQLException ex) {
+            fail(hooks.subList(result.size(), hooks.size()), connections, futures, ex);
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.singletonList(new UpdateResult(0, 0L));
+        } catch (final ShardingSphereSQLException ex) {
+            fail(hooks.subList(result.size(), hooks.size()), connections, futures, ex);
+            throw ex;
+        }
+    }
+    
+    private SQLExecutionHook startHook(final ExecutionUnit executionUnit) {
+        SQLExecutionHook result = new SPISQLExecutionHook();
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(executionUnit.getDataSourceName());
+        result.start(database.getName(), executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), storageUnit.getConnectionProperties(),
+                true);
+        return result;
+    }
+    
+    private NativeBackendConnection getConnection(final ExecutionUnit executionUnit) throws SQLException {
+        int maxSize = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_CONNECTIONS_SIZE);
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(executionUnit.getDataSourceName());
+        return NativeBackendConnectionPoolManager.getInstance().getConnection(
+                database.getName(), executionUnit.getDataSourceName(), storageUnit, findConnector(executionUnit.getDataSourceName()).orElseThrow(IllegalStateException::new), maxSize);
+    }
+    
+    private NativeQueryResult await(final CompletableFuture<NativeQueryResult> future, final NativeQueryDeadline deadline) throws SQLException {
+        while (true) {
+            try {
+                return NativeBackendFutureUtils.get(future, deadline.getWaitMillis());
+            } catch (final TimeoutException ignore) {
+            }
+        }
+    }
+    
+    private void fail(final Collection<SQLExecutionHook> unfinishedHooks, final List<NativeBackendConnection> connections, final List<CompletableFuture<NativeQueryResult>> futures,
+                      final Exception cause) {
+        unfinishedHooks.forEach(each -> each.finishFailure(cause));
+        for (int i = 0; i < futures.size(); i++) {
+            if (!futures.get(i).isDone()) {
+                connections.get(i).cancel();
+            }
+            futures.get(i).thenAccept(NativeQueryResult::close);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+
+/**
+ * Deadline of native query.
+ *
+ * <p>Waiting for both query results and rows is bounded by the same deadline, and stops as soon as the process is killed.</p>
+ */
+@RequiredArgsConstructor
+public final class NativeQueryDeadline {
+    
+    private static final long CHECK_INTERVAL_MILLIS = 100L;
+    
+    private final String processId;
+    
+    private final long timeoutMillis;
+    
+    private final long deadlineMillis;
+    
+    /**
+     * Create native query deadline.
+     *
+     * @param processId process ID
+     * @param timeoutMillis timeout milliseconds, not greater than zero means no timeout
+     * @return created deadline
+     */
+    public static NativeQueryDeadline create(final String processId, final long timeoutMillis) {
+        return new NativeQueryDeadline(processId, timeoutMillis, timeoutMillis > 0L ? System.currentTimeMillis() + timeoutMillis : Long.MAX_VALUE);
+    }
+    
+    /**
+     * Get milliseconds to wait before next check.
+     *
+     * @return milliseconds to wait
+     * @throws SQLExecutionInterruptedException SQL execution interrupted exception if process is killed
+     * @throws SQLExecutionTimeoutException SQL execution timeout exception if deadline is exceeded
+     */
+    public long getWaitMillis() {
+        Process process = ProcessRegistry.getInstance().get(processId);
+        ShardingSpherePreconditions.checkState(null == process || !process.isInterrupted(), SQLExecutionInterruptedException::new);
+        long remainingMillis = deadlineMillis - System.currentTimeMillis();
+        ShardingSpherePreconditions.checkState(remainingMillis > 0L, () -> new SQLExecutionTimeoutException(timeoutMillis));
+        return Math.min(remainingMillis, CHECK_INTERVAL_MILLIS);
+    }
+}
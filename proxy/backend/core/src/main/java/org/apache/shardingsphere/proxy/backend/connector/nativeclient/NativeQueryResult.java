@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Calendar;
+
+/**
+ * Native query result.
+ *
+ * <p>Rows are kept as the raw row payloads received from backend database and decoded only when values are read.
+ * Rows are streamed from backend database while they are read, so raw rows can be forwarded to a client which speaks the same protocol without decoding.</p>
+ */
+public final class NativeQueryResult implements QueryResult {
+    
+    @Getter
+    private final String databaseType;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final NativeRowStream rowStream;
+    
+    private final NativeRowDecoder rowDecoder;
+    
+    @Getter
+    private byte[] currentRawRow;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    private NativeQueryDeadline deadline;
+    
+    private NativeBackendConnection connection;
+    
+    public NativeQueryResult(final String databaseType, final QueryResultMetaData metaData, final NativeRowStream rowStream, final NativeRowDecoder rowDecoder) {
+        this.databaseType = databaseType;
+        this.metaData = metaData;
+        this.rowStream = rowStream;
+        this.rowDecoder = rowDecoder;
+    }
+    
+    /**
+     * Bind deadline of query, backend query is canceled when waiting for rows exceeds the deadline or the process is killed.
+     *
+     * @param deadline deadline of query
+     * @param connection native backend connection which executes the query
+     */
+    public void bindDeadline(final NativeQueryDeadline deadline, final NativeBackendConnection connection) {
+        this.deadline = deadline;
+        this.connection = connection;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRow = null;
+        currentRawRow = null == deadline ? rowStream.take() : takeBeforeDeadline();
+        return null != currentRawRow;
+    }
+    
+    private byte[] takeBeforeDeadline() throws SQLException {
+        try {
+            return rowStream.take(deadline);
+        } catch (final SQLExecutionTimeoutException | SQLExecutionInterruptedException ex) {
+            rowStream.close();
+            connection.cancel();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = getCurrentRow()[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        Object result = getValue(columnIndex, type);
+        if (null == result || null == calendar || !rowDecoder.isLocalDateTime(columnIndex)) {
+            return result;
+        }
+        ZoneId zoneId = calendar.getTimeZone().toZoneId();
+        if (result instanceof Timestamp) {
+            return Timestamp.from(((Timestamp) result).toLocalDateTime().atZone(zoneId).toInstant());
+        }
+        if (result instanceof Date) {
+            return new Date(((Date) result).toLocalDate().atStartOfDay(zoneId).toInstant().toEpochMilli());
+        }
+        if (result instanceof Time) {
+            return new Time(((Time) result).toLocalTime().atDate(LocalDate.ofEpochDay(0L)).atZone(zoneId).toInstant().toEpochMilli());
+        }
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (null == value) {
+            return null;
+        }
+        return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (null == value) {
+            return null;
+        }
+        return new StringReader(value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString());
+    }
+    
+    private Object[] getCurrentRow() throws SQLException {
+        if (null == currentRow) {
+            currentRow = rowDecoder.decode(currentRawRow);
+        }
+        return currentRow;
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        rowStream.close();
+    }
+}
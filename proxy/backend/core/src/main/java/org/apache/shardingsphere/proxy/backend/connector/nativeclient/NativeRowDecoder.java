@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import java.sql.SQLException;
+
+/**
+ * Native row decoder.
+ */
+public interface NativeRowDecoder {
+    
+    /**
+     * Decode raw row received from backend database.
+     *
+     * @param rawRow raw row
+     * @return decoded values
+     * @throws SQLException SQL exception
+     */
+    Object[] decode(byte[] rawRow) throws SQLException;
+    
+    /**
+     * Judge whether column holds date time value without time zone, which is decoded in default time zone.
+     *
+     * @param columnIndex column index, starts from 1
+     * @return is local date time or not
+     */
+    boolean isLocalDateTime(int columnIndex);
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Native row stream.
+ *
+ * <p>Rows are offered by the event loop of native backend connection and taken by the thread which reads the query result.
+ * Reading from backend connection is asked to pause when too many rows are not taken yet, and to resume when most of them are taken.</p>
+ */
+@RequiredArgsConstructor
+public final class NativeRowStream {
+    
+    private static final int HIGH_WATER_MARK = 4096;
+    
+    private static final int LOW_WATER_MARK = 1024;
+    
+    private static final byte[] END_OF_ROWS = new byte[0];
+    
+    private final BlockingQueue<byte[]> rows = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean paused = new AtomicBoolean();
+    
+    private final Consumer<Boolean> autoReadSwitch;
+    
+    private volatile SQLException failure;
+    
+    private volatile boolean closed;
+    
+    private boolean ended;
+    
+    /**
+     * Create completed stream without rows.
+     *
+     * @return created stream
+     */
+    public static NativeRowStream createEmpty() {
+        NativeRowStream result = new NativeRowStream(autoRead -> {
+        });
+        result.complete();
+        return result;
+    }
+    
+    /**
+     * Offer row received from backend database, must be called in event loop.
+     *
+     * @param row raw row
+     */
+    public void offer(final byte[] row) {
+        if (closed) {
+            return;
+        }
+        rows.add(row);
+        if (rows.size() >= HIGH_WATER_MARK && paused.compareAndSet(false, true)) {
+            autoReadSwitch.accept(false);
+            resumeIfDrained();
+        }
+    }
+    
+    /**
+     * Complete stream after all rows are offered.
+     */
+    public void complete() {
+        rows.add(END_OF_ROWS);
+    }
+    
+    /**
+     * Complete stream with failure.
+     *
+     * @param cause cause of failure
+     */
+    public void completeExceptionally(final SQLException cause) {
+        failure = cause;
+        rows.add(END_OF_ROWS);
+    }
+    
+    /**
+     * Take next row, wait until it is received from backend database.
+     *
+     * @return raw row, null if there is no more row
+     * @throws SQLException SQL exception if backend database fails during streaming rows
+     */
+    public byte[] take() throws SQLException {
+        if (ended) {
+            return null;
+        }
+        try {
+            return handleTakenRow(rows.take());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Take next row, wait until it is received from backend database or deadline is exceeded.
+     *
+     * @param deadline deadline of query
+     * @return raw row, null if there is no more row
+     * @throws SQLException SQL exception if backend database fails during streaming rows
+     */
+    public byte[] take(final NativeQueryDeadline deadline) throws SQLException {
+        if (ended) {
+            return null;
+        }
+        try {
+            byte[] result = rows.poll();
+            while (null == result) {
+                result = rows.poll(deadline.getWaitMillis(), TimeUnit.MILLISECONDS);
+            }
+            return handleTakenRow(result);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private byte[] handleTakenRow(final byte[] row) throws SQLException {
+        resumeIfDrained();
+        if (END_OF_ROWS != row) {
+            return row;
+        }
+        ended = true;
+        if (null != failure) {
+            throw failure;
+        }
+        return null;
+    }
+    
+    private void resumeIfDrained() {
+        if (rows.size() <= LOW_WATER_MARK && paused.compareAndSet(true, false)) {
+            autoReadSwitch.accept(true);
+        }
+    }
+    
+    /**
+     * Close stream, the rows not taken yet and the rows received later are discarded.
+     */
+    public void close() {
+        closed = true;
+        ended = true;
+        rows.clear();
+        if (paused.compareAndSet(true, false)) {
+            autoReadSwitch.accept(true);
+        }
+    }
+}
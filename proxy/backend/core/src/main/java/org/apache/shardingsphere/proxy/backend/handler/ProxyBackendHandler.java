@@ -22,6 +22,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Proxy backend handler.
@@ -56,6 +57,26 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values without wrapping them into query response cells.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default Object[] getRowValues() throws SQLException {
+        return getRowData().getData().toArray();
+    }
+    
+    /**
+     * Get raw row of current row, which is received from storage unit in the protocol of client and can be forwarded as is.
+     *
+     * @return raw row
+     * @throws SQLException SQL exception
+     */
+    default Optional<byte[]> getRawRow() throws SQLException {
+        return Optional.empty();
+    }
+    
     /**
      * Close.
      *
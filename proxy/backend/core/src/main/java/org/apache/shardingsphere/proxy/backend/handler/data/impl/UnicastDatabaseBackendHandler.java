@@ -89,6 +89,16 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        return databaseConnector.getRowValues();
+    }
+    
+    @Override
+    public Optional<byte[]> getRawRow() throws SQLException {
+        return databaseConnector.getRawRow();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
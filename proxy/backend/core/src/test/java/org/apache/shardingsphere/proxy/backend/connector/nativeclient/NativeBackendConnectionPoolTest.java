@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NativeBackendConnectionPoolTest {
+    
+    private final NativeBackendConnector connector = mock(NativeBackendConnector.class);
+    
+    private final NativeBackendConnectionPool pool = new NativeBackendConnectionPool(connector, mock(NativeBackendConnectInfo.class), mock(EventLoopGroup.class), 2);
+    
+    @Test
+    void assertGetConnectionReuseIdleConnection() throws SQLException {
+        NativeBackendConnection connection = mockConnection(0);
+        when(connector.connect(any(), any())).thenReturn(connection);
+        assertThat(pool.getConnection(), is(connection));
+        assertThat(pool.getConnection(), is(connection));
+        verify(connector).connect(any(), any());
+    }
+    
+    @Test
+    void assertGetConnectionCreateConnectionWhenBusy() throws SQLException {
+        NativeBackendConnection busyConnection = mockConnection(3);
+        NativeBackendConnection newConnection = mockConnection(0);
+        when(connector.connect(any(), any())).thenReturn(busyConnection, newConnection);
+        assertThat(pool.getConnection(), is(busyConnection));
+        assertThat(pool.getConnection(), is(newConnection));
+        assertThat(pool.getConnections().size(), is(2));
+    }
+    
+    @Test
+    void assertGetConnectionChooseLeastPendingWhenFull() throws SQLException {
+        NativeBackendConnection busyConnection = mockConnection(5);
+        NativeBackendConnection lessBusyConnection = mockConnection(1);
+        when(connector.connect(any(), any())).thenReturn(busyConnection, lessBusyConnection);
+        pool.getConnection();
+        pool.getConnection();
+        assertThat(pool.getConnection(), is(lessBusyConnection));
+        verify(connector, times(2)).connect(any(), any());
+    }
+    
+    @Test
+    void assertGetConnectionRemoveInactiveConnection() throws SQLException {
+        NativeBackendConnection inactiveConnection = mockConnection(0);
+        NativeBackendConnection newConnection = mockConnection(0);
+        when(connector.connect(any(), any())).thenReturn(inactiveConnection, newConnection);
+        pool.getConnection();
+        when(inactiveConnection.isActive()).thenReturn(false);
+        assertThat(pool.getConnection(), is(newConnection));
+        assertThat(pool.getConnections().size(), is(1));
+    }
+    
+    @Test
+    void assertGetConnectionNotBlockedByConnecting() throws SQLException, InterruptedException, ExecutionException {
+        CountDownLatch connecting = new CountDownLatch(1);
+        CountDownLatch connected = new CountDownLatch(1);
+        NativeBackendConnection slowConnection = mockConnection(0);
+        NativeBackendConnection fastConnection = mockConnection(0);
+        when(connector.connect(any(), any())).thenAnswer(invocation -> {
+            connecting.countDown();
+            connected.await();
+            return slowConnection;
+        }).thenReturn(fastConnection);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<NativeBackendConnection> slowFuture = executorService.submit(pool::getConnection);
+            assertThat(getConnectionAfter(connecting), is(fastConnection));
+            connected.countDown();
+            assertThat(slowFuture.get(), is(slowConnection));
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(pool.getConnections().size(), is(2));
+    }
+    
+    @Test
+    void assertGetConnectionAfterClosed() throws SQLException {
+        NativeBackendConnection connection = mockConnection(0);
+        when(connector.connect(any(), any())).thenReturn(connection);
+        pool.close();
+        assertThrows(SQLException.class, pool::getConnection);
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        NativeBackendConnection connection = mockConnection(0);
+        when(connector.connect(any(), any())).thenReturn(connection);
+        pool.getConnection();
+        pool.close();
+        verify(connection).close();
+        assertThat(pool.getConnections().size(), is(0));
+    }
+    
+    private NativeBackendConnection getConnectionAfter(final CountDownLatch latch) throws SQLException, InterruptedException {
+        latch.await();
+        return pool.getConnection();
+    }
+    
+    private NativeBackendConnection mockConnection(final int pendingCommandCount) {
+        NativeBackendConnection result = mock(NativeBackendConnection.class);
+        when(result.isActive()).thenReturn(true);
+        when(result.getPendingCommandCount()).thenReturn(pendingCommandCount);
+        return result;
+    }
+}
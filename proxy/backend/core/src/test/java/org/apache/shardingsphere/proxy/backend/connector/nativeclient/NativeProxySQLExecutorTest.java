@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({NativeBackendConnectionPoolManager.class, DatabaseTypedSPILoader.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NativeProxySQLExecutorTest {
+    
+    private final NativeBackendConnection connection = mock(NativeBackendConnection.class);
+    
+    private final ConfigurationProperties nativeProps = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "NATIVE")));
+    
+    @Test
+    void assertIsNotAvailableWithJDBCDriverType() {
+        ExecutionContext executionContext = mockExecutionContext(mock(SelectStatement.class, RETURNS_DEEP_STUBS));
+        assertFalse(new NativeProxySQLExecutor(mockConnectionSession(true), mock(ShardingSphereDatabase.class), new ConfigurationProperties(new Properties())).isAvailable(executionContext));
+    }
+    
+    @Test
+    void assertIsNotAvailableInTransaction() {
+        ExecutionContext executionContext = mockExecutionContext(mock(SelectStatement.class, RETURNS_DEEP_STUBS));
+        assertFalse(new NativeProxySQLExecutor(mockConnectionSession(false), mock(ShardingSphereDatabase.class), nativeProps).isAvailable(executionContext));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithNonQueryStatement() {
+        ExecutionContext executionContext = mockExecutionContext(mock(InsertStatement.class));
+        assertFalse(new NativeProxySQLExecutor(mockConnectionSession(true), mock(ShardingSphereDatabase.class), nativeProps).isAvailable(executionContext));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithoutConnector() {
+        SelectStatement selectStatement = mock(SelectStatement.class);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        when(selectStatement.getIntoSegment()).thenReturn(Optional.empty());
+        ExecutionContext executionContext = mockExecutionContext(selectStatement);
+        when(executionContext.getExecutionUnits().iterator().next().getDataSourceName()).thenReturn("foo_ds");
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        assertFalse(new NativeProxySQLExecutor(mockConnectionSession(true), database, nativeProps).isAvailable(executionContext));
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        NativeQueryResult queryResult = mock(NativeQueryResult.class);
+        NativeBackendConnectionPoolManager poolManager = mockPoolManager(CompletableFuture.completedFuture(queryResult));
+        ExecutionContext executionContext = createExecutionContext();
+        List<ExecuteResult> actual = new NativeProxySQLExecutor(mockProcessConnectionSession(), mockDatabase(), nativeProps).execute(executionContext);
+        assertThat(actual, is(Collections.<ExecuteResult>singletonList(queryResult)));
+        verify(executionContext.getQueryContext().getMetaData()).getCache(eq(NativeBackendConnectionPoolManager.class), any());
+        verify(poolManager).getConnection(eq("foo_db"), eq("foo_ds"), any(), any(), anyInt());
+        verify(queryResult).bindDeadline(any(), eq(connection));
+        verify(connection, never()).cancel();
+    }
+    
+    @Test
+    void assertExecuteWithTimeout() throws SQLException {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        mockPoolManager(future);
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "NATIVE"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_TIMEOUT_MILLISECONDS.getKey(), "1")));
+        assertThrows(SQLExecutionTimeoutException.class, () -> new NativeProxySQLExecutor(mockProcessConnectionSession(), mockDatabase(), props).execute(createExecutionContext()));
+        verify(connection).cancel();
+        NativeQueryResult queryResult = mock(NativeQueryResult.class);
+        future.complete(queryResult);
+        verify(queryResult).close();
+    }
+    
+    private NativeBackendConnectionPoolManager mockPoolManager(final CompletableFuture<NativeQueryResult> future) throws SQLException {
+        when(connection.executeQuery("SELECT 1")).thenReturn(future);
+        NativeBackendConnectionPoolManager result = mock(NativeBackendConnectionPoolManager.class);
+        when(result.getConnection(any(), any(), any(), any(), anyInt())).thenReturn(connection);
+        when(NativeBackendConnectionPoolManager.getInstance()).thenReturn(result);
+        when(DatabaseTypedSPILoader.findService(eq(NativeBackendConnector.class), any())).thenReturn(Optional.of(mock(NativeBackendConnector.class)));
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", mock(StorageUnit.class, RETURNS_DEEP_STUBS)));
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext() {
+        ExecutionContext result = mock(ExecutionContext.class, RETURNS_DEEP_STUBS);
+        when(result.getExecutionUnits()).thenReturn(Collections.singletonList(new ExecutionUnit("foo_ds", new SQLUnit("SELECT 1", Collections.emptyList()))));
+        return result;
+    }
+    
+    private ConnectionSession mockProcessConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(result.getProcessId()).thenReturn("foo_process");
+        return result;
+    }
+    
+    private ConnectionSession mockConnectionSession(final boolean autoCommit) {
+        ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(result.isAutoCommit()).thenReturn(autoCommit);
+        when(result.getTransactionStatus().isInTransaction()).thenReturn(false);
+        when(result.getIsolationLevel()).thenReturn(Optional.empty());
+        when(result.getRequiredSessionVariableRecorder().isEmpty()).thenReturn(true);
+        return result;
+    }
+    
+    private ExecutionContext mockExecutionContext(final SQLStatement sqlStatement) {
+        ExecutionContext result = mock(ExecutionContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatementContext().getSqlStatement()).thenReturn(sqlStatement);
+        when(result.getExecutionUnits()).thenReturn(Collections.singletonList(mock(ExecutionUnit.class, RETURNS_DEEP_STUBS)));
+        return result;
+    }
+}
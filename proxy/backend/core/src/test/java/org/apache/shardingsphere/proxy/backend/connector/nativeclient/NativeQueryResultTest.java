@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NativeQueryResultTest {
+    
+    @Test
+    void assertNextAndGetValue() throws SQLException {
+        byte[] firstRow = "foo".getBytes(StandardCharsets.UTF_8);
+        NativeQueryResult actual = new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), createRowStream(firstRow, "null".getBytes(StandardCharsets.UTF_8)), new RowDecoderFixture());
+        assertTrue(actual.next());
+        assertThat(actual.getCurrentRawRow(), is(firstRow));
+        assertThat(actual.getValue(1, Object.class), is("foo"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithFailure() throws SQLException {
+        NativeRowStream rowStream = new NativeRowStream(autoRead -> {
+        });
+        rowStream.offer("foo".getBytes(StandardCharsets.UTF_8));
+        rowStream.completeExceptionally(new SQLException("foo_error"));
+        NativeQueryResult actual = new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), rowStream, new RowDecoderFixture());
+        assertTrue(actual.next());
+        assertThat(assertThrows(SQLException.class, actual::next).getMessage(), is("foo_error"));
+    }
+    
+    @Test
+    void assertNextCancelsQueryAfterDeadline() {
+        NativeRowStream rowStream = new NativeRowStream(autoRead -> {
+        });
+        NativeQueryResult actual = new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), rowStream, new RowDecoderFixture());
+        NativeBackendConnection connection = mock(NativeBackendConnection.class);
+        actual.bindDeadline(NativeQueryDeadline.create("foo_process", 1L), connection);
+        assertThrows(SQLExecutionTimeoutException.class, actual::next);
+        verify(connection).cancel();
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        NativeQueryResult actual = new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), createRowStream("foo".getBytes(StandardCharsets.UTF_8)), new RowDecoderFixture());
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetCharacterStream() throws SQLException, IOException {
+        NativeQueryResult actual = new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), createRowStream("foo".getBytes(StandardCharsets.UTF_8)), new RowDecoderFixture());
+        assertTrue(actual.next());
+        char[] buffer = new char[3];
+        assertThat(actual.getCharacterStream(1).read(buffer), is(3));
+        assertThat(new String(buffer), is("foo"));
+    }
+    
+    @Test
+    void assertGetCalendarValue() throws SQLException {
+        NativeQueryResult actual =
+                new NativeQueryResult("FIXTURE", mock(QueryResultMetaData.class), createRowStream("2024-01-01 00:00:00.123456".getBytes(StandardCharsets.UTF_8)), new RowDecoderFixture());
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        Timestamp expected = Timestamp.from(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123456000).toInstant(ZoneOffset.UTC));
+        assertThat(actual.getCalendarValue(1, Timestamp.class, calendar), is(expected));
+    }
+    
+    private NativeRowStream createRowStream(final byte[]... rows) {
+        NativeRowStream result = new NativeRowStream(autoRead -> {
+        });
+        for (byte[] each : rows) {
+            result.offer(each);
+        }
+        result.complete();
+        return result;
+    }
+    
+    private static final class RowDecoderFixture implements NativeRowDecoder {
+        
+        @Override
+        public Object[] decode(final byte[] rawRow) {
+            String value = new String(rawRow, StandardCharsets.UTF_8);
+            if (value.startsWith("2024-")) {
+                return new Object[]{Timestamp.valueOf(value)};
+            }
+            return new Object[]{"null".equals(value) ? null : value};
+        }
+        
+        @Override
+        public boolean isLocalDateTime(final int columnIndex) {
+            return true;
+        }
+    }
+}
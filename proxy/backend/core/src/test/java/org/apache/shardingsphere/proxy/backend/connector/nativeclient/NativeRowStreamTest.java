@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.nativeclient;
+
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NativeRowStreamTest {
+    
+    @Test
+    void assertPauseAndResumeReading() throws SQLException {
+        List<Boolean> actual = new ArrayList<>();
+        NativeRowStream rowStream = new NativeRowStream(actual::add);
+        for (int i = 0; i < 4096; i++) {
+            rowStream.offer(new byte[]{1});
+        }
+        assertThat(actual, is(Collections.singletonList(false)));
+        for (int i = 0; i < 3072; i++) {
+            rowStream.take();
+        }
+        assertThat(actual, is(Arrays.asList(false, true)));
+    }
+    
+    @Test
+    void assertCloseResumesReadingAndDiscardsRows() throws SQLException {
+        List<Boolean> actual = new ArrayList<>();
+        NativeRowStream rowStream = new NativeRowStream(actual::add);
+        for (int i = 0; i < 4096; i++) {
+            rowStream.offer(new byte[]{1});
+        }
+        rowStream.close();
+        rowStream.offer(new byte[]{1});
+        rowStream.complete();
+        assertThat(actual, is(Arrays.asList(false, true)));
+        assertThat(rowStream.take(), nullValue());
+    }
+    
+    @Test
+    void assertTakeEmpty() throws SQLException {
+        assertThat(NativeRowStream.createEmpty().take(), nullValue());
+    }
+    
+    @Test
+    void assertTakeBeforeDeadline() throws SQLException {
+        NativeRowStream rowStream = new NativeRowStream(autoRead -> {
+        });
+        byte[] row = new byte[]{1};
+        rowStream.offer(row);
+        rowStream.complete();
+        NativeQueryDeadline deadline = NativeQueryDeadline.create("foo_process", 0L);
+        assertThat(rowStream.take(deadline), is(row));
+        assertThat(rowStream.take(deadline), nullValue());
+    }
+    
+    @Test
+    void assertTakeAfterDeadline() {
+        NativeRowStream rowStream = new NativeRowStream(autoRead -> {
+        });
+        assertThrows(SQLExecutionTimeoutException.class, () -> rowStream.take(NativeQueryDeadline.create("foo_process", 1L)));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnection;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendFutureUtils;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MySQL native backend connection.
+ *
+ * <p>Command is canceled with {@code KILL QUERY} sent by another connection, because MySQL does not stop executing query when it is not read any more.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeBackendConnection implements NativeBackendConnection {
+    
+    private static final long KILL_TIMEOUT_MILLIS = 5000L;
+    
+    private final Channel channel;
+    
+    private final MySQLNativeResponseHandler responseHandler;
+    
+    private final long connectionId;
+    
+    private final NativeBackendConnectInfo connectInfo;
+    
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    
+    private final AtomicBoolean canceled = new AtomicBoolean();
+    
+    @Override
+    public CompletableFuture<NativeQueryResult> executeQuery(final String sql) {
+        CompletableFuture<NativeQueryResult> result = new CompletableFuture<>();
+        pendingCommandCount.incrementAndGet();
+        result.whenComplete((unused, ex) -> pendingCommandCount.decrementAndGet());
+        channel.eventLoop().execute(() -> write(sql, result));
+        return result;
+    }
+    
+    private void write(final String sql, final CompletableFuture<NativeQueryResult> future) {
+        if (!channel.isActive()) {
+            future.completeExceptionally(new SQLException("MySQL native backend connection is closed."));
+            return;
+        }
+        responseHandler.addPendingFuture(future);
+        channel.attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(0);
+        channel.writeAndFlush(new MySQLComQueryPacket(sql));
+    }
+    
+    @Override
+    public int getPendingCommandCount() {
+        return pendingCommandCount.get();
+    }
+    
+    @Override
+    public boolean isActive() {
+        return channel.isActive();
+    }
+    
+    @Override
+    public void cancel() {
+        if (!canceled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            killQuery();
+        } catch (final SQLException | TimeoutException ignore) {
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private void killQuery() throws SQLException, TimeoutException {
+        NativeBackendConnection killConnection = new MySQLNativeBackendConnector().connect(connectInfo, channel.eventLoop().parent());
+        try {
+            NativeBackendFutureUtils.get(killConnection.executeQuery("KILL QUERY " + connectionId), KILL_TIMEOUT_MILLIS);
+        } finally {
+            killConnection.close();
+        }
+    }
+    
+    @Override
+    public void close() {
+        channel.close();
+    }
+}
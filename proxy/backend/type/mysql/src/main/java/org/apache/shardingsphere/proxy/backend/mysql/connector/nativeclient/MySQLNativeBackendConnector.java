@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiateHandler;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiatePackageDecoder;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.netty.MySQLSequenceIdInboundHandler;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnection;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnector;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendFutureUtils;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MySQL native backend connector.
+ */
+public final class MySQLNativeBackendConnector implements NativeBackendConnector {
+    
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    
+    private static final long AUTHENTICATION_TIMEOUT_MILLIS = 10000L;
+    
+    private static final long INIT_SESSION_TIMEOUT_MILLIS = 10000L;
+    
+    @Override
+    public NativeBackendConnection connect(final NativeBackendConnectInfo connectInfo, final EventLoopGroup eventLoopGroup) throws SQLException {
+        Promise<Object> authResultCallback = new DefaultPromise<>(eventLoopGroup.next());
+        MySQLNativeResponseHandler responseHandler = new MySQLNativeResponseHandler(authResultCallback);
+        AtomicInteger connectionId = new AtomicInteger();
+        ChannelFuture channelFuture = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS).option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+                        socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                        socketChannel.pipeline().addLast(new MySQLSequenceIdInboundHandler(socketChannel));
+                        socketChannel.pipeline().addLast(new MySQLNegotiatePackageDecoder());
+                        socketChannel.pipeline().addLast(new MySQLNativeHandshakeHandler(connectionId));
+                        socketChannel.pipeline().addLast(new MySQLNegotiateHandler(connectInfo.getUsername(), connectInfo.getPassword(), authResultCallback));
+                        socketChannel.pipeline().addLast(responseHandler);
+                    }
+                }).connect(connectInfo.getHostname(), connectInfo.getPort());
+        channelFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                authResultCallback.tryFailure(future.cause());
+            }
+        });
+        Channel channel = channelFuture.channel();
+        awaitAuthentication(channel, authResultCallback);
+        MySQLNativeBackendConnection result = new MySQLNativeBackendConnection(channel, responseHandler, Integer.toUnsignedLong(connectionId.get()), connectInfo);
+        initSession(result, connectInfo.getCatalog());
+        return result;
+    }
+    
+    private void awaitAuthentication(final Channel channel, final Promise<Object> authResultCallback) throws SQLException {
+        try {
+            if (!authResultCallback.await(AUTHENTICATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                channel.close();
+                throw new SQLException("Authentication of MySQL native backend connection timed out.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            channel.close();
+            throw new SQLException(ex);
+        }
+        if (!authResultCallback.isSuccess()) {
+            channel.close();
+            throw new SQLException(authResultCallback.cause().getMessage(), authResultCallback.cause());
+        }
+    }
+    
+    private void initSession(final MySQLNativeBackendConnection connection, final String catalog) throws SQLException {
+        long deadlineMillis = System.currentTimeMillis() + INIT_SESSION_TIMEOUT_MILLIS;
+        CompletableFuture<NativeQueryResult> setNamesFuture = connection.executeQuery("SET NAMES utf8mb4");
+        CompletableFuture<NativeQueryResult> useFuture = null == catalog ? null : connection.executeQuery(String.format("USE `%s`", catalog.replace("`", "``")));
+        try {
+            NativeBackendFutureUtils.get(setNamesFuture, Math.max(deadlineMillis - System.currentTimeMillis(), 1L));
+            if (null != useFuture) {
+                NativeBackendFutureUtils.get(useFuture, Math.max(deadlineMillis - System.currentTimeMillis(), 1L));
+            }
+        } catch (final TimeoutException ex) {
+            connection.close();
+            throw new SQLException("Session initialization of MySQL native backend connection timed out.", ex);
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
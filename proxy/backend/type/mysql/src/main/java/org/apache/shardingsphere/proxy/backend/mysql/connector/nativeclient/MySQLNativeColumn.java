@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinitionFlag;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Column of MySQL native query result.
+ *
+ * <p>JDBC types and values follow the default mappings of MySQL Connector/J, so results are the same as the ones executed with JDBC.</p>
+ */
+@Getter
+public final class MySQLNativeColumn {
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private final MySQLColumnDefinition41Packet definition;
+    
+    private final boolean unsigned;
+    
+    private final boolean binary;
+    
+    private final int jdbcType;
+    
+    private final String typeName;
+    
+    public MySQLNativeColumn(final MySQLColumnDefinition41Packet definition) {
+        this.definition = definition;
+        unsigned = 0 != (definition.getFlags() & MySQLColumnDefinitionFlag.UNSIGNED.getValue());
+        binary = BINARY_CHARACTER_SET == definition.getCharacterSet();
+        jdbcType = getJDBCType(definition.getColumnType());
+        typeName = getTypeName(definition.getColumnType());
+    }
+    
+    private int getJDBCType(final MySQLBinaryColumnType columnType) {
+        switch (columnType) {
+            case TINY:
+                return isTinyIntOne() ? Types.BIT : unsigned ? Types.SMALLINT : Types.TINYINT;
+            case SHORT:
+                return unsigned ? Types.INTEGER : Types.SMALLINT;
+            case INT24:
+                return Types.INTEGER;
+            case LONG:
+                return unsigned ? Types.BIGINT : Types.INTEGER;
+            case LONGLONG:
+                return Types.BIGINT;
+            case FLOAT:
+                return Types.REAL;
+            case DOUBLE:
+                return Types.DOUBLE;
+            case DECIMAL:
+            case NEWDECIMAL:
+                return Types.DECIMAL;
+            case YEAR:
+            case DATE:
+            case NEWDATE:
+                return Types.DATE;
+            case TIME:
+            case TIME2:
+                return Types.TIME;
+            case TIMESTAMP:
+            case TIMESTAMP2:
+            case DATETIME:
+            case DATETIME2:
+                return Types.TIMESTAMP;
+            case BIT:
+                return Types.BIT;
+            case NULL:
+                return Types.NULL;
+            case STRING:
+                return binary ? Types.BINARY : Types.CHAR;
+            case TINY_BLOB:
+            case MEDIUM_BLOB:
+            case LONG_BLOB:
+            case BLOB:
+                return binary ? Types.LONGVARBINARY : Types.LONGVARCHAR;
+            case JSON:
+                return Types.LONGVARCHAR;
+            case GEOMETRY:
+                return Types.BINARY;
+            default:
+                return binary ? Types.VARBINARY : Types.VARCHAR;
+        }
+    }
+    
+    private boolean isTinyIntOne() {
+        return MySQLBinaryColumnType.TINY == definition.getColumnType() && 1 == definition.getColumnLength();
+    }
+    
+    private String getTypeName(final MySQLBinaryColumnType columnType) {
+        String result;
+        switch (columnType) {
+            case TINY:
+                result = isTinyIntOne() ? "BIT" : "TINYINT";
+                break;
+            case SHORT:
+                result = "SMALLINT";
+                break;
+            case INT24:
+                result = "MEDIUMINT";
+                break;
+            case LONG:
+                result = "INT";
+                break;
+            case LONGLONG:
+                result = "BIGINT";
+                break;
+            case DECIMAL:
+            case NEWDECIMAL:
+                result = "DECIMAL";
+                break;
+            case NEWDATE:
+                result = "DATE";
+                break;
+            case TIME2:
+                result = "TIME";
+                break;
+            case TIMESTAMP2:
+                result = "TIMESTAMP";
+                break;
+            case DATETIME2:
+                result = "DATETIME";
+                break;
+            case STRING:
+                return binary ? "BINARY" : "CHAR";
+            case VARCHAR:
+            case VAR_STRING:
+                return binary ? "VARBINARY" : "VARCHAR";
+            case TINY_BLOB:
+            case MEDIUM_BLOB:
+            case LONG_BLOB:
+            case BLOB:
+                return binary ? "BLOB" : "TEXT";
+            default:
+                return columnType.name();
+        }
+        return unsigned ? result + " UNSIGNED" : result;
+    }
+    
+    /**
+     * Convert to column meta data of query result.
+     *
+     * @return column meta data
+     */
+    public RawQueryResultColumnMetaData toColumnMetaData() {
+        String name = definition.getOrgName().isEmpty() ? definition.getName() : definition.getOrgName();
+        return new RawQueryResultColumnMetaData(definition.getOrgTable(), name, definition.getName(), jdbcType, typeName, definition.getColumnLength(), definition.getDecimals(),
+                !unsigned, 0 != (definition.getFlags() & MySQLColumnDefinitionFlag.NOT_NULL.getValue()),
+                0 != (definition.getFlags() & MySQLColumnDefinitionFlag.AUTO_INCREMENT.getValue()));
+    }
+    
+    /**
+     * Convert text protocol value to Java value.
+     *
+     * @param value text protocol value
+     * @return Java value
+     */
+    public Object convert(final byte[] value) {
+        switch (definition.getColumnType()) {
+            case TINY:
+                return isTinyIntOne() ? !"0".equals(toString(value)) : Integer.parseInt(toString(value));
+            case SHORT:
+            case INT24:
+                return Integer.parseInt(toString(value));
+            case LONG:
+                return unsigned ? (Object) Long.parseLong(toString(value)) : (Object) Integer.parseInt(toString(value));
+            case LONGLONG:
+                return unsigned ? (Object) new BigInteger(toString(value)) : (Object) Long.parseLong(toString(value));
+            case FLOAT:
+                return Float.parseFloat(toString(value));
+            case DOUBLE:
+                return Double.parseDouble(toString(value));
+            case DECIMAL:
+            case NEWDECIMAL:
+                return new BigDecimal(toString(value));
+            case BIT:
+                return 1 == definition.getColumnLength() ? (Object) (0 != value[0]) : value;
+            case NULL:
+                return null;
+            default:
+                return convertTemporalOrText(value);
+        }
+    }
+    
+    private Object convertTemporalOrText(final byte[] value) {
+        String text = toString(value);
+        try {
+            switch (definition.getColumnType()) {
+                case YEAR:
+                    return Date.valueOf(text + "-01-01");
+                case DATE:
+                case NEWDATE:
+                    return Date.valueOf(text);
+                case TIME:
+                case TIME2:
+                    return Time.valueOf(text.contains(".") ? text.substring(0, text.indexOf('.')) : text);
+                case TIMESTAMP:
+                case TIMESTAMP2:
+                case DATETIME:
+                case DATETIME2:
+                    return Timestamp.valueOf(text);
+                default:
+                    return binary || MySQLBinaryColumnType.GEOMETRY == definition.getColumnType() ? value : text;
+            }
+        } catch (final IllegalArgumentException ignore) {
+            return text;
+        }
+    }
+    
+    private String toString(final byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handshake handler of MySQL native backend connection, which keeps connection ID of handshake packet to kill query of the connection.
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeHandshakeHandler extends ChannelInboundHandlerAdapter {
+    
+    private final AtomicInteger connectionId;
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object msg) {
+        if (msg instanceof MySQLHandshakePacket) {
+            connectionId.set(((MySQLHandshakePacket) msg).getConnectionId());
+            context.pipeline().remove(this);
+        }
+        context.fireChannelRead(msg);
+    }
+}
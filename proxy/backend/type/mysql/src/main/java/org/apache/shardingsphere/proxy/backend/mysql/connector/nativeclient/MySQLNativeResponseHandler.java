@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeRowStream;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Response handler of MySQL native backend connection.
+ *
+ * <p>MySQL responds commands in the order they are sent, so responses are matched with pipelined commands in FIFO order.
+ * Query result is completed once column definitions are received, then row packets are streamed to it as raw bytes and decoded lazily.
+ * Reading is paused when rows are not consumed fast enough, unless other commands are pipelined behind on the same connection.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeResponseHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final String DATABASE_TYPE = "MySQL";
+    
+    private static final int EOF_PACKET_MAX_LENGTH = 9;
+    
+    private final Promise<Object> authResultCallback;
+    
+    private final Queue<CompletableFuture<NativeQueryResult>> pendingFutures = new ArrayDeque<>();
+    
+    private ResponsePhase phase = ResponsePhase.RESPONSE;
+    
+    private int columnCount;
+    
+    private List<MySQLNativeColumn> columns;
+    
+    private NativeRowStream rowStream;
+    
+    private boolean moreResultsSkipped;
+    
+    private Channel channel;
+    
+    /**
+     * Add pending future of command which is going to be sent, must be called in event loop.
+     *
+     * @param future pending future
+     */
+    public void addPendingFuture(final CompletableFuture<NativeQueryResult> future) {
+        pendingFutures.add(future);
+        if (!channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        channel = context.channel();
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object msg) {
+        try {
+            handle(new MySQLPacketPayload((ByteBuf) msg, StandardCharsets.UTF_8));
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+    
+    private void handle(final MySQLPacketPayload payload) {
+        int header = payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex());
+        switch (phase) {
+            case COLUMN_DEFINITION:
+                handleColumnDefinition(payload);
+                break;
+            case ROW:
+                handleRow(header, payload);
+                break;
+            default:
+                handleResponse(header, payload);
+        }
+    }
+    
+    private void handleResponse(final int header, final MySQLPacketPayload payload) {
+        if (MySQLErrPacket.HEADER == header) {
+            completeExceptionally(new MySQLErrPacket(payload));
+            return;
+        }
+        if (MySQLOKPacket.HEADER == header) {
+            if (!moreResultsSkipped) {
+                complete(new NativeQueryResult(DATABASE_TYPE, new RawQueryResultMetaData(Collections.emptyList()), NativeRowStream.createEmpty(),
+                        new MySQLNativeRowDecoder(Collections.emptyList())));
+            }
+            moreResultsSkipped = isMoreResultsExisted(new MySQLOKPacket(payload).getStatusFlag());
+            return;
+        }
+        columnCount = (int) payload.readIntLenenc();
+        columns = new ArrayList<>(columnCount);
+        phase = ResponsePhase.COLUMN_DEFINITION;
+    }
+    
+    private void handleColumnDefinition(final MySQLPacketPayload payload) {
+        if (columns.size() < columnCount) {
+            columns.add(new MySQLNativeColumn(new MySQLColumnDefinition41Packet(payload)));
+            return;
+        }
+        phase = ResponsePhase.ROW;
+        if (!moreResultsSkipped) {
+            rowStream = new NativeRowStream(this::switchAutoRead);
+            complete(new NativeQueryResult(DATABASE_TYPE,
+                    new RawQueryResultMetaData(columns.stream().map(MySQLNativeColumn::toColumnMetaData).collect(Collectors.toList())), rowStream, new MySQLNativeRowDecoder(columns)));
+        }
+    }
+    
+    private void switchAutoRead(final boolean autoRead) {
+        if (!autoRead && !pendingFutures.isEmpty()) {
+            return;
+        }
+        channel.config().setAutoRead(autoRead);
+    }
+    
+    private void handleRow(final int header, final MySQLPacketPayload payload) {
+        if (MySQLEofPacket.HEADER == header && payload.getByteBuf().readableBytes() < EOF_PACKET_MAX_LENGTH) {
+            phase = ResponsePhase.RESPONSE;
+            if (null != rowStream) {
+                rowStream.complete();
+                rowStream = null;
+            }
+            moreResultsSkipped = isMoreResultsExisted(new MySQLEofPacket(payload).getStatusFlags());
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            phase = ResponsePhase.RESPONSE;
+            if (null != rowStream) {
+                rowStream.completeExceptionally(toSQLException(new MySQLErrPacket(payload)));
+                rowStream = null;
+            }
+            moreResultsSkipped = false;
+            return;
+        }
+        if (null != rowStream) {
+            rowStream.offer(ByteBufUtil.getBytes(payload.getByteBuf()));
+        }
+    }
+    
+    private boolean isMoreResultsExisted(final int statusFlags) {
+        return 0 != (statusFlags & MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+    }
+    
+    private void complete(final NativeQueryResult queryResult) {
+        CompletableFuture<NativeQueryResult> future = pendingFutures.poll();
+        if (null != future) {
+            future.complete(queryResult);
+        }
+    }
+    
+    private void completeExceptionally(final MySQLErrPacket errPacket) {
+        if (!moreResultsSkipped) {
+            CompletableFuture<NativeQueryResult> future = pendingFutures.poll();
+            if (null != future) {
+                future.completeExceptionally(toSQLException(errPacket));
+            }
+        }
+        moreResultsSkipped = false;
+    }
+    
+    private SQLException toSQLException(final MySQLErrPacket errPacket) {
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        failAll(new SQLException("MySQL native backend connection is closed."));
+        context.fireChannelInactive();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        failAll(cause);
+        context.close();
+    }
+    
+    private void failAll(final Throwable cause) {
+        authResultCallback.tryFailure(cause);
+        if (null != rowStream) {
+            rowStream.completeExceptionally(cause instanceof SQLException ? (SQLException) cause : new SQLException(cause));
+            rowStream = null;
+        }
+        while (!pendingFutures.isEmpty()) {
+            pendingFutures.poll().completeExceptionally(cause);
+        }
+    }
+    
+    private enum ResponsePhase {
+        
+        RESPONSE, COLUMN_DEFINITION, ROW
+    }
+}
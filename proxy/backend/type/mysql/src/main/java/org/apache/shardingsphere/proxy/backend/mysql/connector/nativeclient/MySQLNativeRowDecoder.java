@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeRowDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Row decoder for MySQL text result set row.
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeRowDecoder implements NativeRowDecoder {
+    
+    private static final int NULL = 0xfb;
+    
+    private final List<MySQLNativeColumn> columns;
+    
+    @Override
+    public Object[] decode(final byte[] rawRow) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(rawRow), StandardCharsets.UTF_8);
+        Object[] result = new Object[columns.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.skipReserved(1);
+            } else {
+                result[i] = columns.get(i).convert(payload.readStringLenencByBytes());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isLocalDateTime(final int columnIndex) {
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLNativeColumnTest {
+    
+    @Test
+    void assertTinyIntOneAsBit() {
+        MySQLNativeColumn actual = createColumn(1, MySQLBinaryColumnType.TINY);
+        assertThat(actual.getJdbcType(), is(Types.BIT));
+        assertThat(actual.convert(toBytes("1")), is(true));
+    }
+    
+    @Test
+    void assertConvertNumericValues() {
+        assertThat(createColumn(4, MySQLBinaryColumnType.TINY).convert(toBytes("12")), is(12));
+        assertThat(createColumn(11, MySQLBinaryColumnType.LONG).convert(toBytes("-1")), is(-1));
+        assertThat(createColumn(20, MySQLBinaryColumnType.LONGLONG).convert(toBytes("9")), is(9L));
+        assertThat(createColumn(10, MySQLBinaryColumnType.NEWDECIMAL).convert(toBytes("1.50")), is(new BigDecimal("1.50")));
+    }
+    
+    @Test
+    void assertConvertTemporalValues() {
+        assertThat(createColumn(10, MySQLBinaryColumnType.DATE).convert(toBytes("2024-01-02")), is(Date.valueOf("2024-01-02")));
+        assertThat(createColumn(19, MySQLBinaryColumnType.DATETIME).convert(toBytes("2024-01-02 03:04:05")), is(Timestamp.valueOf("2024-01-02 03:04:05")));
+        assertThat(createColumn(10, MySQLBinaryColumnType.DATE).convert(toBytes("0000-00-00")), is("0000-00-00"));
+    }
+    
+    @Test
+    void assertConvertText() {
+        MySQLNativeColumn actual = createColumn(50, MySQLBinaryColumnType.VAR_STRING);
+        assertThat(actual.getJdbcType(), is(Types.VARCHAR));
+        assertThat(actual.convert(toBytes("foo")), is("foo"));
+    }
+    
+    private MySQLNativeColumn createColumn(final int columnLength, final MySQLBinaryColumnType columnType) {
+        return new MySQLNativeColumn(new MySQLColumnDefinition41Packet(33, "foo_db", "t_order", "t_order", "foo_col", "foo_col", columnLength, columnType, 0, false));
+    }
+    
+    private byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.mysql.connector.nativeclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.exception.mysql.vendor.MySQLVendorError;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLNativeResponseHandlerTest {
+    
+    private MySQLNativeResponseHandler responseHandler;
+    
+    private EmbeddedChannel channel;
+    
+    @BeforeEach
+    void setUp() {
+        responseHandler = new MySQLNativeResponseHandler(ImmediateEventExecutor.INSTANCE.newPromise());
+        channel = new EmbeddedChannel(responseHandler);
+    }
+    
+    @Test
+    void assertHandleResultSet() throws SQLException {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        writeColumnDefinitions();
+        assertTrue(future.isDone());
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(Arrays.asList(1L, "OK"))));
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(Arrays.asList(2L, null))));
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(0)));
+        NativeQueryResult actual = future.join();
+        assertThat(actual.getMetaData().getColumnCount(), is(2));
+        assertThat(actual.getMetaData().getColumnLabel(1), is("order_id"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertThat(actual.getValue(2, Object.class), is("OK"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertTrue(null == actual.getValue(2, Object.class) && actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertHandleErrPacketWhenStreamingRows() throws SQLException {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        writeColumnDefinitions();
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(Arrays.asList(1L, "OK"))));
+        channel.writeInbound(toByteBuf(new MySQLErrPacket(MySQLVendorError.ER_NO_SUCH_TABLE, "t_order")));
+        NativeQueryResult actual = future.join();
+        assertTrue(actual.next());
+        assertThrows(SQLException.class, actual::next);
+    }
+    
+    @Test
+    void assertPauseReadingWhenRowsAreNotConsumed() throws SQLException {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        writeColumnDefinitions();
+        for (int i = 0; i < 4096; i++) {
+            channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(Arrays.asList((long) i, "OK"))));
+        }
+        assertFalse(channel.config().isAutoRead());
+        NativeQueryResult actual = future.join();
+        for (int i = 0; i < 3072; i++) {
+            assertTrue(actual.next());
+        }
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    void assertNotPauseReadingWhenCommandsArePipelined() {
+        responseHandler.addPendingFuture(new CompletableFuture<>());
+        responseHandler.addPendingFuture(new CompletableFuture<>());
+        writeColumnDefinitions();
+        for (int i = 0; i < 4096; i++) {
+            channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(Arrays.asList((long) i, "OK"))));
+        }
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    void assertHandleOKPacket() throws SQLException {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(0)));
+        assertThat(future.join().getMetaData().getColumnCount(), is(0));
+    }
+    
+    @Test
+    void assertHandleErrPacket() {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(toByteBuf(new MySQLErrPacket(MySQLVendorError.ER_NO_SUCH_TABLE, "t_order")));
+        ExecutionException actual = assertThrows(ExecutionException.class, future::get);
+        assertThat(actual.getCause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) actual.getCause()).getErrorCode(), is(MySQLVendorError.ER_NO_SUCH_TABLE.getVendorCode()));
+    }
+    
+    @Test
+    void assertSkipMoreResults() {
+        CompletableFuture<NativeQueryResult> firstFuture = new CompletableFuture<>();
+        CompletableFuture<NativeQueryResult> secondFuture = new CompletableFuture<>();
+        responseHandler.addPendingFuture(firstFuture);
+        responseHandler.addPendingFuture(secondFuture);
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue())));
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(0)));
+        assertTrue(firstFuture.isDone());
+        assertFalse(secondFuture.isDone());
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(0)));
+        assertTrue(secondFuture.isDone());
+    }
+    
+    @Test
+    void assertFailPendingFuturesWhenChannelInactive() {
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.close();
+        assertTrue(future.isCompletedExceptionally());
+    }
+    
+    private void writeColumnDefinitions() {
+        ByteBuf columnCount = Unpooled.buffer();
+        new MySQLPacketPayload(columnCount, StandardCharsets.UTF_8).writeIntLenenc(2L);
+        channel.writeInbound(columnCount);
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(33, "foo_db", "t_order", "t_order", "order_id", "order_id", 20, MySQLBinaryColumnType.LONGLONG, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(33, "foo_db", "t_order", "t_order", "status", "status", 50, MySQLBinaryColumnType.VAR_STRING, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(0)));
+    }
+    
+    private ByteBuf toByteBuf(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(result, StandardCharsets.UTF_8));
+        return result;
+    }
+}
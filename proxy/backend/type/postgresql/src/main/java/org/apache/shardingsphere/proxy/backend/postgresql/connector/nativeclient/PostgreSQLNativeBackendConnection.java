@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnection;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PostgreSQL native backend connection.
+ *
+ * <p>Command is canceled with cancel request sent by another socket, which carries the backend key data received on connecting.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLNativeBackendConnection implements NativeBackendConnection {
+    
+    private static final char QUERY_MESSAGE_TYPE = 'Q';
+    
+    private static final int CANCEL_REQUEST_LENGTH = 16;
+    
+    private static final int CANCEL_REQUEST_CODE = 80877102;
+    
+    private static final int CANCEL_TIMEOUT_MILLIS = 5000;
+    
+    private final Channel channel;
+    
+    private final PostgreSQLNativeResponseHandler responseHandler;
+    
+    private final NativeBackendConnectInfo connectInfo;
+    
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    
+    private final AtomicBoolean canceled = new AtomicBoolean();
+    
+    @Override
+    public CompletableFuture<NativeQueryResult> executeQuery(final String sql) {
+        CompletableFuture<NativeQueryResult> result = new CompletableFuture<>();
+        pendingCommandCount.incrementAndGet();
+        result.whenComplete((unused, ex) -> pendingCommandCount.decrementAndGet());
+        channel.eventLoop().execute(() -> write(sql, result));
+        return result;
+    }
+    
+    private void write(final String sql, final CompletableFuture<NativeQueryResult> future) {
+        if (!channel.isActive()) {
+            future.completeExceptionally(new SQLException("PostgreSQL native backend connection is closed."));
+            return;
+        }
+        responseHandler.addPendingFuture(future);
+        byte[] sqlBytes = sql.getBytes(StandardCharsets.UTF_8);
+        ByteBuf message = channel.alloc().buffer(6 + sqlBytes.length);
+        message.writeByte(QUERY_MESSAGE_TYPE);
+        message.writeInt(5 + sqlBytes.length);
+        message.writeBytes(sqlBytes);
+        message.writeByte(0);
+        channel.writeAndFlush(message);
+    }
+    
+    @Override
+    public int getPendingCommandCount() {
+        return pendingCommandCount.get();
+    }
+    
+    @Override
+    public boolean isActive() {
+        return channel.isActive();
+    }
+    
+    @Override
+    public void cancel() {
+        if (!canceled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendCancelRequest();
+        } catch (final IOException ignore) {
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private void sendCancelRequest() throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(connectInfo.getHostname(), connectInfo.getPort()), CANCEL_TIMEOUT_MILLIS);
+            socket.setSoTimeout(CANCEL_TIMEOUT_MILLIS);
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeInt(CANCEL_REQUEST_LENGTH);
+            output.writeInt(CANCEL_REQUEST_CODE);
+            output.writeInt(responseHandler.getBackendProcessId());
+            output.writeInt(responseHandler.getBackendSecretKey());
+            output.flush();
+            socket.getInputStream().read();
+        }
+    }
+    
+    @Override
+    public void close() {
+        channel.close();
+    }
+}
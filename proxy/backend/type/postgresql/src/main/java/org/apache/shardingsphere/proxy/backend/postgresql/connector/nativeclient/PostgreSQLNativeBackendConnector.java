@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnection;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnector;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL native backend connector.
+ */
+public final class PostgreSQLNativeBackendConnector implements NativeBackendConnector {
+    
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    
+    private static final long AUTHENTICATION_TIMEOUT_MILLIS = 10000L;
+    
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    private static final int MESSAGE_LENGTH_FIELD_LENGTH = 4;
+    
+    @Override
+    public NativeBackendConnection connect(final NativeBackendConnectInfo connectInfo, final EventLoopGroup eventLoopGroup) throws SQLException {
+        Promise<Object> authResultCallback = new DefaultPromise<>(eventLoopGroup.next());
+        PostgreSQLNativeResponseHandler responseHandler = new PostgreSQLNativeResponseHandler(connectInfo, authResultCallback);
+        ChannelFuture channelFuture = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS).option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.pipeline().addLast(new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, MESSAGE_TYPE_LENGTH, MESSAGE_LENGTH_FIELD_LENGTH, -MESSAGE_LENGTH_FIELD_LENGTH, 0));
+                        socketChannel.pipeline().addLast(responseHandler);
+                    }
+                }).connect(connectInfo.getHostname(), connectInfo.getPort());
+        channelFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                authResultCallback.tryFailure(future.cause());
+            }
+        });
+        Channel channel = channelFuture.channel();
+        awaitAuthentication(channel, authResultCallback);
+        return new PostgreSQLNativeBackendConnection(channel, responseHandler, connectInfo);
+    }
+    
+    private void awaitAuthentication(final Channel channel, final Promise<Object> authResultCallback) throws SQLException {
+        try {
+            if (!authResultCallback.await(AUTHENTICATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                channel.close();
+                throw new SQLException("Authentication of PostgreSQL native backend connection timed out.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            channel.close();
+            throw new SQLException(ex);
+        }
+        if (!authResultCallback.isSuccess()) {
+            channel.close();
+            throw new SQLException(authResultCallback.cause().getMessage(), authResultCallback.cause());
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+
+/**
+ * Column of PostgreSQL native query result.
+ *
+ * <p>JDBC types and values follow the default mappings of PostgreSQL JDBC driver, so results are the same as the ones executed with JDBC.</p>
+ */
+@Getter
+public final class PostgreSQLNativeColumn {
+    
+    private static final int VARIABLE_HEADER_SIZE = 4;
+    
+    private static final DateTimeFormatter TIMESTAMPTZ_FORMATTER = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss")
+            .optionalStart().appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).optionalEnd().appendOffset("+HH:mm", "Z").toFormatter();
+    
+    private final String name;
+    
+    private final int typeOid;
+    
+    private final int typeSize;
+    
+    private final int typeModifier;
+    
+    private final int jdbcType;
+    
+    private final String typeName;
+    
+    public PostgreSQLNativeColumn(final String name, final int typeOid, final int typeSize, final int typeModifier) {
+        this.name = name;
+        this.typeOid = typeOid;
+        this.typeSize = typeSize;
+        this.typeModifier = typeModifier;
+        jdbcType = getJDBCType(typeOid);
+        typeName = getTypeName(typeOid);
+    }
+    
+    private int getJDBCType(final int typeOid) {
+        switch (typeOid) {
+            case PostgreSQLNativeTypeOid.BOOL:
+                return Types.BIT;
+            case PostgreSQLNativeTypeOid.BYTEA:
+                return Types.BINARY;
+            case PostgreSQLNativeTypeOid.INT8:
+            case PostgreSQLNativeTypeOid.OID:
+                return Types.BIGINT;
+            case PostgreSQLNativeTypeOid.INT2:
+                return Types.SMALLINT;
+            case PostgreSQLNativeTypeOid.INT4:
+                return Types.INTEGER;
+            case PostgreSQLNativeTypeOid.FLOAT4:
+                return Types.REAL;
+            case PostgreSQLNativeTypeOid.FLOAT8:
+                return Types.DOUBLE;
+            case PostgreSQLNativeTypeOid.NUMERIC:
+                return Types.NUMERIC;
+            case PostgreSQLNativeTypeOid.BPCHAR:
+                return Types.CHAR;
+            case PostgreSQLNativeTypeOid.DATE:
+                return Types.DATE;
+            case PostgreSQLNativeTypeOid.TIME:
+                return Types.TIME;
+            case PostgreSQLNativeTypeOid.TIMESTAMP:
+            case PostgreSQLNativeTypeOid.TIMESTAMPTZ:
+                return Types.TIMESTAMP;
+            default:
+                return Types.VARCHAR;
+        }
+    }
+    
+    private String getTypeName(final int typeOid) {
+        switch (typeOid) {
+            case PostgreSQLNativeTypeOid.BOOL:
+                return "bool";
+            case PostgreSQLNativeTypeOid.BYTEA:
+                return "bytea";
+            case PostgreSQLNativeTypeOid.INT8:
+                return "int8";
+            case PostgreSQLNativeTypeOid.OID:
+                return "oid";
+            case PostgreSQLNativeTypeOid.INT2:
+                return "int2";
+            case PostgreSQLNativeTypeOid.INT4:
+                return "int4";
+            case PostgreSQLNativeTypeOid.FLOAT4:
+                return "float4";
+            case PostgreSQLNativeTypeOid.FLOAT8:
+                return "float8";
+            case PostgreSQLNativeTypeOid.NUMERIC:
+                return "numeric";
+            case PostgreSQLNativeTypeOid.BPCHAR:
+                return "bpchar";
+            case PostgreSQLNativeTypeOid.TEXT:
+                return "text";
+            case PostgreSQLNativeTypeOid.NAME:
+                return "name";
+            case PostgreSQLNativeTypeOid.DATE:
+                return "date";
+            case PostgreSQLNativeTypeOid.TIME:
+                return "time";
+            case PostgreSQLNativeTypeOid.TIMESTAMP:
+                return "timestamp";
+            case PostgreSQLNativeTypeOid.TIMESTAMPTZ:
+                return "timestamptz";
+            default:
+                return "varchar";
+        }
+    }
+    
+    /**
+     * Convert to column meta data of query result.
+     *
+     * @return column meta data
+     */
+    public RawQueryResultColumnMetaData toColumnMetaData() {
+        boolean numeric = PostgreSQLNativeTypeOid.NUMERIC == typeOid && typeModifier >= VARIABLE_HEADER_SIZE;
+        int length = numeric ? (typeModifier - VARIABLE_HEADER_SIZE) >> 16 : typeSize > 0 ? typeSize : Math.max(typeModifier - VARIABLE_HEADER_SIZE, 0);
+        int decimals = numeric ? (typeModifier - VARIABLE_HEADER_SIZE) & 0xffff : 0;
+        return new RawQueryResultColumnMetaData("", name, name, jdbcType, typeName, length, decimals, true, false, false);
+    }
+    
+    /**
+     * Judge whether column holds date time value without time zone.
+     *
+     * @return is local date time or not
+     */
+    public boolean isLocalDateTime() {
+        return PostgreSQLNativeTypeOid.TIMESTAMPTZ != typeOid;
+    }
+    
+    /**
+    * Convert text format value to Java value.
+    *
+    * @param value text format value
+    * @return Java value
+    */
+    public Object convert(final byte[] value) {
+        String text = new String(value, StandardCharsets.UTF_8);
+        try {
+            switch (typeOid) {
+                case PostgreSQLNativeTypeOid.BOOL:
+                    return "t".equals(text);
+                case PostgreSQLNativeTypeOid.BYTEA:
+                    return text.startsWith("\\x") ? decodeHex(text.substring(2)) : value;
+                case PostgreSQLNativeTypeOid.INT8:
+                case PostgreSQLNativeTypeOid.OID:
+                    return Long.parseLong(text);
+                case PostgreSQLNativeTypeOid.INT2:
+                case PostgreSQLNativeTypeOid.INT4:
+                    return Integer.parseInt(text);
+                case PostgreSQLNativeTypeOid.FLOAT4:
+                    return Float.parseFloat(text);
+                case PostgreSQLNativeTypeOid.FLOAT8:
+                    return Double.parseDouble(text);
+                case PostgreSQLNativeTypeOid.NUMERIC:
+                    return new BigDecimal(text);
+                case PostgreSQLNativeTypeOid.DATE:
+                    return Date.valueOf(text);
+                case PostgreSQLNativeTypeOid.TIME:
+                    return Time.valueOf(text.contains(".") ? text.substring(0, text.indexOf('.')) : text);
+                case PostgreSQLNativeTypeOid.TIMESTAMP:
+                    return Timestamp.valueOf(text);
+                case PostgreSQLNativeTypeOid.TIMESTAMPTZ:
+                    return Timestamp.from(OffsetDateTime.parse(text, TIMESTAMPTZ_FORMATTER).toInstant());
+                default:
+                    return text;
+            }
+        } catch (final IllegalArgumentException | DateTimeParseException ignore) {
+            return text;
+        }
+    }
+    
+    private byte[] decodeHex(final String hex) {
+        byte[] result = new byte[hex.length() / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return result;
+    }
+}
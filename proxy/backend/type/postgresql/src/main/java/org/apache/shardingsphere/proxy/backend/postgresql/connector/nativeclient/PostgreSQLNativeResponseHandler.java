@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeRowStream;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Response handler of PostgreSQL native backend connection.
+ *
+ * <p>Commands are sent with simple query protocol and responded in order, only the first result of a multi-statement query is kept.
+ * Query result is completed once the first row description is received, then data rows are streamed to it until ready for query message is received.
+ * Reading is paused when rows are not consumed fast enough, unless other commands are pipelined behind on the same connection.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLNativeResponseHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final String DATABASE_TYPE = "PostgreSQL";
+    
+    private static final int PROTOCOL_VERSION = 196608;
+    
+    private static final int AUTHENTICATION_OK = 0;
+    
+    private static final int AUTHENTICATION_CLEARTEXT_PASSWORD = 3;
+    
+    private static final int AUTHENTICATION_MD5_PASSWORD = 5;
+    
+    private static final int AUTHENTICATION_SASL = 10;
+    
+    private static final int AUTHENTICATION_SASL_CONTINUE = 11;
+    
+    private static final int AUTHENTICATION_SASL_FINAL = 12;
+    
+    private static final char ERROR_MESSAGE_FIELD = 'M';
+    
+    private static final char SQL_STATE_FIELD = 'C';
+    
+    private final NativeBackendConnectInfo connectInfo;
+    
+    private final Promise<Object> authResultCallback;
+    
+    private final Queue<CompletableFuture<NativeQueryResult>> pendingFutures = new ArrayDeque<>();
+    
+    private PostgreSQLNativeSCRAMClient scramClient;
+    
+    private boolean authenticated;
+    
+    private NativeRowStream rowStream;
+    
+    private boolean rowsCompleted;
+    
+    private SQLException error;
+    
+    private Channel channel;
+    
+    @Getter
+    private int backendProcessId;
+    
+    @Getter
+    private int backendSecretKey;
+    
+    /**
+     * Add pending future of command which is going to be sent, must be called in event loop.
+     *
+     * @param future pending future
+     */
+    public void addPendingFuture(final CompletableFuture<NativeQueryResult> future) {
+        pendingFutures.add(future);
+        if (!channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        channel = context.channel();
+    }
+    
+    @Override
+    public void channelActive(final ChannelHandlerContext context) {
+        ByteBuf startupMessage = context.alloc().buffer();
+        startupMessage.writeInt(0);
+        startupMessage.writeInt(PROTOCOL_VERSION);
+        writeParameter(startupMessage, "user", connectInfo.getUsername());
+        if (null != connectInfo.getCatalog()) {
+            writeParameter(startupMessage, "database", connectInfo.getCatalog());
+        }
+        writeParameter(startupMessage, "client_encoding", "UTF8");
+        startupMessage.writeByte(0);
+        startupMessage.setInt(0, startupMessage.writerIndex());
+        context.writeAndFlush(startupMessage);
+        context.fireChannelActive();
+    }
+    
+    private void writeParameter(final ByteBuf byteBuf, final String name, final String value) {
+        writeString(byteBuf, name);
+        writeString(byteBuf, value);
+    }
+    
+    private void writeString(final ByteBuf byteBuf, final String value) {
+        byteBuf.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        byteBuf.writeByte(0);
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object msg) {
+        ByteBuf message = (ByteBuf) msg;
+        try {
+            char messageType = (char) message.readByte();
+            message.skipBytes(4);
+            handle(context, messageType, message);
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+    
+    private void handle(final ChannelHandlerContext context, final char messageType, final ByteBuf message) {
+        switch (messageType) {
+            case 'R':
+                handleAuthentication(context, message);
+                break;
+            case 'K':
+                backendProcessId = message.readInt();
+                backendSecretKey = message.readInt();
+                break;
+            case 'T':
+                handleRowDescription(message);
+                break;
+            case 'D':
+                handleDataRow(message);
+                break;
+            case 'C':
+                handleCommandComplete();
+                break;
+            case 'E':
+                handleError(context, message);
+                break;
+            case 'Z':
+                handleReadyForQuery();
+                break;
+            default:
+        }
+    }
+    
+    private void handleAuthentication(final ChannelHandlerContext context, final ByteBuf message) {
+        int authenticationType = message.readInt();
+        try {
+            switch (authenticationType) {
+                case AUTHENTICATION_OK:
+                    break;
+                case AUTHENTICATION_CLEARTEXT_PASSWORD:
+                    writePasswordMessage(context, getPassword().getBytes(StandardCharsets.UTF_8), true);
+                    break;
+                case AUTHENTICATION_MD5_PASSWORD:
+                    writePasswordMessage(context, getMD5Password(ByteBufUtil.getBytes(message.readSlice(4))).getBytes(StandardCharsets.UTF_8), true);
+                    break;
+                case AUTHENTICATION_SASL:
+                    handleSASL(context, message.toString(StandardCharsets.UTF_8));
+                    break;
+                case AUTHENTICATION_SASL_CONTINUE:
+                    writePasswordMessage(context, scramClient.getClientFinalMessage(message.toString(StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8), false);
+                    break;
+                case AUTHENTICATION_SASL_FINAL:
+                    checkServerFinalMessage(message.toString(StandardCharsets.UTF_8));
+                    break;
+                default:
+                    throw new SQLException(String.format("Authentication type `%s` is not supported by PostgreSQL native backend connection.", authenticationType));
+            }
+        } catch (final SQLException ex) {
+            authResultCallback.tryFailure(ex);
+            context.close();
+        }
+    }
+    
+    private String getPassword() {
+        return null == connectInfo.getPassword() ? "" : connectInfo.getPassword();
+    }
+    
+    private String getMD5Password(final byte[] salt) throws SQLException {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+            String passwordHash = ByteBufUtil.hexDump(messageDigest.digest((getPassword() + connectInfo.getUsername()).getBytes(StandardCharsets.UTF_8)));
+            messageDigest.update(passwordHash.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(salt);
+            return "md5" + ByteBufUtil.hexDump(messageDigest.digest());
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void handleSASL(final ChannelHandlerContext context, final String mechanisms) throws SQLException {
+        if (!Arrays.asList(mechanisms.split("\0")).contains(PostgreSQLNativeSCRAMClient.MECHANISM)) {
+            throw new SQLException(String.format("SASL mechanisms `%s` are not supported by PostgreSQL native backend connection.", mechanisms.replace('\0', ' ').trim()));
+        }
+        scramClient = new PostgreSQLNativeSCRAMClient(getPassword());
+        ByteBuf message = context.alloc().buffer();
+        message.writeByte('p');
+        message.writeInt(0);
+        writeString(message, PostgreSQLNativeSCRAMClient.MECHANISM);
+        byte[] clientFirstMessage = scramClient.getClientFirstMessage().getBytes(StandardCharsets.UTF_8);
+        message.writeInt(clientFirstMessage.length);
+        message.writeBytes(clientFirstMessage);
+        message.setInt(1, message.writerIndex() - 1);
+        context.writeAndFlush(message);
+    }
+    
+    private void checkServerFinalMessage(final String serverFinalMessage) throws SQLException {
+        if (null == scramClient || !scramClient.isValidServerFinalMessage(serverFinalMessage)) {
+            throw new SQLException("Invalid SCRAM server signature.");
+        }
+    }
+    
+    private void writePasswordMessage(final ChannelHandlerContext context, final byte[] password, final boolean nullTerminated) {
+        ByteBuf message = context.alloc().buffer(6 + password.length);
+        message.writeByte('p');
+        message.writeInt(4 + password.length + (nullTerminated ? 1 : 0));
+        message.writeBytes(password);
+        if (nullTerminated) {
+            message.writeByte(0);
+        }
+        context.writeAndFlush(message);
+    }
+    
+    private void handleRowDescription(final ByteBuf message) {
+        if (null != rowStream || null != error) {
+            return;
+        }
+        int columnCount = message.readUnsignedShort();
+        List<PostgreSQLNativeColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = message.readCharSequence(message.bytesBefore((byte) 0), StandardCharsets.UTF_8).toString();
+            message.skipBytes(1 + 4 + 2);
+            int typeOid = message.readInt();
+            int typeSize = message.readShort();
+            int typeModifier = message.readInt();
+            message.skipBytes(2);
+            columns.add(new PostgreSQLNativeColumn(name, typeOid, typeSize, typeModifier));
+        }
+        deliverQueryResult(columns);
+    }
+    
+    private void deliverQueryResult(final List<PostgreSQLNativeColumn> columns) {
+        rowStream = new NativeRowStream(this::switchAutoRead);
+        CompletableFuture<NativeQueryResult> future = pendingFutures.poll();
+        if (null != future) {
+            future.complete(new NativeQueryResult(DATABASE_TYPE, new RawQueryResultMetaData(columns.stream().map(PostgreSQLNativeColumn::toColumnMetaData).collect(Collectors.toList())),
+                    rowStream, new PostgreSQLNativeRowDecoder(columns)));
+        }
+    }
+    
+    private void switchAutoRead(final boolean autoRead) {
+        if (!autoRead && !pendingFutures.isEmpty()) {
+            return;
+        }
+        channel.config().setAutoRead(autoRead);
+    }
+    
+    private void handleDataRow(final ByteBuf message) {
+        if (null != rowStream && !rowsCompleted) {
+            rowStream.offer(ByteBufUtil.getBytes(message));
+        }
+    }
+    
+    private void handleCommandComplete() {
+        if (null == rowStream && null == error) {
+            deliverQueryResult(Collections.emptyList());
+        }
+        rowsCompleted = true;
+    }
+    
+    private void handleError(final ChannelHandlerContext context, final ByteBuf message) {
+        String errorMessage = "";
+        String sqlState = null;
+        while (message.isReadable() && 0 != message.getByte(message.readerIndex())) {
+            char field = (char) message.readByte();
+            String value = message.readCharSequence(message.bytesBefore((byte) 0), StandardCharsets.UTF_8).toString();
+            message.skipBytes(1);
+            if (ERROR_MESSAGE_FIELD == field) {
+                errorMessage = value;
+            } else if (SQL_STATE_FIELD == field) {
+                sqlState = value;
+            }
+        }
+        SQLException ex = new SQLException(errorMessage, sqlState);
+        if (!authenticated) {
+            authResultCallback.tryFailure(ex);
+            context.close();
+            return;
+        }
+        if (null == error) {
+            error = ex;
+        }
+    }
+    
+    private void handleReadyForQuery() {
+        if (!authenticated) {
+            authenticated = true;
+            authResultCallback.trySuccess(null);
+            return;
+        }
+        if (null != rowStream) {
+            completeRowStream(error);
+        } else {
+            completePendingFuture();
+        }
+        rowsCompleted = false;
+        error = null;
+    }
+    
+    private void completeRowStream(final SQLException cause) {
+        if (null == cause) {
+            rowStream.complete();
+        } else {
+            rowStream.completeExceptionally(cause);
+        }
+        rowStream = null;
+    }
+    
+    private void completePendingFuture() {
+        CompletableFuture<NativeQueryResult> future = pendingFutures.poll();
+        if (null == future) {
+            return;
+        }
+        if (null == error) {
+            future.complete(new NativeQueryResult(DATABASE_TYPE, new RawQueryResultMetaData(Collections.emptyList()), NativeRowStream.createEmpty(),
+                    new PostgreSQLNativeRowDecoder(Collections.emptyList())));
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        failAll(new SQLException("PostgreSQL native backend connection is closed."));
+        context.fireChannelInactive();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        failAll(cause);
+        context.close();
+    }
+    
+    private void failAll(final Throwable cause) {
+        authResultCallback.tryFailure(cause);
+        if (null != rowStream) {
+            completeRowStream(cause instanceof SQLException ? (SQLException) cause : new SQLException(cause));
+        }
+        while (!pendingFutures.isEmpty()) {
+            pendingFutures.poll().completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeRowDecoder;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Row decoder for PostgreSQL data row in text format.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLNativeRowDecoder implements NativeRowDecoder {
+    
+    private static final int NULL_LENGTH = -1;
+    
+    private final List<PostgreSQLNativeColumn> columns;
+    
+    @Override
+    public Object[] decode(final byte[] rawRow) {
+        ByteBuffer buffer = ByteBuffer.wrap(rawRow);
+        Object[] result = new Object[buffer.getShort()];
+        for (int i = 0; i < result.length; i++) {
+            int length = buffer.getInt();
+            if (NULL_LENGTH != length) {
+                byte[] value = new byte[length];
+                buffer.get(value);
+                result[i] = columns.get(i).convert(value);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isLocalDateTime(final int columnIndex) {
+        return columns.get(columnIndex - 1).isLocalDateTime();
+    }
+}
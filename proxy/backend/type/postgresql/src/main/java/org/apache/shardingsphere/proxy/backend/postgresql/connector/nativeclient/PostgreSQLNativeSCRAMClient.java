@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SCRAM-SHA-256 client of PostgreSQL SASL authentication.
+ */
+public final class PostgreSQLNativeSCRAMClient {
+    
+    public static final String MECHANISM = "SCRAM-SHA-256";
+    
+    private static final String GS2_HEADER = "n,,";
+    
+    private static final int NONCE_LENGTH = 18;
+    
+    private static final int KEY_LENGTH = 256;
+    
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    
+    private final String password;
+    
+    private final String clientNonce;
+    
+    private final String clientFirstMessageBare;
+    
+    private byte[] expectedServerSignature;
+    
+    public PostgreSQLNativeSCRAMClient(final String password) {
+        this(password, generateNonce());
+    }
+    
+    public PostgreSQLNativeSCRAMClient(final String password, final String clientNonce) {
+        this.password = password;
+        this.clientNonce = clientNonce;
+        clientFirstMessageBare = "n=,r=" + clientNonce;
+    }
+    
+    private static String generateNonce() {
+        byte[] result = new byte[NONCE_LENGTH];
+        new SecureRandom().nextBytes(result);
+        return Base64.getEncoder().encodeToString(result);
+    }
+    
+    /**
+     * Get client first message.
+     *
+     * @return client first message
+     */
+    public String getClientFirstMessage() {
+        return GS2_HEADER + clientFirstMessageBare;
+    }
+    
+    /**
+     * Get client final message.
+     *
+     * @param serverFirstMessage server first message
+     * @return client final message
+     * @throws SQLException SQL exception
+     */
+    public String getClientFinalMessage(final String serverFirstMessage) throws SQLException {
+        Map<Character, String> attributes = parseAttributes(serverFirstMessage);
+        String nonce = attributes.get('r');
+        if (null == nonce || !nonce.startsWith(clientNonce) || !attributes.containsKey('s') || !attributes.containsKey('i')) {
+            throw new SQLException(String.format("Invalid SCRAM server first message `%s`.", serverFirstMessage));
+        }
+        String clientFinalMessageWithoutProof = "c=" + Base64.getEncoder().encodeToString(GS2_HEADER.getBytes(StandardCharsets.US_ASCII)) + ",r=" + nonce;
+        String authMessage = clientFirstMessageBare + "," + serverFirstMessage + "," + clientFinalMessageWithoutProof;
+        try {
+            byte[] saltedPassword = hi(Base64.getDecoder().decode(attributes.get('s')), Integer.parseInt(attributes.get('i')));
+            byte[] clientKey = hmac(saltedPassword, "Client Key");
+            byte[] clientSignature = hmac(MessageDigest.getInstance("SHA-256").digest(clientKey), authMessage);
+            byte[] proof = new byte[clientKey.length];
+            for (int i = 0; i < proof.length; i++) {
+                proof[i] = (byte) (clientKey[i] ^ clientSignature[i]);
+            }
+            expectedServerSignature = hmac(hmac(saltedPassword, "Server Key"), authMessage);
+            return clientFinalMessageWithoutProof + ",p=" + Base64.getEncoder().encodeToString(proof);
+        } catch (final GeneralSecurityException | IllegalArgumentException ex) {
+            throw new SQLException("Can not calculate SCRAM client proof.", ex);
+        }
+    }
+    
+    private Map<Character, String> parseAttributes(final String message) {
+        Map<Character, String> result = new HashMap<>(4, 1F);
+        for (String each : message.split(",")) {
+            if (each.length() > 1 && '=' == each.charAt(1)) {
+                result.put(each.charAt(0), each.substring(2));
+            }
+        }
+        return result;
+    }
+    
+    private byte[] hi(final byte[] salt, final int iterations) throws GeneralSecurityException {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+        return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(keySpec).getEncoded();
+    }
+    
+    private byte[] hmac(final byte[] key, final String message) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+        return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Judge whether server final message is valid.
+     *
+     * @param serverFinalMessage server final message
+     * @return is valid or not
+     */
+    public boolean isValidServerFinalMessage(final String serverFinalMessage) {
+        String serverSignature = parseAttributes(serverFinalMessage).get('v');
+        return null != expectedServerSignature && null != serverSignature && MessageDigest.isEqual(expectedServerSignature, Base64.getDecoder().decode(serverSignature));
+    }
+}
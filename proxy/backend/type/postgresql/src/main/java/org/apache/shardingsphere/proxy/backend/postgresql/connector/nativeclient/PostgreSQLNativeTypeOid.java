@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Type OIDs of PostgreSQL which are converted by native backend connection.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLNativeTypeOid {
+    
+    public static final int BOOL = 16;
+    
+    public static final int BYTEA = 17;
+    
+    public static final int NAME = 19;
+    
+    public static final int INT8 = 20;
+    
+    public static final int INT2 = 21;
+    
+    public static final int INT4 = 23;
+    
+    public static final int TEXT = 25;
+    
+    public static final int OID = 26;
+    
+    public static final int FLOAT4 = 700;
+    
+    public static final int FLOAT8 = 701;
+    
+    public static final int BPCHAR = 1042;
+    
+    public static final int VARCHAR = 1043;
+    
+    public static final int DATE = 1082;
+    
+    public static final int TIME = 1083;
+    
+    public static final int TIMESTAMP = 1114;
+    
+    public static final int TIMESTAMPTZ = 1184;
+    
+    public static final int NUMERIC = 1700;
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLNativeColumnTest {
+    
+    @Test
+    void assertConvertNumericValues() {
+        assertThat(createColumn(PostgreSQLNativeTypeOid.INT2).convert(toBytes("7")), is(7));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.INT8).convert(toBytes("9")), is(9L));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.NUMERIC).convert(toBytes("1.50")), is(new BigDecimal("1.50")));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.NUMERIC).convert(toBytes("NaN")), is("NaN"));
+    }
+    
+    @Test
+    void assertConvertTemporalValues() {
+        assertThat(createColumn(PostgreSQLNativeTypeOid.DATE).convert(toBytes("2024-01-02")), is(Date.valueOf("2024-01-02")));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.TIMESTAMP).convert(toBytes("2024-01-02 03:04:05.123")), is(Timestamp.valueOf("2024-01-02 03:04:05.123")));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.TIMESTAMPTZ).convert(toBytes("2024-01-02 03:04:05+05:30")),
+                is(Timestamp.from(OffsetDateTime.parse("2024-01-02T03:04:05+05:30").toInstant())));
+        assertThat(createColumn(PostgreSQLNativeTypeOid.DATE).convert(toBytes("infinity")), is("infinity"));
+    }
+    
+    @Test
+    void assertConvertBytea() {
+        assertThat(createColumn(PostgreSQLNativeTypeOid.BYTEA).convert(toBytes("\\x01ff")), is(new byte[]{1, (byte) 0xff}));
+    }
+    
+    @Test
+    void assertToColumnMetaDataWithNumeric() {
+        PostgreSQLNativeColumn column = new PostgreSQLNativeColumn("amount", PostgreSQLNativeTypeOid.NUMERIC, -1, (10 << 16 | 2) + 4);
+        assertThat(column.toColumnMetaData().getType(), is(Types.NUMERIC));
+        assertThat(column.toColumnMetaData().getLength(), is(10));
+        assertThat(column.toColumnMetaData().getDecimals(), is(2));
+    }
+    
+    private PostgreSQLNativeColumn createColumn(final int typeOid) {
+        return new PostgreSQLNativeColumn("foo_col", typeOid, -1, -1);
+    }
+    
+    private byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeBackendConnectInfo;
+import org.apache.shardingsphere.proxy.backend.connector.nativeclient.NativeQueryResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLNativeResponseHandlerTest {
+    
+    private Promise<Object> authResultCallback;
+    
+    private PostgreSQLNativeResponseHandler responseHandler;
+    
+    private EmbeddedChannel channel;
+    
+    @BeforeEach
+    void setUp() {
+        authResultCallback = ImmediateEventExecutor.INSTANCE.newPromise();
+        responseHandler = new PostgreSQLNativeResponseHandler(new NativeBackendConnectInfo("127.0.0.1", 5432, "postgres", "pencil", "foo_db"), authResultCallback);
+        channel = new EmbeddedChannel(responseHandler);
+    }
+    
+    @Test
+    void assertWriteStartupMessage() {
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readInt(), is(actual.readableBytes() + 4));
+        assertThat(actual.readInt(), is(196608));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("user\0postgres\0database\0foo_db\0client_encoding\0UTF8\0\0"));
+    }
+    
+    @Test
+    void assertAuthenticateWithMD5Password() {
+        channel.readOutbound();
+        ByteBuf body = Unpooled.buffer();
+        body.writeInt(5);
+        body.writeBytes(new byte[]{1, 2, 3, 4});
+        channel.writeInbound(createMessage('R', body));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readByte(), is((byte) 'p'));
+        assertThat(actual.readInt(), is(40));
+        assertThat(actual.readCharSequence(3, StandardCharsets.UTF_8).toString(), is("md5"));
+        authenticate();
+        assertTrue(authResultCallback.isSuccess());
+    }
+    
+    @Test
+    void assertAuthenticateFailed() {
+        channel.writeInbound(createErrorMessage("28P01", "password authentication failed"));
+        assertFalse(authResultCallback.isSuccess());
+        assertThat(authResultCallback.cause().getMessage(), is("password authentication failed"));
+    }
+    
+    @Test
+    void assertHandleBackendKeyData() {
+        ByteBuf body = Unpooled.buffer();
+        body.writeInt(1234);
+        body.writeInt(5678);
+        channel.writeInbound(createMessage('K', body));
+        assertThat(responseHandler.getBackendProcessId(), is(1234));
+        assertThat(responseHandler.getBackendSecretKey(), is(5678));
+    }
+    
+    @Test
+    void assertHandleResultSet() throws SQLException {
+        authenticate();
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(createRowDescriptionMessage());
+        assertTrue(future.isDone());
+        channel.writeInbound(createDataRowMessage("1", "t"));
+        channel.writeInbound(createDataRowMessage("2", null));
+        channel.writeInbound(createMessage('C', Unpooled.wrappedBuffer("SELECT 2\0".getBytes(StandardCharsets.UTF_8))));
+        channel.writeInbound(createReadyForQueryMessage());
+        NativeQueryResult actual = future.join();
+        assertThat(actual.getMetaData().getColumnCount(), is(2));
+        assertThat(actual.getMetaData().getColumnType(1), is(Types.INTEGER));
+        assertThat(actual.getMetaData().getColumnTypeName(2), is("bool"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is(true));
+        assertTrue(actual.next());
+        actual.getValue(2, Object.class);
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertHandleError() {
+        authenticate();
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(createErrorMessage("42P01", "relation \"t_order\" does not exist"));
+        channel.writeInbound(createReadyForQueryMessage());
+        ExecutionException actual = assertThrows(ExecutionException.class, future::get);
+        assertThat(actual.getCause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) actual.getCause()).getSQLState(), is("42P01"));
+    }
+    
+    @Test
+    void assertHandleErrorWhenStreamingRows() throws SQLException {
+        authenticate();
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(createRowDescriptionMessage());
+        channel.writeInbound(createDataRowMessage("1", "t"));
+        channel.writeInbound(createErrorMessage("57014", "canceling statement due to statement timeout"));
+        channel.writeInbound(createReadyForQueryMessage());
+        NativeQueryResult actual = future.join();
+        assertTrue(actual.next());
+        assertThat(assertThrows(SQLException.class, actual::next).getSQLState(), is("57014"));
+    }
+    
+    @Test
+    void assertHandleCommandWithoutRows() throws SQLException {
+        authenticate();
+        CompletableFuture<NativeQueryResult> future = new CompletableFuture<>();
+        responseHandler.addPendingFuture(future);
+        channel.writeInbound(createMessage('C', Unpooled.wrappedBuffer("SET\0".getBytes(StandardCharsets.UTF_8))));
+        channel.writeInbound(createReadyForQueryMessage());
+        NativeQueryResult actual = future.join();
+        assertThat(actual.getMetaData().getColumnCount(), is(0));
+        assertFalse(actual.next());
+    }
+    
+    private void authenticate() {
+        ByteBuf body = Unpooled.buffer();
+        body.writeInt(0);
+        channel.writeInbound(createMessage('R', body));
+        channel.writeInbound(createReadyForQueryMessage());
+    }
+    
+    private ByteBuf createRowDescriptionMessage() {
+        ByteBuf result = Unpooled.buffer();
+        result.writeShort(2);
+        writeColumn(result, "order_id", PostgreSQLNativeTypeOid.INT4, 4);
+        writeColumn(result, "paid", PostgreSQLNativeTypeOid.BOOL, 1);
+        return createMessage('T', result);
+    }
+    
+    private void writeColumn(final ByteBuf byteBuf, final String name, final int typeOid, final int typeSize) {
+        byteBuf.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+        byteBuf.writeByte(0);
+        byteBuf.writeInt(0);
+        byteBuf.writeShort(0);
+        byteBuf.writeInt(typeOid);
+        byteBuf.writeShort(typeSize);
+        byteBuf.writeInt(-1);
+        byteBuf.writeShort(0);
+    }
+    
+    private ByteBuf createDataRowMessage(final String... values) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                result.writeInt(-1);
+            } else {
+                result.writeInt(each.length());
+                result.writeBytes(each.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return createMessage('D', result);
+    }
+    
+    private ByteBuf createErrorMessage(final String sqlState, final String message) {
+        return createMessage('E', Unpooled.wrappedBuffer(("SERROR\0C" + sqlState + "\0M" + message + "\0\0").getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private ByteBuf createReadyForQueryMessage() {
+        return createMessage('Z', Unpooled.wrappedBuffer(new byte[]{'I'}));
+    }
+    
+    private ByteBuf createMessage(final char messageType, final ByteBuf body) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(messageType);
+        result.writeInt(4 + body.readableBytes());
+        result.writeBytes(body);
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.postgresql.connector.nativeclient;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLNativeSCRAMClientTest {
+    
+    private static final String CLIENT_NONCE = "rOprNGfwEbeRWgbNEkqO";
+    
+    private static final String SERVER_FIRST_MESSAGE = "r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,s=W22ZaJ0SNY7soEsUEjb6gQ==,i=4096";
+    
+    @Test
+    void assertGetClientFirstMessage() {
+        assertThat(new PostgreSQLNativeSCRAMClient("pencil", CLIENT_NONCE).getClientFirstMessage(), is("n,,n=,r=rOprNGfwEbeRWgbNEkqO"));
+    }
+    
+    @Test
+    void assertGetClientFinalMessage() throws SQLException {
+        PostgreSQLNativeSCRAMClient client = new PostgreSQLNativeSCRAMClient("pencil", CLIENT_NONCE);
+        assertThat(client.getClientFinalMessage(SERVER_FIRST_MESSAGE), is("c=biws,r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,p=qvT2SWdEH5Q06albL+hjSYuUhCG7VndFyzIb7CK4n9k="));
+        assertTrue(client.isValidServerFinalMessage("v=3HO6Qt1M4MKJrmlKaoOqLAI0/0TV0HZe7J9H3MBtSOg="));
+        assertFalse(client.isValidServerFinalMessage("v=AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA="));
+    }
+    
+    @Test
+    void assertGetClientFinalMessageWithInvalidNonce() {
+        assertThrows(SQLException.class, () -> new PostgreSQLNativeSCRAMClient("pencil", CLIENT_NONCE).getClientFinalMessage("r=foo,s=W22ZaJ0SNY7soEsUEjb6gQ==,i=4096"));
+    }
+}
@@ -28,12 +28,15 @@ import org.apache.shardingsphere.authentication.result.AuthenticationResult;
 import org.apache.shardingsphere.authentication.result.AuthenticationResultBuilder;
 import org.apache.shardingsphere.authority.checker.AuthorityChecker;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCompressionAlgorithm;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.netty.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
@@ -42,6 +45,8 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.AccessDeniedException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.DatabaseAccessDeniedException;
@@ -74,15 +79,22 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private AuthenticationResult currentAuthResult;
     
+    private boolean compressionEnabled;
+    
+    private MySQLCompressionAlgorithm compressionAlgorithm;
+    
+    private int zstdCompressionLevel;
+    
     @Override
     public int handshake(final ChannelHandlerContext context) {
+        compressionEnabled = getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED);
         int result = ConnectionIdGenerator.getInstance().nextId();
         connectionPhase = MySQLConnectionPhase.AUTH_PHASE_FAST_PATH;
         boolean sslEnabled = ProxySSLContext.getInstance().isSSLEnabled();
         if (sslEnabled) {
             context.pipeline().addFirst(MySQLSSLRequestHandler.class.getSimpleName(), new MySQLSSLRequestHandler());
         }
-        context.writeAndFlush(new MySQLHandshakePacket(result, sslEnabled, authPluginData));
+        context.writeAndFlush(new MySQLHandshakePacket(result, sslEnabled, compressionEnabled, authPluginData));
         MySQLStatementIdGenerator.getInstance().registerConnection(result);
         return result;
     }
@@ -106,6 +118,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new DatabaseAccessDeniedException(currentAuthResult.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
         }
         writeOKPacket(context);
+        enableCompression(context);
         return AuthenticationResultBuilder.finished(grantee.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
     }
     
@@ -122,6 +135,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         authResponse = handshakeResponsePacket.getAuthResponse();
         setMultiStatementsOption(context, handshakeResponsePacket);
         setCharacterSet(context, handshakeResponsePacket);
+        setCompression(handshakeResponsePacket);
         String database = handshakeResponsePacket.getDatabase();
         if (!Strings.isNullOrEmpty(database) && !ProxyContext.getInstance().databaseExists(database)) {
             throw new UnknownDatabaseException(database);
@@ -148,6 +162,11 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         context.channel().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).set(characterSet);
     }
     
+    private void setCompression(final MySQLHandshakeResponse41Packet handshakeResponsePacket) {
+        compressionAlgorithm = compressionEnabled ? MySQLCompressionAlgorithm.negotiate(handshakeResponsePacket.getCapabilityFlags()) : null;
+        zstdCompressionLevel = handshakeResponsePacket.getZstdCompressionLevel();
+    }
+    
     private boolean isClientPluginAuthenticate(final MySQLHandshakeResponse41Packet packet) {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
@@ -177,4 +196,20 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     private void writeOKPacket(final ChannelHandlerContext context) {
         context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
     }
+    
+    private void enableCompression(final ChannelHandlerContext context) {
+        if (null == compressionAlgorithm) {
+            return;
+        }
+        ConfigurationProperties props = getProps();
+        int level = MySQLCompressionAlgorithm.ZSTD == compressionAlgorithm && 0 != zstdCompressionLevel
+                ? zstdCompressionLevel
+                : props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_LEVEL);
+        MySQLCompressionCodec codec = new MySQLCompressionCodec(compressionAlgorithm, level, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_MIN_LENGTH));
+        context.pipeline().addBefore(context.pipeline().context(PacketCodec.class).name(), MySQLCompressionCodec.class.getSimpleName(), codec);
+    }
+    
+    private ConfigurationProperties getProps() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+    }
 }
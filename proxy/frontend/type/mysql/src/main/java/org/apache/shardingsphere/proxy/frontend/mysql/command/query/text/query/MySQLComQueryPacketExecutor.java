@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.protocol.MySQLTextProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -30,6 +34,7 @@ import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.MultiStatementsUpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -43,9 +48,12 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteS
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -58,6 +66,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final int characterSet;
     
+    private final boolean rawRowForwardable;
+    
+    private MySQLTextProtocolValue[] textProtocolValues = new MySQLTextProtocolValue[0];
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -68,6 +80,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        rawRowForwardable = StandardCharsets.UTF_8.equals(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
     }
     
     private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
@@ -103,9 +116,19 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        textProtocolValues = createTextProtocolValues(queryResponseHeader);
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession, true));
     }
     
+    private MySQLTextProtocolValue[] createTextProtocolValues(final QueryResponseHeader queryResponseHeader) {
+        MySQLTextProtocolValue[] result = new MySQLTextProtocolValue[queryResponseHeader.getQueryHeaders().size()];
+        int index = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            result[index++] = MySQLTextProtocolValueFactory.getTextProtocolValue(each.getColumnType());
+        }
+        return result;
+    }
+    
     private Collection<DatabasePacket> processUpdate(final UpdateResponseHeader updateResponseHeader) {
         return ResponsePacketBuilder.buildUpdateResponsePackets(updateResponseHeader, ServerStatusFlagCalculator.calculateFor(connectionSession, true));
     }
@@ -127,7 +150,13 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        if (rawRowForwardable) {
+            Optional<byte[]> rawRow = proxyBackendHandler.getRawRow();
+            if (rawRow.isPresent()) {
+                return new MySQLRawTextResultSetRowPacket(rawRow.get());
+            }
+        }
+        return new MySQLTextResultSetRowPacket(Arrays.asList(proxyBackendHandler.getRowValues()), textProtocolValues);
     }
     
     @Override
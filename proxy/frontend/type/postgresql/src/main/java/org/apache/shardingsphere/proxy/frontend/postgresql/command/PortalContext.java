@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 
 import java.sql.SQLException;
@@ -31,6 +34,10 @@ public final class PortalContext {
     
     private final Map<String, Portal> portals = new LinkedHashMap<>();
     
+    @Getter
+    @Setter
+    private PostgreSQLCopyInContext copyInContext;
+    
     /**
      * Add portal.
      *
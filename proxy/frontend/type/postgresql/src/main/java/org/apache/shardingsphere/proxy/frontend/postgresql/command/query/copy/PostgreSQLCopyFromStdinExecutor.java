@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * COPY FROM STDIN executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyFromStdinExecutor implements CommandExecutor {
+    
+    private final PortalContext portalContext;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(PostgreSQLCopyFormat.BINARY != options.getFormat(), () -> new UnsupportedSQLOperationException("COPY FROM STDIN in binary format"));
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(connectionSession, options);
+        portalContext.setCopyInContext(new PostgreSQLCopyInContext(connectionSession, options, rowRouter, getCharset()));
+        return Collections.singleton(new PostgreSQLCopyInResponsePacket(0, rowRouter.getColumnNames().size()));
+    }
+    
+    private Charset getCharset() {
+        Charset result = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        return null == result ? StandardCharsets.UTF_8 : result;
+    }
+}
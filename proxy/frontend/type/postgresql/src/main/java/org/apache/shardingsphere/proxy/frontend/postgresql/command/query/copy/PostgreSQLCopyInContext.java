@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.postgresql.PGConnection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Context of PostgreSQL COPY FROM STDIN.
+ *
+ * <p>Rows are buffered and flushed in batches. Each flush routes the buffered rows, then opens one COPY FROM STDIN stream per actual table,
+ * streams to different data sources run in parallel and streams to the same data source run in sequence on one connection.</p>
+ *
+ * <p>All flushes run in one transaction, so COPY is all or nothing. Outside of a transaction, the transaction is begun on the first flush,
+ * committed when COPY finishes and rolled back when COPY fails.</p>
+ */
+public final class PostgreSQLCopyInContext {
+    
+    private static final int FLUSH_ROW_COUNT = 8192;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final PostgreSQLCopyRowRouter rowRouter;
+    
+    private final List<PostgreSQLCopyRow> bufferedRows = new ArrayList<>(FLUSH_ROW_COUNT);
+    
+    private BackendTransactionManager transactionManager;
+    
+    @Getter
+    private long copiedRowCount;
+    
+    public PostgreSQLCopyInContext(final ConnectionSession connectionSession, final PostgreSQLCopyOptions options, final PostgreSQLCopyRowRouter rowRouter, final Charset charset) {
+        this.connectionSession = connectionSession;
+        this.options = options;
+        rowParser = new PostgreSQLCopyRowParser(options, charset);
+        this.rowRouter = rowRouter;
+    }
+    
+    /**
+     * Append data of CopyData message.
+     *
+     * @param data data
+     * @throws SQLException SQL exception
+     */
+    public void append(final byte[] data) throws SQLException {
+        try {
+            bufferedRows.addAll(rowParser.append(data));
+            if (bufferedRows.size() >= FLUSH_ROW_COUNT) {
+                flush();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            abort(ex);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Finish COPY and flush the remaining rows.
+     *
+     * @return copied row count
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            bufferedRows.addAll(rowParser.finish());
+            flush();
+            if (null != transactionManager) {
+                BackendTransactionManager committingTransactionManager = transactionManager;
+                transactionManager = null;
+                committingTransactionManager.commit();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            abort(ex);
+            throw ex;
+        }
+        return copiedRowCount;
+    }
+    
+    /**
+     * Abort COPY and roll back the rows copied so far if COPY began the transaction.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abort() throws SQLException {
+        bufferedRows.clear();
+        if (null != transactionManager) {
+            BackendTransactionManager abortingTransactionManager = transactionManager;
+            transactionManager = null;
+            abortingTransactionManager.rollback();
+        }
+    }
+    
+    private void abort(final Exception cause) {
+        try {
+            abort();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    private void flush() throws SQLException {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        beginTransactionIfNecessary();
+        Map<DataNode, List<PostgreSQLCopyRow>> routedRows = rowRouter.route(bufferedRows);
+        copiedRowCount += bufferedRows.size();
+        bufferedRows.clear();
+        Collection<ExecutionGroup<CopyInUnit>> inputGroups = createInputGroups(routedRows);
+        ExecutionGroupContext<CopyInUnit> executionGroupContext = new ExecutionGroupContext<>(inputGroups,
+                new ExecutionGroupReportContext(connectionSession.getProcessId(), connectionSession.getUsedDatabaseName(), connectionSession.getConnectionContext().getGrantee()));
+        BackendExecutorContext.getInstance().getExecutorEngine().execute(executionGroupContext, null, new CopyInCallback(), 1 == inputGroups.size());
+    }
+    
+    private void beginTransactionIfNecessary() {
+        connectionSession.getDatabaseConnectionManager().handleAutoCommit();
+        if (null == transactionManager && !connectionSession.getTransactionStatus().isInTransaction()) {
+            transactionManager = new BackendTransactionManager(connectionSession.getDatabaseConnectionManager());
+            transactionManager.begin();
+        }
+    }
+    
+    private Collection<ExecutionGroup<CopyInUnit>> createInputGroups(final Map<DataNode, List<PostgreSQLCopyRow>> routedRows) throws SQLException {
+        Map<String, List<Entry<DataNode, List<PostgreSQLCopyRow>>>> dataSourceRows = routedRows.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> entry.getKey().getDataSourceName(), LinkedHashMap::new, Collectors.toList()));
+        Collection<ExecutionGroup<CopyInUnit>> result = new ArrayList<>(dataSourceRows.size());
+        for (Entry<String, List<Entry<DataNode, List<PostgreSQLCopyRow>>>> entry : dataSourceRows.entrySet()) {
+            Connection connection = connectionSession.getDatabaseConnectionManager().getConnections(
+                    connectionSession.getUsedDatabaseName(), entry.getKey(), 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            List<CopyInUnit> inputs = new ArrayList<>(entry.getValue().size());
+            for (Entry<DataNode, List<PostgreSQLCopyRow>> each : entry.getValue()) {
+                inputs.add(new CopyInUnit(connection, options.createActualSQL(rowRouter.getSchemaName(), each.getKey().getTableName(), rowRouter.getColumnNames()), createCopyData(each.getValue())));
+            }
+            result.add(new ExecutionGroup<>(inputs));
+        }
+        return result;
+    }
+    
+    private byte[] createCopyData(final List<PostgreSQLCopyRow> rows) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(rows.size() * 64);
+        if (null != rowParser.getHeaderRow()) {
+            result.write(rowParser.getHeaderRow(), 0, rowParser.getHeaderRow().length);
+        }
+        for (PostgreSQLCopyRow each : rows) {
+            result.write(each.getData(), 0, each.getData().length);
+        }
+        return result.toByteArray();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CopyInUnit {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final byte[] data;
+    }
+    
+    private static final class CopyInCallback implements ExecutorCallback<CopyInUnit, Long> {
+        
+        @Override
+        public Collection<Long> execute(final Collection<CopyInUnit> inputs, final boolean isTrunkThread, final String processId) throws SQLException {
+            Collection<Long> result = new ArrayList<>(inputs.size());
+            for (CopyInUnit each : inputs) {
+                try {
+                    result.add(each.connection.unwrap(PGConnection.class).getCopyAPI().copyIn(each.sql, new ByteArrayInputStream(each.data)));
+                } catch (final IOException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+            return result;
+        }
+    }
+}
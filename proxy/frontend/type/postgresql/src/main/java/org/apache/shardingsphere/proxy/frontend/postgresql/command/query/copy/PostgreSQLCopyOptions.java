@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Options of PostgreSQL COPY FROM STDIN or COPY TO STDOUT statement.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private static final Pattern DIRECTION_PATTERN = Pattern.compile("^\\s*\\)?\\s*(FROM\\s+STDIN|TO\\s+STDOUT)\\b(.*?)[\\s;]*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern OPTION_TOKEN_PATTERN = Pattern.compile("'((?:[^']|'')*)'|([^\\s,()']+)");
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final boolean copyIn;
+    
+    private final String optionClause;
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final boolean header;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    /**
+     * Create COPY options from parsed COPY statement.
+     *
+     * <p>Table and columns are taken from the statement segments, the direction and the option clause are taken from the SQL text behind them.</p>
+     *
+     * @param sqlStatement COPY statement
+     * @param sql SQL of COPY statement
+     * @return COPY options, empty if COPY statement is not a COPY FROM STDIN or COPY TO STDOUT on a table
+     */
+    public static Optional<PostgreSQLCopyOptions> create(final CopyStatement sqlStatement, final String sql) {
+        SimpleTableSegment tableSegment = sqlStatement.getTableSegment();
+        if (null == tableSegment || sqlStatement.getPrepareStatementQuery().isPresent()) {
+            return Optional.empty();
+        }
+        int stopIndex = tableSegment.getStopIndex();
+        List<String> columnNames = new ArrayList<>(sqlStatement.getColumns().size());
+        for (ColumnSegment each : sqlStatement.getColumns()) {
+            columnNames.add(getIdentifier(each.getIdentifier()));
+            stopIndex = Math.max(stopIndex, each.getStopIndex());
+        }
+        Matcher matcher = DIRECTION_PATTERN.matcher(sql.substring(stopIndex + 1));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String schemaName = tableSegment.getOwner().map(optional -> getIdentifier(optional.getIdentifier())).orElse(null);
+        boolean copyIn = matcher.group(1).toUpperCase().startsWith("FROM");
+        return Optional.of(createOptions(schemaName, getIdentifier(tableSegment.getTableName().getIdentifier()), columnNames, copyIn, matcher.group(2).trim()));
+    }
+    
+    /**
+     * Create COPY SQL for actual table.
+     *
+     * @param schemaName schema name
+     * @param actualTableName actual table name
+     * @param columnNames column names
+     * @return COPY SQL for actual table
+     */
+    public String createActualSQL(final String schemaName, final String actualTableName, final List<String> columnNames) {
+        String result = String.format("COPY %s.%s (%s) %s %s", quoteIdentifier(schemaName), quoteIdentifier(actualTableName),
+                columnNames.stream().map(PostgreSQLCopyOptions::quoteIdentifier).collect(Collectors.joining(", ")), copyIn ? "FROM STDIN" : "TO STDOUT", optionClause);
+        return result.trim();
+    }
+    
+    static String quoteIdentifier(final String identifier) {
+        return identifier.matches("[a-z_][a-z0-9_$]*") ? identifier : "\"" + identifier + "\"";
+    }
+    
+    private static String getIdentifier(final IdentifierValue identifierValue) {
+        return QuoteCharacter.NONE == identifierValue.getQuoteCharacter() ? identifierValue.getValue().toLowerCase() : identifierValue.getValue();
+    }
+    
+    private static PostgreSQLCopyOptions createOptions(final String schemaName, final String tableName, final List<String> columnNames, final boolean copyIn, final String optionClause) {
+        List<String> tokens = tokenize(optionClause);
+        PostgreSQLCopyFormat format = PostgreSQLCopyFormat.TEXT;
+        String delimiter = null;
+        String nullString = null;
+        boolean header = false;
+        String quote = null;
+        String escape = null;
+        ListIterator<String> tokenIterator = tokens.listIterator();
+        while (tokenIterator.hasNext()) {
+            String token = tokenIterator.next().toUpperCase();
+            switch (token) {
+                case "FORMAT":
+                    format = PostgreSQLCopyFormat.valueOf(tokenIterator.next().toUpperCase());
+                    break;
+                case "TEXT":
+                case "CSV":
+                case "BINARY":
+                    format = PostgreSQLCopyFormat.valueOf(token);
+                    break;
+                case "HEADER":
+                    header = parseHeader(tokenIterator);
+                    break;
+                case "DELIMITER":
+                    delimiter = nextValue(tokenIterator);
+                    break;
+                case "NULL":
+                    nullString = nextValue(tokenIterator);
+                    break;
+                case "QUOTE":
+                    quote = nextValue(tokenIterator);
+                    break;
+                case "ESCAPE":
+                    escape = nextValue(tokenIterator);
+                    break;
+                default:
+                    break;
+            }
+        }
+        boolean csv = PostgreSQLCopyFormat.CSV == format;
+        char quoteChar = null == quote ? '"' : quote.charAt(0);
+        return new PostgreSQLCopyOptions(schemaName, tableName, columnNames, copyIn, optionClause, format,
+                null == delimiter ? (csv ? ',' : '\t') : delimiter.charAt(0), null == nullString ? (csv ? "" : "\\N") : nullString, header,
+                quoteChar, null == escape ? quoteChar : escape.charAt(0));
+    }
+    
+    private static List<String> tokenize(final String optionClause) {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = OPTION_TOKEN_PATTERN.matcher(optionClause);
+        while (matcher.find()) {
+            result.add(null == matcher.group(1) ? matcher.group(2) : matcher.group(1).replace("''", "'"));
+        }
+        return result;
+    }
+    
+    private static boolean parseHeader(final ListIterator<String> tokenIterator) {
+        if (!tokenIterator.hasNext()) {
+            return true;
+        }
+        String value = tokenIterator.next();
+        if (isBooleanValue(value)) {
+            return !isFalseValue(value);
+        }
+        tokenIterator.previous();
+        return true;
+    }
+    
+    private static String nextValue(final ListIterator<String> tokenIterator) {
+        String result = tokenIterator.next();
+        return "AS".equalsIgnoreCase(result) ? tokenIterator.next() : result;
+    }
+    
+    private static boolean isBooleanValue(final String token) {
+        switch (token.toUpperCase()) {
+            case "TRUE":
+            case "FALSE":
+            case "ON":
+            case "OFF":
+            case "1":
+            case "0":
+            case "MATCH":
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static boolean isFalseValue(final String token) {
+        return "FALSE".equalsIgnoreCase(token) || "OFF".equalsIgnoreCase(token) || "0".equals(token);
+    }
+}
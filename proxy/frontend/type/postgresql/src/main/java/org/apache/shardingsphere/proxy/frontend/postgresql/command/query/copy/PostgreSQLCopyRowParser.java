@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Row parser of PostgreSQL COPY data in text or CSV format.
+ *
+ * <p>Rows are split on the raw bytes as they arrive in CopyData messages, so a row may span several messages.
+ * The raw bytes of every row are kept to be forwarded to the storage node unchanged.</p>
+ */
+public final class PostgreSQLCopyRowParser {
+    
+    private static final String END_OF_DATA_MARKER = "\\.";
+    
+    private static final char VERTICAL_TAB = 0x0B;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Charset charset;
+    
+    private final ByteArrayOutputStream partialRow = new ByteArrayOutputStream();
+    
+    @Getter
+    private byte[] headerRow;
+    
+    @Getter
+    private boolean endOfData;
+    
+    private boolean inQuotes;
+    
+    private boolean escapeNext;
+    
+    public PostgreSQLCopyRowParser(final PostgreSQLCopyOptions options, final Charset charset) {
+        this.options = options;
+        this.charset = charset;
+    }
+    
+    /**
+     * Append data and parse completed rows.
+     *
+     * @param data data of CopyData message
+     * @return completed rows
+     */
+    public List<PostgreSQLCopyRow> append(final byte[] data) {
+        List<PostgreSQLCopyRow> result = new ArrayList<>();
+        int rowStartIndex = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (isRowEnd(data[i])) {
+                completeRow(readRow(data, rowStartIndex, i + 1), result);
+                rowStartIndex = i + 1;
+            }
+        }
+        partialRow.write(data, rowStartIndex, data.length - rowStartIndex);
+        return result;
+    }
+    
+    private boolean isRowEnd(final byte value) {
+        if (escapeNext) {
+            escapeNext = false;
+            return false;
+        }
+        if (PostgreSQLCopyFormat.CSV != options.getFormat()) {
+            escapeNext = '\\' == value;
+            return '\n' == value;
+        }
+        if (inQuotes) {
+            escapeNext = options.getEscape() != options.getQuote() && options.getEscape() == value;
+            inQuotes = options.getQuote() != value;
+            return false;
+        }
+        inQuotes = options.getQuote() == value;
+        return '\n' == value;
+    }
+    
+    private byte[] readRow(final byte[] data, final int startIndex, final int endIndex) {
+        if (0 == partialRow.size()) {
+            return Arrays.copyOfRange(data, startIndex, endIndex);
+        }
+        partialRow.write(data, startIndex, endIndex - startIndex);
+        byte[] result = partialRow.toByteArray();
+        partialRow.reset();
+        return result;
+    }
+    
+    /**
+     * Finish parsing and return the last row which is not terminated by newline.
+     *
+     * @return last row, empty if all rows are terminated by newline
+     */
+    public List<PostgreSQLCopyRow> finish() {
+        if (0 == partialRow.size()) {
+            return Collections.emptyList();
+        }
+        partialRow.write('\n');
+        byte[] data = partialRow.toByteArray();
+        partialRow.reset();
+        List<PostgreSQLCopyRow> result = new ArrayList<>(1);
+        completeRow(data, result);
+        return result;
+    }
+    
+    private void completeRow(final byte[] data, final List<PostgreSQLCopyRow> rows) {
+        if (endOfData) {
+            return;
+        }
+        String line = decodeLine(data);
+        if (END_OF_DATA_MARKER.equals(line)) {
+            endOfData = true;
+            return;
+        }
+        if (options.isHeader() && null == headerRow) {
+            headerRow = data;
+            return;
+        }
+        rows.add(new PostgreSQLCopyRow(data, parseValues(line)));
+    }
+    
+    private String decodeLine(final byte[] data) {
+        int length = data.length - 1;
+        if (length > 0 && '\r' == data[length - 1]) {
+            length--;
+        }
+        return new String(data, 0, length, charset);
+    }
+    
+    /**
+     * Parse values of line.
+     *
+     * @param line line without line terminator
+     * @return parsed values, null value represents SQL NULL
+     */
+    public List<String> parseValues(final String line) {
+        return PostgreSQLCopyFormat.CSV == options.getFormat() ? parseCSVValues(line) : parseTextValues(line);
+    }
+    
+    private List<String> parseTextValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int index = 0;
+        while (index < line.length()) {
+            char each = line.charAt(index++);
+            if ('\\' == each && index < line.length()) {
+                field.append(each).append(line.charAt(index++));
+            } else if (options.getDelimiter() == each) {
+                result.add(toTextValue(field.toString()));
+                field.setLength(0);
+            } else {
+                field.append(each);
+            }
+        }
+        result.add(toTextValue(field.toString()));
+        return result;
+    }
+    
+    private String toTextValue(final String rawValue) {
+        return options.getNullString().equals(rawValue) ? null : unescapeText(rawValue);
+    }
+    
+    private String unescapeText(final String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        int index = 0;
+        while (index < value.length()) {
+            char each = value.charAt(index++);
+            if ('\\' != each || index == value.length()) {
+                result.append(each);
+                continue;
+            }
+            index = appendEscapedCharacter(value, index, result);
+        }
+        return result.toString();
+    }
+    
+    private int appendEscapedCharacter(final String value, final int index, final StringBuilder result) {
+        char escaped = value.charAt(index);
+        switch (escaped) {
+            case 'b':
+                result.append('\b');
+                return index + 1;
+            case 'f':
+                result.append('\f');
+                return index + 1;
+            case 'n':
+                result.append('\n');
+                return index + 1;
+            case 'r':
+                result.append('\r');
+                return index + 1;
+            case 't':
+                result.append('\t');
+                return index + 1;
+            case 'v':
+                result.append(VERTICAL_TAB);
+                return index + 1;
+            case 'x':
+                return appendNumericCharacter(value, index + 1, 2, 16, result, escaped);
+            default:
+                return escaped >= '0' && escaped <= '7' ? appendNumericCharacter(value, index, 3, 8, result, escaped) : appendCharacter(escaped, index + 1, result);
+        }
+    }
+    
+    private int appendNumericCharacter(final String value, final int startIndex, final int maxDigits, final int radix, final StringBuilder result, final char escaped) {
+        int endIndex = startIndex;
+        while (endIndex < value.length() && endIndex - startIndex < maxDigits && Character.digit(value.charAt(endIndex), radix) >= 0) {
+            endIndex++;
+        }
+        if (startIndex == endIndex) {
+            return appendCharacter(escaped, startIndex, result);
+        }
+        result.append((char) Integer.parseInt(value.substring(startIndex, endIndex), radix));
+        return endIndex;
+    }
+    
+    private int appendCharacter(final char value, final int nextIndex, final StringBuilder result) {
+        result.append(value);
+        return nextIndex;
+    }
+    
+    private List<String> parseCSVValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotedValue = false;
+        int index = 0;
+        while (index < line.length()) {
+            char each = line.charAt(index++);
+            if (inQuotedValue) {
+                if (isEscapedInQuotedValue(line, index - 1)) {
+                    field.append(line.charAt(index++));
+                } else if (options.getQuote() == each) {
+                    inQuotedValue = false;
+                } else {
+                    field.append(each);
+                }
+            } else if (options.getQuote() == each) {
+                inQuotedValue = true;
+                quoted = true;
+            } else if (options.getDelimiter() == each) {
+                result.add(!quoted && options.getNullString().equals(field.toString()) ? null : field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else {
+                field.append(each);
+            }
+        }
+        result.add(!quoted && options.getNullString().equals(field.toString()) ? null : field.toString());
+        return result;
+    }
+    
+    private boolean isEscapedInQuotedValue(final String line, final int index) {
+        return options.getEscape() == line.charAt(index) && index + 1 < line.length() && (options.getQuote() == line.charAt(index + 1) || options.getEscape() == line.charAt(index + 1));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Row router of PostgreSQL COPY.
+ *
+ * <p>Rows are routed in batches through a multi-row INSERT template, so one SQL statement context is bound per batch instead of per row,
+ * and the data nodes of every row are taken from the original data nodes of the route context.</p>
+ *
+ * <p>Text values are converted by PostgreSQL column type of the column's JDBC type, the same as text parameters of bind packet.
+ * Boolean values accept PostgreSQL boolean literals, and values of other types such as uuid and json are routed by their text.</p>
+ */
+public final class PostgreSQLCopyRowRouter {
+    
+    private static final int ROUTE_BATCH_SIZE = 256;
+    
+    private static final Collection<String> TRUE_VALUES = new HashSet<>(Arrays.asList("t", "true", "y", "yes", "on", "1"));
+    
+    private static final Collection<String> FALSE_VALUES = new HashSet<>(Arrays.asList("f", "false", "n", "no", "off", "0"));
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    @Getter
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    @Getter
+    private final List<String> columnNames;
+    
+    private final List<Integer> columnTypes;
+    
+    private final Map<Integer, String> insertSQLs = new HashMap<>(2, 1F);
+    
+    public PostgreSQLCopyRowRouter(final ConnectionSession connectionSession, final PostgreSQLCopyOptions options) {
+        this.connectionSession = connectionSession;
+        metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        String databaseName = connectionSession.getUsedDatabaseName();
+        ShardingSpherePreconditions.checkState(null != databaseName && metaData.containsDatabase(databaseName), NoDatabaseSelectedException::new);
+        database = metaData.getDatabase(databaseName);
+        schemaName = null == options.getSchemaName() ? new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(databaseName) : options.getSchemaName();
+        tableName = options.getTableName();
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        ShardingSpherePreconditions.checkState(null != schema && schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+        ShardingSphereTable table = schema.getTable(tableName);
+        columnNames = options.getColumnNames().isEmpty() ? table.getAllColumns().stream().map(ShardingSphereColumn::getName).collect(Collectors.toList()) : options.getColumnNames();
+        columnTypes = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            columnTypes.add(table.containsColumn(each) ? table.getColumn(each).getDataType() : Types.VARCHAR);
+        }
+        checkTableRules();
+    }
+    
+    private void checkTableRules() {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            Optional<TableMapperRuleAttribute> tableMapperRuleAttribute = each.getAttributes().findAttribute(TableMapperRuleAttribute.class);
+            boolean isTableEnhanced = tableMapperRuleAttribute.isPresent() && tableMapperRuleAttribute.get().getLogicTableNames().stream().anyMatch(tableName::equalsIgnoreCase);
+            ShardingSpherePreconditions.checkState(!isTableEnhanced || each.getAttributes().findAttribute(DataNodeRuleAttribute.class).isPresent(),
+                    () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` with rule `%s`", tableName, each.getClass().getSimpleName())));
+        }
+    }
+    
+    /**
+     * Route rows to data nodes.
+     *
+     * @param rows rows to be routed
+     * @return rows grouped by actual data nodes
+     */
+    public Map<DataNode, List<PostgreSQLCopyRow>> route(final List<PostgreSQLCopyRow> rows) {
+        Map<DataNode, List<PostgreSQLCopyRow>> result = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i += ROUTE_BATCH_SIZE) {
+            routeBatch(rows.subList(i, Math.min(i + ROUTE_BATCH_SIZE, rows.size())), result);
+        }
+        return result;
+    }
+    
+    private void routeBatch(final List<PostgreSQLCopyRow> rows, final Map<DataNode, List<PostgreSQLCopyRow>> result) {
+        List<Object> params = new ArrayList<>(rows.size() * columnNames.size());
+        for (PostgreSQLCopyRow each : rows) {
+            ShardingSpherePreconditions.checkState(each.getValues().size() == columnNames.size(),
+                    () -> new UnsupportedSQLOperationException(String.format("COPY row with %d values into %d columns", each.getValues().size(), columnNames.size())));
+            for (int i = 0; i < columnNames.size(); i++) {
+                params.add(convertValue(each.getValues().get(i), columnTypes.get(i)));
+            }
+        }
+        String sql = insertSQLs.computeIfAbsent(rows.size(), this::createInsertSQL);
+        SQLStatementContext sqlStatementContext = bind(sql, params);
+        boolean isKeyGenerated = ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        ShardingSpherePreconditions.checkState(!isKeyGenerated, () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` without generated key column", tableName)));
+        RouteContext routeContext = routeSQL(sql, sqlStatementContext, params);
+        Map<String, String> dataSourceNames = getDataSourceNames(routeContext);
+        if (routeContext.getOriginalDataNodes().isEmpty()) {
+            for (DataNode each : getDataNodes(routeContext)) {
+                result.computeIfAbsent(each, unused -> new ArrayList<>()).addAll(rows);
+            }
+            return;
+        }
+        ShardingSpherePreconditions.checkState(routeContext.getOriginalDataNodes().size() == rows.size(),
+                () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` which can not be routed by row", tableName)));
+        Iterator<PostgreSQLCopyRow> rowIterator = rows.iterator();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            PostgreSQLCopyRow row = rowIterator.next();
+            for (DataNode dataNode : each) {
+                DataNode actualDataNode = new DataNode(dataSourceNames.getOrDefault(dataNode.getDataSourceName(), dataNode.getDataSourceName()), dataNode.getTableName());
+                result.computeIfAbsent(actualDataNode, unused -> new ArrayList<>()).add(row);
+            }
+        }
+    }
+    
+    /**
+     * Route all data nodes of table.
+     *
+     * @return actual data nodes of table
+     */
+    public Collection<DataNode> routeAll() {
+        String sql = String.format("SELECT %s FROM %s", columnNames.stream().map(PostgreSQLCopyOptions::quoteIdentifier).collect(Collectors.joining(", ")), getQualifiedTableName());
+        return getDataNodes(routeSQL(sql, bind(sql, Collections.emptyList()), Collections.emptyList()));
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        String values = "(" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+        return String.format("INSERT INTO %s (%s) VALUES %s", getQualifiedTableName(),
+                columnNames.stream().map(PostgreSQLCopyOptions::quoteIdentifier).collect(Collectors.joining(", ")), String.join(", ", Collections.nCopies(rowCount, values)));
+    }
+    
+    private String getQualifiedTableName() {
+        return PostgreSQLCopyOptions.quoteIdentifier(schemaName) + "." + PostgreSQLCopyOptions.quoteIdentifier(tableName);
+    }
+    
+    private SQLStatementContext bind(final String sql, final List<Object> params) {
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        return new SQLBindEngine(metaData, database.getName(), new HintValueContext()).bind(sqlParserRule.getSQLParserEngine(database.getProtocolType()).parse(sql, true), params);
+    }
+    
+    private RouteContext routeSQL(final String sql, final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), connectionSession.getConnectionContext(), metaData);
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps()).route(queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    private Map<String, String> getDataSourceNames(final RouteContext routeContext) {
+        Map<String, String> result = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.put(each.getDataSourceMapper().getLogicName(), each.getDataSourceMapper().getActualName());
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getDataNodes(final RouteContext routeContext) {
+        Collection<DataNode> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String actualTableName = each.getTableMappers().stream().filter(mapper -> tableName.equalsIgnoreCase(mapper.getLogicName())).map(RouteMapper::getActualName).findFirst().orElse(tableName);
+            result.add(new DataNode(each.getDataSourceMapper().getActualName(), actualTableName));
+        }
+        return result;
+    }
+    
+    private Object convertValue(final String value, final int columnType) {
+        if (null == value) {
+            return null;
+        }
+        switch (columnType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return convertBooleanValue(value);
+            case Types.OTHER:
+                return value;
+            default:
+                return convertTextValue(value, columnType);
+        }
+    }
+    
+    private Object convertBooleanValue(final String value) {
+        String lowerCaseValue = value.trim().toLowerCase();
+        if (TRUE_VALUES.contains(lowerCaseValue)) {
+            return true;
+        }
+        return FALSE_VALUES.contains(lowerCaseValue) ? false : value;
+    }
+    
+    private Object convertTextValue(final String value, final int columnType) {
+        try {
+            return PostgreSQLColumnType.valueOfJDBCType(columnType).getTextValueParser().parse(value);
+        } catch (final IllegalArgumentException | DateTimeException | SQLWrapperException ignored) {
+            return value;
+        }
+    }
+}
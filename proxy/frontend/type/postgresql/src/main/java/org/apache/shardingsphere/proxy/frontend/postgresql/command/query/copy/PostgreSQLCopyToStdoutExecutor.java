@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * COPY TO STDOUT executor for PostgreSQL.
+ *
+ * <p>Actual tables are copied out one by one and their rows are streamed to client as CopyData messages.
+ * If header is required, only the header of the first actual table is kept.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyToStdoutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    private PostgreSQLCopyRowRouter rowRouter;
+    
+    private Iterator<DataNode> dataNodes;
+    
+    private CopyOut currentCopyOut;
+    
+    private boolean headerPending;
+    
+    private boolean headerWritten;
+    
+    private byte[] currentRow;
+    
+    @Getter
+    private long copiedRowCount;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(PostgreSQLCopyFormat.BINARY != options.getFormat(), () -> new UnsupportedSQLOperationException("COPY TO STDOUT in binary format"));
+        rowRouter = new PostgreSQLCopyRowRouter(connectionSession, options);
+        dataNodes = rowRouter.routeAll().iterator();
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(0, rowRouter.getColumnNames().size()));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (true) {
+            if (null == currentCopyOut && !openNextCopyOut()) {
+                return false;
+            }
+            byte[] row = currentCopyOut.readFromCopy();
+            if (null == row) {
+                currentCopyOut = null;
+                continue;
+            }
+            if (!headerPending) {
+                currentRow = row;
+                copiedRowCount++;
+                return true;
+            }
+            headerPending = false;
+            if (!headerWritten) {
+                headerWritten = true;
+                currentRow = row;
+                return true;
+            }
+        }
+    }
+    
+    private boolean openNextCopyOut() throws SQLException {
+        if (!dataNodes.hasNext()) {
+            return false;
+        }
+        DataNode dataNode = dataNodes.next();
+        Connection connection = connectionSession.getDatabaseConnectionManager().getConnections(
+                connectionSession.getUsedDatabaseName(), dataNode.getDataSourceName(), 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        currentCopyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(options.createActualSQL(rowRouter.getSchemaName(), dataNode.getTableName(), rowRouter.getColumnNames()));
+        headerPending = options.isHeader();
+        return true;
+    }
+    
+    @Override
+    public DatabasePacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentRow);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != currentCopyOut && currentCopyOut.isActive()) {
+            currentCopyOut.cancelCopy();
+        }
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
 import lombok.Getter;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -28,6 +27,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBitUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBoolUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
@@ -43,8 +44,6 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -57,7 +56,9 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.dal.SetStat
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -80,6 +81,8 @@ public final class Portal {
     
     private ResponseHeader responseHeader;
     
+    private PostgreSQLBinaryProtocolValue[] binaryProtocolValues;
+    
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
         this.name = name;
@@ -172,16 +175,24 @@ public final class Portal {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()));
+        List<QueryHeader> queryHeaders = responseHeader instanceof QueryResponseHeader ? ((QueryResponseHeader) responseHeader).getQueryHeaders() : Collections.emptyList();
+        if (null == binaryProtocolValues) {
+            binaryProtocolValues = createBinaryProtocolValues(queryHeaders);
+        }
+        Object[] rowValues = proxyBackendHandler.getRowValues();
+        for (int i = 0; i < rowValues.length && i < queryHeaders.size(); i++) {
+            rowValues[i] = getCellData(queryHeaders.get(i), rowValues[i]);
+        }
+        return new PostgreSQLDataRowPacket(Arrays.asList(rowValues), binaryProtocolValues);
     }
     
-    private List<Object> getData(final QueryResponseRow queryResponseRow) {
-        Collection<QueryResponseCell> cells = queryResponseRow.getCells();
-        List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : getCellData(columns.get(i)));
+    private PostgreSQLBinaryProtocolValue[] createBinaryProtocolValues(final List<QueryHeader> queryHeaders) {
+        PostgreSQLBinaryProtocolValue[] result = new PostgreSQLBinaryProtocolValue[queryHeaders.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (PostgreSQLValueFormat.BINARY == determineValueFormat(i)) {
+                QueryHeader queryHeader = queryHeaders.get(i);
+                result[i] = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.valueOfJDBCType(queryHeader.getColumnType(), queryHeader.getColumnTypeName()));
+            }
         }
         return result;
     }
@@ -190,18 +201,14 @@ public final class Portal {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType(), cell.getColumnTypeName().orElse(null)), getCellData(cell));
-    }
-    
-    private Object getCellData(final QueryResponseCell cell) {
-        if (PostgreSQLColumnType.isBit(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBitUtils.getTextValue(cell.getData());
+    private Object getCellData(final QueryHeader queryHeader, final Object data) {
+        if (PostgreSQLColumnType.isBit(queryHeader.getColumnType(), queryHeader.getColumnTypeName())) {
+            return PostgreSQLTextBitUtils.getTextValue(data);
         }
-        if (PostgreSQLColumnType.isBool(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBoolUtils.getTextValue(cell.getData());
+        if (PostgreSQLColumnType.isBool(queryHeader.getColumnType(), queryHeader.getColumnTypeName())) {
+            return PostgreSQLTextBoolUtils.getTextValue(data);
         }
-        return cell.getData();
+        return data;
     }
     
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyInContextTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
+            TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyRowRouter rowRouter;
+    
+    @Mock
+    private CopyManager copyManager0;
+    
+    @Mock
+    private CopyManager copyManager1;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        when(connectionSession.getUsedDatabaseName()).thenReturn("foo_db");
+        Connection connection0 = mockConnection(copyManager0);
+        Connection connection1 = mockConnection(copyManager1);
+        when(connectionSession.getDatabaseConnectionManager().getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(connectionSession.getDatabaseConnectionManager().getConnections("foo_db", "ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        when(rowRouter.getSchemaName()).thenReturn("public");
+        when(rowRouter.getColumnNames()).thenReturn(Arrays.asList("order_id", "status"));
+        when(rowRouter.route(anyList())).thenAnswer(invocation -> route(invocation.getArgument(0)));
+    }
+    
+    private Connection mockConnection(final CopyManager copyManager) throws SQLException {
+        Connection result = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(result.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        return result;
+    }
+    
+    private Map<DataNode, List<PostgreSQLCopyRow>> route(final List<PostgreSQLCopyRow> rows) {
+        Map<DataNode, List<PostgreSQLCopyRow>> result = new LinkedHashMap<>();
+        for (PostgreSQLCopyRow each : rows) {
+            int orderId = Integer.parseInt(each.getValues().get(0));
+            DataNode dataNode = new DataNode("ds_" + orderId % 2, "t_order_" + orderId % 4);
+            result.computeIfAbsent(dataNode, unused -> new ArrayList<>()).add(each);
+        }
+        return result;
+    }
+    
+    @Test
+    void assertAppendFlushesEvery8192Rows() throws SQLException {
+        try (MockedConstruction<BackendTransactionManager> ignored = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = createCopyInContext();
+            copyInContext.append(createData(0, 8191));
+            verify(rowRouter, never()).route(anyList());
+            copyInContext.append(createData(8191, 8192));
+            verify(rowRouter).route(anyList());
+            assertThat(copyInContext.getCopiedRowCount(), is(8192L));
+            copyInContext.append(createData(8192, 8193));
+            verify(rowRouter).route(anyList());
+            assertThat(copyInContext.finish(), is(8193L));
+            verify(rowRouter, times(2)).route(anyList());
+        }
+    }
+    
+    @Test
+    void assertFinishWithTransactionBegunByCopy() throws SQLException {
+        try (MockedConstruction<BackendTransactionManager> transactionManagers = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = createCopyInContext();
+            copyInContext.append(createData(0, 4));
+            assertTrue(transactionManagers.constructed().isEmpty());
+            assertThat(copyInContext.finish(), is(4L));
+            assertThat(transactionManagers.constructed().size(), is(1));
+            BackendTransactionManager transactionManager = transactionManagers.constructed().get(0);
+            verify(transactionManager).begin();
+            verify(transactionManager).commit();
+            verify(transactionManager, never()).rollback();
+        }
+    }
+    
+    @Test
+    void assertFinishInExistingTransaction() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        try (MockedConstruction<BackendTransactionManager> transactionManagers = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = createCopyInContext();
+            copyInContext.append(createData(0, 4));
+            assertThat(copyInContext.finish(), is(4L));
+            copyInContext.abort();
+            assertTrue(transactionManagers.constructed().isEmpty());
+        }
+    }
+    
+    @Test
+    void assertFinishWithRowsGroupedByDataSource() throws SQLException, IOException {
+        try (MockedConstruction<BackendTransactionManager> ignored = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = createCopyInContext();
+            copyInContext.append(createData(0, 4));
+            copyInContext.finish();
+        }
+        verify(connectionSession.getDatabaseConnectionManager()).getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connectionSession.getDatabaseConnectionManager()).getConnections("foo_db", "ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(copyManager0).copyIn(eq("COPY public.t_order_0 (order_id, status) FROM STDIN"), any(InputStream.class));
+        verify(copyManager0).copyIn(eq("COPY public.t_order_2 (order_id, status) FROM STDIN"), any(InputStream.class));
+        verify(copyManager1).copyIn(eq("COPY public.t_order_1 (order_id, status) FROM STDIN"), any(InputStream.class));
+        verify(copyManager1).copyIn(eq("COPY public.t_order_3 (order_id, status) FROM STDIN"), any(InputStream.class));
+    }
+    
+    @Test
+    void assertAppendRollsBackWhenCopyFailedInStream() throws Exception {
+        try (MockedConstruction<BackendTransactionManager> transactionManagers = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = createCopyInContext();
+            copyInContext.append(createData(0, 8192));
+            when(copyManager1.copyIn(anyString(), any(InputStream.class))).thenThrow(new SQLException("copy failed"));
+            assertThrows(SQLException.class, () -> copyInContext.append(createData(8192, 16384)));
+            assertThat(transactionManagers.constructed().size(), is(1));
+            BackendTransactionManager transactionManager = transactionManagers.constructed().get(0);
+            verify(transactionManager).begin();
+            verify(transactionManager).rollback();
+            verify(transactionManager, never()).commit();
+        }
+    }
+    
+    private PostgreSQLCopyInContext createCopyInContext() {
+        String sql = "COPY t_order (order_id, status) FROM STDIN";
+        PostgreSQLCopyOptions options = PostgreSQLCopyOptions.create((CopyStatement) parserEngine.parse(sql, false), sql).orElseThrow(IllegalStateException::new);
+        return new PostgreSQLCopyInContext(connectionSession, options, rowRouter, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] createData(final int startOrderId, final int endOrderId) {
+        StringBuilder result = new StringBuilder();
+        for (int i = startOrderId; i < endOrderId; i++) {
+            result.append(i).append("\tpaid\n");
+        }
+        return result.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
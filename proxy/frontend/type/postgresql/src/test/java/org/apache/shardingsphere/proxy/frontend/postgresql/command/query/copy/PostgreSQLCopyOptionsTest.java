@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyOptionsTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
+            TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    
+    @Test
+    void assertCreateWithoutStdinOrStdout() {
+        assertFalse(createOptions("COPY t_order FROM '/tmp/t_order.csv'").isPresent());
+        assertFalse(createOptions("COPY (SELECT * FROM t_order) TO STDOUT").isPresent());
+    }
+    
+    @Test
+    void assertCreateCopyFromStdinWithDefaultOptions() {
+        PostgreSQLCopyOptions actual = createOptions("copy t_order from stdin;").orElseThrow(IllegalStateException::new);
+        assertTrue(actual.isCopyIn());
+        assertNull(actual.getSchemaName());
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getColumnNames(), is(Collections.emptyList()));
+        assertThat(actual.getFormat(), is(PostgreSQLCopyFormat.TEXT));
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+        assertThat(actual.getOptionClause(), is(""));
+    }
+    
+    @Test
+    void assertCreateCopyFromStdinWithOptionList() {
+        PostgreSQLCopyOptions actual = createOptions(
+                "COPY public.\"T_Order\" (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER '|', NULL 'NULL', QUOTE '''')").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("T_Order"));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "User_Id")));
+        assertThat(actual.getFormat(), is(PostgreSQLCopyFormat.CSV));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getDelimiter(), is('|'));
+        assertThat(actual.getNullString(), is("NULL"));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\''));
+    }
+    
+    @Test
+    void assertCreateCopyToStdoutWithLegacyOptions() {
+        PostgreSQLCopyOptions actual = createOptions("COPY t_order TO STDOUT WITH DELIMITER AS ';' CSV HEADER ESCAPE '~'").orElseThrow(IllegalStateException::new);
+        assertFalse(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(PostgreSQLCopyFormat.CSV));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('~'));
+    }
+    
+    @Test
+    void assertCreateActualSQL() {
+        PostgreSQLCopyOptions actual = createOptions("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER false)").orElseThrow(IllegalStateException::new);
+        assertFalse(actual.isHeader());
+        assertThat(actual.createActualSQL("public", "t_order_0", Arrays.asList("order_id", "User_Id")),
+                is("COPY public.t_order_0 (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, HEADER false)"));
+    }
+    
+    private Optional<PostgreSQLCopyOptions> createOptions(final String sql) {
+        return PostgreSQLCopyOptions.create((CopyStatement) parserEngine.parse(sql, false), sql);
+    }
+}
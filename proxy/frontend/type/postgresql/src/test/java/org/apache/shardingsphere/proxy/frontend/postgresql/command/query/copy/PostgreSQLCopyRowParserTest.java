@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyRowParserTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
+            TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    
+    @Test
+    void assertAppendTextRowsAcrossMessages() {
+        PostgreSQLCopyRowParser parser = createParser("COPY t_order FROM STDIN");
+        List<PostgreSQLCopyRow> actual = parser.append("1\tfoo\n2\tb".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(new String(actual.get(0).getData(), StandardCharsets.UTF_8), is("1\tfoo\n"));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "foo")));
+        actual = parser.append("ar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("2", "bar")));
+    }
+    
+    @Test
+    void assertParseTextValues() {
+        PostgreSQLCopyRowParser parser = createParser("COPY t_order FROM STDIN");
+        assertThat(parser.parseValues("1\t\\N\ta\\tb\\\\c\\101\\x42"), is(Arrays.asList("1", null, "a\tb\\cAB")));
+    }
+    
+    @Test
+    void assertFinishWithLastRowAndEndOfDataMarker() {
+        PostgreSQLCopyRowParser parser = createParser("COPY t_order FROM STDIN");
+        assertThat(parser.append("1\tfoo\n\\.\n2\tbar\n".getBytes(StandardCharsets.UTF_8)).size(), is(1));
+        assertTrue(parser.isEndOfData());
+        assertTrue(parser.finish().isEmpty());
+        parser = createParser("COPY t_order FROM STDIN");
+        parser.append("1\tfoo".getBytes(StandardCharsets.UTF_8));
+        List<PostgreSQLCopyRow> actual = parser.finish();
+        assertThat(actual.size(), is(1));
+        assertThat(new String(actual.get(0).getData(), StandardCharsets.UTF_8), is("1\tfoo\n"));
+    }
+    
+    @Test
+    void assertAppendCSVRowsWithQuotedNewlineAndHeader() {
+        PostgreSQLCopyRowParser parser = createParser("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER true)");
+        List<PostgreSQLCopyRow> actual = parser.append("order_id,remark\r\n1,\"multi\nline, \"\"quoted\"\"\"\r\n2,,\"\"\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(parser.getHeaderRow(), StandardCharsets.UTF_8), is("order_id,remark\r\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "multi\nline, \"quoted\"")));
+        assertThat(actual.get(1).getValues(), is(Arrays.asList("2", null, "")));
+    }
+    
+    private PostgreSQLCopyRowParser createParser(final String sql) {
+        return new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.create((CopyStatement) parserEngine.parse(sql, false), sql).orElseThrow(IllegalStateException::new), StandardCharsets.UTF_8);
+    }
+}
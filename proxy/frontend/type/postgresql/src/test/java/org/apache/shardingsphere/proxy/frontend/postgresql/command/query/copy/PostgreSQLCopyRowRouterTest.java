@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyRowRouterTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
+            TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    
+    private final List<List<Object>> boundParams = new ArrayList<>();
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("order_date", Types.DATE, false, false, false, true, false, true),
+                new ShardingSphereColumn("order_time", Types.TIMESTAMP, false, false, false, true, false, true),
+                new ShardingSphereColumn("paid", Types.BOOLEAN, false, false, false, true, false, true),
+                new ShardingSphereColumn("trace_id", Types.OTHER, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        when(database.getSchema("public").containsTable("t_order")).thenReturn(true);
+        when(database.getSchema("public").getTable("t_order")).thenReturn(table);
+        when(metaData.containsDatabase("foo_db")).thenReturn(true);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        SQLParserRule sqlParserRule = mock(SQLParserRule.class, RETURNS_DEEP_STUBS);
+        when(sqlParserRule.getSQLParserEngine(any()).parse(anyString(), anyBoolean())).thenReturn(null);
+        when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(sqlParserRule)));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        when(connectionSession.getUsedDatabaseName()).thenReturn("foo_db");
+    }
+    
+    @Test
+    void assertRouteByRow() {
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(connectionSession, createOptions("COPY t_order (order_id, status) FROM STDIN"));
+        List<PostgreSQLCopyRow> rows = Arrays.asList(createRow("1", "paid"), createRow("2", "unpaid"), createRow("3", null));
+        Map<DataNode, List<PostgreSQLCopyRow>> actual;
+        try (
+                MockedConstruction<SQLBindEngine> ignoredBindEngine = mockBindEngine();
+                MockedConstruction<SQLRouteEngine> ignoredRouteEngine = mockRouteEngine()) {
+            actual = rowRouter.route(rows);
+        }
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(new DataNode("write_ds_1", "t_order_1")), is(Arrays.asList(rows.get(0), rows.get(2))));
+        assertThat(actual.get(new DataNode("write_ds_0", "t_order_0")), is(Collections.singletonList(rows.get(1))));
+        assertThat(boundParams, is(Collections.singletonList(Arrays.asList(1, "paid", 2, "unpaid", 3, null))));
+    }
+    
+    @Test
+    void assertRouteInBatches() {
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(connectionSession, createOptions("COPY t_order (order_id, status) FROM STDIN"));
+        List<PostgreSQLCopyRow> rows = new ArrayList<>(600);
+        for (int i = 0; i < 600; i++) {
+            rows.add(createRow(String.valueOf(i), "paid"));
+        }
+        Map<DataNode, List<PostgreSQLCopyRow>> actual;
+        int bindEngineCount;
+        try (
+                MockedConstruction<SQLBindEngine> bindEngine = mockBindEngine();
+                MockedConstruction<SQLRouteEngine> ignoredRouteEngine = mockRouteEngine()) {
+            actual = rowRouter.route(rows);
+            bindEngineCount = bindEngine.constructed().size();
+        }
+        assertThat(bindEngineCount, is(3));
+        assertThat(boundParams.size(), is(3));
+        assertThat(boundParams.get(0).size(), is(512));
+        assertThat(boundParams.get(1).size(), is(512));
+        assertThat(boundParams.get(2).size(), is(176));
+        assertThat(boundParams.get(1).get(0), is(256));
+        assertThat(actual.get(new DataNode("write_ds_0", "t_order_0")).size(), is(300));
+        assertThat(actual.get(new DataNode("write_ds_1", "t_order_1")).size(), is(300));
+    }
+    
+    @Test
+    void assertRouteWithValuesConvertedByColumnType() {
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(connectionSession, createOptions("COPY t_order FROM STDIN"));
+        List<PostgreSQLCopyRow> rows = Arrays.asList(
+                createRow("1", "paid", "2024-01-02", "2024-01-02 03:04:05", "t", "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11"),
+                createRow("2", "unpaid", "not_a_date", "not_a_timestamp", "OFF", "b0eebc99-9c0b-4ef8-bb6d-6bb9bd380a12"));
+        try (
+                MockedConstruction<SQLBindEngine> ignoredBindEngine = mockBindEngine();
+                MockedConstruction<SQLRouteEngine> ignoredRouteEngine = mockRouteEngine()) {
+            rowRouter.route(rows);
+        }
+        assertThat(boundParams, is(Collections.singletonList(Arrays.asList(
+                1, "paid", Date.valueOf("2024-01-02"), Timestamp.valueOf("2024-01-02 03:04:05"), true, "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11",
+                2, "unpaid", "not_a_date", "not_a_timestamp", false, "b0eebc99-9c0b-4ef8-bb6d-6bb9bd380a12"))));
+    }
+    
+    @Test
+    void assertRouteAll() {
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(connectionSession, createOptions("COPY t_order TO STDOUT"));
+        Collection<DataNode> actual;
+        try (
+                MockedConstruction<SQLBindEngine> ignoredBindEngine = mockBindEngine();
+                MockedConstruction<SQLRouteEngine> ignoredRouteEngine =
+                        mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(createAllRouteContext()))) {
+            actual = rowRouter.routeAll();
+        }
+        assertThat(actual, is(Arrays.asList(new DataNode("write_ds_0", "t_order_0"), new DataNode("write_ds_1", "t_order_1"))));
+        assertThat(rowRouter.getColumnNames(), is(Arrays.asList("order_id", "status", "order_date", "order_time", "paid", "trace_id")));
+    }
+    
+    private PostgreSQLCopyOptions createOptions(final String sql) {
+        return PostgreSQLCopyOptions.create((CopyStatement) parserEngine.parse(sql, false), sql).orElseThrow(IllegalStateException::new);
+    }
+    
+    private PostgreSQLCopyRow createRow(final String... values) {
+        return new PostgreSQLCopyRow(new byte[0], Arrays.asList(values));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private MockedConstruction<SQLBindEngine> mockBindEngine() {
+        return mockConstruction(SQLBindEngine.class, (mock, context) -> when(mock.bind(any(), anyList())).thenAnswer(invocation -> {
+            boundParams.add(new ArrayList<>((List<Object>) invocation.getArgument(1)));
+            InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+            when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+            return result;
+        }));
+    }
+    
+    private MockedConstruction<SQLRouteEngine> mockRouteEngine() {
+        return mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenAnswer(invocation -> createRowRouteContext(invocation.getArgument(0))));
+    }
+    
+    private RouteContext createRowRouteContext(final QueryContext queryContext) {
+        RouteContext result = new RouteContext();
+        List<Object> params = queryContext.getParameters();
+        int columnCount = params.size() / queryContext.getSql().split("\\), \\(").length;
+        for (int i = 0; i < params.size(); i += columnCount) {
+            int suffix = (int) params.get(i) % 2;
+            result.getOriginalDataNodes().add(Collections.singleton(new DataNode("ds_" + suffix, "t_order_" + suffix)));
+        }
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "write_ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "write_ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))));
+        return result;
+    }
+    
+    private RouteContext createAllRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "write_ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "write_ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))));
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.CopyStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyToStdoutExecutorTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
+            TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private CopyManager copyManager0;
+    
+    @Mock
+    private CopyManager copyManager1;
+    
+    @Mock
+    private CopyOut copyOut0;
+    
+    @Mock
+    private CopyOut copyOut1;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connectionSession.getUsedDatabaseName()).thenReturn("foo_db");
+        Connection connection0 = mockConnection(copyManager0);
+        Connection connection1 = mockConnection(copyManager1);
+        when(connectionSession.getDatabaseConnectionManager().getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(connectionSession.getDatabaseConnectionManager().getConnections("foo_db", "ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+    }
+    
+    private Connection mockConnection(final CopyManager copyManager) throws SQLException {
+        Connection result = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(result.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        return result;
+    }
+    
+    @Test
+    void assertExecuteWithBinaryFormat() {
+        PostgreSQLCopyToStdoutExecutor executor = new PostgreSQLCopyToStdoutExecutor(createOptions("COPY t_order TO STDOUT WITH BINARY"), connectionSession);
+        assertThrows(UnsupportedSQLOperationException.class, executor::execute);
+    }
+    
+    @Test
+    void assertExecuteAndNext() throws SQLException {
+        when(copyManager0.copyOut("COPY public.t_order_0 (order_id, status) TO STDOUT")).thenReturn(copyOut0);
+        when(copyManager1.copyOut("COPY public.t_order_1 (order_id, status) TO STDOUT")).thenReturn(copyOut1);
+        when(copyOut0.readFromCopy()).thenReturn(toBytes("1\tpaid\n"), toBytes("3\tpaid\n"), null);
+        when(copyOut1.readFromCopy()).thenReturn(toBytes("2\tunpaid\n"), null);
+        PostgreSQLCopyToStdoutExecutor executor = new PostgreSQLCopyToStdoutExecutor(createOptions("COPY t_order TO STDOUT"), connectionSession);
+        try (MockedConstruction<PostgreSQLCopyRowRouter> ignored = mockRowRouter()) {
+            Collection<DatabasePacket> actual = executor.execute();
+            assertThat(actual.size(), is(1));
+            assertThat(actual.iterator().next(), instanceOf(PostgreSQLCopyOutResponsePacket.class));
+            assertThat(readRows(executor), is(Arrays.asList("1\tpaid\n", "3\tpaid\n", "2\tunpaid\n")));
+        }
+        assertThat(executor.getCopiedRowCount(), is(3L));
+    }
+    
+    @Test
+    void assertNextWithHeaderOfFirstActualTableOnly() throws SQLException {
+        when(copyManager0.copyOut("COPY public.t_order_0 (order_id, status) TO STDOUT WITH (FORMAT csv, HEADER true)")).thenReturn(copyOut0);
+        when(copyManager1.copyOut("COPY public.t_order_1 (order_id, status) TO STDOUT WITH (FORMAT csv, HEADER true)")).thenReturn(copyOut1);
+        when(copyOut0.readFromCopy()).thenReturn(toBytes("order_id,status\n"), toBytes("1,paid\n"), null);
+        when(copyOut1.readFromCopy()).thenReturn(toBytes("order_id,status\n"), toBytes("2,unpaid\n"), null);
+        PostgreSQLCopyToStdoutExecutor executor = new PostgreSQLCopyToStdoutExecutor(createOptions("COPY t_order TO STDOUT WITH (FORMAT csv, HEADER true)"), connectionSession);
+        try (MockedConstruction<PostgreSQLCopyRowRouter> ignored = mockRowRouter()) {
+            executor.execute();
+            assertThat(readRows(executor), is(Arrays.asList("order_id,status\n", "1,paid\n", "2,unpaid\n")));
+        }
+        assertThat(executor.getCopiedRowCount(), is(2L));
+    }
+    
+    @Test
+    void assertCloseWithActiveCopyOut() throws SQLException {
+        when(copyManager0.copyOut("COPY public.t_order_0 (order_id, status) TO STDOUT")).thenReturn(copyOut0);
+        when(copyOut0.readFromCopy()).thenReturn(toBytes("1\tpaid\n"));
+        when(copyOut0.isActive()).thenReturn(true);
+        PostgreSQLCopyToStdoutExecutor executor = new PostgreSQLCopyToStdoutExecutor(createOptions("COPY t_order TO STDOUT"), connectionSession);
+        try (MockedConstruction<PostgreSQLCopyRowRouter> ignored = mockRowRouter()) {
+            executor.execute();
+            executor.next();
+        }
+        executor.close();
+        verify(copyOut0).cancelCopy();
+        verify(copyManager1, never()).copyOut(anyString());
+    }
+    
+    private PostgreSQLCopyOptions createOptions(final String sql) {
+        return PostgreSQLCopyOptions.create((CopyStatement) parserEngine.parse(sql, false), sql).orElseThrow(IllegalStateException::new);
+    }
+    
+    private MockedConstruction<PostgreSQLCopyRowRouter> mockRowRouter() {
+        return mockConstruction(PostgreSQLCopyRowRouter.class, (mock, context) -> {
+            when(mock.routeAll()).thenReturn(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1")));
+            when(mock.getSchemaName()).thenReturn("public");
+            when(mock.getColumnNames()).thenReturn(Arrays.asList("order_id", "status"));
+        });
+    }
+    
+    private List<String> readRows(final PostgreSQLCopyToStdoutExecutor executor) throws SQLException {
+        List<String> result = new ArrayList<>();
+        while (executor.next()) {
+            result.add(new String(((PostgreSQLCopyDataPacket) executor.getQueryRowPacket()).getData(), StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    private byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSour
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
@@ -32,6 +33,10 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineIndexMetaData;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.test.it.data.pipeline.core.fixture.algorithm.FixtureTransmissionJobItemContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,11 +44,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -51,12 +58,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,7 +106,7 @@ class PipelineDataSourceSinkTest {
     
     private ImporterConfiguration mockImporterConfiguration() {
         Map<ShardingSphereIdentifier, Set<String>> shardingColumnsMap = Collections.singletonMap(new ShardingSphereIdentifier("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3, 3);
     }
     
     private PipelineDataSourceManager mockPipelineDataSourceManager() throws SQLException {
@@ -109,7 +124,99 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, PipelineSQLOperationType.INSERT);
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).executeBatch();
+    }
+    
+    @Test
+    void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                dataSourceConfig, Collections.emptyMap(), new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 1, 1);
+        new PipelineDataSourceSink(importerConfig, mockPipelineDataSourceManager()).write("", createInsertRecords(2));
+        verify(connection).prepareStatement(contains("VALUES(?,?,?),(?,?,?)"));
+        verify(preparedStatement).setObject(anyInt(), eq(1));
+        verify(preparedStatement).setObject(anyInt(), eq(2));
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
+        verify(preparedStatement, never()).executeBatch();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsWithoutMultiRowInsertSupported() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                dataSourceConfig, Collections.emptyMap(), new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 1, 1);
+        try (
+                MockedConstruction<PipelineImportSQLBuilder> ignored = mockConstruction(PipelineImportSQLBuilder.class,
+                        (mock, context) -> when(mock.buildInsertSQL(any(), any())).thenReturn("INSERT INTO test_table(id,user,status) VALUES(?,?,?)"))) {
+            new PipelineDataSourceSink(importerConfig, mockPipelineDataSourceManager()).write("", createInsertRecords(2));
+        }
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?)");
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsInLanes() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        PipelineExecuteEngine laneExecuteEngine = PipelineExecuteEngine.newCachedThreadInstance("SinkLane-test");
+        try {
+            PipelineDataSourceSink sink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager(), laneExecuteEngine, mockMetaDataLoader(1));
+            assertThat(sink.write("", createInsertRecords(10)).getProcessedRecordsCount(), is(10));
+            sink.close();
+        } finally {
+            laneExecuteEngine.shutdown();
+        }
+        for (int i = 1; i <= 10; i++) {
+            verify(preparedStatement).setObject(anyInt(), eq(i));
+            verify(preparedStatement).setObject(anyInt(), eq(i + 100));
+        }
+        verify(connection, atLeast(2)).prepareStatement(any());
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsWithExtraUniqueKeyInSingleLane() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        PipelineExecuteEngine laneExecuteEngine = PipelineExecuteEngine.newCachedThreadInstance("SinkLane-test");
+        try {
+            PipelineDataSourceSink sink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager(), laneExecuteEngine, mockMetaDataLoader(2));
+            assertThat(sink.write("", createInsertRecords(10)).getProcessedRecordsCount(), is(10));
+            sink.close();
+        } finally {
+            laneExecuteEngine.shutdown();
+        }
+        verify(connection, times(1)).prepareStatement(any());
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    private PipelineTableMetaDataLoader mockMetaDataLoader(final int uniqueIndexCount) {
+        PipelineTableMetaData tableMetaData = mock(PipelineTableMetaData.class);
+        Collection<PipelineIndexMetaData> uniqueIndexes = new LinkedList<>();
+        for (int i = 0; i < uniqueIndexCount; i++) {
+            uniqueIndexes.add(mock(PipelineIndexMetaData.class));
+        }
+        when(tableMetaData.getUniqueIndexes()).thenReturn(uniqueIndexes);
+        PipelineTableMetaDataLoader result = mock(PipelineTableMetaDataLoader.class);
+        when(result.getTableMetaData(any(), eq(TABLE_NAME))).thenReturn(tableMetaData);
+        return result;
+    }
+    
+    private List<Record> createInsertRecords(final int count) {
+        List<Record> result = new LinkedList<>();
+        for (int i = 1; i <= count; i++) {
+            DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+            dataRecord.addColumn(new NormalColumn("id", null, i, false, true));
+            dataRecord.addColumn(new NormalColumn("user", null, i + 100, true, false));
+            dataRecord.addColumn(new NormalColumn("status", null, "ok", true, false));
+            result.add(dataRecord);
+        }
+        return result;
     }
     
     @Test
@@ -31,6 +31,11 @@ import java.util.Collections;
  */
 public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
     
+    @Override
+    public boolean isMultiRowInsertSupported() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);